@@ -37,6 +37,7 @@ public class BootstrapTasks {
             FindDomainController findDomainController,
             RegisterStaticCapabilities registerStaticCapabilities,
             LoadSettings loadSettings,
+            WarmUpMetadata warmUpMetadata,
             SetTitle setTitle,
             StartAnalytics startAnalytics) {
         this.tasks = asList(
@@ -46,6 +47,7 @@ public class BootstrapTasks {
                 findDomainController,
                 registerStaticCapabilities,
                 loadSettings,
+                warmUpMetadata,
                 setTitle,
                 startAnalytics);
     }
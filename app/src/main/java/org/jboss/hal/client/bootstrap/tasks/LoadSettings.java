@@ -33,6 +33,7 @@ import static org.jboss.hal.config.Settings.Key.LOCALE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
+import static org.jboss.hal.config.Settings.Key.RRD_CONCURRENCY;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.config.Settings.Key.TITLE;
 
@@ -61,6 +62,7 @@ public final class LoadSettings implements Task<FlowContext> {
         settings.load(PAGE_SIZE, Settings.DEFAULT_PAGE_SIZE);
         settings.load(POLL, true);
         settings.load(POLL_TIME, Settings.DEFAULT_POLL_TIME);
+        settings.load(RRD_CONCURRENCY, Settings.DEFAULT_RRD_CONCURRENCY);
         settings.load(RUN_AS, null);
         logger.debug("Load settings: {}", settings);
         return Promise.resolve(context);
@@ -16,47 +16,27 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import javax.inject.Inject;
-import javax.inject.Provider;
 
-import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Progress;
-import org.jboss.hal.meta.StatementContext;
-import org.jboss.hal.spi.Footer;
+import org.jboss.hal.core.runtime.NonProgressingOperationScanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.web.bindery.event.shared.EventBus;
-
-import static elemental2.dom.DomGlobal.setTimeout;
-import static java.util.Collections.singletonList;
 import static org.jboss.hal.config.Settings.DEFAULT_POLL_TIME;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
-import static org.jboss.hal.flow.Flow.parallel;
 
 public class PollingTasks implements InitializedTask {
 
     private static final Logger logger = LoggerFactory.getLogger(PollingTasks.class);
 
-    private final EventBus eventBus;
-    private final Dispatcher dispatcher;
-    private final StatementContext statementContext;
+    private final NonProgressingOperationScanner scanner;
     private final Settings settings;
-    private final Provider<Progress> progress;
-    private final Environment environment;
 
     @Inject
-    public PollingTasks(EventBus eventBus, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            @Footer Provider<Progress> progress, Environment environment) {
-        this.eventBus = eventBus;
-        this.dispatcher = dispatcher;
-        this.statementContext = statementContext;
+    public PollingTasks(NonProgressingOperationScanner scanner, Settings settings) {
+        this.scanner = scanner;
         this.settings = settings;
-        this.progress = progress;
-        this.environment = environment;
     }
 
     @Override
@@ -65,9 +45,7 @@ public class PollingTasks implements InitializedTask {
         int pollTime = settings.get(POLL_TIME).asInt(DEFAULT_POLL_TIME);
         logger.info("Polling mechanism is: {}", (pollEnabled ? "on" : "off"));
         if (pollEnabled) {
-            setTimeout(__ -> parallel(new FlowContext(Progress.NOOP), singletonList(
-                    new FindNonProgressingTask(eventBus, dispatcher, environment, statementContext, progress))),
-                    pollTime * 1000);
+            scanner.start(pollTime * 1000L);
         }
     }
 }
@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.bootstrap.tasks;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.Task;
+import org.jboss.hal.meta.processing.MetadataProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+/**
+ * Loads the metadata of the most frequently used templates from the databases into the registries. Depends on
+ * {@link LoadSettings}: The database names contain the locale and the run-as roles. Errors are logged, but don't stop the
+ * bootstrap process.
+ */
+public final class WarmUpMetadata implements Task<FlowContext> {
+
+    private static final int WARM_UP_SIZE = 50;
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpMetadata.class);
+
+    private final MetadataProcessor metadataProcessor;
+
+    @Inject
+    public WarmUpMetadata(MetadataProcessor metadataProcessor) {
+        this.metadataProcessor = metadataProcessor;
+    }
+
+    @Override
+    public Promise<FlowContext> apply(final FlowContext context) {
+        return metadataProcessor.warmUp(WARM_UP_SIZE)
+                .then(__ -> Promise.resolve(context))
+                .catch_(error -> {
+                    logger.warn("Unable to warm up metadata: {}", error);
+                    return Promise.resolve(context);
+                });
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -64,7 +65,6 @@ import com.google.common.collect.Sets;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.web.bindery.event.shared.EventBus;
 
-import elemental2.core.JsArray;
 import elemental2.dom.File;
 import elemental2.dom.File.ConstructorContentsArrayUnionType;
 import elemental2.dom.HTMLButtonElement;
@@ -75,7 +75,7 @@ import elemental2.promise.Promise;
 import static com.google.common.base.Strings.nullToEmpty;
 import static elemental2.dom.DomGlobal.window;
 import static java.lang.Math.max;
-import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.button;
 import static org.jboss.elemento.Elements.div;
@@ -94,7 +94,6 @@ import static org.jboss.hal.ballroom.Skeleton.applicationHeight;
 import static org.jboss.hal.ballroom.Skeleton.applicationOffset;
 import static org.jboss.hal.client.deployment.ContentParser.NODE_ID;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD_CONTENT;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.BROWSE_CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FILE;
@@ -190,6 +189,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
     private final HTMLElement root;
     private final Search treeSearch;
     private Tree<ContentEntry> tree;
+    private ContentLoader loader;
     private final EmptyState pleaseSelect;
     private final EmptyState deploymentPreview;
     private final EmptyState explodedPreview;
@@ -223,7 +223,13 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
         this.resources = resources;
         this.surroundingHeight = 0;
 
-        treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, query -> tree.search(query))
+        treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, query -> {
+            int matches = tree.search(loader.index(), query);
+            if (matches > Tree.MAX_REVEALED_MATCHES) {
+                MessageEvent.fire(eventBus, Message.info(
+                        resources.messages().searchMatchesLimited(Tree.MAX_REVEALED_MATCHES, matches)));
+            }
+        })
                 .onClear(() -> tree.clearSearch())
                 .build();
         treeSearch.element().classList.add(marginLeftSmall);
@@ -277,9 +283,11 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                                                         .title(resources.constants().refresh())
                                                         .add(i().css(fontAwesome(refresh))))
                                                 .add(expandAllButton = button().css(btn, btnDefault)
-                                                        .on(click, event -> {
-                                                            tree.openAllNodes();
-                                                        })
+                                                        .on(click, event -> loader.loadAll()
+                                                                .then(__ -> {
+                                                                    tree.openAllNodes();
+                                                                    return null;
+                                                                }))
                                                         .title(resources.constants().expandAll())
                                                         .add(i().css(fontAwesome(CSS.list))).element())
                                                 .add(collapseButton = button().css(btn, btnDefault)
@@ -429,12 +437,17 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
     }
 
     private void refresh() {
-        String selectedId = selectedId();
+        Node<ContentEntry> selection = selectedNode();
+        loader.clear();
         browseContent()
                 .then(__ -> awaitTreeReady())
                 .then(__ -> {
-                    if (selectedId != null) {
-                        tree.selectNode(selectedId);
+                    if (selection != null) {
+                        if (selection.id.equals(Ids.CONTENT_TREE_ROOT)) {
+                            tree.selectNode(selection.id);
+                        } else {
+                            revealNode(selection.data.path);
+                        }
                     }
                     return null;
                 });
@@ -450,6 +463,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
         setVisible(saveContentButton.orElse(null), content.isExploded());
         editor.getEditor().setReadOnly(!content.isExploded());
 
+        loader = new ContentLoader(dispatcher, content.getName());
         browseContent().then(__ -> {
             noSelection();
             return null;
@@ -473,12 +487,15 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                     .param(CONTENT, new ModelNode().add(contentNode))
                     .build();
             dispatcher.upload(file(filename(path), ""), operation)
-                    .then(__ -> browseContent())
+                    .then(__ -> {
+                        loader.invalidate(path);
+                        return browseContent();
+                    })
                     .then(__ -> awaitTreeReady())
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        revealNode(path);
                         return null;
                     });
         });
@@ -529,12 +546,15 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
             Promise<ModelNode> promise = fileItem.isEmpty()
                     ? dispatcher.execute(operation)
                     : dispatcher.upload(fileItem.getValue(), operation);
-            promise.then(__ -> browseContent())
+            promise.then(__ -> {
+                        loader.invalidate(path);
+                        return browseContent();
+                    })
                     .then(__ -> awaitTreeReady())
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        revealNode(path);
                         return null;
                     });
         });
@@ -552,37 +572,29 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
         form.edit(new ModelNode());
     }
 
-    @SuppressWarnings("unchecked")
+    /** (Re)creates the tree. The directories are loaded on demand by {@link ContentLoader}. */
     private Promise<Void> browseContent() {
-        ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
-        Operation operation = new Operation.Builder(address, BROWSE_CONTENT).build();
-        return dispatcher.execute(operation)
-                .then(result -> {
-                    String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
-                    Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName,
-                            new ContentEntry())
-                            .root()
-                            .folder()
-                            .open()
-                            .build();
-                    JsArray<Node<ContentEntry>> nodes = new JsArray<>();
-                    new ContentParser().parse(root, nodes, result.isDefined() ? result.asList() : emptyList());
-
-                    if (tree != null) {
-                        tree.destroy();
-                        tree = null;
-                    }
-                    tree = new Tree<>(Ids.CONTENT_TREE, nodes);
-                    Elements.removeChildrenFrom(treeContainer);
-                    treeContainer.appendChild(tree.element());
-                    tree.attach();
-                    tree.onSelectionChange((event, selectionContext) -> {
-                        if (!"ready".equals(selectionContext.action)) { // NON-NLS
-                            onNodeSelected(selectionContext);
-                        }
-                    });
-                    return Promise.resolve((Void) null);
-                });
+        String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
+        Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName, new ContentEntry())
+                .root()
+                .asyncFolder()
+                .open()
+                .build();
+
+        if (tree != null) {
+            tree.destroy();
+            tree = null;
+        }
+        tree = new Tree<>(Ids.CONTENT_TREE, root, loader);
+        Elements.removeChildrenFrom(treeContainer);
+        treeContainer.appendChild(tree.element());
+        tree.attach();
+        tree.onSelectionChange((event, selectionContext) -> {
+            if (!"ready".equals(selectionContext.action)) { // NON-NLS
+                onNodeSelected(selectionContext);
+            }
+        });
+        return Promise.resolve((Void) null);
     }
 
     private void loadContent(ContentEntry contentEntry, Consumer<String> successCallback) {
@@ -614,6 +626,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
             dispatcher.upload(file(filename, editorContent), operation)
                     .then(__ -> {
                         saveContentButton.ifPresent(button -> button.disabled = true);
+                        loader.invalidate(selection.data.path);
                         return Promise.resolve((Void) null);
                     })
                     .then(__ -> browseContent())
@@ -621,7 +634,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().saveContentSuccess(content.getName(), filename)));
-                        tree.selectNode(selection.id);
+                        revealNode(selection.data.path);
                         return null;
                     });
         }
@@ -639,7 +652,10 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                                 .param(PATHS, new ModelNode().add(path))
                                 .build();
                         dispatcher.execute(operation)
-                                .then(__ -> browseContent())
+                                .then(__ -> {
+                                    loader.remove(path);
+                                    return browseContent();
+                                })
                                 .then(__ -> awaitTreeReady())
                                 .then(__ -> {
                                     MessageEvent.fire(eventBus, Message.success(
@@ -799,16 +815,22 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
 
     // ------------------------------------------------------ helper methods
 
-    private String selectedId() {
+    private Node<ContentEntry> selectedNode() {
         if (tree != null) {
             Node<ContentEntry> selection = tree.getSelected();
             if (selection != null) {
-                return selection.id;
+                return selection;
             }
         }
         return null;
     }
 
+    /** Opens the parent directories of the path (loading them if necessary) and selects the node. */
+    private void revealNode(String path) {
+        List<String> parents = ContentParser.parentPaths(path).stream().map(NODE_ID).collect(toList());
+        tree.openNodes(parents, () -> tree.selectNode(NODE_ID.apply(path)));
+    }
+
     private String selectedPath() {
         String path = null;
         Node<ContentEntry> selection = tree.getSelected();
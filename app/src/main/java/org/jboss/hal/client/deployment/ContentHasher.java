@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.hal.js.Browser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.dom.File;
+import elemental2.dom.MessageEvent;
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Computes SHA-1 hashes of files using the web worker defined in {@code app/src/web/script/hash-worker.js}, so that hashing
+ * large files doesn't block the UI. The hashes are used to find out whether the content of a deployment is already in the
+ * content repository.
+ */
+class ContentHasher {
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class WorkerProvider {
+
+        @JsProperty static Worker hashChannel;
+    }
+
+    /** Files bigger than this are not hashed: Web Crypto can't hash streams, so the worker has to read the whole file. */
+    static final double MAX_SIZE = 512 * 1024 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentHasher.class);
+    private static ContentHasher instance;
+
+    static ContentHasher get() {
+        if (instance == null) {
+            instance = new ContentHasher();
+        }
+        return instance;
+    }
+
+    private final Worker worker;
+    private final Map<Integer, ResolveCallbackFn<String>> pending;
+    private int counter;
+
+    private ContentHasher() {
+        this.worker = Browser.isIE() ? null : WorkerProvider.hashChannel;
+        this.pending = new HashMap<>();
+        this.counter = 0;
+        if (worker != null) {
+            worker.addEventListener("message", event -> {
+                MessageEvent<HashResult> messageEvent = Js.uncheckedCast(event);
+                HashResult result = messageEvent.data;
+                ResolveCallbackFn<String> resolve = pending.remove(result.id);
+                if (resolve != null) {
+                    if (result.error != null) {
+                        logger.warn("Unable to compute hash: {}", result.error);
+                        resolve.onInvoke((String) null);
+                    } else {
+                        logger.debug("Computed hash {} in {} ms", result.hash, result.time);
+                        resolve.onInvoke(result.hash);
+                    }
+                }
+            });
+            worker.addEventListener("error", event -> {
+                logger.error("Error in hash worker. Release {} pending hash(es)", pending.size());
+                pending.values().forEach(resolve -> resolve.onInvoke((String) null));
+                pending.clear();
+            });
+        }
+    }
+
+    /**
+     * Computes the SHA-1 hash of the file as hex string. The promise is resolved with {@code null} if the hash cannot be
+     * computed, it's never rejected.
+     */
+    Promise<String> sha1(File file) {
+        if (worker == null || file.size > MAX_SIZE) {
+            return Promise.resolve((String) null);
+        }
+        HashRequest request = new HashRequest();
+        request.id = ++counter;
+        request.file = file;
+        return new Promise<>((resolve, reject) -> {
+            pending.put(request.id, resolve);
+            worker.postMessage(request);
+        });
+    }
+
+    static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xf, 16));
+            builder.append(Character.forDigit(b & 0xf, 16));
+        }
+        return builder.toString();
+    }
+
+    static byte[] bytes(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class HashRequest {
+
+        int id;
+        File file;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class HashResult {
+
+        int id;
+        String hash;
+        String error;
+        int time;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.ballroom.tree.DataFunction;
+import org.jboss.hal.ballroom.tree.NameIndex;
+import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.resources.Ids;
+
+import elemental2.promise.Promise;
+
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.client.deployment.ContentParser.NODE_ID;
+import static org.jboss.hal.client.deployment.ContentParser.ROOT_PATH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.BROWSE_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPTH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
+
+/**
+ * Loads the content of a deployment on demand. Each directory is read using {@code browse-content(path=<directory>,
+ * depth=1)} when it's opened for the first time.
+ * <p>
+ * The entries of the last {@value #MAX_DIRECTORIES} directories are kept in a LRU cache, so that the tree can be recreated
+ * (e.g. after content has been added or removed) without reading the unchanged directories again. The directories read by
+ * {@link #loadAll()} are kept outside the LRU cache until the cache is cleared, so that opening all nodes of a large archive
+ * doesn't read the evicted directories one by one. All loaded entries are added to a {@link NameIndex} which is used to search
+ * the tree.
+ */
+class ContentLoader implements DataFunction<ContentEntry> {
+
+    static final int MAX_DIRECTORIES = 500;
+
+    private final Dispatcher dispatcher;
+    private final String deployment;
+    private final ContentParser parser;
+    private final Map<String, List<ContentEntry>> directories;
+    private final Map<String, List<ContentEntry>> allDirectories;
+    private final NameIndex index;
+
+    ContentLoader(Dispatcher dispatcher, String deployment) {
+        this.dispatcher = dispatcher;
+        this.deployment = deployment;
+        this.parser = new ContentParser();
+        this.directories = new LinkedHashMap<String, List<ContentEntry>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ContentEntry>> eldest) {
+                return size() > MAX_DIRECTORIES;
+            }
+        };
+        this.allDirectories = new HashMap<>();
+        this.index = new NameIndex();
+    }
+
+    @Override
+    public void load(Node<ContentEntry> node, ResultCallback<ContentEntry> callback) {
+        String directory = Ids.CONTENT_TREE_ROOT.equals(node.id) ? ROOT_PATH : node.data.path;
+        entries(directory)
+                .then(entries -> {
+                    callback.result(parser.nodes(node, entries));
+                    return null;
+                })
+                .catch_(error -> {
+                    callback.result(parser.nodes(node, emptyList()));
+                    return null;
+                });
+    }
+
+    private Promise<List<ContentEntry>> entries(String directory) {
+        List<ContentEntry> entries = allDirectories.get(directory);
+        if (entries == null) {
+            entries = directories.get(directory);
+        }
+        if (entries != null) {
+            return Promise.resolve(entries);
+        }
+        Operation.Builder builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, deployment), BROWSE_CONTENT)
+                .param(DEPTH, 1);
+        if (!ROOT_PATH.equals(directory)) {
+            builder.param(PATH, directory);
+        }
+        return dispatcher.execute(builder.build()).then(result -> {
+            List<ContentEntry> loaded = parser.entries(directory, result.isDefined() ? result.asList() : emptyList());
+            cache(directory, loaded);
+            return Promise.resolve(loaded);
+        });
+    }
+
+    /**
+     * Reads the complete content in one request and keeps all directories regardless of {@value #MAX_DIRECTORIES}. Used before
+     * all nodes are opened, which would otherwise require one request per directory.
+     */
+    Promise<Void> loadAll() {
+        Operation operation = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, deployment), BROWSE_CONTENT)
+                .build();
+        return dispatcher.execute(operation).then(result -> {
+            List<ModelNode> content = result.isDefined() ? result.asList() : emptyList();
+            parser.directories(content).forEach((directory, entries) -> {
+                allDirectories.put(directory, entries);
+                addToIndex(directory, entries);
+            });
+            return Promise.resolve((Void) null);
+        });
+    }
+
+    private void cache(String directory, List<ContentEntry> entries) {
+        directories.put(directory, entries);
+        addToIndex(directory, entries);
+    }
+
+    private void addToIndex(String directory, List<ContentEntry> entries) {
+        String parentId = ROOT_PATH.equals(directory) ? Ids.CONTENT_TREE_ROOT : NODE_ID.apply(directory);
+        for (ContentEntry entry : entries) {
+            index.add(NODE_ID.apply(entry.path), entry.name, parentId);
+        }
+    }
+
+    /**
+     * Drops the cached directories which are affected by adding, changing or removing the specified path: The directory
+     * itself (if it's a directory), all of its subdirectories and all of its parent directories.
+     */
+    void invalidate(String path) {
+        directories.keySet().removeIf(directory -> directory.startsWith(path) || path.startsWith(directory));
+        allDirectories.keySet().removeIf(directory -> directory.startsWith(path) || path.startsWith(directory));
+    }
+
+    /** Removes the specified path and its descendants from the index and the cache. */
+    void remove(String path) {
+        invalidate(path);
+        index.remove(NODE_ID.apply(path));
+    }
+
+    /** Drops all cached directories, but keeps the index. */
+    void clear() {
+        directories.clear();
+        allDirectories.clear();
+    }
+
+    NameIndex index() {
+        return index;
+    }
+}
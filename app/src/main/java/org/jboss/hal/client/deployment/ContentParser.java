@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -28,55 +29,72 @@ import org.jboss.hal.resources.Ids;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 
-import elemental2.core.JsArray;
-
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
 class ContentParser {
 
     private static final Comparator<ContentEntry> BY_NAME = Comparator.comparing(c -> c.name);
-    private static final Comparator<ContentEntry> BY_DEPTH = Comparator.comparingInt(c -> c.depth);
+    private static final Comparator<ContentEntry> DIRECTORIES_FIRST = Comparator.comparing(c -> !c.directory);
 
     private static final String DIRECTORY = "directory";
     private static final String FILE_SIZE = "file-size";
 
+    /** The path of the deployment root. Directory paths end with a slash, so the empty string is used for the root. */
+    static final String ROOT_PATH = "";
     static final Function<String, String> NODE_ID = path -> Ids.build("bct", path, "node");
 
-    @SuppressWarnings("unchecked")
-    void parse(Node<ContentEntry> root, JsArray<Node<ContentEntry>> nodes, List<ModelNode> content) {
-        nodes.push(root);
-
-        Map<String, Node<ContentEntry>> nodesByPath = new HashMap<>();
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> contentEntry.directory)
-                .sorted(BY_DEPTH.thenComparing(BY_NAME))
-                .forEach(directory -> {
-                    String parentPath = parentPath(directory);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
+    /** Turns the result of {@code browse-content(path=<directory>, depth=1)} into the sorted entries of the directory. */
+    List<ContentEntry> entries(String directory, List<ModelNode> content) {
+        return content.stream()
+                .map(node -> contentEntry(directory, node))
+                .filter(contentEntry -> !contentEntry.path.equals(directory))
+                .sorted(DIRECTORIES_FIRST.thenComparing(BY_NAME))
+                .collect(toList());
+    }
 
-                    if (parent != null) {
-                        Node<ContentEntry> node = pushFolder(nodes, parent, directory);
-                        nodesByPath.put(directory.path, node);
-                    }
-                });
+    /**
+     * Groups the result of a complete {@code browse-content} by directory. The map contains an entry for each directory
+     * (including empty ones) and for the {@link #ROOT_PATH}.
+     */
+    Map<String, List<ContentEntry>> directories(List<ModelNode> content) {
+        Map<String, List<ContentEntry>> directories = new HashMap<>();
+        directories.put(ROOT_PATH, new ArrayList<>());
+        for (ModelNode node : content) {
+            ContentEntry contentEntry = contentEntry(ROOT_PATH, node);
+            if (contentEntry.directory) {
+                directories.computeIfAbsent(contentEntry.path, path -> new ArrayList<>());
+            }
+            directories.computeIfAbsent(parentPath(contentEntry.path), path -> new ArrayList<>()).add(contentEntry);
+        }
+        directories.values().forEach(entries -> entries.sort(DIRECTORIES_FIRST.thenComparing(BY_NAME)));
+        return directories;
+    }
 
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> !contentEntry.directory)
-                .sorted(BY_NAME)
-                .forEach(file -> {
-                    String parentPath = parentPath(file);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
-                    if (parent != null) {
-                        pushEntry(nodes, parent, file);
-                    }
-                });
+    @SuppressWarnings("unchecked")
+    Node<ContentEntry>[] nodes(Node<ContentEntry> parent, List<ContentEntry> entries) {
+        Node<ContentEntry>[] nodes = new Node[entries.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            ContentEntry contentEntry = entries.get(i);
+            Node.Builder<ContentEntry> builder = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name,
+                    contentEntry).parent(parent.id);
+            if (contentEntry.directory) {
+                builder.asyncFolder();
+            } else {
+                builder.icon(fontAwesome("file-text-o"));
+            }
+            nodes[i] = builder.build();
+        }
+        return nodes;
     }
 
-    private ContentEntry contentEntry(ModelNode node) {
+    private ContentEntry contentEntry(String directory, ModelNode node) {
         String path = node.get(PATH).asString();
+        if (!path.startsWith(directory)) {
+            // be prepared for paths relative to the browsed directory
+            path = directory + path;
+        }
         Iterable<String> segments = Splitter.on('/').omitEmptyStrings().split(path);
 
         ContentEntry contentEntry = new ContentEntry();
@@ -88,36 +106,24 @@ class ContentParser {
         return contentEntry;
     }
 
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushFolder(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .folder()
-                .build();
-        nodes.push(node);
-        return node;
-    }
-
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushEntry(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .icon(fontAwesome("file-text-o"))
-                .build();
-        nodes.push(node);
-        return node;
+    /** Returns the path of the parent directory (ending with a slash) or {@link #ROOT_PATH} for top level entries. */
+    static String parentPath(String path) {
+        String stripped = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        int index = stripped.lastIndexOf('/');
+        if (index != -1) {
+            return stripped.substring(0, index + 1);
+        }
+        return ROOT_PATH;
     }
 
-    private String parentPath(ContentEntry contentEntry) {
-        String path = contentEntry.path.endsWith("/")
-                ? contentEntry.path.substring(0, contentEntry.path.length() - 1)
-                : contentEntry.path;
-        int index = path.lastIndexOf('/');
-        if (index != -1) {
-            return path.substring(0, index + 1);
+    /** Returns the paths of all parent directories starting with the top level directory. */
+    static List<String> parentPaths(String path) {
+        List<String> parents = new ArrayList<>();
+        String parent = parentPath(path);
+        while (!ROOT_PATH.equals(parent)) {
+            parents.add(0, parent);
+            parent = parentPath(parent);
         }
-        return null;
+        return parents;
     }
 }
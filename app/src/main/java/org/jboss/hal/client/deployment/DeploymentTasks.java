@@ -18,6 +18,7 @@ package org.jboss.hal.client.deployment;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,7 +59,6 @@ import elemental2.promise.Promise;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toSet;
 import static org.jboss.elemento.Elements.p;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
@@ -67,28 +67,34 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ENABLED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FULL_REPLACE_DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HASH;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INPUT_STREAM_INDEX;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE_DEPTH;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RUNTIME_NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUP;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeList;
 import static org.jboss.hal.flow.Flow.sequential;
 
 /** Deployment related functions */
 class DeploymentTasks {
 
     static final String SERVER_GROUP_DEPLOYMENTS = "deploymentFunctions.serverGroupDeployments";
+    static final String CONTENT_HASHES = "deploymentFunctions.contentHashes";
+    static final String DEPLOYMENT_NAMES = "deploymentFunctions.deploymentNames";
     private static final String UPLOAD_STATISTICS = "deploymentsFunctions.uploadStatistics";
     private static final Logger logger = LoggerFactory.getLogger(DeploymentTasks.class);
 
     /**
      * Uploads or updates one or multiple deployment in standalone mode resp. content in domain mode. If available deploys it to
      * a server group.
+     * <p>
+     * First checks for each file whether the deployment exists and asks the user for confirmation to replace it. Then
+     * uploads the files in parallel using {@link UploadManager}.
      */
     static <T> void upload(FinderColumn<T> column, Environment environment, Dispatcher dispatcher,
             EventBus eventBus, Provider<Progress> progress, FileList files,
@@ -98,28 +104,37 @@ class DeploymentTasks {
 
             StringBuilder builder = new StringBuilder();
             List<Task<FlowContext>> tasks = new ArrayList<>();
+            List<UploadManager.Upload> uploads = new ArrayList<>();
 
             for (int i = 0; i < files.getLength(); i++) {
-                String filename = files.item(i).name;
+                File file = files.item(i);
+                String filename = file.name;
                 builder.append(filename).append(" ");
                 tasks.add(new CheckDeployment(dispatcher, filename));
                 tasks.add(new ConfirmReplacement(resources.constants().replaceDeployment(), resources.constants().replace(),
                         resources.messages().deploymentReplaceConfirmation(filename)));
-                tasks.add(new UploadOrReplace(environment, dispatcher, filename, filename, files.item(i), !hasServerGroup));
-                if (hasServerGroup) {
-                    tasks.add(new AddServerGroupDeployment(environment, dispatcher, filename, filename, serverGroup));
-                }
+                tasks.add(context -> {
+                    Integer status = context.pop();
+                    if (status != 403) {
+                        uploads.add(new UploadManager.Upload(filename, filename, file, status == 200, !hasServerGroup));
+                    }
+                    return Promise.resolve(context);
+                });
             }
 
             logger.debug("About to upload / update {} file(s): {}", files.getLength(), builder);
             sequential(new FlowContext(progress.get()), tasks)
-                    .then(context -> {
-                        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
-                        if (statistics != null) {
-                            eventBus.fireEvent(new MessageEvent(statistics.getMessage()));
-                        } else {
-                            logger.error("Unable to find upload statistics in the context using key '{}'", UPLOAD_STATISTICS);
+                    .then(context -> new UploadManager(dispatcher, progress.get(), new UploadStatistics(environment),
+                            uploads, context.get(CONTENT_HASHES)).upload())
+                    .then(statistics -> {
+                        if (hasServerGroup && !environment.isStandalone()) {
+                            return addServerGroupDeployments(dispatcher, serverGroup, statistics)
+                                    .then(__ -> Promise.resolve(statistics));
                         }
+                        return Promise.resolve(statistics);
+                    })
+                    .then(statistics -> {
+                        eventBus.fireEvent(new MessageEvent(statistics.getMessage()));
                         column.refresh(FinderColumn.RefreshMode.RESTORE_SELECTION);
                         return null;
                     })
@@ -131,6 +146,83 @@ class DeploymentTasks {
         }
     }
 
+    /**
+     * Deploys the added content to the server group. Each content item is deployed with its own operation, so that a failing
+     * item doesn't roll back the others. Failed items are recorded in the statistics.
+     */
+    @SuppressWarnings("unchecked")
+    private static Promise<Void> addServerGroupDeployments(Dispatcher dispatcher, String serverGroup,
+            UploadStatistics statistics) {
+        Set<String> names = statistics.added();
+        if (names.isEmpty()) {
+            return Promise.resolve((Void) null);
+        }
+        Promise<Void>[] promises = new Promise[names.size()];
+        int index = 0;
+        for (String name : names) {
+            ResourceAddress address = new ResourceAddress()
+                    .add(SERVER_GROUP, serverGroup)
+                    .add(DEPLOYMENT, name);
+            Operation operation = new Operation.Builder(address, ADD)
+                    .param(RUNTIME_NAME, name)
+                    .param(ENABLED, true)
+                    .build();
+            promises[index++] = dispatcher.execute(operation)
+                    .then(__ -> Promise.resolve((Void) null))
+                    .catch_(error -> {
+                        logger.error("Unable to deploy {} to server group {}: {}", name, serverGroup, error);
+                        statistics.recordNotDeployed(name, serverGroup);
+                        return Promise.resolve((Void) null);
+                    });
+        }
+        return Promise.all(promises).then(__ -> Promise.resolve((Void) null));
+    }
+
+    /**
+     * Returns the operation to upload a deployment. If {@code replace == true} the operation replaces the existing
+     * deployment and retains its state. Otherwise the operation adds a new deployment, which is enabled as specified.
+     */
+    static Operation uploadOperation(String name, String runtimeName, boolean replace, boolean enabled) {
+        Operation operation = deploymentOperation(name, runtimeName, replace, enabled);
+        operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); // NON-NLS
+        return operation;
+    }
+
+    /** Like {@link #uploadOperation(String, String, boolean, boolean)}, but references existing content by its hash. */
+    static Operation referenceOperation(String name, String runtimeName, boolean replace, boolean enabled, String sha1) {
+        Operation operation = deploymentOperation(name, runtimeName, replace, enabled);
+        operation.get(CONTENT).add().get(HASH).set(ContentHasher.bytes(sha1));
+        return operation;
+    }
+
+    private static Operation deploymentOperation(String name, String runtimeName, boolean replace, boolean enabled) {
+        Operation.Builder builder;
+        if (replace) {
+            builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) // NON-NLS
+                    .param(NAME, name)
+                    .param(RUNTIME_NAME, runtimeName);
+            // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
+        } else {
+            builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), ADD)
+                    .param(RUNTIME_NAME, runtimeName)
+                    .param(ENABLED, enabled);
+
+        }
+        return builder.build();
+    }
+
+    /**
+     * Computes the SHA-1 hash of the file if there's content in the repository. Resolves with the hash if the content
+     * repository already contains the file, {@code null} otherwise.
+     */
+    static Promise<String> existingContent(File file, Set<String> hashes) {
+        if (hashes == null || hashes.isEmpty()) {
+            return Promise.resolve((String) null);
+        }
+        return ContentHasher.get().sha1(file)
+                .then(sha1 -> Promise.resolve(sha1 != null && hashes.contains(sha1) ? sha1 : null));
+    }
+
     private DeploymentTasks() {
     }
 
@@ -338,7 +430,12 @@ class DeploymentTasks {
 
     /**
      * Checks whether a deployment with the given name exists and pushes {@code 200} to the context stack if it exists,
-     * {@code 404} otherwise.
+     * {@code 404} otherwise. Puts the names of the deployments as {@code Set<String>} under the key {@link #DEPLOYMENT_NAMES}
+     * and the SHA-1 hashes of the managed deployments as {@code Set<String>} under the key {@link #CONTENT_HASHES} into the
+     * context.
+     * <p>
+     * The deployments are only read if the context doesn't contain them yet, so a flow which checks several files reads the
+     * deployments once.
      */
     static final class CheckDeployment implements Task<FlowContext> {
 
@@ -352,17 +449,28 @@ class DeploymentTasks {
 
         @Override
         public Promise<FlowContext> apply(final FlowContext context) {
-            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+            Set<String> names = context.get(DEPLOYMENT_NAMES);
+            if (names != null) {
+                return context.resolve(names.contains(name) ? 200 : 404);
+            }
+            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_RESOURCES_OPERATION)
                     .param(CHILD_TYPE, DEPLOYMENT)
                     .build();
             return dispatcher.execute(operation)
                     .then(result -> {
-                        Set<String> names = result.asList().stream().map(ModelNode::asString).collect(toSet());
-                        if (names.contains(name)) {
-                            return context.resolve(200);
-                        } else {
-                            return context.resolve(404);
+                        Set<String> deployments = new HashSet<>();
+                        Set<String> hashes = new HashSet<>();
+                        for (Property property : result.asPropertyList()) {
+                            deployments.add(property.getName());
+                            for (ModelNode content : failSafeList(property.getValue(), CONTENT)) {
+                                if (content.hasDefined(HASH)) {
+                                    hashes.add(ContentHasher.hex(content.get(HASH).asBytes()));
+                                }
+                            }
                         }
+                        context.set(DEPLOYMENT_NAMES, deployments);
+                        context.set(CONTENT_HASHES, hashes);
+                        return context.resolve(deployments.contains(name) ? 200 : 404);
                     });
         }
     }
@@ -418,6 +526,9 @@ class DeploymentTasks {
      * status context or {@code 404} is found, a new deployment is created, if {@code 200} is found the deployment is replaced.
      * If {@code 403} is found the task does nothing.
      * <p>
+     * If the context contains the hashes of the content repository (see {@link CheckDeployment}) and the content of the file
+     * is already there, the deployment references the existing content instead of uploading the file.
+     * <p>
      * The function puts an {@link UploadStatistics} under the key {@link DeploymentTasks#UPLOAD_STATISTICS} into the context.
      */
     static final class UploadOrReplace implements Task<FlowContext> {
@@ -443,7 +554,6 @@ class DeploymentTasks {
         public Promise<FlowContext> apply(final FlowContext context) {
             boolean skip = false;
             boolean replace;
-            Operation.Builder builder;
 
             if (context.emptyStack()) {
                 replace = false;
@@ -462,28 +572,21 @@ class DeploymentTasks {
                 return Promise.resolve(context);
             }
 
-            if (replace) {
-                builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) // NON-NLS
-                        .param(NAME, name)
-                        .param(RUNTIME_NAME, runtimeName);
-                // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
-            } else {
-                builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), ADD)
-                        .param(RUNTIME_NAME, runtimeName)
-                        .param(ENABLED, enabled);
-
-            }
-            Operation operation = builder.build();
-            operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); // NON-NLS
-
-            return dispatcher.upload(file, operation)
+            return existingContent(file, context.get(CONTENT_HASHES))
+                    .then(sha1 -> {
+                        if (sha1 != null) {
+                            logger.info("Content of {} is already in the content repository: skip upload", name);
+                            return dispatcher.execute(referenceOperation(name, runtimeName, replace, enabled, sha1));
+                        }
+                        return dispatcher.upload(file, uploadOperation(name, runtimeName, replace, enabled));
+                    })
                     .then(result -> {
                         UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
                         if (statistics == null) {
                             statistics = new UploadStatistics(environment);
                             context.set(UPLOAD_STATISTICS, statistics);
                         }
-                        if (ADD.equals(operation.getName())) {
+                        if (!replace) {
                             statistics.recordAdded(name);
                         } else {
                             statistics.recordReplaced(name);
@@ -0,0 +1,204 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.Progress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.dom.File;
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.lang.Math.min;
+import static org.jboss.hal.client.deployment.DeploymentTasks.existingContent;
+import static org.jboss.hal.client.deployment.DeploymentTasks.referenceOperation;
+import static org.jboss.hal.client.deployment.DeploymentTasks.uploadOperation;
+
+/**
+ * Uploads a batch of deployments. Independent files are uploaded in parallel, but not more than
+ * {@value #MAX_CONCURRENT_UPLOADS} at a time. The progress is reported in percent of all bytes sent.
+ * <p>
+ * Before a file is uploaded, its SHA-1 hash is compared with the hashes of the content repository. If the content is already
+ * there, the deployment references the existing content and the file is not transferred at all.
+ * <p>
+ * If the transfer of a file fails before all bytes have been sent, e.g. because of a network error, the file is uploaded again
+ * up to {@value #MAX_ATTEMPTS} times. The other files of the batch are not affected by a failed file. Failures reported by the
+ * management model, e.g. because the deployment is invalid, are not retried.
+ * <p>
+ * The results, sizes and timings of the uploads are recorded in {@link UploadStatistics}. Use one instance per batch.
+ */
+class UploadManager {
+
+    static final int MAX_CONCURRENT_UPLOADS = 3;
+    static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY = 1_000;
+    private static final int PERCENT = 100;
+    private static final Logger logger = LoggerFactory.getLogger(UploadManager.class);
+
+    private final Dispatcher dispatcher;
+    private final Progress progress;
+    private final UploadStatistics statistics;
+    private final List<Upload> uploads;
+    private final Set<String> hashes;
+    private final double[] loaded;
+    private final double total;
+    private int next;
+    private int ticks;
+
+    /** @param hashes the SHA-1 hashes of the content repository as hex strings, may be {@code null} */
+    UploadManager(Dispatcher dispatcher, Progress progress, UploadStatistics statistics, List<Upload> uploads,
+            Set<String> hashes) {
+        this.dispatcher = dispatcher;
+        this.progress = progress;
+        this.statistics = statistics;
+        this.uploads = uploads;
+        this.hashes = hashes;
+        this.loaded = new double[uploads.size()];
+        double bytes = 0;
+        for (Upload upload : uploads) {
+            bytes += upload.file.size;
+        }
+        this.total = bytes;
+        this.next = 0;
+        this.ticks = 0;
+    }
+
+    /** Uploads all files. The promise is resolved when all files have been uploaded or have failed, it's never rejected. */
+    @SuppressWarnings("unchecked")
+    Promise<UploadStatistics> upload() {
+        if (uploads.isEmpty()) {
+            return Promise.resolve(statistics);
+        }
+        progress.reset(PERCENT);
+        Promise<Void>[] workers = new Promise[min(MAX_CONCURRENT_UPLOADS, uploads.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = uploadNext();
+        }
+        return Promise.all(workers).then(__ -> {
+            progress.finish();
+            logger.debug("Uploaded {} file(s): {}", uploads.size(), statistics.transferSummary());
+            return Promise.resolve(statistics);
+        });
+    }
+
+    private Promise<Void> uploadNext() {
+        if (next >= uploads.size()) {
+            return Promise.resolve((Void) null);
+        }
+        int index = next++;
+        Upload upload = uploads.get(index);
+        return existingContent(upload.file, hashes)
+                .then(sha1 -> sha1 != null ? reference(index, sha1) : transfer(index, 1))
+                .then(__ -> uploadNext());
+    }
+
+    private Promise<Void> reference(int index, String sha1) {
+        Upload upload = uploads.get(index);
+        long start = System.currentTimeMillis();
+        logger.info("Content of {} is already in the content repository: skip upload", upload.name);
+        return dispatcher.execute(referenceOperation(upload.name, upload.runtimeName, upload.replace, upload.enabled, sha1))
+                .then(result -> {
+                    succeeded(index);
+                    statistics.recordReference(upload.name, upload.file.size, System.currentTimeMillis() - start);
+                    return Promise.resolve((Void) null);
+                })
+                .catch_(error -> failed(index, error));
+    }
+
+    private Promise<Void> transfer(int index, int attempt) {
+        Upload upload = uploads.get(index);
+        long start = System.currentTimeMillis();
+        boolean[] sent = new boolean[] { false };
+        loaded[index] = 0;
+        Operation operation = uploadOperation(upload.name, upload.runtimeName, upload.replace, upload.enabled);
+        return dispatcher.upload(upload.file, operation, (bytes, size) -> {
+            loaded[index] = bytes;
+            sent[0] = bytes >= size;
+            updateProgress();
+        }).then(result -> {
+            succeeded(index);
+            statistics.recordTransfer(upload.name, upload.file.size, System.currentTimeMillis() - start, attempt);
+            return Promise.resolve((Void) null);
+        }).catch_(error -> {
+            if (!sent[0] && attempt < MAX_ATTEMPTS) {
+                logger.warn("Upload of {} failed in attempt {}/{}: {}. Retry in {} ms", upload.name, attempt, MAX_ATTEMPTS,
+                        error, RETRY_DELAY * attempt);
+                return delay(RETRY_DELAY * attempt).then(__ -> transfer(index, attempt + 1));
+            }
+            return failed(index, error);
+        });
+    }
+
+    private void succeeded(int index) {
+        Upload upload = uploads.get(index);
+        loaded[index] = upload.file.size;
+        updateProgress();
+        if (upload.replace) {
+            statistics.recordReplaced(upload.name);
+        } else {
+            statistics.recordAdded(upload.name);
+        }
+    }
+
+    private Promise<Void> failed(int index, Object error) {
+        Upload upload = uploads.get(index);
+        logger.error("Upload of {} failed: {}", upload.name, error);
+        loaded[index] = upload.file.size; // count as done
+        updateProgress();
+        statistics.recordFailed(upload.name);
+        return Promise.resolve((Void) null);
+    }
+
+    private void updateProgress() {
+        double bytes = 0;
+        for (double value : loaded) {
+            bytes += value;
+        }
+        int percent = total > 0 ? (int) (bytes * PERCENT / total) : PERCENT;
+        while (ticks < min(percent, PERCENT)) {
+            ticks++;
+            progress.tick();
+        }
+    }
+
+    private static Promise<Void> delay(long millis) {
+        return new Promise<>((resolve, reject) -> setTimeout(__ -> resolve.onInvoke((Void) null), millis));
+    }
+
+    /** A file and how to deploy it. */
+    static class Upload {
+
+        final String name;
+        final String runtimeName;
+        final File file;
+        final boolean replace;
+        final boolean enabled;
+
+        Upload(String name, String runtimeName, File file, boolean replace, boolean enabled) {
+            this.name = name;
+            this.runtimeName = runtimeName;
+            this.file = file;
+            this.replace = replace;
+            this.enabled = enabled;
+        }
+    }
+}
@@ -16,10 +16,12 @@
 package org.jboss.hal.client.deployment;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import org.jboss.hal.ballroom.Format;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.resources.Messages;
 import org.jboss.hal.spi.Message;
@@ -31,7 +33,8 @@ import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 
 /**
  * Holds information about added, replaced and failed uploads and provides a message which summarizes the upload of one or
- * several files.
+ * several files. If recorded, also holds the size, duration and number of attempts of the transfers and the uploads which
+ * have been added, but couldn't be deployed to a server group.
  */
 class UploadStatistics {
 
@@ -43,10 +46,15 @@ class UploadStatistics {
 
     private final Environment environment;
     private final Map<String, UploadStatus> status;
+    private final Map<String, Transfer> transfers;
+    private final SortedSet<String> notDeployed;
+    private String serverGroup;
 
     UploadStatistics(Environment environment) {
         this.environment = environment;
         this.status = new HashMap<>();
+        this.transfers = new LinkedHashMap<>();
+        this.notDeployed = new TreeSet<>();
     }
 
     void recordAdded(String name) {
@@ -61,6 +69,68 @@ class UploadStatistics {
         status.put(name, UploadStatus.FAILED);
     }
 
+    /** Records an added upload which couldn't be deployed to the server group. */
+    void recordNotDeployed(String name, String serverGroup) {
+        this.notDeployed.add(name);
+        this.serverGroup = serverGroup;
+    }
+
+    void recordTransfer(String name, double bytes, long duration, int attempts) {
+        transfers.put(name, new Transfer(bytes, duration, attempts, false));
+    }
+
+    /** Records an upload which has been skipped because the content was already in the content repository. */
+    void recordReference(String name, double bytes, long duration) {
+        transfers.put(name, new Transfer(bytes, duration, 0, true));
+    }
+
+    /** @return the names of the added uploads */
+    SortedSet<String> added() {
+        SortedSet<String> added = new TreeSet<>();
+        for (Map.Entry<String, UploadStatus> entry : status.entrySet()) {
+            if (entry.getValue() == UploadStatus.ADDED) {
+                added.add(entry.getKey());
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @return the throughput of the transfer in bytes per second or {@code 0} if no transfer has been recorded or the upload
+     *         referenced existing content
+     */
+    double throughput(String name) {
+        Transfer transfer = transfers.get(name);
+        return transfer != null && !transfer.reference && transfer.duration > 0
+                ? transfer.bytes * 1000 / transfer.duration
+                : 0;
+    }
+
+    String transferSummary() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Transfer> entry : transfers.entrySet()) {
+            Transfer transfer = entry.getValue();
+            if (builder.length() != 0) {
+                builder.append(", ");
+            }
+            builder.append(entry.getKey())
+                    .append(": ")
+                    .append(Format.humanReadableFileSize((long) transfer.bytes));
+            if (transfer.reference) {
+                builder.append(" referenced existing content");
+            } else {
+                builder.append(" in ")
+                        .append(transfer.duration)
+                        .append(" ms (")
+                        .append(Format.humanReadableFileSize((long) throughput(entry.getKey())))
+                        .append("/s, ")
+                        .append(transfer.attempts)
+                        .append(transfer.attempts == 1 ? " attempt)" : " attempts)");
+            }
+        }
+        return builder.toString();
+    }
+
     public Message getMessage() {
         SortedSet<String> added = new TreeSet<>();
         SortedSet<String> replaced = new TreeSet<>();
@@ -84,7 +154,7 @@ class UploadStatistics {
         Level overallResult;
         if (status.isEmpty()) {
             overallResult = Level.INFO;
-        } else if (failed.isEmpty()) {
+        } else if (failed.isEmpty() && notDeployed.isEmpty()) {
             overallResult = Level.SUCCESS;
         } else if (added.isEmpty() && replaced.isEmpty()) {
             overallResult = Level.ERROR;
@@ -150,6 +220,27 @@ class UploadStatistics {
                 builder.append(MESSAGES.contentOpFailed(failed.size()));
             }
         }
+        if (!notDeployed.isEmpty()) {
+            if (!added.isEmpty() || !replaced.isEmpty() || !failed.isEmpty()) {
+                builder.appendHtmlConstant("<br/>"); // NON-NLS
+            }
+            builder.append(MESSAGES.contentNotDeployed(notDeployed.size(), serverGroup));
+        }
         return builder.toSafeHtml();
     }
+
+    private static class Transfer {
+
+        private final double bytes;
+        private final long duration;
+        private final int attempts;
+        private final boolean reference;
+
+        private Transfer(double bytes, long duration, int attempts, boolean reference) {
+            this.bytes = bytes;
+            this.duration = duration;
+            this.attempts = attempts;
+            this.reference = reference;
+        }
+    }
 }
@@ -31,6 +31,7 @@ import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.StaticItem;
 import org.jboss.hal.core.finder.StaticItemColumn;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyStore;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -86,6 +87,7 @@ public class BrowseByColumn extends StaticItemColumn {
             EventBus eventBus,
             ItemActionFactory itemActionFactory,
             Dispatcher dispatcher,
+            TopologyStore topologyStore,
             Places places,
             FinderPathFactory finderPathFactory,
             HostActions hostActions,
@@ -96,7 +98,7 @@ public class BrowseByColumn extends StaticItemColumn {
                 Arrays.asList(
                         new StaticItem.Builder(Names.TOPOLOGY)
                                 .onPreview(new TopologyPreview(securityContextRegistry, environment, dispatcher,
-                                        progress, eventBus, places, finderPathFactory, hostActions,
+                                        topologyStore, progress, eventBus, places, finderPathFactory, hostActions,
                                         serverGroupActions, serverActions, resources))
                                 .build(),
                         new StaticItem.Builder(Names.HOSTS)
@@ -27,6 +27,8 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.StaticItem;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.HostFanOut;
+import org.jboss.hal.core.runtime.TopologyStore;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
@@ -61,6 +63,7 @@ import elemental2.dom.HTMLElement;
 import elemental2.dom.NodeList;
 
 import static elemental2.dom.DomGlobal.document;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
@@ -101,17 +104,20 @@ class TopologyPreview extends PreviewContent<StaticItem>
 
     private final Environment environment;
     private final Dispatcher dispatcher;
+    private final TopologyStore topologyStore;
     private final Provider<Progress> progress;
     private final EventBus eventBus;
     private final Resources resources;
     private final TopologyStatus topologyStatus;
     private final TopologyElements topologyElements;
     private final TopologyAttributes topologyAttributes;
+    private List<ServerGroup> serverGroups;
 
     public TopologyPreview(
             SecurityContextRegistry securityContextRegistry,
             Environment environment,
             Dispatcher dispatcher,
+            TopologyStore topologyStore,
             Provider<Progress> progress,
             EventBus eventBus,
             Places places,
@@ -124,6 +130,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
 
         this.environment = environment;
         this.dispatcher = dispatcher;
+        this.topologyStore = topologyStore;
         this.progress = progress;
         this.eventBus = eventBus;
         this.resources = resources;
@@ -133,6 +140,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
                 securityContextRegistry, hostActions, serverGroupActions, serverActions,
                 environment, resources);
         this.topologyAttributes = new TopologyAttributes(places, finderPathFactory, hostActions, serverActions, resources);
+        this.serverGroups = emptyList();
 
         eventBus.addHandler(HostActionEvent.getType(), this);
         eventBus.addHandler(HostResultEvent.getType(), this);
@@ -144,7 +152,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
         // keep the order (1-3)!
         previewBuilder()
                 .add(p() // 1
-                        .add(a().css(clickable, pullRight).on(click, event -> update(null))
+                        .add(a().css(clickable, pullRight).on(click, event -> refresh())
                                 .add(span().css(fontAwesome("refresh"), marginRight5))
                                 .add(span().textContent(resources.constants().refresh()))));
         topologyElements.addTo(previewBuilder()); // 2
@@ -155,31 +163,32 @@ class TopologyPreview extends PreviewContent<StaticItem>
 
     @Override
     public void update(StaticItem item) {
+        // hosts and server groups come from the topology store and are only read if stale,
+        // the servers of each host are always read (see updateServers())
         startUpdate();
-        sequential(new FlowContext(progress.get()), topology(environment, dispatcher))
-                .timeout(TOPOLOGY_TIMEOUT)
-                .subscribe(context -> {
-                    if (context.successful()) {
-                        finishUpdate();
-                        List<Host> hosts = context.get(TopologyTasks.HOSTS);
-                        List<ServerGroup> serverGroups = context.get(TopologyTasks.SERVER_GROUPS);
-                        topologyElements.update(hosts, serverGroups);
-                        updateServers(hosts, serverGroups);
-
-                    } else if (context.timeout()) {
-                        finishUpdate();
-                        logger.warn("Timeout in topology()");
-                        MessageEvent.fire(eventBus, Message.warning(resources.messages().topologyTimeout()));
-
-                    } else if (context.failure()) {
-                        finishUpdate();
-                        String reason = context.failureReason();
-                        logger.error("Error in topology(): {}", reason);
-                        MessageEvent.fire(eventBus, Message.error(resources.messages().topologyError(), reason));
-                    }
+        topologyStore.topology(progress.get())
+                .then(context -> {
+                    finishUpdate();
+                    List<Host> hosts = context.get(TopologyTasks.HOSTS);
+                    serverGroups = context.get(TopologyTasks.SERVER_GROUPS);
+                    topologyElements.update(hosts, serverGroups);
+                    updateServers(hosts);
+                    return null;
+                })
+                .catch_(error -> {
+                    finishUpdate();
+                    String reason = String.valueOf(error);
+                    logger.error("Error in topology(): {}", reason);
+                    MessageEvent.fire(eventBus, Message.error(resources.messages().topologyError(), reason));
+                    return null;
                 });
     }
 
+    private void refresh() {
+        topologyStore.invalidate();
+        update(null);
+    }
+
     private void startUpdate() {
         topologyStatus.reset();
         topologyAttributes.hideAll();
@@ -219,7 +228,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
 
             topologyElements.stopProgress(host);
             event.getServers().forEach(topologyElements::stopProgress);
-            update(null);
+            refresh();
         }
     }
 
@@ -246,93 +255,107 @@ class TopologyPreview extends PreviewContent<StaticItem>
     public void onServerGroupResult(final ServerGroupResultEvent event) {
         if (topologyElements.isVisible()) {
             event.getServers().forEach(topologyElements::stopProgress);
-            update(null);
+            refresh();
         }
     }
 
     // ------------------------------------------------------ server
 
+    private void updateServers(List<Host> hosts) {
+        // Read the server configs of all connected hosts in parallel (bounded) with a timeout per host.
+        // Each host is rendered as soon as it responds (see renderServers()).
+        List<String> hostNames = hosts.stream()
+                .filter(Host::isConnected)
+                .map(Host::getName)
+                .collect(toList());
+        Map<String, Host> hostLookup = hosts.stream().collect(toMap(Host::getName, Function.identity()));
+        new HostFanOut<FlowContext>(hostNames,
+                host -> sequential(new FlowContext(progress.get()), serverConfigsOfHost(environment, dispatcher, host))
+                        .promise())
+                .timeout(TOPOLOGY_TIMEOUT)
+                .onResult((hostName, context) -> {
+                    Host host = hostLookup.get(hostName);
+                    List<Server> servers = context.get(TopologyTasks.SERVERS);
+                    renderServers(host, servers);
+                    updateStartedServers(host, servers);
+                })
+                .onFailure((hostName, reason) -> {
+                    if (HostFanOut.TIMEOUT_ERROR.equals(reason)) {
+                        logger.warn("Timeout in serverConfigsOfHost({})", hostName);
+                        MessageEvent.fire(eventBus, Message.warning(resources.messages().topologyTimeout()));
+                    } else {
+                        logger.error("Error in serverConfigsOfHost({}): {}", hostName, reason);
+                        MessageEvent.fire(eventBus, Message.warning(resources.messages().topologyError(), reason));
+                    }
+                })
+                .run();
+    }
+
     @SuppressWarnings("Convert2MethodRef")
-    private void updateServers(List<Host> hosts, List<ServerGroup> serverGroups) {
-        for (Host host : hosts) {
-            if (host.isConnected()) {
-                // 1. Read server configs
-                sequential(new FlowContext(progress.get()), serverConfigsOfHost(environment, dispatcher, host.getName()))
-                        .timeout(TOPOLOGY_TIMEOUT)
-                        .subscribe(context -> {
-                            if (context.successful()) {
-                                List<Server> servers = context.get(TopologyTasks.SERVERS);
-                                for (ServerGroup serverGroup : serverGroups) {
-                                    List<HTMLElement> serverElements = servers.stream()
-                                            .filter(sc -> host.getName().equals(sc.getHost()) &&
-                                                    serverGroup.getName().equals(sc.getServerGroup()))
-                                            .sorted(comparing(Server::getName))
-                                            .map(server -> topologyElements.serverElement(server))
-                                            .collect(toList());
-                                    if (!serverElements.isEmpty()) {
-                                        HTMLElement td = topologyElements.lookupServersElement(host, serverGroup);
-                                        if (td != null) {
-                                            td.classList.remove(empty);
-                                            td.classList.remove(CSS.progress);
-                                            td(td).add(div().css(CSS.servers)
-                                                    .addAll(serverElements));
-                                            adjustTdHeight();
-                                        }
-                                    }
-                                }
-
-                                // 2. Read runtime attributes for started servers one at a time
-                                // to prevent timeouts for blocked servers (HAL-1795)
-                                servers.stream()
-                                        .filter(Server::isStarted)
-                                        .forEach(topologyElements::startProgress);
-                                Map<String, Server> serverLookup = servers.stream()
-                                        .collect(toMap(Server::getId, Function.identity()));
-                                startedServerOperations(servers).forEach((serverId, composite) -> dispatcher.execute(composite)
-                                        .then(result -> {
-                                            Server server = serverLookup.get(serverId);
-                                            ModelNode attributes = result.step(0).get(RESULT);
-                                            server.addServerAttributes(attributes);
-                                            List<ModelNode> bootErrors = result.step(1).get(RESULT).asList();
-                                            server.setBootErrors(!bootErrors.isEmpty());
-                                            topologyElements.replaceServer(server,
-                                                    () -> topologyElements.serverElement(server),
-                                                    __ -> serverDetails(server));
-                                            return null;
-                                        })
-                                        .catch_(failure -> {
-                                            String reason = String.valueOf(failure);
-                                            Server server = serverLookup.get(serverId);
-                                            server.setOperationFailure(reason);
-                                            logger.error("Error in serverConfigsOfHost({}): Unable to update server {}: {}",
-                                                    host.getAddress(), server.getServerConfigAddress(), reason);
-                                            MessageEvent.fire(eventBus,
-                                                    Message.error(resources.messages().topologyError(), reason));
-                                            topologyElements.replaceServer(server,
-                                                    () -> topologyElements.serverElement(server),
-                                                    __ -> serverDetails(server));
-                                            return null;
-                                        })
-                                        .finally_(() -> {
-                                            Server server = serverLookup.get(serverId);
-                                            topologyElements.stopProgress(server);
-                                        }));
-
-                            } else if (context.timeout()) {
-                                logger.warn("Timeout in serverConfigsOfHost({})", host.getAddress());
-                                MessageEvent.fire(eventBus, Message.warning(resources.messages().topologyTimeout()));
-
-                            } else if (context.failure()) {
-                                String reason = context.failureReason();
-                                logger.error("Error in serverConfigsOfHost({}): {}", host.getAddress(), reason);
-                                MessageEvent.fire(eventBus, Message.warning(resources.messages().topologyError(),
-                                        reason));
-                            }
-                        });
+    private void renderServers(Host host, List<Server> servers) {
+        if (topologyElements.isVisible()) {
+            for (ServerGroup serverGroup : serverGroups) {
+                List<HTMLElement> serverElements = servers.stream()
+                        .filter(sc -> host.getName().equals(sc.getHost()) &&
+                                serverGroup.getName().equals(sc.getServerGroup()))
+                        .sorted(comparing(Server::getName))
+                        .map(server -> topologyElements.serverElement(server))
+                        .collect(toList());
+                if (!serverElements.isEmpty()) {
+                    HTMLElement td = topologyElements.lookupServersElement(host, serverGroup);
+                    if (td != null) {
+                        // the same host might be reported more than once
+                        Elements.removeChildrenFrom(td);
+                        td.classList.remove(empty);
+                        td.classList.remove(CSS.progress);
+                        td(td).add(div().css(CSS.servers)
+                                .addAll(serverElements));
+                        adjustTdHeight();
+                    }
+                }
             }
         }
     }
 
+    private void updateStartedServers(Host host, List<Server> servers) {
+        // Read runtime attributes for started servers one at a time
+        // to prevent timeouts for blocked servers (HAL-1795)
+        servers.stream()
+                .filter(Server::isStarted)
+                .forEach(topologyElements::startProgress);
+        Map<String, Server> serverLookup = servers.stream()
+                .collect(toMap(Server::getId, Function.identity()));
+        startedServerOperations(servers).forEach((serverId, composite) -> dispatcher.execute(composite)
+                .then(result -> {
+                    Server server = serverLookup.get(serverId);
+                    ModelNode attributes = result.step(0).get(RESULT);
+                    server.addServerAttributes(attributes);
+                    List<ModelNode> bootErrors = result.step(1).get(RESULT).asList();
+                    server.setBootErrors(!bootErrors.isEmpty());
+                    topologyElements.replaceServer(server,
+                            () -> topologyElements.serverElement(server),
+                            __ -> serverDetails(server));
+                    return null;
+                })
+                .catch_(failure -> {
+                    String reason = String.valueOf(failure);
+                    Server server = serverLookup.get(serverId);
+                    server.setOperationFailure(reason);
+                    logger.error("Error in serverConfigsOfHost({}): Unable to update server {}: {}",
+                            host.getAddress(), server.getServerConfigAddress(), reason);
+                    MessageEvent.fire(eventBus,
+                            Message.error(resources.messages().topologyError(), reason));
+                    topologyElements.replaceServer(server,
+                            () -> topologyElements.serverElement(server),
+                            __ -> serverDetails(server));
+                    return null;
+                })
+                .finally_(() -> {
+                    Server server = serverLookup.get(serverId);
+                    topologyElements.stopProgress(server);
+                }));
+    }
+
     private void updateServer(Server server) {
         // It's not enough to read just the server. We also need to update
         // its host and server group. So we use topology() here.
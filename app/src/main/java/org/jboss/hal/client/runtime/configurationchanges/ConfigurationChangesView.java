@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.Toolbar;
 import org.jboss.hal.ballroom.dataprovider.DataProvider;
+import org.jboss.hal.ballroom.dataprovider.IndexedFilter;
 import org.jboss.hal.core.mbui.listview.ModelNodeListView;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.dmr.ModelNode;
@@ -79,19 +80,19 @@ public class ConfigurationChangesView extends HalViewImpl implements Configurati
                 Ids.build(CONFIGURATION_CHANGES, "list"), metadata,
                 dataProvider, item -> new ConfigurationChangeDisplay(item, presenter, resources))
                 .toolbarAttribute(new Toolbar.Attribute<>(OUTCOME, constants.outcome(),
-                        (node, filter) -> node.getOutcome().toLowerCase().equals(filter.toLowerCase()),
+                        IndexedFilter.exact(ConfigurationChange::getOutcome),
                         comparing(ConfigurationChange::getOutcome)))
                 .toolbarAttribute(new Toolbar.Attribute<>(OPERATION, resources.constants().operation(),
-                        (model, filter) -> model.getOperationNames().contains(filter), null))
+                        IndexedFilter.text(ConfigurationChange::getOperationNames), null))
                 .toolbarAttribute(new Toolbar.Attribute<>(OPERATION_DATE, constants.operationDate(),
                         null, comparing(ConfigurationChange::getOperationDate)))
                 .toolbarAttribute(new Toolbar.Attribute<>(ADDRESS, resources.constants().address(),
-                        (model, filter) -> model.getAddressSegments().contains(filter), null))
+                        IndexedFilter.text(ConfigurationChange::getAddressSegments), null))
                 .toolbarAttribute(new Toolbar.Attribute<>(REMOTE_ADDRESS, constants.remoteAddress(),
-                        (node, filter) -> node.getRemoteAddress().toLowerCase().contains(filter.toLowerCase()),
+                        IndexedFilter.text(ConfigurationChange::getRemoteAddress),
                         comparing(ConfigurationChange::getRemoteAddress)))
                 .toolbarAttribute(new Toolbar.Attribute<>(ACCESS_MECHANISM, constants.accessMechanism(),
-                        (node, filter) -> node.getAccessMechanism().toLowerCase().equals(filter.toLowerCase()),
+                        IndexedFilter.exact(ConfigurationChange::getAccessMechanism),
                         comparing(ConfigurationChange::getAccessMechanism)))
                 .toolbarAction(disableAction)
                 .toolbarAction(new Toolbar.Action(Ids.build(CONFIGURATION_CHANGES, Ids.REFRESH),
@@ -113,7 +114,7 @@ public class ConfigurationChangesView extends HalViewImpl implements Configurati
     public void update(ModelNode model) {
         if (model.isDefined()) {
             List<ConfigurationChange> changes = model.asList().stream().map(ConfigurationChange::new).collect(toList());
-            dataProvider.update(changes);
+            dataProvider.merge(changes);
             if (changes.isEmpty()) {
                 listView.showEmptyState(empty);
             }
@@ -21,7 +21,6 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
-import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.finder.ColumnActionFactory;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderColumn;
@@ -30,7 +29,7 @@ import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mvp.Places;
-import org.jboss.hal.core.runtime.TopologyTasks;
+import org.jboss.hal.core.runtime.TopologyStore;
 import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
 import org.jboss.hal.core.runtime.group.ServerGroupActionEvent.ServerGroupActionHandler;
@@ -39,8 +38,6 @@ import org.jboss.hal.core.runtime.group.ServerGroupResultEvent;
 import org.jboss.hal.core.runtime.group.ServerGroupResultEvent.ServerGroupResultHandler;
 import org.jboss.hal.core.runtime.group.ServerGroupSelectionEvent;
 import org.jboss.hal.core.runtime.server.Server;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.security.Constraint;
@@ -57,10 +54,8 @@ import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.dom.HTMLElement;
-import elemental2.promise.Promise;
 
 import static org.jboss.hal.core.finder.FinderColumn.RefreshMode.RESTORE_SELECTION;
-import static org.jboss.hal.core.runtime.TopologyTasks.serverGroups;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DESTROY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.KILL;
@@ -72,7 +67,6 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.START_SERVERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STOP_SERVERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_SERVERS;
-import static org.jboss.hal.flow.Flow.sequential;
 
 @Column(Ids.SERVER_GROUP)
 @Requires("/server-group=*")
@@ -85,23 +79,17 @@ public class ServerGroupColumn extends FinderColumn<ServerGroup>
 
     @Inject
     public ServerGroupColumn(Finder finder,
-            Environment environment,
-            Dispatcher dispatcher,
             EventBus eventBus,
             @Footer Provider<Progress> progress,
             ColumnActionFactory columnActionFactory,
             ItemActionFactory itemActionFactory,
             ServerGroupActions serverGroupActions,
+            TopologyStore topologyStore,
             Places places,
             Resources resources) {
 
         super(new Builder<ServerGroup>(finder, Ids.SERVER_GROUP, Names.SERVER_GROUP)
-                .itemsProvider(
-                        finderContext -> sequential(new FlowContext(progress.get()), serverGroups(environment, dispatcher))
-                                .then(flowContext -> {
-                                    List<ServerGroup> serverGroups = flowContext.get(TopologyTasks.SERVER_GROUPS);
-                                    return Promise.resolve(serverGroups);
-                                }))
+                .itemsProvider(finderContext -> topologyStore.serverGroups(progress.get()))
                 .onItemSelect(serverGroup -> eventBus.fireEvent(new ServerGroupSelectionEvent(serverGroup.getName())))
                 .onPreview(item -> new ServerGroupPreview(item, places))
                 .pinnable()
@@ -115,7 +103,10 @@ public class ServerGroupColumn extends FinderColumn<ServerGroup>
 
         addColumnAction(columnActionFactory.add(Ids.SERVER_GROUP_ADD, Names.SERVER_GROUP,
                 AddressTemplate.of("/server-group=*"), Ids::serverGroup, this::createUniqueValidation));
-        addColumnAction(columnActionFactory.refresh(Ids.SERVER_GROUP_REFRESH));
+        addColumnAction(columnActionFactory.refresh(Ids.SERVER_GROUP_REFRESH, column -> {
+            topologyStore.invalidate();
+            column.refresh(RESTORE_SELECTION);
+        }));
 
         setItemRenderer(item -> new ItemDisplay<ServerGroup>() {
             @Override
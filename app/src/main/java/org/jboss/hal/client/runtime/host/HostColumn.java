@@ -22,7 +22,6 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.jboss.hal.ballroom.dialog.DialogFactory;
-import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.finder.ColumnAction;
 import org.jboss.hal.core.finder.ColumnActionFactory;
@@ -32,7 +31,7 @@ import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.finder.ItemsProvider;
-import org.jboss.hal.core.runtime.TopologyTasks;
+import org.jboss.hal.core.runtime.TopologyStore;
 import org.jboss.hal.core.runtime.host.Host;
 import org.jboss.hal.core.runtime.host.HostActionEvent;
 import org.jboss.hal.core.runtime.host.HostActionEvent.HostActionHandler;
@@ -45,7 +44,6 @@ import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.ManagementModel;
@@ -73,7 +71,6 @@ import static org.jboss.hal.client.runtime.configurationchanges.ConfigurationCha
 import static org.jboss.hal.client.runtime.host.AddressTemplates.HOST_CONNECTION_TEMPLATE;
 import static org.jboss.hal.client.runtime.managementoperations.ManagementOperationsPresenter.MANAGEMENT_OPERATIONS_ADDRESS;
 import static org.jboss.hal.core.finder.FinderColumn.RefreshMode.RESTORE_SELECTION;
-import static org.jboss.hal.core.runtime.TopologyTasks.hosts;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CORE_SERVICE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
@@ -84,7 +81,6 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.PRUNE_EXPIRED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SHUTDOWN;
-import static org.jboss.hal.flow.Flow.sequential;
 import static org.jboss.hal.meta.AddressTemplate.OPTIONAL;
 import static org.jboss.hal.resources.CSS.pfIcon;
 
@@ -107,7 +103,6 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
 
     @Inject
     public HostColumn(Finder finder,
-            Environment environment,
             Dispatcher dispatcher,
             CrudOperations crud,
             EventBus eventBus,
@@ -116,6 +111,7 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
             ColumnActionFactory columnActionFactory,
             ItemActionFactory itemActionFactory,
             HostActions hostActions,
+            TopologyStore topologyStore,
             Resources resources,
             MetadataRegistry metadataRegistry) {
 
@@ -136,7 +132,10 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
         this.statementContext = statementContext;
         this.resources = resources;
 
-        addColumnAction(columnActionFactory.refresh(Ids.HOST_REFRESH));
+        addColumnAction(columnActionFactory.refresh(Ids.HOST_REFRESH, column -> {
+            topologyStore.invalidate();
+            column.refresh(RESTORE_SELECTION);
+        }));
         List<ColumnAction<Host>> pruneActions = new ArrayList<>();
         pruneActions.add(new ColumnAction.Builder<Host>(Ids.HOST_PRUNE_EXPIRED)
                 .title(resources.constants().pruneExpired())
@@ -150,9 +149,8 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
                 .build());
         addColumnActions(Ids.HOST_PRUNE_ACTIONS, pfIcon("remove"), resources.constants().prune(), pruneActions);
 
-        ItemsProvider<Host> itemsProvider = finderContext -> sequential(new FlowContext(progress.get()),
-                hosts(environment, dispatcher)).then(flowContext -> {
-                    List<Host> hosts = flowContext.get(TopologyTasks.HOSTS);
+        ItemsProvider<Host> itemsProvider = finderContext -> topologyStore.hosts(progress.get())
+                .then(hosts -> {
                     // Restore pending visualization
                     hosts.stream()
                             .filter(hostActions::isPending)
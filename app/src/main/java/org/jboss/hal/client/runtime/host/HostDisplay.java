@@ -66,6 +66,8 @@ public abstract class HostDisplay implements ItemDisplay<Host> {
     public String getTooltip() {
         if (!item.isConnected()) {
             return resources.constants().disconnectedUpper();
+        } else if (item.isFailed()) {
+            return resources.constants().error();
         } else if (hostActions.isPending(item)) {
             return resources.constants().pending();
         } else if (item.isAdminMode()) {
@@ -87,6 +89,8 @@ public abstract class HostDisplay implements ItemDisplay<Host> {
     public HTMLElement getIcon() {
         if (!item.isConnected()) {
             return Icons.disconnected();
+        } else if (item.isFailed()) {
+            return Icons.error();
         } else if (hostActions.isPending(item)) {
             return Icons.pending();
         } else if (item.isAdminMode()) {
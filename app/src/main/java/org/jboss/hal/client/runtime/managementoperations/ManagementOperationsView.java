@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.Toolbar;
 import org.jboss.hal.ballroom.dataprovider.DataProvider;
+import org.jboss.hal.ballroom.dataprovider.IndexedFilter;
 import org.jboss.hal.core.mbui.listview.ModelNodeListView;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.meta.Metadata;
@@ -32,6 +33,7 @@ import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Messages;
 import org.jboss.hal.resources.Resources;
 
+import static java.util.Arrays.asList;
 import static java.util.Comparator.comparing;
 import static org.jboss.hal.client.runtime.managementoperations.ManagementOperationsPresenter.ACTIVE_OPERATIONS_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
@@ -64,21 +66,18 @@ public class ManagementOperationsView extends HalViewImpl implements ManagementO
                 Ids.build(ACTIVE_OPERATION, CANCEL_OPERATION), metadata,
                 dataProvider, item -> new ManagementOperationsDisplay(item, presenter, resources))
                 .toolbarAttribute(new Toolbar.Attribute<>(ACCESS_MECHANISM, constants.accessMechanism(),
-                        (node, filter) -> node.getAccessMechanism().toLowerCase().equals(filter.toLowerCase()),
+                        IndexedFilter.exact(ManagementOperations::getAccessMechanism),
                         comparing(ManagementOperations::getAccessMechanism)))
                 .toolbarAttribute(new Toolbar.Attribute<>(ADDRESS, resources.constants().address(),
                         // filter by three address attributes: address, host and server
-                        (model, filter) -> model.getAddress().contains(filter)
-                                || (model.getActiveAddressHost() != null
-                                        && model.getActiveAddressHost().contains(filter))
-                                || (model.getActiveAddressServer() != null
-                                        && model.getActiveAddressServer().contains(filter)),
+                        IndexedFilter.textAny(model -> asList(model.getAddress(), model.getActiveAddressHost(),
+                                model.getActiveAddressServer())),
                         null))
                 .toolbarAttribute(new Toolbar.Attribute<>(EXECUTION_STATUS, resources.constants().executionStatus(),
-                        (node, filter) -> node.getExecutionStatus().toLowerCase().contains(filter.toLowerCase()),
+                        IndexedFilter.text(ManagementOperations::getExecutionStatus),
                         comparing(ManagementOperations::getExecutionStatus)))
                 .toolbarAttribute(new Toolbar.Attribute<>(OPERATION, resources.constants().operation(),
-                        (model, filter) -> model.getOperation().contains(filter), null))
+                        IndexedFilter.text(ManagementOperations::getOperation), null))
                 .toolbarAction(new Toolbar.Action(Ids.build(ACTIVE_OPERATION, Ids.REFRESH),
                         constants.reload(), findDescription, () -> presenter.reload()))
                 .toolbarAction(new Toolbar.Action(Ids.build(ACTIVE_OPERATION, Ids.CANCEL_NON_PROGRESSING_OPERATION),
@@ -98,7 +97,7 @@ public class ManagementOperationsView extends HalViewImpl implements ManagementO
 
     @Override
     public void update(List<ManagementOperations> activeOperations) {
-        dataProvider.update(activeOperations);
+        dataProvider.merge(activeOperations);
         if (activeOperations.isEmpty()) {
             listView.showEmptyState(EMPTY);
         }
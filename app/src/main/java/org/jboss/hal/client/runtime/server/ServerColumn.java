@@ -240,10 +240,11 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
             List<Task<FlowContext>> tasks;
             if (BrowseByColumn.browseByHosts(finderContext)) {
                 processAddColumnAction(statementContext.selectedHost());
-                tasks = serversOfHost(environment, dispatcher, statementContext.selectedHost());
+                tasks = serversOfHost(environment, dispatcher, statementContext.selectedHost(), resources);
 
             } else {
-                tasks = serversOfServerGroup(environment, dispatcher, statementContext.selectedServerGroup());
+                tasks = serversOfServerGroup(environment, dispatcher, statementContext.selectedServerGroup(),
+                        resources);
             }
             return sequential(new FlowContext(progress.get()), tasks)
                     .then(flowContext -> {
@@ -16,13 +16,17 @@
 package org.jboss.hal.client.runtime.server;
 
 import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.chart.Sparkline;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.runtime.MetricsSampler;
+import org.jboss.hal.core.runtime.MetricsSampler.Metric;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
@@ -43,6 +47,8 @@ import static org.jboss.hal.resources.CSS.lead;
 
 public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
 
+    private static final long MB = 1024 * 1024;
+
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
     private final Resources resources;
@@ -58,8 +64,17 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
     private final Utilization committedHeap;
     private final Utilization committedNonHeap;
     private final Utilization threads;
+    private final Sparkline heapTrend;
+    private final Sparkline nonHeapTrend;
+    private final Sparkline threadsTrend;
+    private final MetricsSampler.Sampling sampling;
+    private ResourceAddress sampledAddress;
+    private Metric heapUsedMetric;
+    private Metric nonHeapUsedMetric;
+    private Metric threadCountMetric;
 
-    public ServerRuntimePreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources) {
+    public ServerRuntimePreview(Dispatcher dispatcher, MetricsSampler sampler, StatementContext statementContext,
+            Resources resources) {
         super(resources.constants().status());
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
@@ -75,6 +90,14 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
         this.committedNonHeap.element().id = Ids.SERVER_RUNTIME_STATUS_NON_HEAP_COMMITTED;
         this.threads = new Utilization("Daemon", Names.THREADS, false, false); // NON-NLS
         this.threads.element().id = Ids.SERVER_RUNTIME_STATUS_THREADS;
+        this.heapTrend = new Sparkline(resources.constants().used(), value -> Math.round(value / MB) + " " + Names.MB);
+        this.heapTrend.element().id = Ids.SERVER_RUNTIME_STATUS_HEAP_TREND;
+        this.nonHeapTrend = new Sparkline(resources.constants().used(), value -> Math.round(value / MB) + " " + Names.MB);
+        this.nonHeapTrend.element().id = Ids.SERVER_RUNTIME_STATUS_NON_HEAP_TREND;
+        this.threadsTrend = new Sparkline(Names.THREADS, value -> String.valueOf(Math.round(value)));
+        this.threadsTrend.element().id = Ids.SERVER_RUNTIME_STATUS_THREADS_TREND;
+        this.sampling = sampler.sampling(heapTrend);
+        registerAttachable(sampling);
 
         getHeaderContainer().appendChild(refreshLink(() -> update(null)));
         previewBuilder()
@@ -90,11 +113,14 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
                 .add(h(2).textContent(Names.HEAP))
                 .add(usedHeap)
                 .add(committedHeap)
+                .add(heapTrend)
                 .add(nonHeapTitle = h(2).element())
                 .add(usedNonHeap)
                 .add(committedNonHeap)
+                .add(nonHeapTrend)
                 .add(h(2).textContent(Names.THREADS))
-                .add(threads);
+                .add(threads)
+                .add(threadsTrend);
     }
 
     @Override
@@ -105,6 +131,7 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
         AddressTemplate runtimeTmpl = mbean.append("type=runtime");
         AddressTemplate memoryTmpl = mbean.append("type=memory");
         AddressTemplate threadingTmpl = mbean.append("type=threading");
+        sample(memoryTmpl.resolve(statementContext), threadingTmpl.resolve(statementContext));
 
         Operation osOp = new Operation.Builder(osTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
                 .param(ATTRIBUTES_ONLY, true)
@@ -164,4 +191,22 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
             threads.update(daemonCount, threadCount);
         });
     }
+
+    // ------------------------------------------------------ sampling
+
+    /** (Re)creates the metrics if another server has been selected. The history of the same server is kept. */
+    @SuppressWarnings("HardCodedStringLiteral")
+    private void sample(ResourceAddress memory, ResourceAddress threading) {
+        if (!memory.equals(sampledAddress)) {
+            sampledAddress = memory;
+            heapUsedMetric = new Metric(memory, "heap-memory-usage", "used");
+            nonHeapUsedMetric = new Metric(memory, "non-heap-memory-usage", "used");
+            threadCountMetric = new Metric(threading, "thread-count");
+        }
+        sampling.start(() -> {
+            heapTrend.update(heapUsedMetric.series());
+            nonHeapTrend.update(nonHeapUsedMetric.series());
+            threadsTrend.update(threadCountMetric.series());
+        }, heapUsedMetric, nonHeapUsedMetric, threadCountMetric);
+    }
 }
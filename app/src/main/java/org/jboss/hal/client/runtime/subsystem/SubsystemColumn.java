@@ -39,6 +39,7 @@ import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsSampler;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.core.subsystem.Subsystems;
 import org.jboss.hal.dmr.Composite;
@@ -89,6 +90,7 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
     @Inject
     public SubsystemColumn(Finder finder,
             Dispatcher dispatcher,
+            MetricsSampler metricsSampler,
             Places places,
             StatementContext statementContext,
             ItemActionFactory itemActionFactory,
@@ -100,9 +102,9 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
 
         customPreviews = new HashMap<>();
         customPreviews.put(Ids.SERVER_RUNTIME_STATUS,
-                new ServerRuntimePreview(dispatcher, statementContext, resources));
+                new ServerRuntimePreview(dispatcher, metricsSampler, statementContext, resources));
         customPreviews.put(BATCH_JBERET, new BatchPreview(dispatcher, statementContext, resources));
-        customPreviews.put(EJB3, new ThreadPoolPreview(dispatcher, statementContext, resources));
+        customPreviews.put(EJB3, new ThreadPoolPreview(dispatcher, metricsSampler, statementContext, resources));
         customPreviews.put(TRANSACTIONS, new TransactionsPreview(dispatcher, statementContext, resources));
         customPreviews.put(UNDERTOW, new UndertowPreview(resources));
         customPreviews.put(WEBSERVICES, new WebservicesPreview(dispatcher, statementContext, resources));
@@ -30,6 +30,7 @@ import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsSampler;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.dmr.Composite;
@@ -117,6 +118,7 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
     @Inject
     public DataSourceColumn(ServerActions serverActions,
             Dispatcher dispatcher,
+            MetricsSampler metricsSampler,
             EventBus eventBus,
             StatementContext statementContext,
             Environment environment,
@@ -342,8 +344,8 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
             }
         });
 
-        setPreviewCallback(item -> new DataSourcePreview(this, server, item, environment, dispatcher, statementContext,
-                serverActions, finderPathFactory, places, resources));
+        setPreviewCallback(item -> new DataSourcePreview(this, server, item, environment, dispatcher, metricsSampler,
+                statementContext, serverActions, finderPathFactory, places, resources));
     }
 
     private void testConnection(DataSource dataSource) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.jboss.elemento.Elements;
 import org.jboss.hal.ballroom.Alert;
 import org.jboss.hal.ballroom.EmptyState;
+import org.jboss.hal.ballroom.chart.Sparkline;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.datasource.DataSource;
@@ -28,6 +29,8 @@ import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsSampler;
+import org.jboss.hal.core.runtime.MetricsSampler.Metric;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.dmr.Composite;
@@ -63,6 +66,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESTART;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATISTICS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STATISTICS_ENABLED;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_HOST;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_SERVER;
@@ -92,15 +96,19 @@ class DataSourcePreview extends PreviewContent<DataSource> {
     private final HTMLElement poolHeader;
     private final Utilization activeConnections;
     private final Utilization maxUsedConnections;
+    private final Sparkline activeConnectionsTrend;
     private final HTMLElement cacheHeader;
     private final Utilization hitCount;
     private final Utilization missCount;
+    private final MetricsSampler.Sampling sampling;
+    private Metric activeConnectionsMetric;
 
     DataSourcePreview(DataSourceColumn column,
             Server server,
             DataSource dataSource,
             Environment environment,
             Dispatcher dispatcher,
+            MetricsSampler sampler,
             StatementContext statementContext,
             ServerActions serverActions,
             FinderPathFactory finderPathFactory,
@@ -173,6 +181,10 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                 environment.isStandalone(), true);
         maxUsedConnections = new Utilization(resources.constants().maxUsed(), Names.CONNECTIONS,
                 environment.isStandalone(), true);
+        activeConnectionsTrend = new Sparkline(resources.constants().active(),
+                value -> Math.round(value) + " " + Names.CONNECTIONS);
+        sampling = sampler.sampling(activeConnectionsTrend);
+        registerAttachable(sampling);
         hitCount = new Utilization(resources.constants().hitCount(), resources.constants().count(),
                 environment.isStandalone(), false);
         missCount = new Utilization(resources.constants().missCount(), resources.constants().count(),
@@ -188,6 +200,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                 .add(poolHeader = h(2).css(underline).textContent(Names.CONNECTION_POOL).element())
                 .add(activeConnections)
                 .add(maxUsedConnections)
+                .add(activeConnectionsTrend)
                 .add(cacheHeader = h(2).css(underline)
                         .textContent(resources.constants().preparedStatementCache()).element())
                 .add(hitCount)
@@ -213,6 +226,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
             setVisible(poolHeader, false);
             setVisible(activeConnections.element(), false);
             setVisible(maxUsedConnections.element(), false);
+            setVisible(activeConnectionsTrend.element(), false);
             setVisible(cacheHeader, false);
             setVisible(hitCount.element(), false);
             setVisible(missCount.element(), false);
@@ -252,6 +266,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                 setVisible(poolHeader, statisticsEnabled);
                 setVisible(activeConnections.element(), statisticsEnabled);
                 setVisible(maxUsedConnections.element(), statisticsEnabled);
+                setVisible(activeConnectionsTrend.element(), statisticsEnabled);
                 setVisible(cacheHeader, statisticsEnabled);
                 setVisible(hitCount.element(), statisticsEnabled);
                 setVisible(missCount.element(), statisticsEnabled);
@@ -262,6 +277,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                 needsRestartWarning.element().classList.add(hidden);
                 disabledWarning.element().classList.add(hidden);
                 if (statisticsEnabled) {
+                    sample();
                     if (!dataSource.isEnabled()) {
                         disabledWarning.element().classList.remove(hidden);
                     } else {
@@ -294,8 +310,21 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                         hitCount.update(0, 0);
                         missCount.update(0, 0);
                     }
+                } else {
+                    sampling.stop();
                 }
             });
         }
     }
+
+    // ------------------------------------------------------ sampling
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    private void sample() {
+        if (activeConnectionsMetric == null) {
+            ResourceAddress pool = new ResourceAddress().add(dataSourceAddress).add(STATISTICS, "pool");
+            activeConnectionsMetric = new Metric(pool, "ActiveCount");
+        }
+        sampling.start(() -> activeConnectionsTrend.update(activeConnectionsMetric.series()), activeConnectionsMetric);
+    }
 }
@@ -23,8 +23,11 @@ import org.jboss.hal.ballroom.LabelBuilder;
 import org.jboss.hal.ballroom.PatternFly;
 import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.chart.Donut;
+import org.jboss.hal.ballroom.chart.Sparkline;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.runtime.MetricsSampler;
+import org.jboss.hal.core.runtime.MetricsSampler.Metric;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
@@ -58,8 +61,15 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
     private final HTMLElement statSection;
     private final Donut tasks;
     private final Utilization threads;
-
-    public ThreadPoolPreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources) {
+    private final Sparkline activeTrend;
+    private final Sparkline queueTrend;
+    private final MetricsSampler.Sampling sampling;
+    private ResourceAddress sampledAddress;
+    private Metric activeMetric;
+    private Metric queueMetric;
+
+    public ThreadPoolPreview(Dispatcher dispatcher, MetricsSampler sampler, StatementContext statementContext,
+            Resources resources) {
         super(Names.EJB3);
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
@@ -85,12 +95,18 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
         registerAttachable(tasks);
         threads = new Utilization(new LabelBuilder().label(CURRENT_THREAD_COUNT), Names.THREADS, false, false);
         threads.element().style.marginTop = MarginTopUnionType.of(Skeleton.MARGIN_BIG + "px"); // NON-NLS
+        activeTrend = new Sparkline(resources.constants().active(), value -> String.valueOf(Math.round(value)));
+        queueTrend = new Sparkline(resources.constants().queue(), value -> String.valueOf(Math.round(value)));
+        sampling = sampler.sampling(activeTrend);
+        registerAttachable(sampling);
         previewBuilder()
                 .add(noStatistics)
                 .add(statSection = section()
                         .add(h(2, Names.THREAD_POOL))
                         .add(tasks)
                         .add(threads)
+                        .add(activeTrend)
+                        .add(queueTrend)
                         .element());
 
         Elements.setVisible(noStatistics, false);
@@ -108,6 +124,7 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
         dispatcher.execute(operation, result -> {
             List<Property> properties = failSafePropertyList(result, THREAD_POOL);
             if (!properties.isEmpty()) {
+                String threadPoolName = properties.get(0).getName();
                 ModelNode threadPool = properties.get(0).getValue();
 
                 boolean statsAvailable = threadPool.get("task-count").asLong() > 0;
@@ -127,6 +144,9 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
                     int currentThreads = threadPool.get(CURRENT_THREAD_COUNT).asInt();
                     int maxThreads = threadPool.get(MAX_THREADS).asInt();
                     threads.update(currentThreads, maxThreads);
+                    sample(new ResourceAddress().add(address).add(THREAD_POOL, threadPoolName));
+                } else {
+                    sampling.stop();
                 }
                 Elements.setVisible(noStatistics, !statsEnabled);
                 Elements.setVisible(statSection, statsEnabled);
@@ -134,6 +154,22 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
         });
     }
 
+    // ------------------------------------------------------ sampling
+
+    /** (Re)creates the metrics if another thread pool has been selected. The history of the same thread pool is kept. */
+    private void sample(ResourceAddress threadPool) {
+        if (!threadPool.equals(sampledAddress)) {
+            stopSampling();
+            sampledAddress = threadPool;
+            activeMetric = new Metric(threadPool, ACTIVE_COUNT);
+            queueMetric = new Metric(threadPool, QUEUE_SIZE);
+        }
+        sampling.start(() -> {
+            activeTrend.update(activeMetric.series());
+            queueTrend.update(queueMetric.series());
+        }, activeMetric, queueMetric);
+    }
+
     private void enableStatistics() {
         ResourceAddress address = EJB3_SUBSYSTEM_TEMPLATE.resolve(statementContext);
         Operation operation = new Operation.Builder(address, WRITE_ATTRIBUTE_OPERATION)
@@ -15,8 +15,13 @@
  */
 package org.jboss.hal.client.runtime.subsystem.jndi;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.jboss.hal.ballroom.tree.DataFunction;
+import org.jboss.hal.ballroom.tree.NameIndex;
 import org.jboss.hal.ballroom.tree.Node;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelType;
@@ -25,42 +30,73 @@ import org.jboss.hal.resources.Ids;
 
 import com.google.common.base.Strings;
 
-import elemental2.core.JsArray;
-
+import static java.util.Collections.emptyList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILDREN;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CLASS_NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
-class JndiParser {
+/**
+ * Parses the result of {@code jndi-view}. The names of all entries are indexed when parsing, but the tree nodes are created
+ * on demand when their parent is opened.
+ */
+class JndiParser implements DataFunction<JndiContext> {
 
-    @SuppressWarnings("unchecked")
-    void parse(JsArray<Node<JndiContext>> nodes, Node<JndiContext> root, List<Property> children) {
-        nodes.push(root);
-        readChildren(nodes, root, children);
-    }
+    private final Map<String, List<Entry>> children;
+    private final NameIndex index;
 
-    private void readChildren(JsArray<Node<JndiContext>> nodes, Node<JndiContext> parent, List<Property> children) {
+    JndiParser() {
+        this.children = new HashMap<>();
+        this.index = new NameIndex();
+    }
 
-        children.stream()
-                .filter(child -> child.getValue().isDefined())
-                .forEach(child -> {
+    void parse(Node<JndiContext> root, List<Property> properties) {
+        readChildren(root.id, properties);
+    }
 
-                    ModelNode modelNode = child.getValue();
-                    JndiContext jndiContext = jndiContext(parent, child.getName(), modelNode);
-                    if (modelNode.hasDefined(VALUE)) {
-                        pushEntry(nodes, parent, child.getName(), jndiContext);
+    private void readChildren(String parentId, List<Property> properties) {
+        List<Entry> entries = new ArrayList<>();
+        for (Property property : properties) {
+            ModelNode modelNode = property.getValue();
+            if (modelNode.isDefined()) {
+                Entry entry = new Entry(Ids.build(parentId, Ids.uniqueId()), property.getName(), modelNode);
+                entries.add(entry);
+                index.add(entry.id, entry.name, parentId);
+                if (!modelNode.hasDefined(VALUE)) {
+                    if (modelNode.hasDefined(CHILDREN)) {
+                        readChildren(entry.id, modelNode.get(CHILDREN).asPropertyList());
+                    } else if (modelNode.getType() == ModelType.OBJECT) {
+                        readChildren(entry.id, modelNode.asPropertyList());
+                    }
+                }
+            }
+        }
+        children.put(parentId, entries);
+    }
 
-                    } else {
-                        Node<JndiContext> node = pushFolder(nodes, parent, child.getName(), jndiContext);
-                        if (modelNode.hasDefined(CHILDREN)) {
-                            readChildren(nodes, node, modelNode.get(CHILDREN).asPropertyList());
+    @Override
+    @SuppressWarnings("unchecked")
+    public void load(Node<JndiContext> node, ResultCallback<JndiContext> callback) {
+        List<Entry> entries = children.getOrDefault(node.id, emptyList());
+        Node<JndiContext>[] nodes = new Node[entries.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            Entry entry = entries.get(i);
+            JndiContext jndiContext = jndiContext(node, entry.name, entry.modelNode);
+            Node.Builder<JndiContext> builder = new Node.Builder<>(entry.id, entry.name, jndiContext).parent(node.id);
+            if (entry.modelNode.hasDefined(VALUE)) {
+                builder.icon(fontAwesome("file-text-o"));
+            } else if (children.getOrDefault(entry.id, emptyList()).isEmpty()) {
+                builder.folder();
+            } else {
+                builder.asyncFolder();
+            }
+            nodes[i] = builder.build();
+        }
+        callback.result(nodes);
+    }
 
-                        } else if (child.getValue().getType() == ModelType.OBJECT) {
-                            readChildren(nodes, node, child.getValue().asPropertyList());
-                        }
-                    }
-                });
+    NameIndex index() {
+        return index;
     }
 
     private JndiContext jndiContext(Node<JndiContext> parent, String name, ModelNode modelNode) {
@@ -85,25 +121,16 @@ class JndiParser {
         return jndiContext;
     }
 
-    @SuppressWarnings("unchecked")
-    private Node<JndiContext> pushFolder(JsArray<Node<JndiContext>> nodes, Node<JndiContext> parent, String name,
-            JndiContext jndiContext) {
-        Node<JndiContext> node = new Node.Builder<>(Ids.build(parent.id, Ids.uniqueId()), name, jndiContext)
-                .parent(parent.id)
-                .folder()
-                .build();
-        nodes.push(node);
-        return node;
-    }
+    private static class Entry {
 
-    @SuppressWarnings("unchecked")
-    private Node<JndiContext> pushEntry(JsArray<Node<JndiContext>> nodes, Node<JndiContext> parent, String name,
-            JndiContext jndiContext) {
-        Node<JndiContext> node = new Node.Builder<>(Ids.build(parent.id, Ids.uniqueId()), name, jndiContext)
-                .parent(parent.id)
-                .icon(fontAwesome("file-text-o"))
-                .build();
-        nodes.push(node);
-        return node;
+        private final String id;
+        private final String name;
+        private final ModelNode modelNode;
+
+        private Entry(String id, String name, ModelNode modelNode) {
+            this.id = id;
+            this.name = name;
+            this.modelNode = modelNode;
+        }
     }
 }
@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.client.runtime.subsystem.jndi;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.inject.Inject;
 
 import org.jboss.elemento.Elements;
@@ -29,8 +32,11 @@ import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.resources.CSS;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Resources;
+import org.jboss.hal.spi.Message;
+import org.jboss.hal.spi.MessageEvent;
+
+import com.google.web.bindery.event.shared.EventBus;
 
-import elemental2.core.JsArray;
 import elemental2.dom.HTMLElement;
 
 import static org.jboss.elemento.Elements.*;
@@ -53,15 +59,22 @@ public class JndiView extends HalViewImpl implements JndiPresenter.MyView {
     private HTMLElement header;
     private HTMLElement treeContainer;
     private Tree<JndiContext> tree;
+    private JndiParser parser;
     private HTMLElement hint;
     private Search search;
     private Form<ModelNode> details;
     private JndiPresenter presenter;
 
     @Inject
-    public JndiView(JndiResources jndiResources, Resources resources) {
+    public JndiView(EventBus eventBus, JndiResources jndiResources, Resources resources) {
 
-        search = new Search.Builder(Ids.JNDI_SEARCH, query -> tree.search(query))
+        search = new Search.Builder(Ids.JNDI_SEARCH, query -> {
+            int matches = tree.search(parser.index(), query);
+            if (matches > Tree.MAX_REVEALED_MATCHES) {
+                MessageEvent.fire(eventBus, Message.info(
+                        resources.messages().searchMatchesLimited(Tree.MAX_REVEALED_MATCHES, matches)));
+            }
+        })
                 .onClear(() -> tree.clearSearch())
                 .build();
 
@@ -120,30 +133,32 @@ public class JndiView extends HalViewImpl implements JndiPresenter.MyView {
     @Override
     @SuppressWarnings("HardCodedStringLiteral")
     public void update(ModelNode jndi) {
-        JndiParser jndiParser = new JndiParser();
-        JsArray<Node<JndiContext>> nodes = new JsArray<>();
+        parser = new JndiParser();
+        List<Node<JndiContext>> roots = new ArrayList<>();
 
         if (jndi.hasDefined(JAVA_CONTEXTS)) {
             JndiContext jndiContext = new JndiContext();
             Node<JndiContext> root = new Node.Builder<>(Ids.JNDI_TREE_JAVA_CONTEXTS_ROOT, "Java Contexts", jndiContext)
                     .root()
-                    .folder()
+                    .asyncFolder()
                     .open()
                     .build();
-            jndiParser.parse(nodes, root, jndi.get(JAVA_CONTEXTS).asPropertyList());
+            parser.parse(root, jndi.get(JAVA_CONTEXTS).asPropertyList());
+            roots.add(root);
         }
 
         if (jndi.hasDefined(APPLICATIONS)) {
             JndiContext jndiContext = new JndiContext();
             Node<JndiContext> root = new Node.Builder<>(Ids.JNDI_TREE_APPLICATIONS_ROOT, "Applications", jndiContext)
                     .root()
-                    .folder()
+                    .asyncFolder()
                     .open()
                     .build();
-            jndiParser.parse(nodes, root, jndi.get(APPLICATIONS).asPropertyList());
+            parser.parse(root, jndi.get(APPLICATIONS).asPropertyList());
+            roots.add(root);
         }
 
-        tree = new Tree<>(Ids.JNDI_TREE, nodes);
+        tree = new Tree<>(Ids.JNDI_TREE, roots, parser);
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
@@ -27,7 +27,7 @@ class LogFile extends ModelNode {
 
     // TODO Move to ModelDescriptionConstants
     private static final String FILE_NAME = "file-name";
-    private static final String FILE_SIZE = "file-size";
+    static final String FILE_SIZE = "file-size";
     private static final String LAST_MODIFIED_TIMESTAMP = "last-modified-timestamp";
 
     LogFile(ModelNode node) {
@@ -45,11 +45,9 @@ import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
-import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_TEMPLATE;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.PROFILE_LOG_FILE_TEMPLATE;
@@ -58,16 +56,16 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.LINES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LOGGING;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LOGGING_PROFILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SKIP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TAIL;
 import static org.jboss.hal.meta.token.NameTokens.LOG_FILE;
 
 public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresenter.MyView, LogFilePresenter.MyProxy> {
 
-    private static final int REFRESH_INTERVAL = 1000;
-
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
@@ -75,7 +73,12 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     private String logFileName;
     private String loggingProfile;
     private LogFile logFile;
-    private double intervalHandle;
+    private final LogPages pages;
+    private final LogTail tail;
+    private int page;
+    private boolean tailMode;
+    private int tailSession;
+    private double tailHandle;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -95,7 +98,12 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         this.logFileName = null;
         this.loggingProfile = null;
         this.logFile = null;
-        this.intervalHandle = -1;
+        this.pages = new LogPages();
+        this.tail = new LogTail(LogFiles.LINES);
+        this.page = 0;
+        this.tailMode = false;
+        this.tailSession = 0;
+        this.tailHandle = -1;
     }
 
     @Override
@@ -104,6 +112,12 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         getView().setPresenter(this);
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        stopTail();
+    }
+
     @Override
     public void prepareFromRequest(PlaceRequest request) {
         super.prepareFromRequest(request);
@@ -123,12 +137,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     protected void reload() {
         if (logFileName != null) {
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
+            ResourceAddress address = logFileAddress();
             Operation logFileOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
                     .param(INCLUDE_RUNTIME, true)
                     .build();
@@ -145,10 +154,13 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
                         } else {
                             logFile = new LogFile(logFileName, loggingProfile, result.step(0).get(RESULT));
                         }
-                        List<ModelNode> linesRead = result.step(1).get(RESULT).asList();
-                        String content = linesRead.stream().map(ModelNode::asString)
-                                .collect(joining("\n"));
-                        getView().show(logFile, linesRead.size(), content);
+                        List<String> linesRead = asLines(result.step(1).get(RESULT));
+                        page = 0;
+                        pages.reset();
+                        pages.put(0, linesRead, logFile.getSize());
+                        tail.reset(linesRead, logFile.getSize());
+                        getView().show(logFile, linesRead.size(), String.join("\n", linesRead));
+                        prefetch(1);
                     },
                     (operation, failure) -> {
                         clearTimeout(handle);
@@ -162,24 +174,17 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
     void reloadFile() {
         if (logFile != null) {
-            int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
-            // noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                    .param(LINES, linesToRead)
-                    .param(TAIL, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
+            dispatcher.execute(readPage(0), (CompositeResult result) -> {
                 clearTimeout(handle);
-                List<ModelNode> linesRead = result.asList();
-                String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                getView().refresh(linesRead.size(), content);
+                long fileSize = result.step(0).get(RESULT).asLong();
+                List<String> linesRead = asLines(result.step(1).get(RESULT));
+                page = 0;
+                pages.reset();
+                pages.put(0, linesRead, fileSize);
+                tail.reset(linesRead, fileSize);
+                getView().refresh(linesRead.size(), String.join("\n", linesRead));
+                prefetch(1);
             }, (op, failure) -> {
                 clearTimeout(handle);
                 MessageEvent.fire(getEventBus(),
@@ -190,15 +195,104 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         }
     }
 
+    // ------------------------------------------------------ paging
+
+    void olderPage() {
+        if (pages.hasOlder(page)) {
+            showPage(page + 1);
+        }
+    }
+
+    void newerPage() {
+        if (page > 0) {
+            showPage(page - 1);
+        }
+    }
+
+    private void showPage(int page) {
+        if (logFile != null && !tailMode) {
+            List<String> lines = pages.get(page);
+            if (lines != null) {
+                showPage(page, lines);
+            } else {
+                double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
+                readAndShowPage(page, handle, true);
+            }
+        }
+    }
+
+    /** @param retry whether to read the page again if the file has grown since the newer pages were read */
+    private void readAndShowPage(int page, double handle, boolean retry) {
+        dispatcher.execute(readPage(page), (CompositeResult result) -> {
+            List<String> linesRead = asLines(result.step(1).get(RESULT));
+            long fileSize = result.step(0).get(RESULT).asLong();
+            if (!pages.put(page, linesRead, fileSize)) {
+                if (retry) {
+                    // the offset has been adjusted to the new lines
+                    readAndShowPage(page, handle, false);
+                    return;
+                }
+                // still growing: start over with the file as it is now
+                pages.reset();
+                pages.put(page, linesRead, fileSize);
+            }
+            clearTimeout(handle);
+            showPage(page, linesRead);
+        }, (op, failure) -> {
+            clearTimeout(handle);
+            MessageEvent.fire(getEventBus(),
+                    Message.error(resources.messages().logFileError(logFileName), failure));
+        });
+    }
+
+    private void showPage(int page, List<String> lines) {
+        this.page = page;
+        getView().showPage(page, lines.size(), String.join("\n", lines), pages.hasOlder(page));
+        prefetch(page + 1);
+    }
+
+    /** Reads the specified page in the background, unless it's already cached or known not to exist. */
+    private void prefetch(int page) {
+        if (pages.hasOlder(page - 1) && !pages.contains(page)) {
+            dispatcher.execute(readPage(page),
+                    (CompositeResult result) -> pages.put(page,
+                            asLines(result.step(1).get(RESULT)), result.step(0).get(RESULT).asLong()),
+                    (op, failure) -> {
+                        // ignore: the page is read again when it's requested
+                    });
+        }
+    }
+
+    /** Reads the file size together with the page, so that the cache can tell whether the file has grown in the meantime. */
+    private Composite readPage(int page) {
+        ResourceAddress address = logFileAddress();
+        Operation fileSize = new Operation.Builder(address, READ_ATTRIBUTE_OPERATION)
+                .param(NAME, LogFile.FILE_SIZE)
+                .build();
+        Operation lines = new Operation.Builder(address, READ_LOG_FILE)
+                .param(LINES, LogPages.PAGE_SIZE)
+                .param(SKIP, pages.skip(page))
+                .param(TAIL, true)
+                .build();
+        return new Composite(fileSize, lines);
+    }
+
+    // ------------------------------------------------------ tail mode
+
     void toggleTailMode(boolean on) {
         if (logFile != null) {
             if (on) {
-                if (!inTailMode()) {
-                    intervalHandle = setInterval((o) -> reloadFile(), REFRESH_INTERVAL);
+                if (!tailMode) {
+                    tailMode = true;
+                    tailSession++;
+                    if (page != 0) {
+                        // the tail mode continues with the last lines
+                        reloadFile();
+                    }
+                    scheduleTail();
                 }
             } else {
-                clearInterval(intervalHandle);
-                intervalHandle = -1;
+                stopTail();
                 reloadFile();
             }
         } else {
@@ -206,8 +300,98 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         }
     }
 
-    private boolean inTailMode() {
-        return intervalHandle != -1;
+    /** Stops the tail mode. Responses of the stopped tail session are ignored, even if a new session has been started. */
+    private void stopTail() {
+        tailMode = false;
+        tailSession++;
+        if (tailHandle != -1) {
+            clearTimeout(tailHandle);
+            tailHandle = -1;
+        }
+    }
+
+    private void scheduleTail() {
+        if (tailMode) {
+            int session = tailSession;
+            tailHandle = setTimeout((o) -> {
+                tailHandle = -1;
+                readFileSize(session);
+            }, tail.interval());
+        }
+    }
+
+    private boolean activeTail(int session) {
+        return tailMode && session == tailSession;
+    }
+
+    /** Reads the file size and only reads lines if the file has changed. */
+    private void readFileSize(int session) {
+        Operation operation = new Operation.Builder(logFileAddress(), READ_ATTRIBUTE_OPERATION)
+                .param(NAME, LogFile.FILE_SIZE)
+                .build();
+        dispatcher.execute(operation, result -> {
+            if (activeTail(session)) {
+                long fileSize = result.asLong();
+                if (tail.truncated(fileSize)) {
+                    // rotated or truncated: start over
+                    readDelta(session, tail.capacity(), fileSize, false, true);
+                } else if (tail.changed(fileSize)) {
+                    readDelta(session, tail.window(fileSize), fileSize, true, false);
+                } else {
+                    tail.idle();
+                    scheduleTail();
+                }
+            }
+        }, (op, failure) -> tailError(session, failure));
+    }
+
+    /**
+     * Reads the specified number of lines from the end of the log file and appends the new lines to the view.
+     *
+     * @param retry whether to read all lines again if the new lines could not be determined
+     * @param reset whether to replace all lines
+     */
+    private void readDelta(int session, int window, long fileSize, boolean retry, boolean reset) {
+        Operation operation = new Operation.Builder(logFileAddress(), READ_LOG_FILE)
+                .param(LINES, window)
+                .param(TAIL, true)
+                .build();
+        dispatcher.execute(operation, result -> {
+            if (activeTail(session)) {
+                List<String> linesRead = asLines(result);
+                List<String> appended = reset ? null : tail.merge(linesRead, fileSize);
+                if (appended == null) {
+                    if (retry && window < tail.capacity()) {
+                        readDelta(session, tail.capacity(), fileSize, false, false);
+                        return;
+                    }
+                    tail.reset(linesRead, fileSize);
+                    getView().refresh(linesRead.size(), String.join("\n", linesRead));
+                } else if (!appended.isEmpty()) {
+                    getView().append(appended, tail.size());
+                }
+                scheduleTail();
+            }
+        }, (op, failure) -> tailError(session, failure));
+    }
+
+    private void tailError(int session, String failure) {
+        if (activeTail(session)) {
+            stopTail();
+            MessageEvent.fire(getEventBus(), Message.error(resources.messages().logFileError(logFileName), failure));
+        }
+    }
+
+    private ResourceAddress logFileAddress() {
+        if (loggingProfile == null) {
+            return LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            return PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+    }
+
+    private List<String> asLines(ModelNode result) {
+        return result.asList().stream().map(ModelNode::asString).collect(toList());
     }
 
     // @formatter:off
@@ -224,7 +408,11 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
         void refresh(int lines, String content);
 
-        int visibleLines();
+        /** Appends the lines and removes the oldest lines so that {@code total} lines remain */
+        void append(List<String> lines, int total);
+
+        void showPage(int page, int lines, String content, boolean older);
+
     }
     // @formatter:on
 }
@@ -16,6 +16,7 @@
 package org.jboss.hal.client.runtime.subsystem.logging;
 
 import java.util.Date;
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -25,6 +26,7 @@ import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.ballroom.editor.AceEditor;
+import org.jboss.hal.ballroom.editor.Document;
 import org.jboss.hal.ballroom.editor.Options;
 import org.jboss.hal.ballroom.form.SwitchBridge;
 import org.jboss.hal.config.Environment;
@@ -40,7 +42,6 @@ import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLInputElement;
 
-import static elemental2.dom.DomGlobal.document;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static elemental2.dom.DomGlobal.window;
 import static java.lang.Math.max;
@@ -62,6 +63,7 @@ import static org.jboss.hal.resources.CSS.column;
 import static org.jboss.hal.resources.CSS.columnLg;
 import static org.jboss.hal.resources.CSS.columnMd;
 import static org.jboss.hal.resources.CSS.columnSm;
+import static org.jboss.hal.resources.CSS.disabled;
 import static org.jboss.hal.resources.CSS.editorButtons;
 import static org.jboss.hal.resources.CSS.editorControls;
 import static org.jboss.hal.resources.CSS.editorStatus;
@@ -79,7 +81,6 @@ import static org.jboss.hal.resources.CSS.spinner;
 import static org.jboss.hal.resources.CSS.spinnerLg;
 import static org.jboss.hal.resources.UIConstants.BODY;
 import static org.jboss.hal.resources.UIConstants.CONTAINER;
-import static org.jboss.hal.resources.UIConstants.HASH;
 import static org.jboss.hal.resources.UIConstants.PLACEMENT;
 import static org.jboss.hal.resources.UIConstants.TOGGLE;
 import static org.jboss.hal.resources.UIConstants.TOOLTIP;
@@ -99,6 +100,8 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
     private final HTMLElement logFileControls;
     private final HTMLElement status;
     private final HTMLInputElement tailMode;
+    private final HTMLElement olderPage;
+    private final HTMLElement newerPage;
     private final HTMLElement copyToClipboard;
     private final HTMLElement download;
     private final HTMLElement editorContainer;
@@ -108,6 +111,9 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
     private AceEditor editor;
     private Clipboard clipboard;
     private LogFilePresenter presenter;
+    private int page;
+    private boolean older;
+    private boolean tailing;
 
     @Inject
     public LogFileView(Environment environment, StatementContext statementContext, LogFiles logFiles,
@@ -142,6 +148,22 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
                                                 .id(Ids.LOG_FILE_FOLLOW)
                                                 .element()))
                                 .add(div().css(editorButtons, btnGroup)
+                                        .add(olderPage = a().css(btn, btnDefault, clickable)
+                                                .data(TOGGLE, TOOLTIP)
+                                                .data(CONTAINER, BODY)
+                                                .data(PLACEMENT, TOP)
+                                                .on(click, event -> presenter.olderPage())
+                                                .title(resources.constants().previousPage())
+                                                .add(i().css(fontAwesome("angle-left")))
+                                                .element())
+                                        .add(newerPage = a().css(btn, btnDefault, clickable)
+                                                .data(TOGGLE, TOOLTIP)
+                                                .data(CONTAINER, BODY)
+                                                .data(PLACEMENT, TOP)
+                                                .on(click, event -> presenter.newerPage())
+                                                .title(resources.constants().nextPage())
+                                                .add(i().css(fontAwesome("angle-right")))
+                                                .element())
                                         .add(a().css(btn, btnDefault, clickable)
                                                 .data(TOGGLE, TOOLTIP)
                                                 .data(CONTAINER, BODY)
@@ -178,7 +200,11 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
     public void attach() {
         super.attach();
 
-        SwitchBridge.Api.element(tailMode).onChange((event, state) -> presenter.toggleTailMode(state));
+        SwitchBridge.Api.element(tailMode).onChange((event, state) -> {
+            tailing = state;
+            updatePaging();
+            presenter.toggleTailMode(state);
+        });
 
         editor.getEditor().$blockScrolling = 1;
         editor.getEditor().setTheme("ace/theme/logfile"); // NON-NLS
@@ -266,6 +292,7 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
 
         editor.getEditor().getSession().setValue(content);
         editor.getEditor().gotoLine(lines, 0, false);
+        paging(0, lines >= LogFiles.LINES);
     }
 
     @Override
@@ -273,26 +300,67 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         statusUpdate(lines);
         editor.getEditor().getSession().setValue(content);
         editor.getEditor().gotoLine(lines, 0, false);
+        paging(0, lines >= LogFiles.LINES);
     }
 
     @Override
-    public int visibleLines() {
-        int lineHeight = 15;
-        HTMLElement lineElement = (HTMLElement) document.querySelector(
-                HASH + Ids.LOG_FILE_EDITOR + " .ace_text-layer .ace_line"); // NON-NLS
-        if (lineElement != null) {
-            lineHeight = lineElement.offsetHeight;
+    public void showPage(int page, int lines, String content, boolean older) {
+        if (page == 0) {
+            statusUpdate(lines);
+        } else {
+            int from = page * LogFiles.LINES + 1;
+            statusUpdate(resources.messages().logFilePageStatus(from, from + lines - 1, Format.time(new Date())));
         }
-        return editor.element().offsetHeight / lineHeight;
+        editor.getEditor().getSession().setValue(content);
+        // going back in time: continue at the end of the page, otherwise at the beginning
+        editor.getEditor().gotoLine(page > this.page ? lines : 1, 0, false);
+        paging(page, older);
+    }
+
+    @Override
+    public void append(List<String> lines, int total) {
+        Document document = editor.getEditor().getSession().getDocument();
+        if (total == lines.size()) {
+            editor.getEditor().getSession().setValue(String.join("\n", lines));
+        } else {
+            document.insertFullLines(document.getLength(), lines.toArray(new String[0]));
+            int excess = document.getLength() - total;
+            if (excess > 0) {
+                document.removeFullLines(0, excess - 1);
+            }
+        }
+        // don't clear the search while tailing
+        String statusText = statusText(total);
+        status.textContent = statusText;
+        status.title = statusText;
+        editor.getEditor().gotoLine(total, 0, false);
+    }
+
+    private void paging(int page, boolean older) {
+        this.page = page;
+        this.older = older;
+        updatePaging();
+    }
+
+    private void updatePaging() {
+        olderPage.classList.toggle(disabled, tailing || !older);
+        newerPage.classList.toggle(disabled, tailing || page == 0);
     }
 
     private void statusUpdate(int lines) {
-        String statusText = lines < LogFiles.LINES
-                ? resources.messages().logFileFullStatus(lines, Format.time(new Date()))
-                : resources.messages().logFilePartStatus(lines, Format.time(new Date()));
+        statusUpdate(statusText(lines));
+    }
+
+    private void statusUpdate(String statusText) {
         status.textContent = statusText;
         status.title = statusText;
         editorContainer.classList.remove(logFileLoading);
         search.clear();
     }
+
+    private String statusText(int lines) {
+        return lines < LogFiles.LINES
+                ? resources.messages().logFileFullStatus(lines, Format.time(new Date()))
+                : resources.messages().logFilePartStatus(lines, Format.time(new Date()));
+    }
 }
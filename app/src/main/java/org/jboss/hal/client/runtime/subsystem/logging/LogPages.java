@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Math.min;
+
+/**
+ * LRU cache for the pages of the log file viewer. Pages are counted from the end of the log file as it was when page 0 was
+ * read: Page 0 holds the last {@value #PAGE_SIZE} lines, page 1 the {@value #PAGE_SIZE} lines before and so on.
+ * <p>
+ * The management model only supports reading lines relative to the end of the file (or to the head, but without telling the
+ * number of lines). So if new lines are written, a page read with the same {@linkplain #skip(int) skip} value is shifted by
+ * the number of new lines. The cache remembers the file size the pages were read with. If a page is read with a different file
+ * size, it's compared with the cached newer page to find the number of new lines. The number is added to the offset of all
+ * further reads, so the cached pages stay valid. Only if the shift can't be determined, e.g. because the file has been
+ * rotated, all pages are dropped.
+ */
+class LogPages {
+
+    static final int PAGE_SIZE = LogFiles.LINES;
+    private static final int MAX_PAGES = 8;
+
+    private final Map<Integer, List<String>> pages;
+    private long fileSize;
+    private int lastPage;
+    private int shift;
+
+    LogPages() {
+        this.pages = new LinkedHashMap<Integer, List<String>>(16, 0.75f, true) { // access order
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<String>> eldest) {
+                return size() > MAX_PAGES;
+            }
+        };
+        reset();
+    }
+
+    void reset() {
+        pages.clear();
+        fileSize = -1;
+        lastPage = -1;
+        shift = 0;
+    }
+
+    /** @return the cached page or {@code null} */
+    List<String> get(int page) {
+        return pages.get(page);
+    }
+
+    boolean contains(int page) {
+        return pages.containsKey(page);
+    }
+
+    /** @return the number of lines to skip from the end of the file to read the specified page */
+    int skip(int page) {
+        return page * PAGE_SIZE + shift;
+    }
+
+    /**
+     * Stores a page read with {@link #skip(int)} lines skipped.
+     *
+     * @return {@code true} if the page has been stored, {@code false} if the file has grown since the newer pages were read.
+     *         In that case the offset has been adjusted and the page must be read again.
+     */
+    boolean put(int page, List<String> lines, long fileSize) {
+        if (this.fileSize != fileSize) {
+            int growth = this.fileSize != -1 && fileSize > this.fileSize ? growth(page, lines) : -1;
+            if (growth > 0) {
+                shift += growth;
+                this.fileSize = fileSize;
+                return false;
+            }
+            reset();
+            this.fileSize = fileSize;
+        }
+        pages.put(page, lines);
+        if (lines.size() < PAGE_SIZE) {
+            lastPage = page;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of lines the page is shifted compared to the cached newer page. That's the length of the longest
+     * suffix of the page which is also a prefix of the newer page.
+     *
+     * @return the number of new lines or -1 if the newer page is not cached or the pages don't overlap
+     */
+    private int growth(int page, List<String> lines) {
+        List<String> newer = page > 0 ? pages.get(page - 1) : null;
+        if (newer != null) {
+            for (int length = min(lines.size(), newer.size()); length > 0; length--) {
+                if (overlaps(lines, newer, length)) {
+                    return length;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private boolean overlaps(List<String> lines, List<String> newer, int length) {
+        int offset = lines.size() - length;
+        for (int i = 0; i < length; i++) {
+            if (!lines.get(offset + i).equals(newer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return whether there might be older lines before the specified page */
+    boolean hasOlder(int page) {
+        return lastPage == -1 || page < lastPage;
+    }
+}
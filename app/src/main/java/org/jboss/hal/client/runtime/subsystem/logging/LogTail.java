@@ -0,0 +1,200 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * State of the tail mode of the log file view. Keeps the lines shown in the view in a bounded ring buffer together with the
+ * last known file size.
+ * <p>
+ * Instead of reading the last <em>n</em> lines over and over again, the tail mode reads the file size first. Only if the
+ * file has grown, a window of lines is read from the end of the file. The window is estimated from the growth and the
+ * average line length. The last lines of the buffer are used as an anchor to find the new lines in the window. The polling
+ * interval adapts to the growth of the log file.
+ * <p>
+ * Log files often contain repeated lines, so the anchor might match more than once. A match is only accepted if all lines
+ * of the window up to the match are the last lines of the buffer. If there are still several matches, the one whose new lines
+ * come closest to the growth of the file size is taken.
+ */
+class LogTail {
+
+    static final int MIN_INTERVAL = 1_000;
+    static final int MAX_INTERVAL = 10_000;
+    private static final double BACKOFF = 1.5;
+    private static final int ANCHOR = 3;
+    private static final int MIN_WINDOW = 20;
+    private static final int DEFAULT_LINE_LENGTH = 120;
+
+    private final String[] buffer;
+    private int start;
+    private int size;
+    private long characters;
+    private long fileSize;
+    private int interval;
+
+    LogTail(int capacity) {
+        this.buffer = new String[capacity];
+        this.fileSize = -1;
+        this.interval = MIN_INTERVAL;
+    }
+
+    /** Replaces the buffer with the specified lines. Use -1 if the file size is not known. */
+    void reset(List<String> lines, long fileSize) {
+        start = 0;
+        size = 0;
+        characters = 0;
+        add(lines);
+        this.fileSize = fileSize;
+    }
+
+    /** @return whether the file size differs from the last known file size */
+    boolean changed(long fileSize) {
+        return this.fileSize == -1 || this.fileSize != fileSize;
+    }
+
+    /** @return whether the file is smaller than before, e.g. because it was rotated */
+    boolean truncated(long fileSize) {
+        return this.fileSize != -1 && fileSize < this.fileSize;
+    }
+
+    /** The file didn't change: poll less frequently. */
+    void idle() {
+        interval = min(MAX_INTERVAL, (int) (interval * BACKOFF));
+    }
+
+    /** @return the number of lines to read from the end of the file to cover the growth up to the specified file size */
+    int window(long fileSize) {
+        if (this.fileSize == -1 || size == 0) {
+            return buffer.length;
+        }
+        long averageLineLength = characters > 0 ? max(1, characters / size) : DEFAULT_LINE_LENGTH;
+        long growth = max(0, fileSize - this.fileSize);
+        long lines = 2 * (growth / averageLineLength + 1) + ANCHOR;
+        return (int) min(buffer.length, max(MIN_WINDOW, lines));
+    }
+
+    /**
+     * Appends the lines of the window which follow the last lines of the buffer.
+     *
+     * @param window the last lines of the log file
+     * @param fileSize the file size at the time the window was read
+     * @return the appended lines or {@code null} if the last lines of the buffer were not found in the window. In that case
+     *         the buffer is left untouched.
+     */
+    List<String> merge(List<String> window, long fileSize) {
+        int from = 0;
+        int anchor = min(ANCHOR, size);
+        if (anchor > 0) {
+            from = -1;
+            long growth = this.fileSize != -1 ? fileSize - this.fileSize : -1;
+            long distance = Long.MAX_VALUE;
+            for (int end = anchor; end <= window.size(); end++) {
+                if (matches(window, end)) {
+                    if (growth == -1) {
+                        from = end;
+                        break;
+                    }
+                    long d = abs(characters(window, end) - growth);
+                    if (d < distance) {
+                        from = end;
+                        distance = d;
+                    }
+                }
+            }
+            if (from == -1) {
+                return null;
+            }
+        }
+
+        List<String> appended = from < window.size()
+                ? new ArrayList<>(window.subList(from, window.size()))
+                : Collections.emptyList();
+        add(appended);
+        this.fileSize = fileSize;
+        if (appended.isEmpty()) {
+            idle();
+        } else {
+            interval = MIN_INTERVAL;
+        }
+        return appended;
+    }
+
+    /** @return whether the lines of the window before {@code end} are the last lines of the buffer */
+    private boolean matches(List<String> window, int end) {
+        int overlap = min(end, size);
+        for (int i = 1; i <= overlap; i++) {
+            if (!window.get(end - i).equals(line(size - i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return the number of characters of the window lines starting at {@code from} including line breaks */
+    private long characters(List<String> window, int from) {
+        long characters = 0;
+        for (int i = from; i < window.size(); i++) {
+            characters += window.get(i).length() + 1;
+        }
+        return characters;
+    }
+
+    private void add(List<String> lines) {
+        for (String line : lines) {
+            if (size == buffer.length) {
+                characters -= buffer[start].length() + 1;
+                buffer[start] = line;
+                start = (start + 1) % buffer.length;
+            } else {
+                buffer[(start + size) % buffer.length] = line;
+                size++;
+            }
+            characters += line.length() + 1;
+        }
+    }
+
+    /** @return the line at the specified index, 0 being the oldest line in the buffer */
+    String line(int index) {
+        return buffer[(start + index) % buffer.length];
+    }
+
+    List<String> lines() {
+        List<String> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lines.add(line(i));
+        }
+        return lines;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    int interval() {
+        return interval;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.messaging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+
+import elemental2.core.JsArray;
+import jsinterop.base.Any;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static elemental2.core.Global.JSON;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Client side window over the result of {@code list-messages-as-json}. The JSON is parsed natively, but {@link JmsMessage}s
+ * are only created for the pages which are shown. Each page holds {@value #PAGE_SIZE} messages. The last
+ * {@value #MAX_PAGES} pages are kept in a LRU cache.
+ */
+class JmsMessagePages {
+
+    static final int PAGE_SIZE = 500;
+    private static final int MAX_PAGES = 4;
+
+    private final JsArray<JsPropertyMap<Object>> messages;
+    private final Map<Integer, List<JmsMessage>> pages;
+
+    JmsMessagePages(String json) {
+        this.messages = isNullOrEmpty(json) ? new JsArray<>() : Js.cast(JSON.parse(json));
+        this.pages = new LinkedHashMap<Integer, List<JmsMessage>>(16, 0.75f, true) { // access order
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<JmsMessage>> eldest) {
+                return size() > MAX_PAGES;
+            }
+        };
+    }
+
+    int total() {
+        return messages.length;
+    }
+
+    int pages() {
+        return max(1, (total() + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    /** @return the index of the first message on the page (zero based) */
+    int from(int page) {
+        return min(page * PAGE_SIZE, total());
+    }
+
+    /** @return the index after the last message on the page (zero based) */
+    int to(int page) {
+        return min(from(page) + PAGE_SIZE, total());
+    }
+
+    List<JmsMessage> page(int page) {
+        List<JmsMessage> cached = pages.get(page);
+        if (cached == null) {
+            cached = read(page);
+            pages.put(page, cached);
+        }
+        return cached;
+    }
+
+    private List<JmsMessage> read(int page) {
+        int from = from(page);
+        int to = to(page);
+        List<JmsMessage> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(new JmsMessage(modelNode(messages.getAt(i))));
+        }
+        return result;
+    }
+
+    private ModelNode modelNode(JsPropertyMap<Object> message) {
+        ModelNode node = new ModelNode();
+        message.forEach(key -> {
+            Any value = message.getAsAny(key);
+            String type = Js.typeof(value);
+            if ("number".equals(type)) { // NON-NLS
+                double number = value.asDouble();
+                if (number == Math.rint(number)) {
+                    node.get(key).set((long) number);
+                } else {
+                    node.get(key).set(number);
+                }
+            } else if ("boolean".equals(type)) { // NON-NLS
+                node.get(key).set(value.asBoolean());
+            } else if ("string".equals(type)) { // NON-NLS
+                node.get(key).set(value.asString());
+            } else if (value != null) {
+                node.get(key).set(JSON.stringify(value));
+            }
+        });
+        return node;
+    }
+}
@@ -27,10 +27,12 @@ import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.FormItem;
+import org.jboss.hal.ballroom.form.TextBoxItem;
 import org.jboss.hal.client.runtime.subsystem.messaging.Destination.Type;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
+import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.form.OperationFormBuilder;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
 import org.jboss.hal.core.mvp.HalView;
@@ -65,10 +67,11 @@ import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.promise.Promise;
 
+import static com.google.common.base.Strings.emptyToNull;
+import static java.lang.Math.min;
 import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
+import static org.jboss.elemento.Elements.p;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_CORE_QUEUE_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_CORE_QUEUE_TEMPLATE;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_DEPLOYMENT_TEMPLATE;
@@ -83,7 +86,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.EXPIRE_MESSAGES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FILTER;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.JMS_MESSAGE_ID;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.JMS_PRIORITY;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_MESSAGES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_MESSAGES_AS_JSON;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.MESSAGE_ID;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.MESSAGING_ACTIVEMQ;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.MOVE_MESSAGE;
@@ -118,6 +121,9 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     private String subdeployment;
     private String messageServer;
     private String queue;
+    private String selector;
+    private JmsMessagePages pages;
+    private int page;
 
     @Inject
     public JmsQueuePresenter(EventBus eventBus,
@@ -153,6 +159,9 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
         subdeployment = request.getParameter(SUBDEPLOYMENT, null);
         messageServer = request.getParameter(Ids.MESSAGING_SERVER, null);
         queue = request.getParameter(NAME, null);
+        selector = null;
+        pages = null;
+        page = 0;
     }
 
     @Override
@@ -171,35 +180,28 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
             readAll();
 
         } else {
-            ResourceAddress address = queueAddress();
-            Task<FlowContext> count = context -> {
-                Operation operation = new Operation.Builder(address, COUNT_MESSAGES).build();
-                return dispatcher.execute(operation)
-                        .then(result -> context.resolve(MESSAGES_COUNT, result.asLong()));
-            };
+            Task<FlowContext> count = context -> dispatcher.execute(messagesOperation(COUNT_MESSAGES))
+                    .then(result -> context.resolve(MESSAGES_COUNT, result.asLong()));
             Task<FlowContext> list = context -> {
                 long messages = context.get(MESSAGES_COUNT);
                 if (messages > MESSAGES_THRESHOLD) {
-                    context.set(MESSAGES, emptyList());
                     return Promise.resolve(context);
                 } else {
-                    Operation operation = new Operation.Builder(address, LIST_MESSAGES).build();
-                    return dispatcher.execute(operation)
-                            .then(result -> context.resolve(MESSAGES,
-                                    result.asList().stream().map(JmsMessage::new).collect(toList())));
+                    return dispatcher.execute(messagesOperation(LIST_MESSAGES_AS_JSON))
+                            .then(result -> context.resolve(MESSAGES, new JmsMessagePages(result.asString())));
                 }
             };
             List<Task<FlowContext>> tasks = asList(count, list);
             sequential(new FlowContext(progress.get()), tasks)
                     .then(context -> {
                         long c = context.get(MESSAGES_COUNT);
-                        List<JmsMessage> messages = context.get(MESSAGES);
                         if (c > MESSAGES_THRESHOLD) {
-                            logger.debug("More than {} messages in queue {}. Skip :list-messages operation.",
+                            logger.debug("More than {} messages in queue {}. Skip :list-messages-as-json operation.",
                                     MESSAGES_THRESHOLD, queueAddress());
+                            pages = null;
                             getView().showMany(c);
                         } else {
-                            getView().showAll(messages);
+                            showPages(context.get(MESSAGES));
                         }
                         return null;
                     });
@@ -215,10 +217,71 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     }
 
     private void readAll() {
-        ResourceAddress address = queueAddress();
-        Operation operation = new Operation.Builder(address, LIST_MESSAGES).build();
-        dispatcher.execute(operation,
-                result -> getView().showAll(result.asList().stream().map(JmsMessage::new).collect(toList())));
+        dispatcher.execute(messagesOperation(LIST_MESSAGES_AS_JSON),
+                result -> showPages(new JmsMessagePages(result.asString())));
+    }
+
+    void filterMessages() {
+        TextBoxItem selectorItem = new TextBoxItem(FILTER);
+        Form<ModelNode> form = new ModelNodeForm.Builder<>(Ids.JMS_MESSAGE_FILTER_FORM, Metadata.empty())
+                .unboundFormItem(selectorItem)
+                .addOnly()
+                .build();
+        Dialog dialog = new Dialog.Builder(resources.constants().filter())
+                .add(p().innerHtml(resources.messages().messageFilterDescription()).element())
+                .add(form.element())
+                .cancel()
+                .primary(resources.constants().ok(), () -> {
+                    boolean valid = form.save();
+                    if (valid) {
+                        filter(selectorItem.getValue());
+                    }
+                    return valid;
+                })
+                .build();
+        dialog.registerAttachable(form);
+        dialog.show();
+        form.edit(new ModelNode());
+        selectorItem.setValue(selector);
+        selectorItem.setFocus(true);
+    }
+
+    /** Reads the messages matching the JMS message selector. The selector is applied on the server. */
+    private void filter(String selector) {
+        this.selector = emptyToNull(selector);
+        this.page = 0;
+        reload();
+    }
+
+    void previousPage() {
+        if (pages != null && page > 0) {
+            showPage(page - 1);
+        }
+    }
+
+    void nextPage() {
+        if (pages != null && page < pages.pages() - 1) {
+            showPage(page + 1);
+        }
+    }
+
+    private void showPages(JmsMessagePages pages) {
+        this.pages = pages;
+        // stay on the current page when reloading after messages have been changed
+        showPage(min(page, pages.pages() - 1));
+    }
+
+    private void showPage(int page) {
+        this.page = page;
+        getView().showPage(pages.page(page), pages.from(page), pages.to(page), pages.total());
+    }
+
+    private Operation messagesOperation(String name) {
+        Operation.Builder builder = new Operation.Builder(queueAddress(), name);
+        if (selector != null) {
+            builder.param(FILTER, selector);
+        }
+        return builder.build();
     }
 
     private boolean showAll() {
@@ -452,7 +515,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     public interface MyView extends HalView, HasPresenter<JmsQueuePresenter> {
         void showMany(long count);
 
-        void showAll(List<JmsMessage> messages);
+        void showPage(List<JmsMessage> messages, int from, int to, int total);
     }
     // @formatter:on
 }
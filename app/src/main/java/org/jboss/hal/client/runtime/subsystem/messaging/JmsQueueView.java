@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.client.runtime.subsystem.messaging;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -32,7 +33,11 @@ import org.jboss.hal.resources.Icons;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Resources;
 
+import elemental2.dom.HTMLElement;
+
 import static java.util.Comparator.comparing;
+import static org.jboss.elemento.Elements.p;
+import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_CORE_QUEUE_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
@@ -43,8 +48,10 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
     private final Resources resources;
     private final DataProvider<JmsMessage> dataProvider;
     private final EmptyState tooManyMessages;
+    private final HTMLElement pageStatus;
     private final ModelNodeListView<JmsMessage> listView;
     private JmsQueuePresenter presenter;
+    private int from;
 
     @Inject
     public JmsQueueView(MetadataRegistry metadataRegistry, Resources resources) {
@@ -78,6 +85,12 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
 
                 .toolbarAction(new Toolbar.Action(Ids.JMS_MESSAGE_LIST_REFRESH, resources.constants().refresh(),
                         this::refresh))
+                .toolbarAction(new Toolbar.Action(Ids.JMS_MESSAGE_LIST_FILTER, resources.constants().filter(),
+                        this::filterMessages))
+                .toolbarAction(new Toolbar.Action(Ids.JMS_MESSAGE_LIST_PREVIOUS_PAGE,
+                        resources.constants().previousPage(), this::previousPage))
+                .toolbarAction(new Toolbar.Action(Ids.JMS_MESSAGE_LIST_NEXT_PAGE, resources.constants().nextPage(),
+                        this::nextPage))
                 .toolbarAction(new Toolbar.Action(Ids.JMS_MESSAGE_LIST_CLEAR_SELECTION,
                         resources.constants().clearSelection(), this::clearSelection))
                 .toolbarAction(new Toolbar.Action(Ids.JMS_MESSAGE_LIST_SELECT_ALL,
@@ -105,8 +118,14 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
                 .multiSelect(true)
                 .build();
 
+        pageStatus = p().id(Ids.JMS_MESSAGE_LIST_PAGE_STATUS).element();
+        setVisible(pageStatus, false);
+        List<HTMLElement> elements = new ArrayList<>();
+        elements.add(pageStatus);
+        listView.forEach(elements::add);
+
         registerAttachable(listView);
-        initElements(listView);
+        initElements(elements);
     }
 
     @Override
@@ -116,13 +135,25 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
 
     @Override
     public void showMany(long count) {
+        setVisible(pageStatus, false);
         tooManyMessages.setDescription(resources.messages().manyMessages(count));
         listView.showEmptyState(TOO_MANY_MESSAGES);
     }
 
     @Override
-    public void showAll(List<JmsMessage> messages) {
-        dataProvider.update(messages);
+    public void showPage(List<JmsMessage> messages, int from, int to, int total) {
+        boolean paged = to - from < total;
+        setVisible(pageStatus, paged);
+        if (paged) {
+            pageStatus.textContent = resources.messages().messagesPageStatus(from + 1, to, total);
+        }
+        if (from == this.from) {
+            dataProvider.merge(messages);
+        } else {
+            // another page: start at the first page of the list view again
+            dataProvider.update(messages);
+            this.from = from;
+        }
     }
 
     private void refresh() {
@@ -131,6 +162,24 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
         }
     }
 
+    private void filterMessages() {
+        if (presenter != null) {
+            presenter.filterMessages();
+        }
+    }
+
+    private void previousPage() {
+        if (presenter != null) {
+            presenter.previousPage();
+        }
+    }
+
+    private void nextPage() {
+        if (presenter != null) {
+            presenter.nextPage();
+        }
+    }
+
     private void clearSelection() {
         dataProvider.clearVisibleSelection();
     }
@@ -27,6 +27,7 @@ import org.jboss.hal.core.finder.FinderColumn;
 import org.jboss.hal.core.finder.FinderSegment;
 import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemDisplay;
+import org.jboss.hal.core.runtime.MetricsSampler;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
@@ -80,6 +81,7 @@ public class ListenerColumn extends FinderColumn<NamedNode> {
     public ListenerColumn(Finder finder,
             ColumnActionFactory columnActionFactory,
             Dispatcher dispatcher,
+            MetricsSampler metricsSampler,
             Resources resources,
             EventBus eventBus,
             StatementContext statementContext) {
@@ -138,7 +140,8 @@ public class ListenerColumn extends FinderColumn<NamedNode> {
                         return Promise.resolve(emptyList());
                     }
                 })
-                .onPreview(server -> new ListenerPreview(dispatcher, statementContext, resources, server)));
+                .onPreview(server -> new ListenerPreview(dispatcher, metricsSampler, statementContext, resources,
+                        server)));
         this.dispatcher = dispatcher;
         this.resources = resources;
         this.eventBus = eventBus;
@@ -22,8 +22,11 @@ import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.PatternFly;
 import org.jboss.hal.ballroom.chart.Donut;
 import org.jboss.hal.ballroom.chart.GroupedBar;
+import org.jboss.hal.ballroom.chart.Sparkline;
 import org.jboss.hal.core.finder.PreviewAttributes;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.runtime.MetricsSampler;
+import org.jboss.hal.core.runtime.MetricsSampler.Metric;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -61,8 +64,14 @@ class ListenerPreview extends PreviewContent<NamedNode> {
     private final GroupedBar processingTime;
     private final HTMLElement requestsElement;
     private final Donut requests;
-
-    ListenerPreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources, NamedNode server) {
+    private final Sparkline requestsTrend;
+    private final Sparkline errorsTrend;
+    private final MetricsSampler.Sampling sampling;
+    private Metric requestCountMetric;
+    private Metric errorCountMetric;
+
+    ListenerPreview(Dispatcher dispatcher, MetricsSampler sampler, StatementContext statementContext, Resources resources,
+            NamedNode server) {
         super(server.getName());
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
@@ -96,9 +105,15 @@ class ListenerPreview extends PreviewContent<NamedNode> {
                 .responsive(true)
                 .build();
         registerAttachable(requests);
+        requestsTrend = new Sparkline(Names.REQUESTS, value -> String.valueOf(Math.round(value)));
+        errorsTrend = new Sparkline(resources.constants().error(), value -> String.valueOf(Math.round(value)));
+        sampling = sampler.sampling(requestsTrend);
+        registerAttachable(sampling);
         requestsElement = section()
                 .add(h(2, Names.REQUESTS))
-                .add(requests).element();
+                .add(requests)
+                .add(requestsTrend)
+                .add(errorsTrend).element();
 
         previewBuilder().addAll(previewAttributes);
         previewBuilder()
@@ -149,7 +164,9 @@ class ListenerPreview extends PreviewContent<NamedNode> {
                 metricUpdates.put(REQUEST_COUNT, result.get(REQUEST_COUNT).asLong());
                 metricUpdates.put(ERROR_COUNT, result.get(ERROR_COUNT).asLong());
                 requests.update(metricUpdates);
+                sample(address);
             } else {
+                sampling.stop();
                 SafeHtml desc = SafeHtmlUtils.fromTrustedString(
                         resources.messages().undertowListenerProcessingDisabled(listenerType, webserver));
                 noStatistics.setDescription(desc);
@@ -161,6 +178,19 @@ class ListenerPreview extends PreviewContent<NamedNode> {
         });
     }
 
+    // ------------------------------------------------------ sampling
+
+    private void sample(ResourceAddress listener) {
+        if (requestCountMetric == null) {
+            requestCountMetric = new Metric(listener, REQUEST_COUNT);
+            errorCountMetric = new Metric(listener, ERROR_COUNT);
+        }
+        sampling.start(() -> {
+            requestsTrend.update(requestCountMetric.series());
+            errorsTrend.update(errorCountMetric.series());
+        }, requestCountMetric, errorCountMetric);
+    }
+
     private void recordProcessingTime(NamedNode listener) {
         // the HAL_LISTENER_TYPE and HAL_WEB_SERVER is added to the model in ListenerColumn class.
         String webserver = listener.asModelNode().get(HAL_WEB_SERVER).asString();
@@ -71,6 +71,7 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
         HTMLElement showVersion;
         HTMLElement modelBrowser;
         HTMLElement expressionResolver;
+        HTMLElement metadataStatistics;
         HTMLElement settings;
         HTMLElement root = footer().css(footer)
                 .add(nav().css(navbar, navbarFooter, navbarFixedBottom)
@@ -112,6 +113,10 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
                                                         .add(expressionResolver = a().css(clickable)
                                                                 .textContent(resources.constants().expressionResolver())
                                                                 .element()))
+                                                .add(li()
+                                                        .add(metadataStatistics = a().css(clickable)
+                                                                .textContent(resources.constants().metadataStatistics())
+                                                                .element()))
                                                 .add(li()
                                                         .add(macroRecorder = a().css(clickable)
                                                                 .textContent(resources.constants().startMacro())
@@ -135,6 +140,7 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
         bind(showVersion, click, event -> presenter.onShowVersion());
         bind(modelBrowser, click, event -> presenter.onModelBrowser());
         bind(expressionResolver, click, event -> presenter.onExpressionResolver());
+        bind(metadataStatistics, click, event -> presenter.onMetadataStatistics());
         bind(macroRecorder, click, event -> presenter.onMacroRecording());
         bind(macroEditor, click, event -> presenter.onMacroEditor());
         bind(settings, click, event -> presenter.onSettings());
@@ -306,7 +306,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         if (!event.isNonProgressingOperation() && nonProgressingOpDisplayedOnce) {
             nonProgressingOpDisplayedOnce = false;
         }
-        getView().onNonProgressingOperation(event.isNonProgressingOperation());
+        int count = event.getScan() != null ? event.getScan().getNonProgressing() : 0;
+        getView().onNonProgressingOperation(event.isNonProgressingOperation(), count);
     }
 
     // ------------------------------------------------------ tlc & breadcrumb
@@ -445,7 +446,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
 
         void hideReconnect();
 
-        void onNonProgressingOperation(boolean display);
+        void onNonProgressingOperation(boolean display, int count);
 
         void onMessage(Message message);
 
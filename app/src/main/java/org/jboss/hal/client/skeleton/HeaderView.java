@@ -140,6 +140,7 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
 
     private static final Logger logger = LoggerFactory.getLogger(HeaderView.class);
     private static final PlaceRequest HOMEPAGE = new PlaceRequest.Builder().nameToken(NameTokens.HOMEPAGE).build();
+    private static final String NON_PROGRESSING_OPERATION = "Non Progressing Operation"; // NON-NLS
 
     private final Places places;
     private final Resources resources;
@@ -150,6 +151,7 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     private final HTMLElement reloadLink;
     private final HTMLElement reloadLabel;
     private final HTMLElement nonProgressingOperationContainer;
+    private final HTMLElement nonProgressingOperationText;
     private final HTMLElement messages;
     private final HTMLElement badgeIcon;
     private final HTMLElement userName;
@@ -216,7 +218,8 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                                                 .data(CONTAINER, BODY)
                                                 .title("There is an operation in progress, longer than 15s, it may be a non progressing operation. Click to navigate to the Management Operations view to check in more detail.")
                                                 .add(span().css(pfIcon(warningTriangleO)))
-                                                .add(span().textContent("Non Progressing Operation"))
+                                                .add(nonProgressingOperationText = span()
+                                                        .textContent(NON_PROGRESSING_OPERATION).element())
                                                 .element())
                                         .element())
                                 .add(reloadContainer = li()
@@ -565,7 +568,10 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
         messages.title = resources.messages().notifications(unreadCount);
     }
 
-    public void onNonProgressingOperation(boolean display) {
+    public void onNonProgressingOperation(boolean display, int count) {
+        nonProgressingOperationText.textContent = count > 1
+                ? NON_PROGRESSING_OPERATION + "s (" + count + ")"
+                : NON_PROGRESSING_OPERATION;
         setVisible(nonProgressingOperationContainer, display);
     }
 
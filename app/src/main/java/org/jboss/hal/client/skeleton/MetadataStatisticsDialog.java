@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.skeleton;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.LabelBuilder;
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.MetadataStatistics;
+import org.jboss.hal.resources.Resources;
+
+import elemental2.dom.Blob;
+import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
+import elemental2.dom.BlobPropertyBag;
+import elemental2.dom.HTMLAnchorElement;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.MouseEvent;
+import elemental2.dom.URL;
+
+import static elemental2.dom.DomGlobal.document;
+import static org.jboss.elemento.Elements.*;
+import static org.jboss.hal.resources.CSS.dlHorizontal;
+
+/** Shows the statistics of the metadata registries and lookups and exports them as JSON. */
+class MetadataStatisticsDialog {
+
+    private static final String FILENAME = "hal-metadata-statistics.json";
+    private static final String BYTES = "bytes";
+    private static final String COUNT = "count";
+    private static final String HIT_RATE = "hit-rate";
+    private static final String LATENCY = "latency";
+    private static final String WEIGHT = "weight";
+
+    private final MetadataStatistics statistics;
+    private final HTMLElement content;
+    private final Dialog dialog;
+
+    MetadataStatisticsDialog(MetadataStatistics statistics, Resources resources) {
+        this.statistics = statistics;
+        this.content = div().element();
+        this.dialog = new Dialog.Builder(resources.constants().metadataStatistics())
+                .add(content)
+                .primary(resources.constants().export(), () -> {
+                    export();
+                    return false; // keep the dialog open
+                })
+                .secondary(resources.constants().close(), () -> true)
+                .size(Dialog.Size.MEDIUM)
+                .build();
+    }
+
+    void show() {
+        update();
+        dialog.show();
+    }
+
+    private void update() {
+        LabelBuilder labelBuilder = new LabelBuilder();
+        removeChildrenFrom(content);
+        for (Property section : statistics.snapshot().asPropertyList()) {
+            List<HTMLElement> elements = new ArrayList<>();
+            collect(labelBuilder, section.getName(), null, section.getValue(), elements);
+            content.appendChild(h(3).textContent(labelBuilder.label(section.getName())).element());
+            content.appendChild(dl().css(dlHorizontal).addAll(elements).element());
+        }
+    }
+
+    private void collect(LabelBuilder labelBuilder, String section, String prefix, ModelNode node,
+            List<HTMLElement> elements) {
+        for (Property property : node.asPropertyList()) {
+            String label = prefix == null
+                    ? labelBuilder.label(property.getName())
+                    : prefix + " / " + labelBuilder.label(property.getName());
+            ModelNode value = property.getValue();
+            if (value.getType() == ModelType.OBJECT) {
+                collect(labelBuilder, section, label, value, elements);
+            } else {
+                elements.add(dt().textContent(label).element());
+                elements.add(dd().textContent(format(section, property.getName(), value)).element());
+            }
+        }
+    }
+
+    private String format(String section, String key, ModelNode value) {
+        if (HIT_RATE.equals(key)) {
+            return Math.round(value.asDouble() * 1000) / 10.0 + " %";
+        } else if (WEIGHT.equals(key) || (BYTES.equals(section) && !COUNT.equals(key))) {
+            return Format.humanReadableFileSize(value.asLong());
+        } else if (LATENCY.equals(section) && !COUNT.equals(key)) {
+            return value.asLong() + " ms";
+        }
+        return value.asString();
+    }
+
+    private void export() {
+        BlobPropertyBag options = BlobPropertyBag.create();
+        options.setType("application/json");
+        Blob blob = new Blob(new ConstructorBlobPartsArrayUnionType[] {
+                ConstructorBlobPartsArrayUnionType.of(statistics.snapshot().toJSONString(false)) }, options);
+        String url = URL.createObjectURL(blob);
+        HTMLAnchorElement anchor = a(url).element();
+        anchor.download = FILENAME;
+        // some browsers only download from links which are part of the document
+        document.body.appendChild(anchor);
+        anchor.dispatchEvent(new MouseEvent("click"));
+        document.body.removeChild(anchor);
+        URL.revokeObjectURL(url);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ContentHasherTest {
+
+    private static final String SHA1 = "da39a3ee5e6b4b0d3255bfef95601890afd80709"; // SHA-1 of the empty string
+
+    @Test
+    public void empty() {
+        assertEquals("", ContentHasher.hex(new byte[0]));
+        assertArrayEquals(new byte[0], ContentHasher.bytes(""));
+    }
+
+    @Test
+    public void hex() {
+        assertEquals("00017f80ff", ContentHasher.hex(new byte[] { 0, 1, 127, -128, -1 }));
+    }
+
+    @Test
+    public void bytes() {
+        assertArrayEquals(new byte[] { 0, 1, 127, -128, -1 }, ContentHasher.bytes("00017f80ff"));
+        assertArrayEquals(new byte[] { -85, -51 }, ContentHasher.bytes("ABCD"));
+    }
+
+    @Test
+    public void roundTrip() {
+        byte[] bytes = ContentHasher.bytes(SHA1);
+        assertEquals(20, bytes.length);
+        assertEquals(SHA1, ContentHasher.hex(bytes));
+    }
+}
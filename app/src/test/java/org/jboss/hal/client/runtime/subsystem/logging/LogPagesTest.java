@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.client.runtime.subsystem.logging.LogPages.PAGE_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LogPagesTest {
+
+    private LogPages pages;
+    private List<String> file;
+
+    @Before
+    public void setUp() {
+        pages = new LogPages();
+        file = new ArrayList<>();
+        append(3 * PAGE_SIZE + 10);
+    }
+
+    @Test
+    public void sameSize() {
+        assertTrue(pages.put(0, read(pages.skip(0)), size()));
+        assertTrue(pages.put(1, read(pages.skip(1)), size()));
+
+        assertEquals(lines(PAGE_SIZE, 2 * PAGE_SIZE), pages.get(1));
+        assertTrue(pages.contains(0));
+        assertTrue(pages.hasOlder(1));
+    }
+
+    @Test
+    public void lastPage() {
+        for (int page = 0; page < 4; page++) {
+            assertTrue(pages.put(page, read(pages.skip(page)), size()));
+        }
+        assertEquals(10, pages.get(3).size());
+        assertTrue(pages.hasOlder(2));
+        assertFalse(pages.hasOlder(3));
+    }
+
+    @Test
+    public void grown() {
+        pages.put(0, read(pages.skip(0)), size());
+        List<String> newest = pages.get(0);
+        append(42);
+
+        // the page is shifted by the new lines: the offset is adjusted and the page must be read again
+        assertFalse(pages.put(1, read(pages.skip(1)), size()));
+        assertEquals(PAGE_SIZE + 42, pages.skip(1));
+        assertTrue(pages.put(1, read(pages.skip(1)), size()));
+
+        // cached pages are kept and the pages fit together
+        assertEquals(newest, pages.get(0));
+        assertEquals(lines(PAGE_SIZE, 2 * PAGE_SIZE), pages.get(1));
+        assertEquals(2 * PAGE_SIZE + 42, pages.skip(2));
+    }
+
+    @Test
+    public void grownWithRepeatedLines() {
+        file.clear();
+        for (int i = 0; i < 2 * PAGE_SIZE; i++) {
+            file.add("same");
+        }
+        file.add("first");
+        append(PAGE_SIZE - 1);
+        pages.put(0, read(pages.skip(0)), size());
+        append(5);
+
+        assertFalse(pages.put(1, read(pages.skip(1)), size()));
+        assertEquals(PAGE_SIZE + 5, pages.skip(1));
+    }
+
+    @Test
+    public void rotated() {
+        pages.put(0, read(pages.skip(0)), size());
+        pages.put(1, read(pages.skip(1)), size());
+        file.clear();
+        append(PAGE_SIZE + 1);
+
+        // smaller file: start over
+        assertTrue(pages.put(1, read(pages.skip(1)), size()));
+        assertNull(pages.get(0));
+        assertEquals(1, pages.get(1).size());
+        assertEquals(PAGE_SIZE, pages.skip(1));
+    }
+
+    @Test
+    public void grownTooMuch() {
+        pages.put(0, read(pages.skip(0)), size());
+        append(2 * PAGE_SIZE);
+
+        // no overlap with the cached page: start over
+        assertTrue(pages.put(1, read(pages.skip(1)), size()));
+        assertNull(pages.get(0));
+        assertEquals(PAGE_SIZE, pages.skip(1));
+    }
+
+    @Test
+    public void reset() {
+        pages.put(0, read(pages.skip(0)), size());
+        append(1);
+        pages.put(1, read(pages.skip(1)), size());
+        pages.reset();
+
+        assertNull(pages.get(0));
+        assertEquals(PAGE_SIZE, pages.skip(1));
+        assertTrue(pages.hasOlder(10));
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private void append(int count) {
+        int start = file.size();
+        for (int i = 0; i < count; i++) {
+            file.add("line " + (start + i));
+        }
+    }
+
+    /** Reads {@link LogPages#PAGE_SIZE} lines from the end of the file like {@code read-log-file(tail=true)}. */
+    private List<String> read(int skip) {
+        int to = Math.max(0, file.size() - skip);
+        int from = Math.max(0, to - PAGE_SIZE);
+        return new ArrayList<>(file.subList(from, to));
+    }
+
+    /** The lines of the file counted from the end before the tests appended any lines. */
+    private List<String> lines(int fromEnd, int toEnd) {
+        int total = 3 * PAGE_SIZE + 10;
+        List<String> lines = new ArrayList<>();
+        for (int i = total - toEnd; i < total - fromEnd; i++) {
+            lines.add("line " + i);
+        }
+        return lines;
+    }
+
+    private long size() {
+        long size = 0;
+        for (String line : file) {
+            size += line.length() + 1;
+        }
+        return size;
+    }
+}
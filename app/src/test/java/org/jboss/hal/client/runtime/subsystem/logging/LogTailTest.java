@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LogTailTest {
+
+    @Test
+    public void ringBuffer() {
+        LogTail tail = new LogTail(3);
+        tail.reset(asList("a", "b"), size("a", "b"));
+        assertEquals(asList("a", "b"), tail.lines());
+
+        tail.merge(asList("a", "b", "c", "d", "e"), size("a", "b", "c", "d", "e"));
+        assertEquals(3, tail.size());
+        assertEquals(asList("c", "d", "e"), tail.lines());
+        assertEquals("c", tail.line(0));
+        assertEquals("e", tail.line(2));
+    }
+
+    @Test
+    public void resetRingBuffer() {
+        LogTail tail = new LogTail(3);
+        tail.reset(asList("a", "b", "c", "d"), -1);
+        assertEquals(asList("b", "c", "d"), tail.lines());
+
+        tail.reset(asList("x"), -1);
+        assertEquals(asList("x"), tail.lines());
+    }
+
+    @Test
+    public void changed() {
+        LogTail tail = new LogTail(10);
+        assertTrue(tail.changed(0));
+
+        tail.reset(asList("a"), 2);
+        assertFalse(tail.changed(2));
+        assertTrue(tail.changed(4));
+        assertFalse(tail.truncated(4));
+        assertTrue(tail.truncated(1));
+    }
+
+    @Test
+    public void merge() {
+        LogTail tail = new LogTail(10);
+        tail.reset(asList("1", "2", "3", "4"), size("1", "2", "3", "4"));
+
+        List<String> appended = tail.merge(asList("2", "3", "4", "5", "6"), size("1", "2", "3", "4", "5", "6"));
+        assertEquals(asList("5", "6"), appended);
+        assertEquals(asList("1", "2", "3", "4", "5", "6"), tail.lines());
+    }
+
+    @Test
+    public void mergeNothingNew() {
+        LogTail tail = new LogTail(10);
+        tail.reset(asList("1", "2", "3"), size("1", "2", "3"));
+
+        assertEquals(emptyList(), tail.merge(asList("1", "2", "3"), size("1", "2", "3")));
+        assertEquals(3, tail.size());
+    }
+
+    @Test
+    public void mergeAnchorNotFound() {
+        LogTail tail = new LogTail(10);
+        tail.reset(asList("1", "2", "3"), size("1", "2", "3"));
+
+        assertNull(tail.merge(asList("7", "8", "9"), size("1", "2", "3", "4", "5", "6", "7", "8", "9")));
+        assertEquals(asList("1", "2", "3"), tail.lines());
+    }
+
+    @Test
+    public void mergeRepeatedLinesInWindow() {
+        // the anchor "x", "y", "z" appears twice in the window, but only the second match is preceded by the buffer
+        List<String> before = asList("a", "x", "y", "z", "b", "x", "y", "z");
+        LogTail tail = new LogTail(20);
+        tail.reset(before, size(before));
+
+        List<String> file = new ArrayList<>(before);
+        file.addAll(asList("c", "d"));
+        List<String> appended = tail.merge(file, size(file));
+
+        assertEquals(asList("c", "d"), appended);
+        assertEquals(file, tail.lines());
+    }
+
+    @Test
+    public void mergeRepeatedLinesAppended() {
+        // the new lines repeat the anchor: the file size tells how many lines are new
+        List<String> before = asList("x", "x", "x", "x");
+        LogTail tail = new LogTail(20);
+        tail.reset(before, size(before));
+
+        List<String> file = new ArrayList<>(before);
+        file.addAll(asList("x", "x"));
+        List<String> appended = tail.merge(file, size(file));
+
+        assertEquals(asList("x", "x"), appended);
+        assertEquals(6, tail.size());
+    }
+
+    @Test
+    public void window() {
+        LogTail tail = new LogTail(100);
+        assertEquals(100, tail.window(10));
+
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lines.add("123456789"); // 10 characters including the line break
+        }
+        tail.reset(lines, size(lines));
+        assertEquals(20, tail.window(size(lines))); // minimal window
+        assertEquals(100, tail.window(size(lines) + 10_000));
+    }
+
+    private long size(String... lines) {
+        return size(asList(lines));
+    }
+
+    private long size(List<String> lines) {
+        long size = 0;
+        for (String line : lines) {
+            size += line.length() + 1;
+        }
+        return size;
+    }
+}
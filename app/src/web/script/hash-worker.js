@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+/*
+ * Computes the SHA-1 hash of a file using Web Crypto. Used to find out whether the content of a deployment is already in the
+ * content repository before uploading it. Answers with {id, hash, time} or {id, error}.
+ */
+self.addEventListener("message", function (e) {
+    let id = e.data.id;
+    let file = e.data.file;
+    if (!self.crypto || !self.crypto.subtle) {
+        // Web Crypto is only available in secure contexts
+        self.postMessage({id: id, error: "Web Crypto is not available"});
+        return;
+    }
+    let start = performance.now();
+    file.arrayBuffer()
+        .then(function (buffer) {
+            return self.crypto.subtle.digest("SHA-1", buffer);
+        })
+        .then(function (digest) {
+            let hash = Array.from(new Uint8Array(digest))
+                .map(function (b) {
+                    return b.toString(16).padStart(2, "0");
+                })
+                .join("");
+            self.postMessage({id: id, hash: hash, time: Math.round(performance.now() - start)});
+        })
+        .catch(function (err) {
+            self.postMessage({id: id, error: String(err)});
+        });
+}, false);
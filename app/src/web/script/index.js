@@ -72,3 +72,4 @@ window.ClipboardJS = require("clipboard");
 
 // TODO Web worker
 window.metadataChannel = new Worker(new URL("./worker.js", import.meta.url), {type: "module"});
+window.hashChannel = new Worker(new URL("./hash-worker.js", import.meta.url));
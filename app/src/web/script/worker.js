@@ -15,31 +15,75 @@
  */
 self.importScripts("pouchdb.min.js");
 
+// long-lived database handles, keyed by database name
+self.databases = {};
+
 self.addEventListener("message", function (e) {
-    let db = new PouchDB(e.data.database);
-    db.get(e.data.document._id)
-        .then(function (doc) {
-            // update existing document
-            e.data.document._rev = doc._rev;
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Update " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+    let id = e.data.id;
+    let batches = e.data.batches || [];
+    Promise.all(batches.map(persist)).then(function (results) {
+        self.postMessage({id: id, databases: results});
+    });
+}, false);
+
+/**
+ * Writes all documents of one batch using a single bulkDocs() call. Existing revisions are read with one allDocs()
+ * call and merged into the documents, so updates and inserts share the same transaction.
+ */
+self.persist = function (batch) {
+    let start = performance.now();
+    let db = database(batch.database);
+    let documents = batch.documents;
+    let keys = documents.map(function (document) {
+        return document._id;
+    });
+    return db.allDocs({keys: keys})
+        .then(function (response) {
+            let revisions = {};
+            response.rows.forEach(function (row) {
+                if (row.value && !row.value.deleted) {
+                    revisions[row.id] = row.value.rev;
+                }
+            });
+            documents.forEach(function (document) {
+                if (revisions[document._id]) {
+                    document._rev = revisions[document._id];
+                }
+            });
+            return db.bulkDocs(documents);
+        })
+        .then(function (response) {
+            let persisted = 0;
+            let failed = 0;
+            response.forEach(function (result) {
+                if (result.error) {
+                    failed++;
+                    error("Unable to put " + batch.database + result.id + ": " + result.message);
+                } else {
+                    persisted++;
+                }
+            });
+            info("Persisted " + persisted + " documents in " + batch.database);
+            return ack(batch.database, persisted, failed, start);
         })
-        .catch(function () {
-            // put new document
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Insert " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+        .catch(function (err) {
+            error("Unable to persist " + documents.length + " documents in " + batch.database + ": " + err);
+            return ack(batch.database, 0, documents.length, start);
         });
-}, false);
+};
+
+self.database = function (name) {
+    let db = self.databases[name];
+    if (!db) {
+        db = new PouchDB(name);
+        self.databases[name] = db;
+    }
+    return db;
+};
+
+self.ack = function (name, persisted, failed, start) {
+    return {database: name, persisted: persisted, failed: failed, time: Math.round(performance.now() - start)};
+};
 
 self.info = function (message) {
     // use the same log format as HAL
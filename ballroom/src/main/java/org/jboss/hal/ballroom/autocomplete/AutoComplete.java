@@ -53,11 +53,24 @@ public class AutoComplete implements SuggestHandler, Attachable {
     private FormItem formItem;
     private Api api;
     private Options options;
+    private int query;
 
     protected void init(Options options) {
         this.options = options;
     }
 
+    /**
+     * Marks the start of a new query. Use {@link #isCurrent(int)} to drop responses which arrive after the user has typed
+     * something else.
+     */
+    int nextQuery() {
+        return ++query;
+    }
+
+    boolean isCurrent(int query) {
+        return this.query == query;
+    }
+
     @Override
     public void attach() {
         if (api == null) {
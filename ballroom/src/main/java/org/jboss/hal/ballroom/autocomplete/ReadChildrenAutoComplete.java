@@ -78,25 +78,38 @@ public class ReadChildrenAutoComplete extends AutoComplete {
         }
 
         Options options = new OptionsBuilder<JsonObject>((query, response) -> {
+            int current = nextQuery();
             List<Operation> operations = stream(templates.spliterator(), false)
                     .map(template -> template.resolve(statementContext))
                     .map(address -> operation(address, numberOfTemplates))
                     .collect(toList());
             if (operations.size() == 1) {
-                dispatcher.execute(operations.get(0),
-                        result -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
+                Operation operation = operations.get(0);
+                SuggestionCache.INSTANCE.get(operation, () -> dispatcher.execute(operation))
+                        .then(result -> {
+                            if (isCurrent(current)) {
+                                response.response(resultProcessor.process(query, result));
+                            }
+                            return null;
+                        })
+                        .catch_(error -> {
                             logger.error(ERROR_MESSAGE, templates, error);
                             response.response(new JsonObject[0]);
-
+                            return null;
                         });
             } else {
-                dispatcher.execute(new Composite(operations),
-                        (CompositeResult result) -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
+                Composite composite = new Composite(operations);
+                SuggestionCache.INSTANCE.get(composite, () -> dispatcher.execute(composite))
+                        .then((CompositeResult result) -> {
+                            if (isCurrent(current)) {
+                                response.response(resultProcessor.process(query, result));
+                            }
+                            return null;
+                        })
+                        .catch_(error -> {
                             logger.error(ERROR_MESSAGE, templates, error);
                             response.response(new JsonObject[0]);
-
+                            return null;
                         });
             }
         }).renderItem(itemRenderer).build();
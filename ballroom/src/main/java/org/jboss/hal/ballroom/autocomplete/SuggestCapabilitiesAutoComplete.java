@@ -15,12 +15,15 @@
  */
 package org.jboss.hal.ballroom.autocomplete;
 
+import java.util.List;
+
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPENDENT_ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUGGEST_CAPABILITIES;
@@ -39,24 +42,28 @@ public class SuggestCapabilitiesAutoComplete extends AutoComplete {
                 .param(NAME, capability)
                 .param(DEPENDENT_ADDRESS, template.resolve(statementContext))
                 .build();
-        Options options = new OptionsBuilder<String>((query, response) -> dispatcher.execute(operation,
-                result -> {
-                    if (result.isDefined()) {
-                        String[] items = result.asList().stream()
-                                .map(ModelNode::asString)
-                                .filter(value -> SHOW_ALL_VALUE.equals(query) ||
-                                        value.toLowerCase().contains(query.toLowerCase()))
-                                .sorted()
-                                .toArray(String[]::new);
-                        response.response(items);
-                    } else {
+        Options options = new OptionsBuilder<String>((query, response) -> {
+            int current = nextQuery();
+            SuggestionCache.INSTANCE.get(operation, () -> dispatcher.execute(operation))
+                    .then(result -> {
+                        if (isCurrent(current)) {
+                            if (result.isDefined()) {
+                                List<String> candidates = result.asList().stream()
+                                        .map(ModelNode::asString)
+                                        .collect(toList());
+                                response.response(SuggestionCache.filter(candidates, query).toArray(new String[0]));
+                            } else {
+                                response.response(new String[0]);
+                            }
+                        }
+                        return null;
+                    })
+                    .catch_(error -> {
+                        logger.error(ERROR_MESSAGE, capability, template, error);
                         response.response(new String[0]);
-                    }
-                },
-                (op, error) -> {
-                    logger.error(ERROR_MESSAGE, capability, template, error);
-                    response.response(new String[0]);
-                })).build();
+                        return null;
+                    });
+        }).build();
 
         init(options);
     }
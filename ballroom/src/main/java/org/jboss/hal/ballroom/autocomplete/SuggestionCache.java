@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.hal.ballroom.form.SuggestHandler;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent.ModelChangedHandler;
+
+import elemental2.promise.Promise;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Shared cache for the candidates of {@link ReadChildrenAutoComplete} and {@link SuggestCapabilitiesAutoComplete}.
+ * <p>
+ * The candidates don't depend on the typed text, so the operation is executed once and the candidates are filtered on the
+ * client. Entries are keyed by the resolved operation, which includes the address and the capability. Concurrent requests for
+ * the same key share one pending request. Entries expire after {@value #TTL} ms and are dropped as soon as the management model
+ * has been changed (see {@link ModelChangedEvent}). Failed requests are not cached.
+ */
+public class SuggestionCache implements ModelChangedHandler {
+
+    public static final SuggestionCache INSTANCE = new SuggestionCache();
+
+    static final long TTL = 10_000;
+    static final int MAX_ENTRIES = 100;
+
+    private final Map<String, Entry> entries;
+
+    SuggestionCache() {
+        this.entries = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void onModelChanged(ModelChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        entries.clear();
+    }
+
+    /** Returns the cached result of the operation or executes the request if there's no valid entry. */
+    @SuppressWarnings("unchecked")
+    <T> Promise<T> get(Operation operation, Supplier<Promise<T>> request) {
+        String key = operation.asCli();
+        long now = System.currentTimeMillis();
+        expire(now);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Promise<T> promise = request.get().catch_(error -> {
+                entries.remove(key);
+                return Promise.reject(error);
+            });
+            entry = new Entry(promise, now);
+            entries.put(key, entry);
+            if (entries.size() > MAX_ENTRIES) {
+                Iterator<String> iterator = entries.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return (Promise<T>) entry.promise;
+    }
+
+    private void expire(long now) {
+        entries.values().removeIf(entry -> now - entry.created > TTL);
+    }
+
+    /**
+     * Filters the candidates by the query. Candidates which start with the query come first, followed by candidates which
+     * contain the query. Both groups are sorted alphabetically. The comparison is case insensitive.
+     */
+    static List<String> filter(Iterable<String> candidates, String query) {
+        List<String> prefix = new ArrayList<>();
+        List<String> contains = new ArrayList<>();
+        boolean all = isNullOrEmpty(query) || SuggestHandler.SHOW_ALL_VALUE.equals(query);
+        String lowerQuery = all ? "" : query.toLowerCase();
+        for (String candidate : candidates) {
+            String lowerCandidate = candidate.toLowerCase();
+            if (all || lowerCandidate.startsWith(lowerQuery)) {
+                prefix.add(candidate);
+            } else if (lowerCandidate.contains(lowerQuery)) {
+                contains.add(candidate);
+            }
+        }
+        prefix.sort(String::compareToIgnoreCase);
+        contains.sort(String::compareToIgnoreCase);
+        prefix.addAll(contains);
+        return prefix;
+    }
+
+    private static class Entry {
+
+        private final Promise<?> promise;
+        private final long created;
+
+        private Entry(Promise<?> promise, long created) {
+            this.promise = promise;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import java.util.function.DoubleFunction;
+
+import org.jboss.elemento.IsElement;
+import org.jboss.hal.resources.Names;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.document;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.span;
+import static org.jboss.hal.resources.CSS.progressDescription;
+import static org.jboss.hal.resources.CSS.sparkline;
+import static org.jboss.hal.resources.CSS.sparklineChart;
+import static org.jboss.hal.resources.CSS.sparklineValue;
+
+/**
+ * Small trend chart which shows the values of a {@link TimeSeries} as a line together with the latest value. Unlike the C3
+ * based charts the sparkline is a plain SVG polyline, so updating it after each sample is cheap.
+ */
+public class Sparkline implements IsElement<HTMLElement> {
+
+    private static final String SVG_NS = "http://www.w3.org/2000/svg";
+    private static final int WIDTH = 100;
+    private static final int HEIGHT = 20;
+
+    private final DoubleFunction<String> format;
+    private final Element polyline;
+    private final HTMLElement valueElement;
+    private final HTMLElement root;
+
+    /**
+     * @param label the label shown left of the chart
+     * @param format used to format the latest value shown right of the chart
+     */
+    public Sparkline(String label, DoubleFunction<String> format) {
+        this.format = format;
+
+        Element svg = document.createElementNS(SVG_NS, "svg"); // NON-NLS
+        svg.setAttribute("class", sparklineChart);
+        svg.setAttribute("viewBox", "0 0 " + WIDTH + " " + HEIGHT); // NON-NLS
+        svg.setAttribute("preserveAspectRatio", "none"); // NON-NLS
+        polyline = document.createElementNS(SVG_NS, "polyline"); // NON-NLS
+        svg.appendChild(polyline);
+
+        root = div().css(sparkline)
+                .add(div().css(progressDescription)
+                        .title(label)
+                        .textContent(label))
+                .add(svg)
+                .add(valueElement = span().css(sparklineValue)
+                        .textContent(Names.NOT_AVAILABLE).element())
+                .element();
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    public void update(TimeSeries series) {
+        if (series.isEmpty()) {
+            polyline.setAttribute("points", "");
+            valueElement.textContent = Names.NOT_AVAILABLE;
+            return;
+        }
+
+        // scale to the value range, but keep a flat line in the middle
+        double min = series.min();
+        double max = series.max();
+        double range = max - min;
+        int capacity = series.capacity();
+        int offset = capacity - series.size(); // right align: the latest sample is always at the right border
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < series.size(); i++) {
+            double x = capacity == 1 ? WIDTH : (double) (offset + i) * WIDTH / (capacity - 1);
+            double y = range == 0 ? HEIGHT / 2.0 : HEIGHT - (series.value(i) - min) * HEIGHT / range;
+            if (i > 0) {
+                points.append(' ');
+            }
+            points.append(round(x)).append(',').append(round(y));
+        }
+        polyline.setAttribute("points", points.toString());
+        valueElement.textContent = format.apply(series.last());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
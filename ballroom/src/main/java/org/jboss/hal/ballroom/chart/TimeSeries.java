@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+/**
+ * Fixed-size ring buffer of timestamped samples. Once the capacity is reached, adding a sample overwrites the oldest one. The
+ * samples are stored in primitive arrays, so keeping a few minutes of history for many series doesn't produce garbage on every
+ * sample.
+ * <p>
+ * Indices are relative to the oldest sample: {@code value(0)} is the oldest, {@code value(size() - 1)} the latest sample.
+ */
+public class TimeSeries {
+
+    private final long[] timestamps;
+    private final double[] values;
+    private int head; // index of the next write
+    private int size;
+
+    public TimeSeries(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero: " + capacity);
+        }
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public void add(long timestamp, double value) {
+        timestamps[head] = timestamp;
+        values[head] = value;
+        head = (head + 1) % values.length;
+        if (size < values.length) {
+            size++;
+        }
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double value(int index) {
+        return values[physical(index)];
+    }
+
+    public long timestamp(int index) {
+        return timestamps[physical(index)];
+    }
+
+    /** @return the latest value or {@link Double#NaN} if there are no samples */
+    public double last() {
+        return size == 0 ? Double.NaN : value(size - 1);
+    }
+
+    /** @return the smallest value or {@link Double#NaN} if there are no samples */
+    public double min() {
+        double min = Double.NaN;
+        for (int i = 0; i < size; i++) {
+            double value = value(i);
+            if (Double.isNaN(min) || value < min) {
+                min = value;
+            }
+        }
+        return min;
+    }
+
+    /** @return the biggest value or {@link Double#NaN} if there are no samples */
+    public double max() {
+        double max = Double.NaN;
+        for (int i = 0; i < size; i++) {
+            double value = value(i);
+            if (Double.isNaN(max) || value > max) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /** @return a copy of the values ordered from the oldest to the latest sample */
+    public double[] values() {
+        double[] copy = new double[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = value(i);
+        }
+        return copy;
+    }
+
+    private int physical(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return (head - size + index + values.length) % values.length;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSeries(" + size + "/" + values.length + ")";
+    }
+}
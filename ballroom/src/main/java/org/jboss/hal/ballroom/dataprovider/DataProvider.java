@@ -16,15 +16,17 @@
 package org.jboss.hal.ballroom.dataprovider;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
-import java.util.stream.Stream;
 
 import org.jboss.hal.ballroom.listview.ListView;
 import org.jboss.hal.config.Settings;
@@ -33,13 +35,16 @@ import com.google.common.collect.Lists;
 
 import static java.lang.Math.min;
 import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.jboss.hal.config.Settings.DEFAULT_PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 
 /**
  * Holds items and state for displays like {@link ListView}. Changes to the state is reflected in the connected displays.
+ * <p>
+ * Filters of type {@link IndexedFilter} and the sort order are resolved using secondary indexes which are built on demand and
+ * kept until the items change. Changing the value of such a filter, the page or the page size doesn't need to test and sort all
+ * items again.
  */
 public class DataProvider<T> {
 
@@ -53,6 +58,7 @@ public class DataProvider<T> {
     private Map<String, T> filteredItems;
     private Map<String, T> visibleItems;
     private Comparator<T> comparator;
+    private ItemIndex<T> itemIndex;
 
     public DataProvider(Function<T, String> identifier, boolean multiSelect) {
         this(identifier, multiSelect, Settings.INSTANCE.get(PAGE_SIZE).asInt(DEFAULT_PAGE_SIZE));
@@ -85,6 +91,103 @@ public class DataProvider<T> {
         updateSelection();
     }
 
+    /**
+     * Merges the items into this data provider. Unlike {@link #update(Iterable)} the paging and the selection are kept. Items
+     * are matched by their identifier: new items are inserted, missing items are removed and items which are not
+     * {@linkplain Object#equals(Object) equal} to their previous version are replaced. If a comparator is set, only the
+     * inserted and replaced items are sorted into the existing order.
+     * <p>
+     * The displays are informed using {@link Display#patchItems(Iterable, Set, PageInfo)}, so they can patch the changed items
+     * instead of rendering all items again. If this data provider is empty, this method behaves like {@link #update(Iterable)}.
+     */
+    public void merge(Iterable<T> items) {
+        if (allItems.isEmpty()) {
+            // nothing to merge
+            update(items);
+            return;
+        }
+
+        Map<String, T> newItems = new LinkedHashMap<>();
+        for (T item : items) {
+            newItems.put(getId(item), item);
+        }
+
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, T> entry : newItems.entrySet()) {
+            T oldItem = allItems.get(entry.getKey());
+            if (oldItem == null || !oldItem.equals(entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        Set<String> removed = new HashSet<>(allItems.keySet());
+        removed.removeAll(newItems.keySet());
+        if (changed.isEmpty() && removed.isEmpty()
+                && (comparator != null || new ArrayList<>(allItems.keySet()).equals(new ArrayList<>(newItems.keySet())))) {
+            return;
+        }
+
+        // keep the selection, but use the new items
+        for (String id : removed) {
+            selectionInfo.remove(id);
+        }
+        for (String id : changed) {
+            selectionInfo.replace(id, newItems.get(id));
+        }
+
+        List<T> values;
+        if (comparator != null) {
+            values = new ArrayList<>(filteredItems.size() + changed.size());
+            for (Map.Entry<String, T> entry : filteredItems.entrySet()) {
+                if (!changed.contains(entry.getKey()) && !removed.contains(entry.getKey())) {
+                    values.add(entry.getValue());
+                }
+            }
+            Predicate<T> predicate = filterPredicate();
+            for (String id : changed) {
+                T item = newItems.get(id);
+                if (predicate == null || predicate.test(item)) {
+                    values.add(insertionPoint(values, item), item);
+                }
+            }
+        } else {
+            // no comparator: the order of the new items is the order of the data provider
+            Predicate<T> predicate = filterPredicate();
+            values = new ArrayList<>(newItems.size());
+            for (T item : newItems.values()) {
+                if (predicate == null || predicate.test(item)) {
+                    values.add(item);
+                }
+            }
+        }
+        allItems.clear();
+        allItems.putAll(newItems);
+        itemIndex = null;
+        applyPaging(values);
+        pageInfo.setPage(pageInfo.getPage()); // the current page might no longer exist
+
+        Set<String> changedVisible = new HashSet<>(changed);
+        changedVisible.retainAll(visibleItems.keySet());
+        for (Display<T> display : displays) {
+            display.patchItems(visibleItems.values(), changedVisible, pageInfo);
+        }
+        updateSelection();
+    }
+
+    /** Binary search for the position after all items which are less than or equal to the specified item. */
+    private int insertionPoint(List<T> values, T item) {
+        int low = 0;
+        int high = values.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(values.get(middle), item) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     public boolean contains(T item) {
         return allItems.containsKey(identifier.apply(item));
     }
@@ -111,27 +214,75 @@ public class DataProvider<T> {
 
     private void reset() {
         allItems.clear();
+        itemIndex = null;
         pageInfo.reset();
         selectionInfo.reset();
     }
 
+    @SuppressWarnings("unchecked")
     private void applyFilterSortAndPaging() {
-        Stream<T> stream = allItems.values().stream();
-        if (!filterValues.isEmpty()) {
-            Predicate<T> predicate = null;
-            for (FilterValue<T> filterValue : filterValues.values()) {
-                if (predicate == null) {
-                    predicate = i -> filterValue.getFilter().test(i, filterValue.getValue());
+        if (itemIndex == null) {
+            itemIndex = new ItemIndex<>(allItems.values());
+        }
+
+        // indexed filters are intersected, all other filters are tested for the remaining items
+        BitSet matches = null;
+        Predicate<T> predicate = null;
+        for (FilterValue<T> filterValue : filterValues.values()) {
+            if (filterValue.getFilter() instanceof IndexedFilter) {
+                BitSet filterMatches = itemIndex.matches((IndexedFilter<T>) filterValue.getFilter(),
+                        filterValue.getValue());
+                if (matches == null) {
+                    matches = (BitSet) filterMatches.clone();
                 } else {
-                    predicate = predicate.and(i -> filterValue.getFilter().test(i, filterValue.getValue()));
+                    matches.and(filterMatches);
                 }
+            } else {
+                predicate = and(predicate, filterValue);
             }
-            stream = stream.filter(predicate);
         }
+
+        List<T> values = new ArrayList<>(matches != null ? matches.cardinality() : itemIndex.size());
         if (comparator != null) {
-            stream = stream.sorted(comparator);
+            for (int position : itemIndex.sorted(comparator)) {
+                if (matches == null || matches.get(position)) {
+                    addMatching(values, itemIndex.item(position), predicate);
+                }
+            }
+        } else if (matches != null) {
+            for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+                addMatching(values, itemIndex.item(position), predicate);
+            }
+        } else {
+            for (int position = 0; position < itemIndex.size(); position++) {
+                addMatching(values, itemIndex.item(position), predicate);
+            }
+        }
+        applyPaging(values);
+    }
+
+    private void addMatching(List<T> values, T item, Predicate<T> predicate) {
+        if (predicate == null || predicate.test(item)) {
+            values.add(item);
         }
-        List<T> values = stream.collect(toList());
+    }
+
+    /** @return the combined predicate of all filters or null if there are no filters */
+    private Predicate<T> filterPredicate() {
+        Predicate<T> predicate = null;
+        for (FilterValue<T> filterValue : filterValues.values()) {
+            predicate = and(predicate, filterValue);
+        }
+        return predicate;
+    }
+
+    private Predicate<T> and(Predicate<T> predicate, FilterValue<T> filterValue) {
+        Predicate<T> next = item -> filterValue.getFilter().test(item, filterValue.getValue());
+        return predicate == null ? next : predicate.and(next);
+    }
+
+    /** Applies the paging to the filtered and sorted values. */
+    private void applyPaging(List<T> values) {
         if (values.size() > pageInfo.getPageSize()) {
             filteredItems = values.stream().collect(toLinkedMap(identifier, identity()));
             values = paged(values);
@@ -143,6 +294,18 @@ public class DataProvider<T> {
         pageInfo.setVisible(visibleItems.size());
     }
 
+    /** Applies the paging to the already filtered and sorted items. */
+    private void applyPaging() {
+        if (filteredItems.size() > pageInfo.getPageSize()) {
+            visibleItems = paged(new ArrayList<>(filteredItems.values())).stream()
+                    .collect(toLinkedMap(identifier, identity()));
+        } else {
+            visibleItems = filteredItems;
+        }
+        pageInfo.setTotal(filteredItems.size()); // total first!
+        pageInfo.setVisible(visibleItems.size());
+    }
+
     private Collector<T, ?, Map<String, T>> toLinkedMap(Function<? super T, ? extends String> keyMapper,
             Function<? super T, ? extends T> valueMapper) {
         return toMap(keyMapper, valueMapper,
@@ -272,7 +435,7 @@ public class DataProvider<T> {
         int oldPageSize = pageInfo.getPageSize();
         pageInfo.setPageSize(pageSize);
         if (oldPageSize != pageInfo.getPageSize()) {
-            applyFilterSortAndPaging();
+            applyPaging();
             showItems();
             updateSelection();
         }
@@ -298,7 +461,7 @@ public class DataProvider<T> {
         int oldPage = pageInfo.getPage();
         pageInfo.setPage(page);
         if (oldPage != pageInfo.getPage()) {
-            applyFilterSortAndPaging();
+            applyPaging();
             showItems();
             updateSelection();
         }
@@ -15,10 +15,24 @@
  */
 package org.jboss.hal.ballroom.dataprovider;
 
+import java.util.Set;
+
 /** Displays items managed by a {@link DataProvider} */
 public interface Display<T> {
 
     void showItems(Iterable<T> items, PageInfo pageInfo);
 
+    /**
+     * Called by {@link DataProvider#merge(Iterable)}. Displays which render the items can override this method to reuse the
+     * elements of unchanged items. The default implementation calls {@link #showItems(Iterable, PageInfo)}.
+     *
+     * @param items the visible items in the new order
+     * @param changed the identifiers of the visible items which have been inserted or replaced
+     * @param pageInfo the current page info
+     */
+    default void patchItems(Iterable<T> items, Set<String> changed, PageInfo pageInfo) {
+        showItems(items, pageInfo);
+    }
+
     void updateSelection(SelectionInfo<T> selectionInfo);
 }
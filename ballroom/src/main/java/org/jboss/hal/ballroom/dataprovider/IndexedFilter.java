@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * A filter which {@link DataProvider} can resolve using a secondary index instead of testing each item. The filter is defined
+ * by a key extractor which returns the filterable keys of an item. Keys and filter values are compared case-insensitive.
+ * <ul>
+ * <li>{@linkplain #exact(Function) Exact} filters match items with a key equal to the filter value. Use them for enum-like
+ * attributes like an outcome or an access mechanism.</li>
+ * <li>{@linkplain #text(Function) Text} filters match items with a key containing the filter value. They are resolved using a
+ * trigram index.</li>
+ * </ul>
+ * The index is built the first time the filter is applied and dropped whenever the items of the data provider change. Please
+ * note that the index is bound to the filter instance: Reuse the instance instead of creating a new filter for each value.
+ */
+public class IndexedFilter<T> implements Filter<T> {
+
+    /** Creates a filter which matches items whose key equals the filter value. */
+    public static <T> IndexedFilter<T> exact(Function<T, String> key) {
+        return new IndexedFilter<>(false, item -> keys(key.apply(item)));
+    }
+
+    /** Creates a filter which matches items having a key equal to the filter value. */
+    public static <T> IndexedFilter<T> exactAny(Function<T, List<String>> keys) {
+        return new IndexedFilter<>(false, keys);
+    }
+
+    /** Creates a filter which matches items whose key contains the filter value. */
+    public static <T> IndexedFilter<T> text(Function<T, String> key) {
+        return new IndexedFilter<>(true, item -> keys(key.apply(item)));
+    }
+
+    /** Creates a filter which matches items having a key containing the filter value. */
+    public static <T> IndexedFilter<T> textAny(Function<T, List<String>> keys) {
+        return new IndexedFilter<>(true, keys);
+    }
+
+    private static List<String> keys(String key) {
+        return key != null ? singletonList(key) : emptyList();
+    }
+
+    private final boolean text;
+    private final Function<T, List<String>> keys;
+
+    private IndexedFilter(boolean text, Function<T, List<String>> keys) {
+        this.text = text;
+        this.keys = keys;
+    }
+
+    @Override
+    public boolean test(T model, String filter) {
+        String value = filter.toLowerCase();
+        for (String key : keys(model)) {
+            if (key != null && (text ? key.toLowerCase().contains(value) : key.toLowerCase().equals(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isText() {
+        return text;
+    }
+
+    List<String> keys(T model) {
+        List<String> keys = this.keys.apply(model);
+        return keys != null ? keys : emptyList();
+    }
+}
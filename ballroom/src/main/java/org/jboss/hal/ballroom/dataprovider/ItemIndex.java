@@ -0,0 +1,214 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Secondary indexes over a snapshot of the items of a {@link DataProvider}. Items are addressed by their position in the
+ * snapshot. The index holds
+ * <ul>
+ * <li>one key index per {@link IndexedFilter} which maps filter values to the matching positions and</li>
+ * <li>the positions sorted by the last used comparator.</li>
+ * </ul>
+ * Both are built on demand, so changing a filter value or the page doesn't need to test or sort all items again. The index must
+ * be dropped when the items change.
+ */
+final class ItemIndex<T> {
+
+    private static final int GRAM = 3;
+
+    private final List<T> items;
+    private final Map<IndexedFilter<T>, KeyIndex> keyIndexes;
+    private Comparator<T> sortedBy;
+    private int[] sorted;
+
+    ItemIndex(Collection<T> items) {
+        this.items = new ArrayList<>(items);
+        this.keyIndexes = new HashMap<>();
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    T item(int position) {
+        return items.get(position);
+    }
+
+    /** @return the positions of the items matching the filter value. Must not be modified! */
+    BitSet matches(IndexedFilter<T> filter, String value) {
+        return keyIndexes.computeIfAbsent(filter, KeyIndex::new).matches(value.toLowerCase());
+    }
+
+    /** @return the positions of all items sorted by the specified comparator. Must not be modified! */
+    int[] sorted(Comparator<T> comparator) {
+        if (comparator != sortedBy) {
+            Integer[] positions = new Integer[items.size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = i;
+            }
+            // stable sort: equal items keep their original order
+            Arrays.sort(positions, (p1, p2) -> comparator.compare(items.get(p1), items.get(p2)));
+            sorted = new int[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                sorted[i] = positions[i];
+            }
+            sortedBy = comparator;
+        }
+        return sorted;
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /** Maps the distinct lower-cased keys to the item positions. Text indexes map the trigrams to the keys in addition. */
+    private class KeyIndex {
+
+        private final boolean text;
+        private final List<String> keys;
+        private final List<Postings> keyPositions;
+        private final Map<String, Integer> keyIds;
+        private final Map<String, Postings> trigrams;
+        private String lastValue;
+        private BitSet lastMatches;
+
+        KeyIndex(IndexedFilter<T> filter) {
+            this.text = filter.isText();
+            this.keys = new ArrayList<>();
+            this.keyPositions = new ArrayList<>();
+            this.keyIds = new HashMap<>();
+            this.trigrams = new HashMap<>();
+
+            for (int position = 0; position < items.size(); position++) {
+                for (String key : filter.keys(items.get(position))) {
+                    if (key != null) {
+                        String lowerKey = key.toLowerCase();
+                        Integer id = keyIds.get(lowerKey);
+                        if (id == null) {
+                            id = keys.size();
+                            keys.add(lowerKey);
+                            keyPositions.add(new Postings());
+                            keyIds.put(lowerKey, id);
+                            if (text) {
+                                for (int i = 0; i + GRAM <= lowerKey.length(); i++) {
+                                    trigrams.computeIfAbsent(lowerKey.substring(i, i + GRAM), t -> new Postings()).add(id);
+                                }
+                            }
+                        }
+                        keyPositions.get(id).add(position);
+                    }
+                }
+            }
+        }
+
+        BitSet matches(String value) {
+            if (!value.equals(lastValue)) {
+                BitSet matches = new BitSet(items.size());
+                if (text) {
+                    if (value.length() < GRAM) {
+                        for (int id = 0; id < keys.size(); id++) {
+                            if (keys.get(id).contains(value)) {
+                                keyPositions.get(id).setAll(matches);
+                            }
+                        }
+                    } else {
+                        // the trigrams narrow down the candidates, the final check is still necessary
+                        Postings candidates = candidates(value);
+                        for (int i = 0; i < candidates.size; i++) {
+                            int id = candidates.values[i];
+                            if (keys.get(id).contains(value)) {
+                                keyPositions.get(id).setAll(matches);
+                            }
+                        }
+                    }
+                } else {
+                    Integer id = keyIds.get(value);
+                    if (id != null) {
+                        keyPositions.get(id).setAll(matches);
+                    }
+                }
+                lastValue = value;
+                lastMatches = matches;
+            }
+            return lastMatches;
+        }
+
+        /** Intersects the key ids of all trigrams of the value, starting with the smallest one. */
+        private Postings candidates(String value) {
+            List<Postings> postings = new ArrayList<>();
+            for (int i = 0; i + GRAM <= value.length(); i++) {
+                Postings p = trigrams.get(value.substring(i, i + GRAM));
+                if (p == null) {
+                    return new Postings();
+                }
+                postings.add(p);
+            }
+            postings.sort(Comparator.comparingInt(p -> p.size));
+            Postings result = postings.get(0);
+            for (int i = 1; i < postings.size() && result.size != 0; i++) {
+                result = result.intersect(postings.get(i));
+            }
+            return result;
+        }
+    }
+
+    /** Ascending list of unique ints */
+    private static class Postings {
+
+        private int[] values = new int[2];
+        private int size;
+
+        void add(int value) {
+            if (size == 0 || values[size - 1] != value) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = value;
+            }
+        }
+
+        void setAll(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(values[i]);
+            }
+        }
+
+        Postings intersect(Postings other) {
+            Postings result = new Postings();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (values[i] < other.values[j]) {
+                    i++;
+                } else if (values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    result.add(values[i]);
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -52,6 +52,13 @@ public class SelectionInfo<T> {
         selection.remove(id);
     }
 
+    /** Replaces the item if it's selected. */
+    void replace(String id, T item) {
+        if (selection.containsKey(id)) {
+            selection.put(id, item);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -15,9 +15,11 @@
  */
 package org.jboss.hal.ballroom.listview;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.elemento.Elements;
 import org.jboss.elemento.HtmlContentBuilder;
@@ -27,6 +29,7 @@ import org.jboss.hal.ballroom.dataprovider.Display;
 import org.jboss.hal.ballroom.dataprovider.PageInfo;
 import org.jboss.hal.ballroom.dataprovider.SelectionInfo;
 
+import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 
@@ -92,11 +95,44 @@ public class ListView<T> implements Display<T>, IsElement<HTMLElement> {
         for (T item : items) {
             ItemDisplay<T> display = itemRenderer.render(item);
             ListItem<T> listItem = new ListItem<>(this, item, multiSelect, display, contentWidths);
-            currentListItems.put(listItem.id, listItem);
+            currentListItems.put(dataProvider.getId(item), listItem);
             root.appendChild(listItem.element());
         }
     }
 
+    /** Reuses the list items of unchanged items and moves the elements only if necessary. */
+    @Override
+    public void patchItems(Iterable<T> items, Set<String> changed, PageInfo pageInfo) {
+        List<ListItem<T>> listItems = new ArrayList<>();
+        Map<String, ListItem<T>> newListItems = new HashMap<>();
+        for (T item : items) {
+            String id = dataProvider.getId(item);
+            ListItem<T> listItem = currentListItems.get(id);
+            if (listItem == null || changed.contains(id)) {
+                ItemDisplay<T> display = itemRenderer.render(item);
+                listItem = new ListItem<>(this, item, multiSelect, display, contentWidths);
+            }
+            listItems.add(listItem);
+            newListItems.put(id, listItem);
+        }
+        for (Map.Entry<String, ListItem<T>> entry : currentListItems.entrySet()) {
+            if (newListItems.get(entry.getKey()) != entry.getValue()) {
+                Elements.failSafeRemove(root, entry.getValue().element());
+            }
+        }
+        currentListItems.clear();
+        currentListItems.putAll(newListItems);
+
+        Element next = root.firstElementChild;
+        for (ListItem<T> listItem : listItems) {
+            if (listItem.element() == next) {
+                next = next.nextElementSibling;
+            } else {
+                root.insertBefore(listItem.element(), next);
+            }
+        }
+    }
+
     @Override
     public void updateSelection(SelectionInfo<T> selectionInfo) {
         for (ListItem<T> item : currentListItems.values()) {
@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Index of node names used to search trees which load their nodes on demand.
+ * <p>
+ * The index is built incrementally: Add the nodes as soon as they're loaded. A search returns the IDs of all indexed nodes
+ * whose name contains the query and {@link #parents(String)} returns the IDs which need to be opened to reveal a match.
+ */
+public class NameIndex {
+
+    private final Map<String, Entry> entries;
+
+    public NameIndex() {
+        this.entries = new HashMap<>();
+    }
+
+    /** Adds or replaces a node. Use {@code null} as parent for top level nodes. */
+    public void add(String id, String name, String parent) {
+        entries.put(id, new Entry(name.toLowerCase(), parent));
+    }
+
+    /** Removes the node and all of its descendants. */
+    public void remove(String id) {
+        removeChildren(id);
+        entries.remove(id);
+    }
+
+    /** Removes the descendants of the node, but keeps the node itself. */
+    public void removeChildren(String id) {
+        List<String> descendants = entries.keySet().stream()
+                .filter(key -> descendantOf(key, id))
+                .collect(toList());
+        descendants.forEach(entries::remove);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean contains(String id) {
+        return entries.containsKey(id);
+    }
+
+    /**
+     * Returns the IDs of the nodes whose name contains the query (case insensitive). Matches closer to the top level come
+     * first, matches on the same level are sorted by name.
+     */
+    public List<String> find(String query) {
+        if (isNullOrEmpty(query)) {
+            return Collections.emptyList();
+        }
+        String lowerQuery = query.toLowerCase();
+        Map<String, Integer> depths = new HashMap<>();
+        entries.forEach((id, entry) -> {
+            if (entry.name.contains(lowerQuery)) {
+                depths.put(id, parents(id).size());
+            }
+        });
+        List<String> ids = new ArrayList<>(depths.keySet());
+        ids.sort(Comparator.<String> comparingInt(depths::get)
+                .thenComparing(id -> entries.get(id).name)
+                .thenComparing(Comparator.naturalOrder()));
+        return ids;
+    }
+
+    /** Returns the IDs of the indexed ancestors of the node starting with the top level node. */
+    public List<String> parents(String id) {
+        List<String> parents = new ArrayList<>();
+        Entry entry = entries.get(id);
+        while (entry != null && entry.parent != null && !parents.contains(entry.parent)) {
+            parents.add(0, entry.parent);
+            entry = entries.get(entry.parent);
+        }
+        return parents;
+    }
+
+    private boolean descendantOf(String id, String ancestor) {
+        Entry entry = entries.get(id);
+        int depth = 0;
+        while (entry != null && entry.parent != null && depth < entries.size()) {
+            if (entry.parent.equals(ancestor)) {
+                return true;
+            }
+            entry = entries.get(entry.parent);
+            depth++;
+        }
+        return false;
+    }
+
+    private static class Entry {
+
+        private final String name;
+        private final String parent;
+
+        private Entry(String name, String parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+    }
+}
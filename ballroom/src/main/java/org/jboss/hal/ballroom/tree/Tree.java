@@ -15,6 +15,13 @@
  */
 package org.jboss.hal.ballroom.tree;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.jboss.elemento.IsElement;
 import org.jboss.hal.ballroom.Attachable;
 import org.jboss.hal.ballroom.JsCallback;
@@ -22,13 +29,17 @@ import org.jboss.hal.ballroom.JsCallback;
 import elemental2.core.JsArray;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
+import jsinterop.base.Js;
 
 import static elemental2.dom.DomGlobal.document;
+import static java.util.Collections.singletonList;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.hal.resources.UIConstants.HASH;
 
 public class Tree<T> implements IsElement, Attachable {
 
+    /** The maximal number of matches revealed by {@link #search(NameIndex, String)}. */
+    public static final int MAX_REVEALED_MATCHES = 100;
     private static final String ROOT_NODE = HASH;
 
     private final String id;
@@ -40,14 +51,21 @@ public class Tree<T> implements IsElement, Attachable {
     /**
      * Creates a tree with the specified root node. All other nodes are loaded on demand using the provided callback.
      */
-    @SuppressWarnings("unchecked")
     public Tree(String id, Node<T> root, DataFunction<T> data) {
+        this(id, singletonList(root), data);
+    }
+
+    /**
+     * Creates a tree with the specified root nodes. All other nodes are loaded on demand using the provided callback.
+     */
+    @SuppressWarnings("unchecked")
+    public Tree(String id, List<Node<T>> roots, DataFunction<T> data) {
         this.id = id;
         this.div = div().id(id).element();
         this.options = initOptions();
         this.options.core.data = (DataFunction<T>) (node, callback) -> {
             if (ROOT_NODE.equals(node.id)) {
-                Node<T>[] rootNodes = new Node[] { root };
+                Node<T>[] rootNodes = roots.toArray(new Node[0]);
                 callback.result(rootNodes);
             } else {
                 data.load(node, callback);
@@ -166,6 +184,42 @@ public class Tree<T> implements IsElement, Attachable {
         api().search(query);
     }
 
+    /**
+     * Searches a tree which loads its nodes on demand. Opens the parents of the nodes in the index which match the query
+     * (loading them if necessary) and highlights the matches afterwards.
+     * <p>
+     * Only the first {@value #MAX_REVEALED_MATCHES} matches (the ones closest to the top level) are revealed. Returns the
+     * total number of matches, so that callers can tell the user to refine the search.
+     */
+    public int search(NameIndex index, String query) {
+        List<String> matches = index.find(query);
+        Set<String> parents = new LinkedHashSet<>();
+        for (String match : matches.subList(0, Math.min(matches.size(), MAX_REVEALED_MATCHES))) {
+            parents.addAll(index.parents(match));
+        }
+        openNodes(new ArrayList<>(parents), () -> search(query));
+        return matches.size();
+    }
+
+    /**
+     * Opens the nodes one after another (loading them if necessary) and executes the callback once all nodes are open. Nodes
+     * which are not part of the tree are skipped.
+     */
+    public void openNodes(List<String> ids, JsCallback callback) {
+        openNodes(new ArrayDeque<>(ids), callback);
+    }
+
+    private void openNodes(Deque<String> ids, JsCallback callback) {
+        String id = ids.poll();
+        if (id == null) {
+            callback.execute();
+        } else if (Js.isFalsy(api().get_node(id))) {
+            openNodes(ids, callback);
+        } else {
+            api().open_node(id, () -> openNodes(ids, callback));
+        }
+    }
+
     public void clearSearch() {
         api().clear_search();
     }
@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.ballroom.form.SuggestHandler.SHOW_ALL_VALUE;
+import static org.junit.Assert.assertEquals;
+
+public class SuggestionCacheTest {
+
+    private static final List<String> CANDIDATES = asList("other-ssl", "ssl", "SSL-Context", "default-ssl", "http");
+
+    @Test
+    public void showAll() {
+        assertEquals(asList("default-ssl", "http", "other-ssl", "ssl", "SSL-Context"),
+                SuggestionCache.filter(CANDIDATES, SHOW_ALL_VALUE));
+    }
+
+    @Test
+    public void prefixFirst() {
+        assertEquals(asList("ssl", "SSL-Context", "default-ssl", "other-ssl"), SuggestionCache.filter(CANDIDATES, "ssl"));
+    }
+
+    @Test
+    public void ignoreCase() {
+        assertEquals(asList("SSL-Context"), SuggestionCache.filter(CANDIDATES, "ssl-c"));
+    }
+
+    @Test
+    public void noMatch() {
+        assertEquals(emptyList(), SuggestionCache.filter(CANDIDATES, "foo"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimeSeriesTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void empty() {
+        TimeSeries series = new TimeSeries(3);
+        assertTrue(series.isEmpty());
+        assertEquals(3, series.capacity());
+        assertTrue(Double.isNaN(series.last()));
+        assertTrue(Double.isNaN(series.min()));
+        assertTrue(Double.isNaN(series.max()));
+        assertEquals(0, series.values().length);
+    }
+
+    @Test
+    public void fill() {
+        TimeSeries series = new TimeSeries(3);
+        series.add(1, 10);
+        series.add(2, 20);
+
+        assertEquals(2, series.size());
+        assertEquals(1, series.timestamp(0));
+        assertEquals(20, series.last(), DELTA);
+        assertArrayEquals(new double[] { 10, 20 }, series.values(), DELTA);
+    }
+
+    @Test
+    public void wrap() {
+        TimeSeries series = new TimeSeries(3);
+        for (int i = 1; i <= 5; i++) {
+            series.add(i, i * 10);
+        }
+
+        assertEquals(3, series.size());
+        assertEquals(3, series.timestamp(0));
+        assertEquals(5, series.timestamp(2));
+        assertEquals(30, series.min(), DELTA);
+        assertEquals(50, series.max(), DELTA);
+        assertArrayEquals(new double[] { 30, 40, 50 }, series.values(), DELTA);
+    }
+
+    @Test
+    public void clear() {
+        TimeSeries series = new TimeSeries(2);
+        series.add(1, 10);
+        series.add(2, 20);
+        series.add(3, 30);
+        series.clear();
+
+        assertTrue(series.isEmpty());
+        series.add(4, 40);
+        assertArrayEquals(new double[] { 40 }, series.values(), DELTA);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        TimeSeries series = new TimeSeries(3);
+        series.add(1, 10);
+        series.value(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity() {
+        new TimeSeries(0);
+    }
+}
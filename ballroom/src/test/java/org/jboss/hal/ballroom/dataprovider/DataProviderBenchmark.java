@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares filtering, sorting and paging of a data provider using plain {@link Filter}s with the same operations using
+ * {@link IndexedFilter}s. The corpus consists of 50k synthetic configuration changes. Each round sorts the items, types a
+ * remote address character by character, switches the outcome and pages through the results.
+ * <p>
+ * This is not a unit test. Run it manually from the {@code ballroom} folder using
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=org.jboss.hal.ballroom.dataprovider.DataProviderBenchmark -Dexec.classpathScope=test
+ * </pre>
+ */
+public class DataProviderBenchmark {
+
+    private static final int ITEMS = 50_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final String[] OUTCOMES = { "success", "failed", "cancelled" };
+    private static final String[] ACCESS_MECHANISMS = { "HTTP", "NATIVE", "JMX", "IN-VM" };
+    private static final String[] OPERATIONS = { "add", "remove", "write-attribute", "undefine-attribute", "reload",
+            "composite", "map-put", "list-add" };
+    private static final String REMOTE_ADDRESS = "10.0.12";
+
+    private static class Change {
+
+        private final String id;
+        private final String outcome;
+        private final String accessMechanism;
+        private final String remoteAddress;
+        private final String operation;
+        private final long date;
+
+        private Change(int index, Random random) {
+            this.id = "change-" + index;
+            this.outcome = OUTCOMES[random.nextInt(OUTCOMES.length)];
+            this.accessMechanism = ACCESS_MECHANISMS[random.nextInt(ACCESS_MECHANISMS.length)];
+            this.remoteAddress = "10." + random.nextInt(4) + "." + random.nextInt(256) + "." + random.nextInt(256);
+            this.operation = OPERATIONS[random.nextInt(OPERATIONS.length)];
+            this.date = random.nextLong();
+        }
+    }
+
+    private static class Filters {
+
+        private final Filter<Change> outcome;
+        private final Filter<Change> accessMechanism;
+        private final Filter<Change> remoteAddress;
+        private final Filter<Change> operation;
+
+        private Filters(Filter<Change> outcome, Filter<Change> accessMechanism, Filter<Change> remoteAddress,
+                Filter<Change> operation) {
+            this.outcome = outcome;
+            this.accessMechanism = accessMechanism;
+            this.remoteAddress = remoteAddress;
+            this.operation = operation;
+        }
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        List<Change> changes = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            changes.add(new Change(i, random));
+        }
+
+        Filters plain = new Filters(
+                (change, filter) -> change.outcome.toLowerCase().equals(filter.toLowerCase()),
+                (change, filter) -> change.accessMechanism.toLowerCase().equals(filter.toLowerCase()),
+                (change, filter) -> change.remoteAddress.toLowerCase().contains(filter.toLowerCase()),
+                (change, filter) -> change.operation.toLowerCase().contains(filter.toLowerCase()));
+        Filters indexed = new Filters(
+                IndexedFilter.exact(change -> change.outcome),
+                IndexedFilter.exact(change -> change.accessMechanism),
+                IndexedFilter.text(change -> change.remoteAddress),
+                IndexedFilter.text(change -> change.operation));
+
+        long[] plainTimes = new long[2];
+        long[] indexedTimes = new long[2];
+        for (int i = 0; i < WARMUP; i++) {
+            run(changes, plain, new long[2]);
+            run(changes, indexed, new long[2]);
+        }
+
+        int plainCount = 0;
+        int indexedCount = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            plainCount += run(changes, plain, plainTimes);
+            indexedCount += run(changes, indexed, indexedTimes);
+        }
+        if (plainCount != indexedCount) {
+            throw new IllegalStateException("Different results: " + plainCount + " != " + indexedCount);
+        }
+
+        System.out.printf("%d items, update and sort, then %d filter and page changes%n"
+                + "                   update + sort   filter + page%n"
+                + "  plain filters:   %8.2f ms      %8.2f ms%n"
+                + "  indexed filters: %8.2f ms      %8.2f ms%n", ITEMS, REMOTE_ADDRESS.length() + 11,
+                plainTimes[0] / 1_000_000.0 / ITERATIONS, plainTimes[1] / 1_000_000.0 / ITERATIONS,
+                indexedTimes[0] / 1_000_000.0 / ITERATIONS, indexedTimes[1] / 1_000_000.0 / ITERATIONS);
+    }
+
+    /**
+     * Adds the time for the update and sort to {@code times[0]} and the time for the filter and page changes to
+     * {@code times[1]}. The filter and page changes include building the indexes.
+     *
+     * @return the sum of the filtered items after each step
+     */
+    private static int run(List<Change> changes, Filters filters, long[] times) {
+        int count = 0;
+        long start = System.nanoTime();
+        DataProvider<Change> dataProvider = new DataProvider<>(change -> change.id, false, PAGE_SIZE);
+        dataProvider.update(changes);
+        dataProvider.setComparator(Comparator.<Change, Long> comparing(change -> change.date));
+        times[0] += System.nanoTime() - start;
+
+        start = System.nanoTime();
+
+        dataProvider.addFilter("access-mechanism", new FilterValue<>(filters.accessMechanism, "http"));
+        count += dataProvider.getPageInfo().getTotal();
+        dataProvider.addFilter("operation", new FilterValue<>(filters.operation, "attribute"));
+        count += dataProvider.getPageInfo().getTotal();
+        for (int i = 1; i <= REMOTE_ADDRESS.length(); i++) {
+            dataProvider.addFilter("remote-address", new FilterValue<>(filters.remoteAddress,
+                    REMOTE_ADDRESS.substring(0, i)));
+            count += dataProvider.getPageInfo().getTotal();
+        }
+        for (String outcome : OUTCOMES) {
+            dataProvider.addFilter("outcome", new FilterValue<>(filters.outcome, outcome));
+            count += dataProvider.getPageInfo().getTotal();
+        }
+        for (int i = 0; i < 5; i++) {
+            dataProvider.gotoNextPage();
+            count += dataProvider.getPageInfo().getTotal();
+        }
+        dataProvider.clearFilters();
+        count += dataProvider.getPageInfo().getTotal();
+        times[1] += System.nanoTime() - start;
+        return count;
+    }
+}
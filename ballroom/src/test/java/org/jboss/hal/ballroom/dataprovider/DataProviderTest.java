@@ -28,6 +28,7 @@ import org.junit.Test;
 import org.mockito.ArgumentMatcher;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.common.primitives.Ints;
 
 import static com.google.common.primitives.Ints.asList;
@@ -84,6 +85,8 @@ public class DataProviderTest {
     private static final int[] COMBINED = new int[] { 0, 6 };
     private static final Function<Integer, String> IDENTIFIER = String::valueOf;
     private static final Filter<Integer> DIVISIBLE = (number, filter) -> number % parseInt(filter) == 0;
+    private static final IndexedFilter<Integer> PARITY = IndexedFilter.exact(number -> number % 2 == 0 ? "Even" : "Odd");
+    private static final IndexedFilter<Integer> TEXT = IndexedFilter.text(String::valueOf);
 
     private DataProvider<Integer> single;
     private DataProvider<Integer> multi;
@@ -135,6 +138,75 @@ public class DataProviderTest {
         assertFalse(single.isVisible(23));
     }
 
+    @Test
+    public void mergeItems() throws Exception {
+        single.update(asList(items(5)));
+        reset(display);
+
+        single.merge(asList(new int[] { 4, 0, 1, 5, 3 }));
+        assertVisibleFilteredAll(single, new int[] { 4, 0, 1, 5, 3 }, new int[] { 4, 0, 1, 5, 3 },
+                new int[] { 4, 0, 1, 5, 3 });
+        verify(display).patchItems(itemsMatcher(new int[] { 4, 0, 1, 5, 3 }), eq(Sets.newHashSet("5")),
+                eq(new PageInfo(PAGE_SIZE, 0, 5, 5)));
+        verify(display, never()).showItems(any(), any());
+    }
+
+    @Test
+    public void mergeUnchanged() throws Exception {
+        single.update(asList(items(5)));
+        reset(display);
+
+        single.merge(asList(items(5)));
+        verify(display, never()).patchItems(any(), any(), any());
+        verify(display, never()).updateSelection(any());
+    }
+
+    @Test
+    public void mergeSorted() throws Exception {
+        single.setComparator(Comparator.<Integer> naturalOrder().reversed());
+        single.update(asList(new int[] { 1, 3, 5 }));
+        reset(display);
+
+        single.merge(asList(new int[] { 1, 5, 4, 2, 6 }));
+        assertVisibleFilteredAll(single, new int[] { 6, 5, 4, 2, 1 }, new int[] { 6, 5, 4, 2, 1 },
+                new int[] { 1, 5, 4, 2, 6 });
+        verify(display).patchItems(itemsMatcher(new int[] { 6, 5, 4, 2, 1 }),
+                eq(Sets.newHashSet("2", "4", "6")), any());
+    }
+
+    @Test
+    public void mergeFiltered() throws Exception {
+        single.addFilter("divisible", new FilterValue<>(DIVISIBLE, "2"));
+        single.setComparator(naturalOrder());
+        single.update(asList(items(5)));
+        assertVisibleFilteredAll(single, new int[] { 0, 2, 4 }, new int[] { 0, 2, 4 }, items(5));
+
+        single.merge(asList(items(10)));
+        assertVisibleFilteredAll(single, EVEN, EVEN, items(10));
+    }
+
+    @Test
+    public void mergeKeepsPageAndSelection() throws Exception {
+        multi.update(asList(items(42)));
+        multi.gotoPage(2);
+        multi.select(21, true);
+        multi.select(41, true);
+        reset(display);
+
+        multi.merge(asList(items(30)));
+        assertEquals(2, multi.getPageInfo().getPage());
+        assertVisibleFilteredAll(multi, items(20, 29), items(30), items(30));
+        assertSelection(multi, new int[] { 21 });
+        verify(display).patchItems(itemsMatcher(items(20, 29)), eq(new HashSet<>()),
+                eq(new PageInfo(PAGE_SIZE, 2, PAGE_SIZE, 30)));
+
+        // page 2 no longer exists
+        multi.merge(asList(items(15)));
+        assertEquals(1, multi.getPageInfo().getPage());
+        assertVisibleFilteredAll(multi, items(10, 14), items(15), items(15));
+        assertNoSelection(multi);
+    }
+
     // ------------------------------------------------------ page size
 
     @Test
@@ -417,6 +489,63 @@ public class DataProviderTest {
         assertSame(FilterValue.EMPTY, single.getFilter("foo"));
     }
 
+    @Test
+    public void exactIndexedFilter() throws Exception {
+        single.update(asList(items(30)));
+        single.addFilter("parity", new FilterValue<>(PARITY, "EVEN"));
+        assertVisibleFilteredAll(single, items(0, 18, 2), items(0, 28, 2), items(30));
+
+        single.addFilter("parity", new FilterValue<>(PARITY, "odd"));
+        assertVisibleFilteredAll(single, items(1, 19, 2), items(1, 29, 2), items(30));
+
+        single.addFilter("parity", new FilterValue<>(PARITY, "od"));
+        assertVisibleFilteredAll(single, new int[0], new int[0], items(30));
+    }
+
+    @Test
+    public void textIndexedFilter() throws Exception {
+        single.update(asList(items(1200)));
+        single.addFilter("text", new FilterValue<>(TEXT, "112"));
+        int[] filtered = new int[] { 112, 1112, 1120, 1121, 1122, 1123, 1124, 1125, 1126, 1127, 1128, 1129 };
+        assertArrayEquals(filtered, toArray(single.getFilteredItems()));
+
+        // short values don't use the trigrams
+        single.addFilter("text", new FilterValue<>(TEXT, "99"));
+        assertArrayEquals(new int[] { 99, 199, 299, 399, 499, 599, 699, 799, 899, 990, 991, 992, 993, 994, 995, 996,
+                997, 998, 999, 1099, 1199 }, toArray(single.getFilteredItems()));
+
+        single.addFilter("text", new FilterValue<>(TEXT, "1234"));
+        assertArrayEquals(new int[0], toArray(single.getFilteredItems()));
+    }
+
+    @Test
+    public void combineIndexedFilters() throws Exception {
+        single.update(asList(items(30)));
+        single.setComparator(Comparator.<Integer> naturalOrder().reversed());
+        single.addFilter("parity", new FilterValue<>(PARITY, "even"));
+        single.addFilter("text", new FilterValue<>(TEXT, "2"));
+        single.addFilter("byThree", new FilterValue<>(DIVISIBLE, "3"));
+        assertVisibleFilteredAll(single, new int[] { 24, 12 }, new int[] { 24, 12 }, items(30));
+
+        single.removeFilter("byThree");
+        assertVisibleFilteredAll(single, new int[] { 28, 26, 24, 22, 20, 12, 2 }, new int[] { 28, 26, 24, 22, 20, 12, 2 },
+                items(30));
+    }
+
+    @Test
+    public void indexedFilterAfterUpdate() throws Exception {
+        single.update(asList(items(10)));
+        single.addFilter("text", new FilterValue<>(TEXT, "1"));
+        assertVisibleFilteredAll(single, new int[] { 1 }, new int[] { 1 }, items(10));
+
+        single.merge(asList(items(12)));
+        assertVisibleFilteredAll(single, new int[] { 1, 10, 11 }, new int[] { 1, 10, 11 }, items(12));
+
+        single.update(asList(items(5, 15)));
+        assertVisibleFilteredAll(single, new int[] { 10, 11, 12, 13, 14, 15 }, new int[] { 10, 11, 12, 13, 14, 15 },
+                items(5, 15));
+    }
+
     // ------------------------------------------------------ sort
 
     @Test
@@ -478,6 +607,15 @@ public class DataProviderTest {
         return items;
     }
 
+    // to is *inclusive*
+    private int[] items(int from, int to, int step) {
+        int[] items = new int[(to - from) / step + 1];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = from + i * step;
+        }
+        return items;
+    }
+
     private Map<String, Integer> selection(int[] items) {
         Map<String, Integer> selection = new HashMap<>();
         for (int item : items) {
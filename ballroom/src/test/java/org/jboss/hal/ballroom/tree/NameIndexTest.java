@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.tree;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NameIndexTest {
+
+    private NameIndex index;
+
+    @Before
+    public void setUp() {
+        index = new NameIndex();
+        index.add("meta-inf", "META-INF", null);
+        index.add("manifest", "MANIFEST.MF", "meta-inf");
+        index.add("web-inf", "WEB-INF", null);
+        index.add("lib", "lib", "web-inf");
+        index.add("jar", "library.jar", "lib");
+    }
+
+    @Test
+    public void find() {
+        assertEquals(emptyList(), index.find(null));
+        assertEquals(emptyList(), index.find(""));
+        assertEquals(singletonList("manifest"), index.find("manifest"));
+        assertEquals(asList("jar", "lib"), sorted(index.find("LIB")));
+        assertEquals(emptyList(), index.find("foo"));
+    }
+
+    @Test
+    public void findOrder() {
+        index.add("classes", "classes", "web-inf");
+        index.add("lib2", "lib2", null);
+        assertEquals(asList("lib2", "lib", "jar"), index.find("lib"));
+        assertEquals(asList("meta-inf", "web-inf"), index.find("-INF"));
+    }
+
+    @Test
+    public void parents() {
+        assertEquals(asList("web-inf", "lib"), index.parents("jar"));
+        assertEquals(emptyList(), index.parents("web-inf"));
+        assertEquals(emptyList(), index.parents("unknown"));
+    }
+
+    @Test
+    public void removeChildren() {
+        index.removeChildren("web-inf");
+        assertTrue(index.contains("web-inf"));
+        assertFalse(index.contains("lib"));
+        assertFalse(index.contains("jar"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void remove() {
+        index.remove("meta-inf");
+        assertFalse(index.contains("meta-inf"));
+        assertFalse(index.contains("manifest"));
+        assertEquals(3, index.size());
+    }
+
+    private List<String> sorted(List<String> ids) {
+        ids.sort(String::compareTo);
+        return ids;
+    }
+}
@@ -37,6 +37,8 @@ public class Settings {
     public static final int DEFAULT_PAGE_SIZE = 10;
     // keep in sync with the poll-time attribute of settings.dmr
     public static final int DEFAULT_POLL_TIME = 10;
+    /** Maximum number of concurrent read-resource-description composite operations */
+    public static final int DEFAULT_RRD_CONCURRENCY = 4;
     public static final int[] PAGE_SIZE_VALUES = new int[] { 10, 20, 50 };
     private static final int EXPIRES = 365; // days
 
@@ -85,8 +87,9 @@ public class Settings {
     @SuppressWarnings("DuplicateStringLiteralInspection")
     public enum Key {
         TITLE("title", true), COLLECT_USER_DATA("collect-user-data", true), LOCALE("locale", true), PAGE_SIZE("page-size",
-                true), POLL("poll", true), POLL_TIME("poll-time", true), RUN_AS("run-as", false); // can contain multiple roles
-                                                                                                  // separated by ","
+                true), POLL("poll", true), POLL_TIME("poll-time", true), RRD_CONCURRENCY("rrd-concurrency", true), RUN_AS(
+                        "run-as",
+                        false); // can contain multiple roles separated by ","
 
         public static Key from(String key) {
             switch (key) {
@@ -102,6 +105,8 @@ public class Settings {
                     return POLL;
                 case "poll-time":
                     return POLL_TIME;
+                case "rrd-concurrency":
+                    return RRD_CONCURRENCY;
                 case "run-as":
                     return RUN_AS;
                 default:
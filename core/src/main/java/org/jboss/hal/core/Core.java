@@ -17,9 +17,11 @@ package org.jboss.hal.core;
 
 import javax.inject.Inject;
 
+import org.jboss.hal.ballroom.autocomplete.SuggestionCache;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
 import org.jboss.hal.meta.StatementContext;
 
 import com.google.web.bindery.event.shared.EventBus;
@@ -47,6 +49,9 @@ public class Core {
         this.eventBus = eventBus;
         this.statementContext = statementContext;
         this.tableButtonFactory = tableButtonFactory;
+
+        // drop cached autocomplete suggestions after the management model has been changed
+        eventBus.addHandler(ModelChangedEvent.getType(), SuggestionCache.INSTANCE);
     }
 
     /**
@@ -30,6 +30,10 @@ import org.jboss.hal.core.mbui.MbuiContext;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
 import org.jboss.hal.core.modelbrowser.ModelBrowser;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsSampler;
+import org.jboss.hal.core.runtime.NonProgressingOperationScanner;
+import org.jboss.hal.core.runtime.RuntimeStatusPoller;
+import org.jboss.hal.core.runtime.TopologyStore;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -64,15 +68,19 @@ public class CoreModule extends AbstractGinModule {
         bind(HostActions.class).in(Singleton.class);
         bind(ItemActionFactory.class).in(Singleton.class);
         bind(ItemMonitor.class).in(Singleton.class);
+        bind(MetricsSampler.class).in(Singleton.class);
         bind(ModelBrowser.class);
+        bind(NonProgressingOperationScanner.class).in(Singleton.class);
         bind(Core.class).in(Singleton.class);
         bind(Places.class).in(Singleton.class);
+        bind(RuntimeStatusPoller.class).in(Singleton.class);
         bind(ServerActions.class).in(Singleton.class);
         bind(ServerGroupActions.class).in(Singleton.class);
         bind(ServerUrlStorage.class).in(Singleton.class);
         bind(StatementContext.class).to(CoreStatementContext.class).asEagerSingleton(); // to register the event handler
         bind(Subsystems.class).in(Singleton.class);
         bind(TableButtonFactory.class).in(Singleton.class);
+        bind(TopologyStore.class).asEagerSingleton(); // to register the event handlers
         bind(MbuiContext.class).in(Singleton.class);
         bind(UIRegistry.class).in(Singleton.class);
 
@@ -17,6 +17,7 @@ package org.jboss.hal.core;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.inject.Inject;
 
@@ -45,6 +46,9 @@ public class CoreStatementContext implements StatementContext,
 
     private final Environment environment;
     private final Map<Expression, String> context;
+    private long generation;
+    private boolean standalone;
+    private String domainController;
 
     @Inject
     public CoreStatementContext(Environment environment, EventBus eventBus) {
@@ -90,18 +94,21 @@ public class CoreStatementContext implements StatementContext,
     @Override
     public void onProfileSelection(ProfileSelectionEvent event) {
         context.put(SELECTED_PROFILE, event.getProfile());
+        generation++;
         logger.info("Selected profile {}", event.getProfile());
     }
 
     @Override
     public void onServerGroupSelection(ServerGroupSelectionEvent event) {
         context.put(SELECTED_GROUP, event.getServerGroup());
+        generation++;
         logger.info("Selected server-group {}", event.getServerGroup());
     }
 
     @Override
     public void onHostSelection(HostSelectionEvent event) {
         context.put(SELECTED_HOST, event.getHost());
+        generation++;
         logger.info("Selected host {}", event.getHost());
     }
 
@@ -109,9 +116,22 @@ public class CoreStatementContext implements StatementContext,
     public void onServerSelection(ServerSelectionEvent event) {
         context.put(SELECTED_SERVER_CONFIG, event.getServer());
         context.put(SELECTED_SERVER, event.getServer());
+        generation++;
         logger.info("Selected server {}", event.getServer());
     }
 
+    @Override
+    public long generation() {
+        // the environment is updated during bootstrap and when reconnecting to another server
+        if (standalone != environment.isStandalone()
+                || !Objects.equals(domainController, environment.getDomainController())) {
+            standalone = environment.isStandalone();
+            domainController = environment.getDomainController();
+            generation++;
+        }
+        return generation;
+    }
+
     @Override
     public String domainController() {
         return environment.getDomainController();
@@ -489,7 +489,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
                     .then(column -> {
                         if (column.contains(segment.getItemId())) {
                             column.markSelected(segment.getItemId());
-                            column.row(segment.getItemId()).element().scrollIntoView(false);
+                            column.showRow(segment.getItemId());
                             updateContext();
                             context.push(column);
                         } else {
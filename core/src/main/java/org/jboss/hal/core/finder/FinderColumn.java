@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,13 +51,13 @@ import com.google.common.collect.Iterables;
 import com.google.gwt.core.client.GWT;
 import com.google.web.bindery.event.shared.HandlerRegistration;
 
+import elemental2.dom.CSSProperties;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.DragEvent;
-import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLInputElement;
 import elemental2.dom.KeyboardEvent;
-import elemental2.dom.NodeList;
 import elemental2.promise.Promise;
 
 import static java.util.stream.Collectors.toList;
@@ -75,12 +74,11 @@ import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
 import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.EventType.keyup;
+import static org.jboss.elemento.EventType.scroll;
 import static org.jboss.elemento.InputType.text;
 import static org.jboss.elemento.Key.ArrowUp;
 import static org.jboss.elemento.Key.Escape;
 import static org.jboss.hal.core.finder.Finder.DATA_BREADCRUMB;
-import static org.jboss.hal.core.finder.Finder.DATA_FILTER;
-import static org.jboss.hal.resources.CSS.active;
 import static org.jboss.hal.resources.CSS.btn;
 import static org.jboss.hal.resources.CSS.btnFinder;
 import static org.jboss.hal.resources.CSS.btnGroup;
@@ -97,9 +95,7 @@ import static org.jboss.hal.resources.CSS.formControl;
 import static org.jboss.hal.resources.CSS.inputGroup;
 import static org.jboss.hal.resources.CSS.inputGroupAddon;
 import static org.jboss.hal.resources.CSS.itemText;
-import static org.jboss.hal.resources.CSS.last;
-import static org.jboss.hal.resources.CSS.pinned;
-import static org.jboss.hal.resources.CSS.unpinned;
+import static org.jboss.hal.resources.CSS.spacer;
 import static org.jboss.hal.resources.Names.NOT_AVAILABLE;
 import static org.jboss.hal.resources.UIConstants.GROUP;
 import static org.jboss.hal.resources.UIConstants.HASH;
@@ -117,13 +113,20 @@ import static org.jboss.hal.resources.UIConstants.TABINDEX;
  * Please do not use constants from {@code ModelDescriptionConstants} for the column ids (it makes refactoring harder). Instead
  * add an id to {@link Ids}.
  * <p>
+ * Columns with more than {@value #VIRTUAL_THRESHOLD} items are rendered virtually: Only the rows in and around the visible part
+ * of the column are added to the DOM. The remaining space is filled by two spacer elements. Filtering, keyboard navigation,
+ * pinning and selection work on an in-memory model of the rows, which doesn't depend on the DOM.
+ * <p>
  * TODO This class is huge! Try to refactor and break into smaller pieces.
  *
  * @param <T> The column and items type.
  */
 public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
-    private static final String DOT = ".";
+    /** Number of items above which the rows are rendered virtually. */
+    static final int VIRTUAL_THRESHOLD = 250;
+    private static final int DEFAULT_ROW_HEIGHT = 50;
+    private static final int OVERSCAN = 10;
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Logger logger = LoggerFactory.getLogger(FinderColumn.class);
 
@@ -144,7 +147,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private final ItemSelectionHandler<T> selectionHandler;
     private final List<HandlerRegistration> handlers;
     private final Map<String, FinderRow<T>> rows;
+    private final List<FinderRow<T>> orderedRows;
     private final FinderColumnStorage storage;
+    private final HTMLElement topSpacer;
+    private final HTMLElement bottomSpacer;
 
     private boolean asElement;
     private final boolean firstActionAsBreadcrumbHandler;
@@ -155,6 +161,16 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
     private final BreadcrumbItemHandler<T> breadcrumbItemHandler;
 
+    // model of the rows: rows matching the filter, rendered rows (virtual mode only) and the selected row
+    private List<FinderRow<T>> matchingRows;
+    private List<FinderRow<T>> renderedRows;
+    private String filter;
+    private String selectedId;
+    private boolean virtual;
+    private int rowHeight;
+    private boolean rowHeightMeasured;
+    private boolean renderScheduled;
+
     // ------------------------------------------------------ ui
 
     protected FinderColumn(Builder<T> builder) {
@@ -175,6 +191,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         this.asElement = false;
 
         this.rows = new HashMap<>();
+        this.orderedRows = new ArrayList<>();
+        this.matchingRows = new ArrayList<>();
+        this.renderedRows = new ArrayList<>();
+        this.filter = "";
+        this.rowHeight = DEFAULT_ROW_HEIGHT;
         this.storage = new FinderColumnStorage(id);
         this.handlers = new ArrayList<>();
 
@@ -242,6 +263,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         noItems = li().css(empty)
                 .add(span().css(itemText).textContent(CONSTANTS.noItems()))
                 .element();
+
+        // spacers for the virtual mode
+        topSpacer = li().css(spacer).aria(UIConstants.HIDDEN, UIConstants.TRUE).element();
+        bottomSpacer = li().css(spacer).aria(UIConstants.HIDDEN, UIConstants.TRUE).element();
     }
 
     private HTMLElement newColumnButton(ColumnAction<T> action) {
@@ -328,6 +353,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     public void attach() {
         handlers.add(bind(root, keydown, this::onNavigation));
         handlers.add(bind(hiddenColumns, click, event -> finder.revealHiddenColumns(FinderColumn.this)));
+        handlers.add(bind(ulElement, scroll, event -> scheduleRender()));
         if (filterElement != null) {
             handlers.add(bind(filterElement, keydown, this::onNavigation));
             handlers.add(bind(filterElement, keyup, this::onFilter));
@@ -354,28 +380,8 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             Elements.setVisible(clearFilterElement, true);
         }
 
-        int matched = 0;
         String filter = filterElement.value;
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
-            }
-            Object filterData = li.dataset.get(DATA_FILTER);
-            boolean match = filter == null
-                    || filter.trim().length() == 0
-                    || filterData == null
-                    || String.valueOf(filterData).toLowerCase().contains(filter.toLowerCase());
-            Elements.setVisible(li, match);
-            if (match) {
-                matched++;
-            }
-        }
-        updateHeader(matched);
-        if (matched == 0) {
-            Elements.lazyAppend(ulElement, noItems);
-        } else {
-            Elements.failSafeRemove(ulElement, noItems);
-        }
+        applyFilter(filter);
         // when user deletes remaining chars, hide the 'clear' icon
         if (filter != null && filter.trim().length() == 0) {
             Elements.setVisible(clearFilterElement, false);
@@ -384,14 +390,57 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private void clearFilter() {
         filterElement.value = "";
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
+        applyFilter("");
+        Elements.setVisible(clearFilterElement, false);
+    }
+
+    /**
+     * Filters the rows using the in-memory filter data of the rows. Does nothing if the filter didn't change (e.g. for keys
+     * used to navigate).
+     */
+    private void applyFilter(String value) {
+        String newFilter = value == null || value.trim().length() == 0 ? "" : value.toLowerCase();
+        if (!newFilter.equals(filter)) {
+            filterRows(newFilter, true);
+        }
+    }
+
+    /**
+     * If the new filter narrows the previous one, only the rows which matched the previous filter are checked. In virtual mode
+     * the column scrolls to the top if the filter has been changed.
+     */
+    private void filterRows(String newFilter, boolean changed) {
+        List<FinderRow<T>> candidates = changed && !filter.isEmpty() && newFilter.contains(filter)
+                ? matchingRows
+                : orderedRows;
+        List<FinderRow<T>> matching = new ArrayList<>();
+        for (FinderRow<T> row : candidates) {
+            boolean match = newFilter.isEmpty() || row.matches(newFilter);
+            if (match) {
+                matching.add(row);
+            }
+            if (!virtual) {
+                Elements.setVisible(row.element(), match);
             }
-            Elements.setVisible(li, true);
         }
-        Elements.failSafeRemove(ulElement, noItems);
-        Elements.setVisible(clearFilterElement, false);
+        filter = newFilter;
+        matchingRows = matching;
+        if (virtual) {
+            if (changed) {
+                ulElement.scrollTop = 0;
+            }
+            renderWindow();
+        }
+        updateNoItems();
+        updateHeader(matchingRows.size());
+    }
+
+    private void updateNoItems() {
+        if (matchingRows.isEmpty()) {
+            Elements.lazyAppend(ulElement, noItems);
+        } else {
+            Elements.failSafeRemove(ulElement, noItems);
+        }
     }
 
     private void onNavigation(KeyboardEvent event) {
@@ -401,19 +450,15 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
                 case ArrowUp:
                 case ArrowDown: {
-                    HTMLElement activeElement = activeElement();
-                    if (!Elements.isVisible(activeElement)) {
-                        activeElement = null;
-                    }
-                    HTMLElement select = key == ArrowUp
-                            ? previousVisibleElement(activeElement)
-                            : nextVisibleElement(activeElement);
-                    if (select != null && select != noItems) {
+                    FinderRow<T> select = key == ArrowUp
+                            ? previousVisibleRow(activeRow())
+                            : nextVisibleRow(activeRow());
+                    if (select != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        select.scrollIntoView(false);
-                        row(select).click();
+                        showRow(select);
+                        select.click();
                     }
                     break;
                 }
@@ -429,11 +474,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                             Elements.setVisible(previousElement, true);
                             finder.reduceTo(previousColumn);
                             finder.selectColumn(previousColumn.getId());
-                            FinderRow<?> selectedRow = previousColumn.selectedRow();
-                            if (selectedRow != null) {
-                                selectedRow.updatePreview();
-                                selectedRow.element().scrollIntoView(false);
-                            }
+                            previousColumn.showSelectedRow();
                             finder.updateContext();
                             finder.updateHistory();
                         }
@@ -442,20 +483,16 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case ArrowRight: {
-                    HTMLElement activeElement = activeElement();
-                    String nextColumn = row(activeElement).getNextColumn();
-                    if (Elements.isVisible(activeElement) && nextColumn != null) {
+                    FinderRow<T> activeRow = activeRow();
+                    String nextColumn = activeRow != null ? activeRow.getNextColumn() : null;
+                    if (nextColumn != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
                         finder.reduceTo(this);
                         finder.appendColumn(nextColumn)
                                 .then(column -> {
-                                    if (column.activeElement() == null && column.hasVisibleElements()) {
-                                        HTMLElement firstElement = column.nextVisibleElement(null);
-                                        column.markSelected(firstElement.id);
-                                        column.row(firstElement).updatePreview();
-                                    }
+                                    column.selectFirstRow();
                                     finder.updateContext();
                                     finder.updateHistory();
                                     finder.selectColumn(nextColumn);
@@ -471,15 +508,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case Enter: {
-                    HTMLElement activeItem = activeElement();
-                    T item = row(activeItem).getItem();
-                    ItemActionHandler<T> primaryAction = row(activeItem).getPrimaryAction();
-                    if (Elements.isVisible(activeItem) && item != null && primaryAction != null) {
+                    FinderRow<T> activeRow = activeRow();
+                    if (activeRow != null && activeRow.getItem() != null && activeRow.getPrimaryAction() != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        row(activeItem).click();
-                        primaryAction.execute(item);
+                        activeRow.click();
+                        activeRow.getPrimaryAction().execute(activeRow.getItem());
                     }
                     break;
                 }
@@ -500,52 +535,76 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         Elements.setVisible(hiddenColumns, show);
     }
 
-    private HTMLElement activeElement() {
-        return (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
+    /** @return the selected row if it matches the current filter, null otherwise */
+    private FinderRow<T> activeRow() {
+        FinderRow<T> row = selectedRow();
+        return row != null && (filter.isEmpty() || row.matches(filter)) ? row : null;
     }
 
     private boolean hasVisibleElements() {
-        for (HTMLElement element : Elements.children(ulElement)) {
-            if (Elements.isVisible(element) && element != noItems) {
-                return true;
-            }
+        return !matchingRows.isEmpty();
+    }
+
+    private FinderRow<T> previousVisibleRow(FinderRow<T> start) {
+        if (start == null) {
+            return matchingRows.isEmpty() ? null : matchingRows.get(matchingRows.size() - 1);
         }
-        return false;
+        int index = matchingRows.indexOf(start);
+        return index > 0 ? matchingRows.get(index - 1) : null;
     }
 
-    private HTMLElement previousVisibleElement(HTMLElement start) {
-        HTMLElement element = (HTMLElement) (start == null ? ulElement.lastElementChild : start.previousElementSibling);
-        while (element != null && !Elements.isVisible(element)) {
-            element = (HTMLElement) element.previousElementSibling;
+    private FinderRow<T> nextVisibleRow(FinderRow<T> start) {
+        if (start == null) {
+            return matchingRows.isEmpty() ? null : matchingRows.get(0);
         }
-        return element;
+        int index = matchingRows.indexOf(start);
+        return index >= 0 && index < matchingRows.size() - 1 ? matchingRows.get(index + 1) : null;
     }
 
-    private HTMLElement nextVisibleElement(HTMLElement start) {
-        HTMLElement element = (HTMLElement) (start == null ? ulElement.firstElementChild : start.nextElementSibling);
-        while (element != null && !Elements.isVisible(element)) {
-            element = (HTMLElement) element.nextElementSibling;
+    /** Selects the first visible row unless there's already a selected row. */
+    private void selectFirstRow() {
+        if (activeRow() == null && hasVisibleElements()) {
+            FinderRow<T> firstRow = nextVisibleRow(null);
+            markSelected(firstRow.getId());
+            firstRow.updatePreview();
         }
-        return element;
     }
 
     FinderRow<T> row(String itemId) {
         return rows.get(itemId);
     }
 
-    private FinderRow<T> row(Element element) {
-        if (element instanceof HTMLElement) {
-            return row(((HTMLElement) element).id);
+    FinderRow<T> selectedRow() {
+        return selectedId != null ? rows.get(selectedId) : null;
+    }
+
+    /** Updates the preview of the selected row and scrolls the row into view. */
+    void showSelectedRow() {
+        FinderRow<T> selectedRow = selectedRow();
+        if (selectedRow != null) {
+            selectedRow.updatePreview();
+            showRow(selectedRow);
         }
-        return null;
     }
 
-    FinderRow<T> selectedRow() {
-        HTMLElement activeItem = (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
-        if (activeItem != null && rows.containsKey(activeItem.id)) {
-            return rows.get(activeItem.id);
+    void showRow(String itemId) {
+        FinderRow<T> row = rows.get(itemId);
+        if (row != null) {
+            showRow(row);
         }
-        return null;
+    }
+
+    /** Makes sure the row is rendered (if it matches the filter) and scrolls it into view. */
+    void showRow(FinderRow<T> row) {
+        if (virtual && !renderedRows.contains(row)) {
+            int index = matchingRows.indexOf(row);
+            if (index < 0) {
+                return;
+            }
+            ulElement.scrollTop = index * rowHeight;
+            renderWindow();
+        }
+        row.element().scrollIntoView(false);
     }
 
     boolean contains(String itemId) {
@@ -553,20 +612,27 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void markSelected(String itemId) {
-        for (Map.Entry<String, FinderRow<T>> entry : rows.entrySet()) {
-            boolean select = itemId.equals(entry.getKey());
-            entry.getValue().markSelected(select);
-            if (select && selectionHandler != null) {
-                selectionHandler.onSelect(entry.getValue().getItem());
+        FinderRow<T> previous = selectedRow();
+        if (previous != null && !previous.getId().equals(itemId)) {
+            previous.markSelected(false);
+        }
+        FinderRow<T> row = rows.get(itemId);
+        selectedId = row != null ? itemId : null;
+        if (row != null) {
+            row.markSelected(true);
+            if (selectionHandler != null) {
+                selectionHandler.onSelect(row.getItem());
             }
         }
     }
 
     void resetSelection() {
-        HTMLElement element = activeElement();
-        if (element != null) {
-            element.classList.remove(active);
+        FinderRow<T> row = selectedRow();
+        if (row != null) {
+            // reset the selected flag even if the row isn't materialized
+            row.markSelected(false);
         }
+        selectedId = null;
     }
 
     boolean isPinnable() {
@@ -574,76 +640,58 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void unpin(FinderRow<T> row) {
-        row.element().classList.remove(pinned);
-        row.element().classList.add(unpinned);
-
-        // move row to unpinned section
-        ulElement.removeChild(row.element());
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + unpinned);
-        if (nodes.getLength() == 0) {
-            // no unpinned rows append to bottom
-            ulElement.appendChild(row.element());
-        } else {
-            Element before = findPosition(nodes, row);
-            if (before != null) {
-                ulElement.insertBefore(row.element(), before);
-            } else {
-                ulElement.appendChild(row.element());
-            }
-        }
-        adjustPinSeparator();
+        row.markPinned(false);
+        moveRow(row);
         storage.unpinItem(row.getId());
     }
 
     void pin(FinderRow<T> row) {
-        row.element().classList.remove(unpinned);
-        row.element().classList.add(pinned);
-
-        // move row to pinned section
-        ulElement.removeChild(row.element());
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + pinned);
-        if (nodes.getLength() == 0) {
-            // no pinned rows append to top
-            ulElement.insertBefore(row.element(), ulElement.firstChild);
-        } else {
-            Element before = findPosition(nodes, row);
-            if (before != null) {
-                ulElement.insertBefore(row.element(), before);
-            } else {
-                Element firstUnpinned = ulElement.querySelector(DOT + unpinned);
-                if (firstUnpinned != null) {
-                    ulElement.insertBefore(row.element(), firstUnpinned);
-                } else {
-                    ulElement.appendChild(row.element());
-                }
-            }
-        }
-        adjustPinSeparator();
-        row.element().scrollIntoView(false);
+        row.markPinned(true);
+        moveRow(row);
+        showRow(row);
         storage.pinItem(row.getId());
     }
 
-    private Element findPosition(NodeList<Element> nodes, FinderRow<T> row) {
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element currentElement = nodes.item(i);
-            FinderRow<T> currentRow = row(currentElement);
-            if (currentRow.getDisplay().getTitle().compareTo(row.getDisplay().getTitle()) > 0) {
-                return currentElement;
+    /** Moves the row to its sorted position in the pinned / unpinned section and renders the rows again. */
+    private void moveRow(FinderRow<T> row) {
+        orderedRows.remove(row);
+        int position = -1;
+        for (int i = 0; i < orderedRows.size(); i++) {
+            FinderRow<T> current = orderedRows.get(i);
+            if (current.isPinned() == row.isPinned()
+                    && current.getDisplay().getTitle().compareTo(row.getDisplay().getTitle()) > 0) {
+                position = i;
+                break;
+            }
+            if (row.isPinned() && !current.isPinned()) {
+                // end of pinned section
+                position = i;
+                break;
             }
         }
-        return null;
+        if (position == -1) {
+            orderedRows.add(row);
+        } else {
+            orderedRows.add(position, row);
+        }
+        adjustPinSeparator();
+
+        // keep the current filter, but apply it on the new order
+        renderRows();
+        filterRows(filter, false);
     }
 
     private void adjustPinSeparator() {
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + pinned);
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element element = nodes.item(i);
-            if (i == nodes.getLength() - 1) {
-                element.classList.add(last);
-            } else {
-                element.classList.remove(last);
+        FinderRow<T> lastPinned = null;
+        for (FinderRow<T> row : orderedRows) {
+            row.markLast(false);
+            if (row.isPinned()) {
+                lastPinned = row;
             }
         }
+        if (lastPinned != null) {
+            lastPinned.markLast(true);
+        }
     }
 
     Promise<FinderColumn<T>> setItems() {
@@ -667,49 +715,117 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private void setItems(List<T> items) {
         rows.clear();
+        orderedRows.clear();
+        selectedId = null;
         currentItems = items;
-        Elements.removeChildrenFrom(ulElement);
         if (filterElement != null) {
             filterElement.value = "";
         }
 
-        List<T> pinnedItems = new ArrayList<>();
-        List<T> unpinnedItems = new ArrayList<>();
-        Set<String> pinnedItemIds = storage.pinnedItems();
-        if (pinnable && !pinnedItemIds.isEmpty()) {
-            for (T item : items) {
-                String id = itemRenderer.render(item).getId();
-                if (pinnedItemIds.contains(id)) {
-                    pinnedItems.add(item);
-                } else {
-                    unpinnedItems.add(item);
-                }
+        // render each item only once and put the pinned items first
+        List<FinderRow<T>> unpinnedRows = new ArrayList<>();
+        Set<String> pinnedItemIds = pinnable ? storage.pinnedItems() : Collections.emptySet();
+        for (T item : items) {
+            ItemDisplay<T> display = itemRenderer.render(item);
+            boolean pinned = pinnedItemIds.contains(Strings.sanitize(display.getId()))
+                    || pinnedItemIds.contains(display.getId());
+            FinderRow<T> row = new FinderRow<>(finder, this, item, pinned, display, previewCallback);
+            rows.put(row.getId(), row);
+            if (pinned) {
+                orderedRows.add(row);
+            } else {
+                unpinnedRows.add(row);
             }
-        } else {
-            unpinnedItems.addAll(items);
         }
-        for (Iterator<T> iterator = pinnedItems.iterator(); iterator.hasNext();) {
-            T item = iterator.next();
-            FinderRow<T> row = new FinderRow<>(finder, this, item, true,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-            if (!iterator.hasNext()) {
-                row.element().classList.add(last);
+        orderedRows.addAll(unpinnedRows);
+        adjustPinSeparator();
+
+        filter = "";
+        matchingRows = new ArrayList<>(orderedRows);
+        virtual = orderedRows.size() > VIRTUAL_THRESHOLD;
+        ulElement.scrollTop = 0;
+        renderRows();
+        updateHeader(items.size());
+        if (!virtual) {
+            initTooltips();
+        }
+    }
+
+    /** Adds the row elements to the DOM: all rows in the normal mode, only the visible rows in the virtual mode. */
+    private void renderRows() {
+        Elements.removeChildrenFrom(ulElement);
+        renderedRows.clear();
+        if (virtual) {
+            ulElement.appendChild(topSpacer);
+            ulElement.appendChild(bottomSpacer);
+            renderWindow();
+        } else {
+            for (FinderRow<T> row : orderedRows) {
+                ulElement.appendChild(row.element());
             }
         }
-        for (T item : unpinnedItems) {
-            FinderRow<T> row = new FinderRow<>(finder, this, item, false,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
+        updateNoItems();
+    }
+
+    private void scheduleRender() {
+        if (virtual && !renderScheduled) {
+            renderScheduled = true;
+            DomGlobal.requestAnimationFrame(timestamp -> {
+                renderScheduled = false;
+                renderWindow();
+            });
         }
-        updateHeader(items.size());
-        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
+    }
 
-        if (items.isEmpty()) {
-            ulElement.appendChild(noItems);
+    /** Renders the matching rows in and around the visible part of the column (virtual mode only). */
+    private void renderWindow() {
+        if (!virtual) {
+            return;
         }
+        int visibleRows = ulElement.clientHeight > 0 ? (int) Math.ceil(ulElement.clientHeight / (double) rowHeight)
+                : 2 * OVERSCAN;
+        int first = Math.max(0, (int) (ulElement.scrollTop / rowHeight) - OVERSCAN);
+        int last = Math.min(matchingRows.size(), first + visibleRows + 2 * OVERSCAN);
+        if (first > last) {
+            first = Math.max(0, last - visibleRows - 2 * OVERSCAN);
+        }
+
+        List<FinderRow<T>> window = new ArrayList<>(matchingRows.subList(first, last));
+        if (!window.equals(renderedRows)) {
+            for (FinderRow<T> row : renderedRows) {
+                Elements.failSafeRemove(ulElement, row.element());
+            }
+            List<FinderRow<T>> added = new ArrayList<>();
+            for (FinderRow<T> row : window) {
+                if (!row.isMaterialized()) {
+                    added.add(row);
+                }
+                ulElement.insertBefore(row.element(), bottomSpacer);
+            }
+            renderedRows = window;
+            for (FinderRow<T> row : added) {
+                Tooltip.select(HASH + row.getId() + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]") // NON-NLS
+                        .init();
+            }
+        }
+        topSpacer.style.height = CSSProperties.HeightUnionType.of(first * rowHeight + "px"); // NON-NLS
+        bottomSpacer.style.height = CSSProperties.HeightUnionType.of(
+                (matchingRows.size() - last) * rowHeight + "px"); // NON-NLS
+
+        if (!rowHeightMeasured && !renderedRows.isEmpty()) {
+            int measured = renderedRows.get(0).element().offsetHeight;
+            if (measured > 0) {
+                rowHeightMeasured = true;
+                if (measured != rowHeight) {
+                    rowHeight = measured;
+                    renderWindow();
+                }
+            }
+        }
+    }
+
+    private void initTooltips() {
+        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
     }
 
     /**
@@ -881,7 +997,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                         FinderRow<T> updatedRow = rows.get(oldRow.getId());
                         if (updatedRow != null) {
                             updatedRow.click();
-                            updatedRow.element().scrollIntoView(false);
+                            showRow(updatedRow);
                         } else {
                             finder.selectPreviousColumn(id);
                         }
@@ -69,7 +69,12 @@ import static org.jboss.hal.resources.Names.NOT_AVAILABLE;
 import static org.jboss.hal.resources.UIConstants.HASH;
 import static org.jboss.hal.resources.UIConstants.data;
 
-/** UI class for a single row in in a finder column. Only used internally in the finder. */
+/**
+ * UI class for a single row in in a finder column. Only used internally in the finder.
+ * <p>
+ * The DOM element and the preview content are created lazily. This allows columns with thousands of items to only materialize
+ * the rows which are actually visible.
+ */
 class FinderRow<T> implements IsElement<HTMLLIElement> {
 
     private static final Constants CONSTANTS = GWT.create(Constants.class);
@@ -82,9 +87,14 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     private final List<ItemAction<T>> actions;
     private final String nextColumn;
     private ItemActionHandler<T> primaryAction;
-    private final PreviewContent<T> previewContent;
+    private final PreviewCallback<T> previewCallback;
+    private final String filterData;
+    private PreviewContent<T> previewContent;
     private String id;
     private T item;
+    private boolean pinned;
+    private boolean last;
+    private boolean selected;
 
     private HTMLLIElement root;
     private HTMLElement folderElement;
@@ -103,19 +113,12 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         this.nextColumn = display.nextColumn();
         this.id = Strings.sanitize(display.getId());
         this.primaryAction = actions.isEmpty() ? null : actions.get(0).handler;
-        this.previewContent = previewCallback != null ? previewCallback.onPreview(item)
-                : new PreviewContent<>(
-                        display.getTitle());
-
-        root = li().element();
-        folderElement = null;
-        if (column.isPinnable()) {
-            root.className = pinned ? CSS.pinned : unpinned;
-        }
-        root.classList.add(finderItem);
+        this.previewCallback = previewCallback;
+        // TODO getFilterData() causes a ReferenceError in SuperDevMode WTF?
+        String filterData = display.getFilterData();
+        this.filterData = filterData != null ? filterData.toLowerCase() : null;
+        this.pinned = pinned;
         updateItem(item);
-        drawItem();
-        bind(root, click, event -> onClick(((HTMLElement) event.target)));
     }
 
     private List<ItemAction<T>> allowedActions(List<ItemAction<T>> actions) {
@@ -145,7 +148,6 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         Elements.removeChildrenFrom(root);
         root.id = id;
         root.dataset.set(DATA_BREADCRUMB, display.getTitle());
-        // TODO getFilterData() causes a ReferenceError in SuperDevMode WTF?
         if (display.getFilterData() != null) {
             root.dataset.set(DATA_FILTER, display.getFilterData());
         }
@@ -282,6 +284,10 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     }
 
     void markSelected(boolean select) {
+        selected = select;
+        if (root == null) {
+            return;
+        }
         if (select) {
             root.classList.add(active);
             if (buttonContainer != null) {
@@ -297,6 +303,10 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     }
 
     void updatePreview() {
+        if (previewContent == null) {
+            previewContent = previewCallback != null ? previewCallback.onPreview(item)
+                    : new PreviewContent<>(display.getTitle());
+        }
         if (isSelected()) {
             finder.showPreview(previewContent);
         }
@@ -310,8 +320,53 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         return column.selectedRow() != null && column.selectedRow().getId().equals(id);
     }
 
+    void markPinned(boolean pinned) {
+        this.pinned = pinned;
+        if (root != null) {
+            root.classList.remove(pinned ? unpinned : CSS.pinned);
+            root.classList.add(pinned ? CSS.pinned : unpinned);
+        }
+    }
+
+    void markLast(boolean last) {
+        this.last = last;
+        if (root != null) {
+            if (last) {
+                root.classList.add(CSS.last);
+            } else {
+                root.classList.remove(CSS.last);
+            }
+        }
+    }
+
+    /**
+     * @param filter the lower case filter
+     * @return true if this row matches the specified filter. Rows without filter data match every filter.
+     */
+    boolean matches(String filter) {
+        return filterData == null || filterData.contains(filter);
+    }
+
+    boolean isMaterialized() {
+        return root != null;
+    }
+
     @Override
     public HTMLLIElement element() {
+        if (root == null) {
+            root = li().element();
+            folderElement = null;
+            if (column.isPinnable()) {
+                root.className = pinned ? CSS.pinned : unpinned;
+                if (last) {
+                    root.classList.add(CSS.last);
+                }
+            }
+            root.classList.add(finderItem);
+            drawItem();
+            markSelected(selected);
+            bind(root, click, event -> onClick(((HTMLElement) event.target)));
+        }
         return root;
     }
 
@@ -333,6 +388,10 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         return item;
     }
 
+    boolean isPinned() {
+        return pinned;
+    }
+
     ItemDisplay<T> getDisplay() {
         return display;
     }
@@ -0,0 +1,196 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Executes one request per host with a bounded number of requests in flight.
+ * <p>
+ * Results are reported as soon as a host responds, so callers can merge and render them incrementally instead of waiting for
+ * the slowest host. Optionally each host gets its own timeout (see {@link #timeout(long)}): a disconnected or blocked host then
+ * times out on its own and frees its slot for the next host. Timeouts are meant for background tasks like scanners and pollers.
+ * Interactive reads shouldn't use them, since a slow but healthy host would be reported as failed. The promise returned by
+ * {@link #run()} never rejects. It resolves once every host has either responded, failed or timed out.
+ *
+ * @param <T> the type of the per-host result
+ */
+public class HostFanOut<T> {
+
+    /** Matches the number of parallel connections browsers open per origin. */
+    public static final int MAX_CONCURRENT_HOSTS = 6;
+    /** The timeout recommended for background tasks. */
+    public static final long HOST_TIMEOUT = 5_000; // milli seconds
+    public static final String TIMEOUT_ERROR = "hostFanOut.timeout";
+    private static final Logger logger = LoggerFactory.getLogger(HostFanOut.class);
+
+    private final List<String> hosts;
+    private final Function<String, Promise<T>> request;
+    private int concurrency;
+    private long timeout;
+    private BiConsumer<String, T> onResult;
+    private BiConsumer<String, String> onFailure;
+    private final Slots slots;
+
+    public HostFanOut(List<String> hosts, Function<String, Promise<T>> request) {
+        this.hosts = hosts;
+        this.request = request;
+        this.concurrency = MAX_CONCURRENT_HOSTS;
+        this.timeout = 0;
+        this.onResult = (host, result) -> {
+        };
+        this.onFailure = (host, reason) -> {
+        };
+        this.slots = new Slots(hosts.size());
+    }
+
+    /** The maximal number of hosts which are requested at the same time. Defaults to {@value #MAX_CONCURRENT_HOSTS}. */
+    public HostFanOut<T> concurrency(int concurrency) {
+        this.concurrency = max(1, concurrency);
+        return this;
+    }
+
+    /** The timeout in milliseconds for each host. Defaults to 0, which means no timeout. */
+    public HostFanOut<T> timeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /** Called for each host as soon as its request was successful. */
+    public HostFanOut<T> onResult(BiConsumer<String, T> onResult) {
+        this.onResult = onResult;
+        return this;
+    }
+
+    /**
+     * Called for each host whose request failed or timed out. In case of a timeout the reason is {@link #TIMEOUT_ERROR}.
+     */
+    public HostFanOut<T> onFailure(BiConsumer<String, String> onFailure) {
+        this.onFailure = onFailure;
+        return this;
+    }
+
+    public Promise<Void> run() {
+        return new Promise<>((resolve, reject) -> {
+            if (hosts.isEmpty()) {
+                resolve.onInvoke((Void) null);
+            } else {
+                int workers = min(concurrency, hosts.size());
+                for (int i = 0; i < workers; i++) {
+                    startNext(resolve);
+                }
+            }
+        });
+    }
+
+    private void startNext(ResolveCallbackFn<Void> resolve) {
+        if (!slots.hasNext()) {
+            if (slots.finished()) {
+                resolve.onInvoke((Void) null);
+            }
+            return;
+        }
+
+        String host = hosts.get(slots.next());
+        boolean[] settled = { false };
+        double handle = timeout > 0 ? setTimeout(__ -> {
+            if (!settled[0]) {
+                settled[0] = true;
+                logger.warn("Request for host {} timed out after {} ms", host, timeout);
+                finish(resolve, () -> onFailure.accept(host, TIMEOUT_ERROR));
+            }
+        }, timeout) : 0;
+
+        request.apply(host)
+                .then(result -> {
+                    if (!settled[0]) {
+                        settled[0] = true;
+                        clearTimeout(handle);
+                        finish(resolve, () -> onResult.accept(host, result));
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    if (!settled[0]) {
+                        settled[0] = true;
+                        clearTimeout(handle);
+                        finish(resolve, () -> onFailure.accept(host, String.valueOf(error)));
+                    } else {
+                        logger.error("Unable to process the result of host {}: {}", host, error);
+                    }
+                    return null;
+                });
+    }
+
+    private void finish(ResolveCallbackFn<Void> resolve, Runnable callback) {
+        try {
+            slots.release(callback);
+        } finally {
+            startNext(resolve);
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /** Keeps track of the hosts in flight. A slot is released even if the callback of its host throws an exception. */
+    static class Slots {
+
+        private final int size;
+        private int next;
+        private int pending;
+
+        Slots(int size) {
+            this.size = size;
+            this.next = 0;
+            this.pending = 0;
+        }
+
+        boolean hasNext() {
+            return next < size;
+        }
+
+        /** Occupies a slot and returns the index of the next host. */
+        int next() {
+            pending++;
+            return next++;
+        }
+
+        void release(Runnable callback) {
+            try {
+                callback.run();
+            } finally {
+                pending--;
+            }
+        }
+
+        boolean finished() {
+            return next >= size && pending == 0;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.elemento.IsElement;
+import org.jboss.hal.ballroom.Attachable;
+import org.jboss.hal.ballroom.chart.TimeSeries;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.lang.Math.min;
+import static java.util.Arrays.asList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+
+/**
+ * Samples runtime attributes on a fixed schedule and keeps their history in {@link TimeSeries}.
+ * <p>
+ * Previews register the {@linkplain Metric metrics} they want to show and unregister them when they're detached. Use
+ * {@link #sampling(IsElement)} to get a {@link Sampling} which takes care of that. The metrics of
+ * all active registrations are folded into one composite operation per tick. Metrics which read the same attribute share one
+ * step. So showing a few charts doesn't multiply the number of requests sent to the domain controller. The sampler only runs
+ * while there are registrations and skips ticks while the browser tab is hidden.
+ * <p>
+ * The composite operation doesn't roll back on runtime failures and the outcome of each step is checked individually: a failed
+ * step just leaves a gap in the series of its metric. If the composite operation fails as a whole nevertheless, e.g. because a
+ * server has been stopped, the registrations of this tick are sampled one by one, so that the failure of one registration
+ * doesn't block the others. Registrations which can't be sampled on their own are quarantined: they are no longer part of the
+ * composite operation, but sampled on their own with an increasing number of skipped ticks, until they succeed again.
+ */
+public class MetricsSampler {
+
+    /** The default interval between two samples in milliseconds. */
+    public static final long INTERVAL = 5_000;
+
+    /** The default number of samples kept per metric: five minutes at the default interval. */
+    public static final int CAPACITY = 60;
+
+    /** The maximal number of ticks a quarantined registration is skipped. */
+    static final int MAX_SKIP = 7;
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsSampler.class);
+
+    private final Dispatcher dispatcher;
+    private final List<Registration> registrations;
+    private double handle;
+    private boolean sampling;
+
+    @Inject
+    public MetricsSampler(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.registrations = new ArrayList<>();
+        this.handle = 0;
+        this.sampling = false;
+    }
+
+    // ------------------------------------------------------ API
+
+    /**
+     * Registers the metrics and starts sampling. The first sample is taken right away.
+     *
+     * @param callback called after each sample of the registered metrics
+     */
+    public Registration register(Runnable callback, Metric first, Metric... rest) {
+        List<Metric> metrics = new ArrayList<>();
+        metrics.add(first);
+        if (rest != null) {
+            metrics.addAll(asList(rest));
+        }
+        Registration registration = new Registration(metrics, callback);
+        registrations.add(registration);
+        if (!sampling) {
+            // sample now rather than at the end of the current interval
+            if (handle != 0) {
+                clearTimeout(handle);
+                handle = 0;
+            }
+            schedule(0);
+        }
+        return registration;
+    }
+
+    /**
+     * Returns a sampling which is bound to the element showing the samples. Register the sampling as {@link Attachable} of the
+     * preview: it's started when the preview is attached and stopped when the preview is detached or the element is no longer
+     * part of the document.
+     */
+    public Sampling sampling(IsElement<?> element) {
+        return new Sampling(element);
+    }
+
+    // ------------------------------------------------------ internals
+
+    private void schedule(long delay) {
+        if (handle == 0 && !sampling && !registrations.isEmpty()) {
+            handle = setTimeout(__ -> tick(), delay);
+        }
+    }
+
+    private void tick() {
+        handle = 0;
+        if (registrations.isEmpty()) {
+            return;
+        }
+        if (document.hidden) {
+            schedule(INTERVAL);
+            return;
+        }
+
+        List<Registration> pending = new ArrayList<>();
+        List<Registration> quarantined = new ArrayList<>();
+        for (Registration registration : registrations) {
+            if (!registration.quarantined()) {
+                pending.add(registration);
+            } else if (registration.due()) {
+                quarantined.add(registration);
+            }
+        }
+        if (pending.isEmpty() && quarantined.isEmpty()) {
+            schedule(INTERVAL);
+            return;
+        }
+
+        // one step per distinct attribute
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        for (Registration registration : pending) {
+            for (Metric metric : registration.metrics) {
+                operations.putIfAbsent(metric.key, metric.operation);
+            }
+        }
+        List<String> keys = new ArrayList<>(operations.keySet());
+        long timestamp = System.currentTimeMillis();
+
+        sampling = true;
+        Promise<Void> promise;
+        if (pending.isEmpty()) {
+            promise = Promise.resolve((Void) null);
+        } else {
+            promise = dispatcher.execute(new Composite(new ArrayList<>(operations.values()))
+                    .addHeader(ROLLBACK_ON_RUNTIME_FAILURE, false))
+                    .then(compositeResult -> {
+                        Map<String, ModelNode> results = new HashMap<>();
+                        for (int i = 0; i < keys.size(); i++) {
+                            ModelNode step = compositeResult.step(i);
+                            if (step.isFailure()) {
+                                logger.debug("Unable to sample {}: {}", keys.get(i), step.getFailureDescription());
+                            } else {
+                                results.put(keys.get(i), step.get(RESULT));
+                            }
+                        }
+                        for (Registration registration : pending) {
+                            registration.sample(timestamp, results);
+                        }
+                        return Promise.resolve((Void) null);
+                    })
+                    .catch_(error -> {
+                        logger.debug("Sampling {} metrics failed: {}. Sample {} registrations one by one", keys.size(),
+                                error, pending.size());
+                        return sampleEach(timestamp, pending);
+                    });
+        }
+        if (!quarantined.isEmpty()) {
+            promise = promise.then(__ -> sampleEach(timestamp, quarantined));
+        }
+        promise.finally_(() -> {
+            sampling = false;
+            schedule(INTERVAL);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Promise<Void> sampleEach(long timestamp, List<Registration> pending) {
+        Promise<Void>[] promises = new Promise[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            Registration registration = pending.get(i);
+            List<Operation> operations = new ArrayList<>();
+            for (Metric metric : registration.metrics) {
+                operations.add(metric.operation);
+            }
+            promises[i] = dispatcher.execute(new Composite(operations))
+                    .then((CompositeResult compositeResult) -> {
+                        Map<String, ModelNode> results = new HashMap<>();
+                        for (int j = 0; j < registration.metrics.size(); j++) {
+                            results.put(registration.metrics.get(j).key, compositeResult.step(j).get(RESULT));
+                        }
+                        registration.release();
+                        registration.sample(timestamp, results);
+                        return Promise.resolve((Void) null);
+                    })
+                    .catch_(error -> {
+                        // no sample for this registration: the series just has a gap
+                        logger.debug("Unable to sample metrics: {}", error);
+                        registration.failed();
+                        return Promise.resolve((Void) null);
+                    });
+        }
+        return Promise.all(promises).then(__ -> Promise.resolve((Void) null));
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /**
+     * A numeric runtime attribute and its history. Use a path to sample a nested value of a complex attribute like the
+     * {@code used} value of {@code heap-memory-usage}.
+     */
+    public static class Metric {
+
+        private final Operation operation;
+        private final String key;
+        private final String[] path;
+        private final TimeSeries series;
+
+        public Metric(ResourceAddress address, String attribute, String... path) {
+            this(CAPACITY, address, attribute, path);
+        }
+
+        public Metric(int capacity, ResourceAddress address, String attribute, String... path) {
+            this.operation = new Operation.Builder(address, READ_ATTRIBUTE_OPERATION)
+                    .param(NAME, attribute)
+                    .build();
+            this.key = operation.asCli();
+            this.path = path;
+            this.series = new TimeSeries(capacity);
+        }
+
+        public TimeSeries series() {
+            return series;
+        }
+
+        private void sample(long timestamp, ModelNode result) {
+            ModelNode node = result;
+            if (node != null) {
+                for (String segment : path) {
+                    node = node.get(segment);
+                }
+            }
+            if (node != null && node.isDefined()) {
+                series.add(timestamp, node.asDouble());
+            }
+        }
+    }
+
+    /** The handle returned by {@link #register(Runnable, Metric, Metric...)}. */
+    public class Registration {
+
+        private final List<Metric> metrics;
+        private final Runnable callback;
+        private int failures;
+        private int skip;
+
+        private Registration(List<Metric> metrics, Runnable callback) {
+            this.metrics = metrics;
+            this.callback = callback;
+            this.failures = 0;
+            this.skip = 0;
+        }
+
+        /** Stops sampling the metrics of this registration. The history of the metrics is kept. */
+        public void unregister() {
+            registrations.remove(this);
+            if (registrations.isEmpty() && handle != 0) {
+                clearTimeout(handle);
+                handle = 0;
+            }
+        }
+
+        private boolean quarantined() {
+            return failures > 0;
+        }
+
+        /** Must be called once per tick for quarantined registrations. */
+        private boolean due() {
+            if (skip > 0) {
+                skip--;
+                return false;
+            }
+            return true;
+        }
+
+        /** Skips the next 0, 1, 3, 7, ... ticks up to {@value MetricsSampler#MAX_SKIP}. */
+        private void failed() {
+            skip = min(MAX_SKIP, (1 << min(failures, 3)) - 1);
+            failures++;
+        }
+
+        private void release() {
+            failures = 0;
+            skip = 0;
+        }
+
+        private void sample(long timestamp, Map<String, ModelNode> results) {
+            if (registrations.contains(this)) {
+                for (Metric metric : metrics) {
+                    metric.sample(timestamp, results.get(metric.key));
+                }
+                callback.run();
+            }
+        }
+    }
+
+    /** Samples a set of metrics while an element is attached. See {@link #sampling(IsElement)}. */
+    public class Sampling implements Attachable {
+
+        private final IsElement<?> element;
+        private List<Metric> metrics;
+        private Runnable callback;
+        private Registration registration;
+
+        private Sampling(IsElement<?> element) {
+            this.element = element;
+        }
+
+        @Override
+        public void attach() {
+            start();
+        }
+
+        @Override
+        public void detach() {
+            stop();
+        }
+
+        /**
+         * Starts sampling the metrics. If other metrics are sampled already, they are replaced. Calling this method again with
+         * the same metrics is a no-op.
+         *
+         * @param callback called after each sample of the metrics
+         */
+        public void start(Runnable callback, Metric first, Metric... rest) {
+            List<Metric> metrics = new ArrayList<>();
+            metrics.add(first);
+            if (rest != null) {
+                metrics.addAll(asList(rest));
+            }
+            if (registration != null && metrics.equals(this.metrics)) {
+                return;
+            }
+            stop();
+            this.metrics = metrics;
+            this.callback = callback;
+            start();
+        }
+
+        /** Stops sampling. The metrics are kept and sampling is resumed when the element is attached again. */
+        public void stop() {
+            if (registration != null) {
+                registration.unregister();
+                registration = null;
+            }
+        }
+
+        private void start() {
+            if (registration == null && metrics != null) {
+                Metric first = metrics.get(0);
+                Metric[] rest = metrics.subList(1, metrics.size()).toArray(new Metric[0]);
+                registration = register(() -> {
+                    // the finder doesn't detach the preview if we navigate to an application view
+                    if (!document.body.contains(element.element())) {
+                        stop();
+                        return;
+                    }
+                    callback.run();
+                }, first, rest);
+            }
+        }
+    }
+}
@@ -22,4 +22,5 @@ import com.gwtplatform.dispatch.annotation.Order;
 public class NonProgressingOperation {
 
     @Order(1) boolean nonProgressingOperation;
+    @Order(2) NonProgressingOperationScanner.Scan scan;
 }
@@ -0,0 +1,318 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.runtime.host.Host;
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.EventBus;
+
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.MANAGEMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVICE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+
+/**
+ * Periodically looks for non-progressing management operations and fires a {@link NonProgressingOperationEvent} after each
+ * scan.
+ * <p>
+ * In domain mode the scan is sharded by host: each host gets its own composite operation. The composites are executed in
+ * parallel using {@link HostFanOut}, so a large domain doesn't result in one huge composite and a blocked host doesn't delay
+ * the others. The host controllers are checked in every scan. Running servers are only checked if
+ * <ul>
+ * <li>their state has changed since they were last scanned successfully,</li>
+ * <li>they had a non-progressing operation in the last scan, or</li>
+ * <li>this is a full scan, which happens every {@value #FULL_SCAN}th time.</li>
+ * </ul>
+ * Hosts and running servers are taken from the {@link TopologyStore}. The scanner uses the background accessors, so it doesn't
+ * keep the store's poll alive. The store reads hosts and running servers at most once every {@value TopologyStore#MAX_AGE} ms
+ * for the scanner. The composites don't roll back on failures, so a server
+ * which can't be scanned (e.g. because it's starting or stopping) doesn't hide its siblings. Servers which failed or whose
+ * host failed are scanned again in the next scan.
+ */
+public class NonProgressingOperationScanner {
+
+    static final int FULL_SCAN = 10;
+    private static final ResourceAddress MANAGEMENT_OPERATIONS_ADDRESS = new ResourceAddress()
+            .add(CORE_SERVICE, MANAGEMENT)
+            .add(SERVICE, MANAGEMENT_OPERATIONS);
+    private static final Logger logger = LoggerFactory.getLogger(NonProgressingOperationScanner.class);
+
+    private final Environment environment;
+    private final Dispatcher dispatcher;
+    private final EventBus eventBus;
+    private final TopologyStore topologyStore;
+    private final Map<String, String> serverStates;
+    private final Set<String> nonProgressingServers;
+    private long interval;
+    private double handle;
+    private int scans;
+    private boolean running;
+    private Scan lastScan;
+
+    @Inject
+    public NonProgressingOperationScanner(Environment environment, Dispatcher dispatcher, EventBus eventBus,
+            TopologyStore topologyStore) {
+        this.environment = environment;
+        this.dispatcher = dispatcher;
+        this.eventBus = eventBus;
+        this.topologyStore = topologyStore;
+        this.serverStates = new HashMap<>();
+        this.nonProgressingServers = new HashSet<>();
+        this.interval = 0;
+        this.handle = 0;
+        this.scans = 0;
+        this.running = false;
+        this.lastScan = null;
+    }
+
+    // ------------------------------------------------------ API
+
+    /** Starts scanning. The first scan runs after the specified interval in milliseconds. */
+    public void start(long interval) {
+        stop();
+        this.interval = interval;
+        this.running = true;
+        schedule();
+    }
+
+    public void stop() {
+        running = false;
+        if (handle != 0) {
+            clearTimeout(handle);
+            handle = 0;
+        }
+    }
+
+    /** The result of the last scan or {@code null} if there was no scan yet. */
+    public Scan lastScan() {
+        return lastScan;
+    }
+
+    // ------------------------------------------------------ scan
+
+    private void schedule() {
+        if (running && handle == 0) {
+            handle = setTimeout(__ -> {
+                handle = 0;
+                scan().then(scan -> {
+                    lastScan = scan;
+                    logger.debug("Non-progressing operation scan: {}", scan);
+                    eventBus.fireEvent(new NonProgressingOperationEvent(scan.getNonProgressing() > 0, scan));
+                    return null;
+                }).catch_(error -> {
+                    logger.error("Unable to scan for non-progressing operations: {}", error);
+                    return null;
+                }).finally_(this::schedule);
+            }, interval);
+        }
+    }
+
+    private Promise<Scan> scan() {
+        long start = System.currentTimeMillis();
+        if (environment.isStandalone()) {
+            Operation operation = new Operation.Builder(new ResourceAddress().add(MANAGEMENT_OPERATIONS_ADDRESS),
+                    FIND_NON_PROGRESSING_OPERATION).build();
+            return dispatcher.execute(operation).then(result -> {
+                int nonProgressing = result != null && result.isDefined() ? 1 : 0;
+                return Promise.resolve(new Scan(start, 0, 0, 0, 0, nonProgressing));
+            });
+        } else {
+            boolean full = scans++ % FULL_SCAN == 0;
+            return topologyStore.backgroundHosts()
+                    .then(hosts -> topologyStore.backgroundRunningServers()
+                            .then(servers -> scanDomain(start, full, hosts, servers)));
+        }
+    }
+
+    private Promise<Scan> scanDomain(long start, boolean full, List<Host> hosts, List<Server> servers) {
+        // decide which servers to scan
+        Map<String, List<Server>> serversByHost = new LinkedHashMap<>();
+        Map<String, String> currentStates = new HashMap<>();
+        int skipped = 0;
+        for (Server server : servers) {
+            String state = server.getServerState() + "/" + server.getSuspendState();
+            currentStates.put(server.getId(), state);
+            if (full || !state.equals(serverStates.get(server.getId()))
+                    || nonProgressingServers.contains(server.getId())) {
+                serversByHost.computeIfAbsent(server.getHost(), host -> new ArrayList<>()).add(server);
+            } else {
+                skipped++;
+            }
+        }
+        // the states are recorded once the servers have been scanned successfully
+        serverStates.keySet().retainAll(currentStates.keySet());
+        nonProgressingServers.retainAll(currentStates.keySet());
+
+        List<String> hostNames = new ArrayList<>();
+        for (Host host : hosts) {
+            if (host.isAlive()) {
+                hostNames.add(host.getAddressName());
+            }
+        }
+        int[] counts = new int[3]; // scanned servers, failed hosts, non-progressing operations
+        int skippedServers = skipped;
+        return new HostFanOut<CompositeResult>(hostNames, host -> {
+            List<Server> serversOfHost = serversByHost.getOrDefault(host, emptyList());
+            List<Operation> operations = new ArrayList<>();
+            operations.add(new Operation.Builder(new ResourceAddress().add(HOST, host).add(MANAGEMENT_OPERATIONS_ADDRESS),
+                    FIND_NON_PROGRESSING_OPERATION).build());
+            for (Server server : serversOfHost) {
+                ResourceAddress address = new ResourceAddress()
+                        .add(HOST, host)
+                        .add(SERVER, server.getName())
+                        .add(MANAGEMENT_OPERATIONS_ADDRESS);
+                operations.add(new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build());
+            }
+            return dispatcher.execute(new Composite(operations).addHeader(ROLLBACK_ON_RUNTIME_FAILURE, false));
+        })
+                .timeout(HostFanOut.HOST_TIMEOUT)
+                .onResult((host, result) -> {
+                    List<Server> serversOfHost = serversByHost.getOrDefault(host, emptyList());
+                    if (isDefined(result.step(0))) {
+                        counts[2]++;
+                    }
+                    for (int i = 0; i < serversOfHost.size(); i++) {
+                        String id = serversOfHost.get(i).getId();
+                        ModelNode step = result.step(i + 1);
+                        if (!SUCCESS.equals(step.get(OUTCOME).asString())) {
+                            logger.debug("Unable to scan server {} for non-progressing operations: {}", id, step);
+                            serverStates.remove(id);
+                            continue;
+                        }
+                        counts[0]++;
+                        serverStates.put(id, currentStates.get(id));
+                        if (isDefined(step)) {
+                            counts[2]++;
+                            nonProgressingServers.add(id);
+                        } else {
+                            nonProgressingServers.remove(id);
+                        }
+                    }
+                })
+                .onFailure((host, reason) -> {
+                    logger.warn("Unable to scan host {} for non-progressing operations: {}", host, reason);
+                    counts[1]++;
+                    for (Server server : serversByHost.getOrDefault(host, emptyList())) {
+                        serverStates.remove(server.getId());
+                    }
+                })
+                .run()
+                .then(__ -> Promise.resolve(new Scan(start, hostNames.size(), counts[0], skippedServers, counts[1],
+                        counts[2])));
+    }
+
+    private boolean isDefined(ModelNode step) {
+        ModelNode result = step.get(RESULT);
+        return result != null && result.isDefined();
+    }
+
+    // ------------------------------------------------------ scan result
+
+    /** The result of one scan. */
+    public static class Scan {
+
+        private final long timestamp;
+        private final long latency;
+        private final int hosts;
+        private final int servers;
+        private final int skippedServers;
+        private final int failedHosts;
+        private final int nonProgressing;
+
+        Scan(long start, int hosts, int servers, int skippedServers, int failedHosts, int nonProgressing) {
+            this.timestamp = System.currentTimeMillis();
+            this.latency = timestamp - start;
+            this.hosts = hosts;
+            this.servers = servers;
+            this.skippedServers = skippedServers;
+            this.failedHosts = failedHosts;
+            this.nonProgressing = nonProgressing;
+        }
+
+        @Override
+        public String toString() {
+            return "Scan(" + latency + " ms, hosts: " + hosts + ", servers: " + servers + ", skipped servers: " +
+                    skippedServers + ", failed hosts: " + failedHosts + ", non-progressing: " + nonProgressing + ")";
+        }
+
+        /** When the scan finished. */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        /** How long the scan took in milliseconds. */
+        public long getLatency() {
+            return latency;
+        }
+
+        /** The number of scanned hosts. Always 0 in standalone mode. */
+        public int getHosts() {
+            return hosts;
+        }
+
+        /** The number of successfully scanned servers. Always 0 in standalone mode. */
+        public int getServers() {
+            return servers;
+        }
+
+        /** The number of servers which were not scanned, because their state didn't change. */
+        public int getSkippedServers() {
+            return skippedServers;
+        }
+
+        /** The number of hosts which failed or timed out. */
+        public int getFailedHosts() {
+            return failedHosts;
+        }
+
+        /** The number of host controllers and servers with a non-progressing operation. */
+        public int getNonProgressing() {
+            return nonProgressing;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.FlowStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.lang.Math.min;
+import static java.util.Collections.singletonList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+
+/**
+ * Polls the runtime state of servers, server groups and hosts after lifecycle operations until a specific condition is met or a
+ * timeout occurs.
+ * <p>
+ * Unlike {@link TimeoutHandler} which starts one polling loop per call, this class keeps a single registry of pending checks.
+ * All pending checks are folded into one composite operation per tick. Checks which read the same attribute share one step. The
+ * interval starts at {@value #FAST_INTERVAL} ms whenever a new check is registered and backs off to {@value #SLOW_INTERVAL} ms.
+ * So the number of requests doesn't depend on the number of pending servers.
+ * <p>
+ * The composite operation doesn't roll back on runtime failures and the outcome of each step is checked individually. If the
+ * composite operation fails as a whole nevertheless, the operations of this tick are executed one by one, so that the failure
+ * of one check doesn't block the others. Operations which failed are put into {@linkplain Quarantine quarantine}: they are no
+ * longer part of the composite operation, but executed on their own with an increasing number of skipped ticks, until they
+ * succeed again. So a persistently failing operation doesn't cause a failing composite plus one request per operation in
+ * every tick.
+ */
+public class RuntimeStatusPoller {
+
+    static final long FAST_INTERVAL = 500;
+    static final long SLOW_INTERVAL = 3_000;
+    private static final double BACKOFF = 1.5;
+    private static final Logger logger = LoggerFactory.getLogger(RuntimeStatusPoller.class);
+
+    private final Dispatcher dispatcher;
+    private final List<Check> checks;
+    private final Quarantine quarantine;
+    private long interval;
+    private double handle;
+    private boolean polling;
+
+    @Inject
+    public RuntimeStatusPoller(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.checks = new ArrayList<>();
+        this.quarantine = new Quarantine();
+        this.interval = FAST_INTERVAL;
+        this.handle = 0;
+        this.polling = false;
+    }
+
+    // ------------------------------------------------------ API
+
+    /** Polls the operation until it successfully returns. */
+    public Promise<FlowStatus> pollUntilSuccess(Operation operation, int timeout) {
+        if (operation instanceof Composite) {
+            return pollComposite((Composite) operation, compositeResult -> true, timeout);
+        } else {
+            return poll(operation, result -> true, timeout);
+        }
+    }
+
+    /** Polls the operation until the predicate evaluates to true for the result of the operation. */
+    public Promise<FlowStatus> poll(Operation operation, Predicate<ModelNode> until, int timeout) {
+        logger.debug("Poll {} until the predicate evaluates to true with {} seconds timeout", operation.asCli(), timeout);
+        return register(singletonList(operation), steps -> until.test(steps.get(0).get(RESULT)), timeout);
+    }
+
+    /** Polls the composite operation until the predicate evaluates to true for the composite result. */
+    public Promise<FlowStatus> pollComposite(Composite composite, Predicate<CompositeResult> until, int timeout) {
+        logger.debug("Poll {} until the predicate evaluates to true with {} seconds timeout", composite.asCli(), timeout);
+        List<Operation> operations = new ArrayList<>();
+        composite.iterator().forEachRemaining(operations::add);
+        return register(operations, steps -> {
+            ModelNode result = new ModelNode();
+            for (int i = 0; i < steps.size(); i++) {
+                result.get("step-" + (i + 1)).set(steps.get(i)); // NON-NLS
+            }
+            return until.test(new CompositeResult(result));
+        }, timeout);
+    }
+
+    // ------------------------------------------------------ internals
+
+    private Promise<FlowStatus> register(List<Operation> operations, Predicate<List<ModelNode>> until, int timeout) {
+        return new Promise<>((resolve, reject) -> {
+            checks.add(new Check(operations, until, System.currentTimeMillis() + timeout * 1000L, resolve));
+            // something just happened: poll fast again
+            interval = FAST_INTERVAL;
+            if (handle != 0) {
+                clearTimeout(handle);
+                handle = 0;
+            }
+            schedule();
+        });
+    }
+
+    private void schedule() {
+        if (handle == 0 && !polling && !checks.isEmpty()) {
+            handle = setTimeout(__ -> tick(), interval);
+            interval = min(SLOW_INTERVAL, (long) (interval * BACKOFF));
+        }
+    }
+
+    private void tick() {
+        handle = 0;
+        expire();
+        if (checks.isEmpty()) {
+            return;
+        }
+
+        // one step per distinct operation
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        for (Check check : checks) {
+            for (Operation operation : check.operations) {
+                operations.putIfAbsent(operation.asCli(), operation);
+            }
+        }
+        quarantine.retain(operations.keySet());
+        List<String> keys = new ArrayList<>();
+        List<String> quarantined = new ArrayList<>();
+        for (String key : operations.keySet()) {
+            if (!quarantine.contains(key)) {
+                keys.add(key);
+            } else if (quarantine.due(key)) {
+                quarantined.add(key);
+            }
+        }
+        List<Check> pending = new ArrayList<>(checks);
+
+        polling = true;
+        Promise<Map<String, ModelNode>> steps;
+        if (keys.isEmpty()) {
+            Map<String, ModelNode> none = new LinkedHashMap<>();
+            steps = Promise.resolve(none);
+        } else if (keys.size() == 1) {
+            steps = executeSingle(keys.get(0), operations.get(keys.get(0)));
+        } else {
+            List<Operation> stepOperations = new ArrayList<>();
+            keys.forEach(key -> stepOperations.add(operations.get(key)));
+            steps = dispatcher.execute(new Composite(stepOperations).addHeader(ROLLBACK_ON_RUNTIME_FAILURE, false))
+                    .then(compositeResult -> {
+                        Map<String, ModelNode> results = new LinkedHashMap<>();
+                        for (int i = 0; i < keys.size(); i++) {
+                            results.put(keys.get(i), compositeResult.step(i));
+                        }
+                        return Promise.resolve(results);
+                    })
+                    .catch_(error -> {
+                        logger.debug("Composite status check failed: {}. Execute {} operations one by one", error,
+                                keys.size());
+                        return executeEach(keys, operations);
+                    });
+        }
+        if (!quarantined.isEmpty()) {
+            steps = steps.then(results -> executeEach(quarantined, operations).then(quarantinedResults -> {
+                results.putAll(quarantinedResults);
+                return Promise.resolve(results);
+            }));
+        }
+        steps.then(results -> {
+            polling = false;
+            results.forEach((key, step) -> {
+                if (step.isFailure()) {
+                    quarantine.failed(key);
+                } else {
+                    quarantine.release(key);
+                }
+            });
+            evaluate(pending, results);
+            schedule();
+            return null;
+        }).catch_(error -> {
+            polling = false;
+            logger.error("Unable to check runtime status: {}", error);
+            schedule();
+            return null;
+        });
+    }
+
+    private Promise<Map<String, ModelNode>> executeSingle(String key, Operation operation) {
+        return step(operation).then(step -> {
+            Map<String, ModelNode> results = new LinkedHashMap<>();
+            results.put(key, step);
+            return Promise.resolve(results);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Promise<Map<String, ModelNode>> executeEach(List<String> keys, Map<String, Operation> operations) {
+        Promise<ModelNode>[] promises = new Promise[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            promises[i] = step(operations.get(keys.get(i)));
+        }
+        return Promise.all(promises).then(steps -> {
+            Map<String, ModelNode> results = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                results.put(keys.get(i), steps[i]);
+            }
+            return Promise.resolve(results);
+        });
+    }
+
+    /** Executes the operation and turns the result or the error into a step result. Never rejects. */
+    private Promise<ModelNode> step(Operation operation) {
+        return dispatcher.execute(operation)
+                .then(result -> {
+                    ModelNode step = new ModelNode();
+                    step.get(OUTCOME).set(SUCCESS);
+                    step.get(RESULT).set(result);
+                    return Promise.resolve(step);
+                })
+                .catch_(error -> {
+                    ModelNode step = new ModelNode();
+                    step.get(OUTCOME).set(FAILED);
+                    step.get(FAILURE_DESCRIPTION).set(String.valueOf(error));
+                    return Promise.resolve(step);
+                });
+    }
+
+    private void evaluate(List<Check> pending, Map<String, ModelNode> results) {
+        for (Check check : pending) {
+            if (checks.contains(check) && check.test(results)) {
+                checks.remove(check);
+                check.resolve.onInvoke(FlowStatus.SUCCESS);
+            }
+        }
+        expire();
+    }
+
+    private void expire() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Check> iterator = checks.iterator(); iterator.hasNext();) {
+            Check check = iterator.next();
+            if (now >= check.deadline) {
+                iterator.remove();
+                check.resolve.onInvoke(FlowStatus.TIMEOUT);
+            }
+        }
+    }
+
+    /**
+     * Keeps track of operations which failed. A quarantined operation is skipped for an increasing number of ticks: after the
+     * first failure it's executed in the next tick, then after one, three, seven, ... skipped ticks up to
+     * {@value #MAX_SKIP}.
+     */
+    static class Quarantine {
+
+        static final int MAX_SKIP = 7;
+
+        private final Map<String, int[]> entries; // key -> [consecutive failures, ticks to skip]
+
+        Quarantine() {
+            this.entries = new HashMap<>();
+        }
+
+        boolean contains(String key) {
+            return entries.containsKey(key);
+        }
+
+        /** Returns whether the quarantined operation should be executed in this tick. Must be called once per tick. */
+        boolean due(String key) {
+            int[] entry = entries.get(key);
+            if (entry == null) {
+                return true;
+            }
+            if (entry[1] > 0) {
+                entry[1]--;
+                return false;
+            }
+            return true;
+        }
+
+        void failed(String key) {
+            int[] entry = entries.computeIfAbsent(key, k -> new int[2]);
+            entry[1] = min(MAX_SKIP, (1 << min(entry[0], 3)) - 1);
+            entry[0]++;
+        }
+
+        void release(String key) {
+            entries.remove(key);
+        }
+
+        /** Forgets about operations which are no longer polled. */
+        void retain(Collection<String> keys) {
+            entries.keySet().retainAll(keys);
+        }
+
+        int size() {
+            return entries.size();
+        }
+    }
+
+    private static class Check {
+
+        private final List<Operation> operations;
+        private final Predicate<List<ModelNode>> until;
+        private final long deadline;
+        private final ResolveCallbackFn<FlowStatus> resolve;
+
+        private Check(List<Operation> operations, Predicate<List<ModelNode>> until, long deadline,
+                ResolveCallbackFn<FlowStatus> resolve) {
+            this.operations = operations;
+            this.until = until;
+            this.deadline = deadline;
+            this.resolve = resolve;
+        }
+
+        /** Like a failed operation, a failed step doesn't finish the check, the check is repeated in the next tick. */
+        private boolean test(Map<String, ModelNode> results) {
+            List<ModelNode> steps = new ArrayList<>();
+            for (Operation operation : operations) {
+                ModelNode step = results.get(operation.asCli());
+                if (step == null || !step.isDefined() || step.isFailure()) {
+                    return false;
+                }
+                steps.add(step);
+            }
+            return until.test(steps);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.runtime.group.ServerGroup;
+import org.jboss.hal.core.runtime.group.ServerGroupResultEvent;
+import org.jboss.hal.core.runtime.group.ServerGroupResultEvent.ServerGroupResultHandler;
+import org.jboss.hal.core.runtime.host.Host;
+import org.jboss.hal.core.runtime.host.HostResultEvent;
+import org.jboss.hal.core.runtime.host.HostResultEvent.HostResultHandler;
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.core.runtime.server.ServerResultEvent;
+import org.jboss.hal.core.runtime.server.ServerResultEvent.ServerResultHandler;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent.ModelChangedHandler;
+import org.jboss.hal.dmr.dispatch.ProcessStateEvent;
+import org.jboss.hal.dmr.dispatch.ProcessStateEvent.ProcessStateHandler;
+import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.Progress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.EventBus;
+
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.GROUP;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST_CONNECTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SELECT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_CONFIG;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUP;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
+import static org.jboss.hal.flow.Flow.sequential;
+
+/**
+ * Client side cache of the domain topology, i.e. hosts, server groups and servers.
+ * <p>
+ * Each entry records when it was read. Entries older than {@value #MAX_AGE} ms are read again on the next access. All entries
+ * are dropped if
+ * <ul>
+ * <li>the dispatcher reports a {@linkplain ModelChangedEvent change} of a host, server group, server config or host
+ * connection,</li>
+ * <li>the response headers contain a {@linkplain ProcessStateEvent process state} (reload / restart required) or</li>
+ * <li>a host, server group or server lifecycle operation has finished.</li>
+ * </ul>
+ * Changes made outside the console are detected by a background poll which runs every {@value #POLL_INTERVAL} ms as long as the
+ * store holds entries and has been used in the last {@value #IDLE_TIMEOUT} ms. The poll reads the host names, the server group
+ * names and the status of all server configs with one composite operation and drops all entries if the result differs from
+ * the last poll.
+ * <p>
+ * The lists returned by the store are unmodifiable views of the cached lists.
+ * <p>
+ * Callers which need up-to-date data regardless of the age, e.g. refresh actions, should call {@link #invalidate()} first.
+ * Periodic background tasks should use {@link #backgroundHosts()} and {@link #backgroundRunningServers()}. They share the
+ * entries, but don't count as usage: they neither start nor keep alive the background poll. So once the user stops using the
+ * store, a background task reads the topology at most once every {@value #MAX_AGE} ms.
+ */
+public class TopologyStore implements ModelChangedHandler, ProcessStateHandler,
+        HostResultHandler, ServerGroupResultHandler, ServerResultHandler {
+
+    static final long MAX_AGE = 30_000;
+    static final long POLL_INTERVAL = 10_000;
+    static final long IDLE_TIMEOUT = 2 * 60 * 1000;
+    private static final String HOSTS = "hosts";
+    private static final String SERVER_GROUPS = "serverGroups";
+    private static final String RUNNING_SERVERS = "runningServers";
+    private static final String TOPOLOGY = "topology";
+    private static final Logger logger = LoggerFactory.getLogger(TopologyStore.class);
+
+    /** Whether the operation changes the topology, i.e. hosts, server groups or server configs. */
+    static boolean affectsTopology(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                if (affectsTopology(step)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        List<Property> segments = operation.getAddress().asPropertyList();
+        if (segments.isEmpty()) {
+            return true;
+        } else if (segments.size() == 1) {
+            String type = segments.get(0).getName();
+            return HOST.equals(type) || SERVER_GROUP.equals(type);
+        } else if (segments.size() == 2) {
+            String parent = segments.get(0).getName();
+            String type = segments.get(1).getName();
+            return (HOST.equals(parent) && (SERVER_CONFIG.equals(type) || SERVER.equals(type)))
+                    || (CORE_SERVICE.equals(parent) && HOST_CONNECTION.equals(type)); // prune hosts
+        }
+        return false;
+    }
+
+    private final Environment environment;
+    private final Dispatcher dispatcher;
+    private final Map<String, Entry<?>> entries;
+    private String fingerprint;
+    private long lastAccess;
+    private double pollHandle;
+
+    @Inject
+    public TopologyStore(Environment environment, Dispatcher dispatcher, EventBus eventBus) {
+        this.environment = environment;
+        this.dispatcher = dispatcher;
+        this.entries = new HashMap<>();
+        this.fingerprint = null;
+        this.lastAccess = 0;
+        this.pollHandle = 0;
+
+        eventBus.addHandler(ModelChangedEvent.getType(), this);
+        eventBus.addHandler(ProcessStateEvent.getType(), this);
+        eventBus.addHandler(HostResultEvent.getType(), this);
+        eventBus.addHandler(ServerGroupResultEvent.getType(), this);
+        eventBus.addHandler(ServerResultEvent.getType(), this);
+    }
+
+    // ------------------------------------------------------ API
+
+    /**
+     * Returns the hosts (connected and disconnected) and their servers.
+     *
+     * @see TopologyTasks#hosts(Environment, Dispatcher)
+     */
+    public Promise<List<Host>> hosts(Progress progress) {
+        return get(HOSTS, () -> sequential(new FlowContext(progress), TopologyTasks.hosts(environment, dispatcher))
+                .then(context -> Promise.resolve(unmodifiableList(context.<List<Host>> get(TopologyTasks.HOSTS)))), true);
+    }
+
+    /** Like {@link #hosts(Progress)}, but doesn't count as usage. Meant for periodic background tasks. */
+    public Promise<List<Host>> backgroundHosts() {
+        return get(HOSTS, () -> sequential(new FlowContext(Progress.NOOP), TopologyTasks.hosts(environment, dispatcher))
+                .then(context -> Promise.resolve(unmodifiableList(context.<List<Host>> get(TopologyTasks.HOSTS)))), false);
+    }
+
+    /**
+     * Returns the server groups and their servers.
+     *
+     * @see TopologyTasks#serverGroups(Environment, Dispatcher)
+     */
+    public Promise<List<ServerGroup>> serverGroups(Progress progress) {
+        return get(SERVER_GROUPS,
+                () -> sequential(new FlowContext(progress), TopologyTasks.serverGroups(environment, dispatcher))
+                        .then(context -> Promise.resolve(
+                                unmodifiableList(context.<List<ServerGroup>> get(TopologyTasks.SERVER_GROUPS)))),
+                true);
+    }
+
+    /**
+     * Returns all running servers of the domain.
+     *
+     * @see TopologyTasks#runningServers(Environment, Dispatcher, ModelNode)
+     */
+    public Promise<List<Server>> runningServers(Progress progress) {
+        return get(RUNNING_SERVERS, () -> sequential(new FlowContext(progress),
+                TopologyTasks.runningServers(environment, dispatcher, new ModelNode()))
+                .then(context -> Promise.resolve(unmodifiableList(context.<List<Server>> get(TopologyTasks.SERVERS)))),
+                true);
+    }
+
+    /** Like {@link #runningServers(Progress)}, but doesn't count as usage. Meant for periodic background tasks. */
+    public Promise<List<Server>> backgroundRunningServers() {
+        return get(RUNNING_SERVERS, () -> sequential(new FlowContext(Progress.NOOP),
+                TopologyTasks.runningServers(environment, dispatcher, new ModelNode()))
+                .then(context -> Promise.resolve(unmodifiableList(context.<List<Server>> get(TopologyTasks.SERVERS)))),
+                false);
+    }
+
+    /**
+     * Returns a new context which contains the keys {@link TopologyTasks#HOSTS} and {@link TopologyTasks#SERVER_GROUPS}.
+     *
+     * @see TopologyTasks#topology(Environment, Dispatcher)
+     */
+    public Promise<FlowContext> topology(Progress progress) {
+        return get(TOPOLOGY, () -> sequential(new FlowContext(progress), TopologyTasks.topology(environment, dispatcher))
+                .promise(), true)
+                .then(cached -> {
+                    FlowContext context = new FlowContext(Progress.NOOP);
+                    context.set(TopologyTasks.HOSTS,
+                            unmodifiableList(cached.<List<Host>> get(TopologyTasks.HOSTS, emptyList())));
+                    context.set(TopologyTasks.SERVER_GROUPS,
+                            unmodifiableList(cached.<List<ServerGroup>> get(TopologyTasks.SERVER_GROUPS, emptyList())));
+                    return Promise.resolve(context);
+                });
+    }
+
+    /** Drops all entries. The next access reads the topology again. */
+    public void invalidate() {
+        if (!entries.isEmpty()) {
+            logger.debug("Invalidate topology store");
+        }
+        entries.clear();
+    }
+
+    // ------------------------------------------------------ events
+
+    @Override
+    public void onModelChanged(ModelChangedEvent event) {
+        if (affectsTopology(event.getOperation())) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void onProcessState(ProcessStateEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void onHostResult(HostResultEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void onServerGroupResult(ServerGroupResultEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void onServerResult(ServerResultEvent event) {
+        invalidate();
+    }
+
+    // ------------------------------------------------------ internals
+
+    @SuppressWarnings("unchecked")
+    private <T> Promise<T> get(String key, Supplier<Promise<T>> loader, boolean usage) {
+        long now = System.currentTimeMillis();
+        if (usage) {
+            lastAccess = now;
+        }
+        Entry<T> entry = (Entry<T>) entries.get(key);
+        if (entry == null || now - entry.timestamp > MAX_AGE) {
+            // store the promise right away, so that concurrent callers share one request
+            Entry<T> newEntry = new Entry<>(loader.get(), now);
+            entries.put(key, newEntry);
+            newEntry.promise.catch_(error -> {
+                // don't cache failures
+                if (entries.get(key) == newEntry) {
+                    entries.remove(key);
+                }
+                return null;
+            });
+            entry = newEntry;
+            if (usage) {
+                schedulePoll();
+            }
+        }
+        return entry.promise;
+    }
+
+    private void schedulePoll() {
+        if (pollHandle == 0 && !environment.isStandalone()) {
+            pollHandle = setTimeout(__ -> poll(), POLL_INTERVAL);
+        }
+    }
+
+    private void stopPoll() {
+        if (pollHandle != 0) {
+            clearTimeout(pollHandle);
+            pollHandle = 0;
+        }
+        fingerprint = null;
+    }
+
+    private void poll() {
+        pollHandle = 0;
+        if (entries.isEmpty() || System.currentTimeMillis() - lastAccess > IDLE_TIMEOUT) {
+            stopPoll();
+            return;
+        }
+
+        Operation hostNames = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, HOST)
+                .build();
+        Operation serverGroupNames = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, SERVER_GROUP)
+                .build();
+        ResourceAddress serverConfigs = new ResourceAddress().add(HOST, "*").add(SERVER_CONFIG, "*");
+        Operation serverStatus = new Operation.Builder(serverConfigs, QUERY)
+                .param(SELECT, new ModelNode().add(GROUP).add(STATUS))
+                .build();
+        dispatcher.execute(new Composite(hostNames, serverGroupNames, serverStatus))
+                .then(result -> {
+                    List<String> parts = new ArrayList<>();
+                    for (ModelNode node : result.step(0).get(RESULT).asList()) {
+                        parts.add(HOST + "=" + node.asString());
+                    }
+                    for (ModelNode node : result.step(1).get(RESULT).asList()) {
+                        parts.add(SERVER_GROUP + "=" + node.asString());
+                    }
+                    for (ModelNode node : result.step(2).get(RESULT).asList()) {
+                        parts.add(new ResourceAddress(node.get(ADDRESS)) + "=" + node.get(RESULT).toString());
+                    }
+                    parts.sort(String::compareTo);
+                    String current = String.join(",", parts);
+                    if (fingerprint != null && !fingerprint.equals(current)) {
+                        logger.debug("Topology changed outside the console");
+                        invalidate();
+                    }
+                    fingerprint = current;
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to poll topology: {}", error);
+                    invalidate();
+                    return null;
+                })
+                .finally_(this::schedulePoll);
+    }
+
+    private static class Entry<T> {
+
+        final Promise<T> promise;
+        final long timestamp;
+
+        Entry(Promise<T> promise, long timestamp) {
+            this.promise = promise;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -18,7 +18,9 @@ package org.jboss.hal.core.runtime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,14 +31,13 @@ import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.host.Host;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelDescriptionConstants;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Messages;
@@ -201,10 +202,11 @@ public final class TopologyTasks {
      * <li>{@link #SERVERS}: The list of server configs of one host.</li>
      * </ul>
      */
-    public static List<Task<FlowContext>> serversOfHost(Environment environment, Dispatcher dispatcher, String host) {
+    public static List<Task<FlowContext>> serversOfHost(Environment environment, Dispatcher dispatcher, String host,
+            Resources resources) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
         tasks.add(new ServersConfigsOfHost(environment, dispatcher, host));
-        tasks.add(new StartedServers(environment, dispatcher));
+        tasks.add(new StartedServers(environment, dispatcher, resources));
         return tasks;
     }
 
@@ -219,11 +221,11 @@ public final class TopologyTasks {
      * Started servers contain additional attributes and optional server boot errors.
      */
     public static List<Task<FlowContext>> serversOfServerGroup(Environment environment, Dispatcher dispatcher,
-            String serverGroup) {
+            String serverGroup, Resources resources) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
         tasks.add(new HostsNames(environment, dispatcher));
         tasks.add(new ServerConfigsOfServerGroup(environment, dispatcher, serverGroup));
-        tasks.add(new StartedServers(environment, dispatcher));
+        tasks.add(new StartedServers(environment, dispatcher, resources));
         return tasks;
     }
 
@@ -393,50 +395,54 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
+                // hosts are read in parallel and added as they respond. The order of the hosts is restored by the
+                // Topology task, the servers are collected in the order of the host names.
                 List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress hostAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host);
-                            Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            ResourceAddress serverConfigAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER_CONFIG, WILDCARD);
-                            Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
-                                    READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            Composite composite = new Composite(hostOperation, serverConfigOperation);
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(composite)
-                                    .then(result -> {
-                                        Host h = new Host(result.step(0).get(RESULT));
-                                        hosts.add(h);
-
-                                        List<ModelNode> nodes = result.step(1).get(RESULT).asList();
-                                        nodes.stream()
-                                                .filter(node -> !node.isFailure())
-                                                .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
-                                                .forEach(server -> {
-                                                    h.addServer(server);
-                                                    servers.add(server);
-                                                });
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.HostsAndServerConfigs failed: {}", error);
-                                        Host h = String.valueOf(error).contains(ERROR_WFY_CTL_0379)
-                                                ? Host.booting(host)
-                                                : Host.failed(host);
-                                        hosts.add(h);
-                                        return context.reject(String.valueOf(error));
-                                    });
+                Map<String, List<Server>> serversByHost = new HashMap<>();
+                Map<String, String> failures = new LinkedHashMap<>();
+                return new HostFanOut<CompositeResult>(hostNames, host -> {
+                    ResourceAddress hostAddress = new ResourceAddress()
+                            .add(ModelDescriptionConstants.HOST, host);
+                    Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
+                            .param(INCLUDE_RUNTIME, true)
+                            .build();
+                    ResourceAddress serverConfigAddress = new ResourceAddress()
+                            .add(ModelDescriptionConstants.HOST, host)
+                            .add(SERVER_CONFIG, WILDCARD);
+                    Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
+                            READ_RESOURCE_OPERATION)
+                            .param(INCLUDE_RUNTIME, true)
+                            .build();
+                    return dispatcher.execute(new Composite(hostOperation, serverConfigOperation));
+                })
+                        .onResult((host, result) -> {
+                            Host h = new Host(result.step(0).get(RESULT));
+                            List<Server> serversOfHost = result.step(1).get(RESULT).asList().stream()
+                                    .filter(node -> !node.isFailure())
+                                    .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
+                                    .collect(toList());
+                            serversOfHost.forEach(h::addServer);
+                            hosts.add(h);
+                            serversByHost.put(host, serversOfHost);
                         })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                        .onFailure((host, reason) -> {
+                            if (reason.contains(ERROR_WFY_CTL_0379)) {
+                                hosts.add(Host.booting(host));
+                            } else {
+                                logger.error("TopologyTasks.HostsAndServerConfigs failed for host {}: {}", host, reason);
+                                hosts.add(Host.failed(host));
+                                failures.put(host, reason);
+                            }
+                        })
+                        .run()
+                        .then(__ -> {
+                            // partial results are fine, but if no host could be read at all, there's nothing to show
+                            if (!failures.isEmpty() && failures.size() == hostNames.size()) {
+                                return context.reject(failures.values().iterator().next());
+                            }
+                            hostNames.forEach(host -> servers.addAll(serversByHost.getOrDefault(host, emptyList())));
+                            return Promise.resolve(context);
+                        });
             }
         }
     }
@@ -600,37 +606,33 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
+                // hosts are read in parallel, but the servers are collected in the order of the host names
                 List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress address = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER_CONFIG, WILDCARD);
-                            Operation operation = new Operation.Builder(address, QUERY)
-                                    .param(WHERE, new ModelNode().set(GROUP, serverGroup))
-                                    .build();
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation)
-                                    .then(result -> {
-                                        result.asList().stream()
-                                                .filter(modelNode -> !modelNode.isFailure())
-                                                .map(modelNode -> {
-                                                    ResourceAddress adr = new ResourceAddress(
-                                                            modelNode.get(ADDRESS));
-                                                    String h = adr.getParent().lastValue();
-                                                    return new Server(h, modelNode.get(RESULT));
-                                                })
-                                                .forEach(servers::add);
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.ServersOfServerGroup failed: {}", error);
-                                        return Promise.resolve(c);
-                                    });
-                        })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                Map<String, List<Server>> serversByHost = new HashMap<>();
+                return new HostFanOut<ModelNode>(hostNames, host -> {
+                    ResourceAddress address = new ResourceAddress()
+                            .add(ModelDescriptionConstants.HOST, host)
+                            .add(SERVER_CONFIG, WILDCARD);
+                    Operation operation = new Operation.Builder(address, QUERY)
+                            .param(WHERE, new ModelNode().set(GROUP, serverGroup))
+                            .build();
+                    return dispatcher.execute(operation);
+                })
+                        .onResult((host, result) -> serversByHost.put(host, result.asList().stream()
+                                .filter(modelNode -> !modelNode.isFailure())
+                                .map(modelNode -> {
+                                    ResourceAddress adr = new ResourceAddress(modelNode.get(ADDRESS));
+                                    String h = adr.getParent().lastValue();
+                                    return new Server(h, modelNode.get(RESULT));
+                                })
+                                .collect(toList())))
+                        .onFailure((host, reason) -> logger.error("TopologyTasks.ServersOfServerGroup failed for host {}: {}",
+                                host, reason))
+                        .run()
+                        .then(__ -> {
+                            hostNames.forEach(host -> servers.addAll(serversByHost.getOrDefault(host, emptyList())));
+                            return Promise.resolve(context);
+                        });
             }
         }
     }
@@ -656,50 +658,46 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
-                List<String> hostNames = context.get(HOST_NAMES);
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress address = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(ModelDescriptionConstants.SERVER, WILDCARD);
-                            // Note for mixed domains with servers w/o support for SUSPEND_STATE attribute:
-                            // The query operation won't fail, instead the unsupported attributes just won't be
-                            // part of the response payload (kudos to the guy who implemented the query operation!)
-                            Operation operation = new Operation.Builder(address, QUERY)
-                                    .param(SELECT, new ModelNode()
-                                            .add(ModelDescriptionConstants.HOST)
-                                            .add(LAUNCH_TYPE)
-                                            .add(NAME)
-                                            .add(PROFILE_NAME)
-                                            .add(RUNNING_MODE)
-                                            .add(ModelDescriptionConstants.SERVER_GROUP)
-                                            .add(SERVER_STATE)
-                                            .add(SUSPEND_STATE)
-                                            .add("uuid")) // NON-NLS
-                                    .param(WHERE, query)
-                                    .build();
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation)
-                                    .then(result -> {
-                                        result.asList().stream()
-                                                .filter(modelNode -> !modelNode.isFailure())
-                                                .map(modelNode -> {
-                                                    ResourceAddress adr = new ResourceAddress(
-                                                            modelNode.get(ADDRESS));
-                                                    String h = adr.getParent().lastValue();
-                                                    return new Server(h, modelNode.get(RESULT));
-                                                })
-                                                .forEach(servers::add);
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.RunningServers failed: {}", error);
-                                        return Promise.resolve(c);
-                                    });
-                        })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                // hosts are read in parallel, but the servers are collected in the order of the host names
+                List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
+                Map<String, List<Server>> serversByHost = new HashMap<>();
+                return new HostFanOut<ModelNode>(hostNames, host -> {
+                    ResourceAddress address = new ResourceAddress()
+                            .add(ModelDescriptionConstants.HOST, host)
+                            .add(ModelDescriptionConstants.SERVER, WILDCARD);
+                    // Note for mixed domains with servers w/o support for SUSPEND_STATE attribute:
+                    // The query operation won't fail, instead the unsupported attributes just won't be
+                    // part of the response payload (kudos to the guy who implemented the query operation!)
+                    Operation operation = new Operation.Builder(address, QUERY)
+                            .param(SELECT, new ModelNode()
+                                    .add(ModelDescriptionConstants.HOST)
+                                    .add(LAUNCH_TYPE)
+                                    .add(NAME)
+                                    .add(PROFILE_NAME)
+                                    .add(RUNNING_MODE)
+                                    .add(ModelDescriptionConstants.SERVER_GROUP)
+                                    .add(SERVER_STATE)
+                                    .add(SUSPEND_STATE)
+                                    .add("uuid")) // NON-NLS
+                            .param(WHERE, query)
+                            .build();
+                    return dispatcher.execute(operation);
+                })
+                        .onResult((host, result) -> serversByHost.put(host, result.asList().stream()
+                                .filter(modelNode -> !modelNode.isFailure())
+                                .map(modelNode -> {
+                                    ResourceAddress adr = new ResourceAddress(modelNode.get(ADDRESS));
+                                    String h = adr.getParent().lastValue();
+                                    return new Server(h, modelNode.get(RESULT));
+                                })
+                                .collect(toList())))
+                        .onFailure((host, reason) -> logger.error("TopologyTasks.RunningServers failed for host {}: {}",
+                                host, reason))
+                        .run()
+                        .then(__ -> {
+                            hostNames.forEach(host -> servers.addAll(serversByHost.getOrDefault(host, emptyList())));
+                            return Promise.resolve(context);
+                        });
             }
         }
     }
@@ -708,10 +706,12 @@ public final class TopologyTasks {
 
         private final Environment environment;
         private final Dispatcher dispatcher;
+        private final Resources resources;
 
-        private StartedServers(Environment environment, Dispatcher dispatcher) {
+        private StartedServers(Environment environment, Dispatcher dispatcher, Resources resources) {
             this.environment = environment;
             this.dispatcher = dispatcher;
+            this.resources = resources;
         }
 
         @Override
@@ -719,25 +719,30 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
+                // one composite per host, so that a blocked host doesn't delay the servers of the other hosts
                 List<Server> servers = context.get(SERVERS, Collections.emptyList());
-                List<Operation> operations = new ArrayList<>();
+                Map<String, List<Server>> startedServersByHost = new LinkedHashMap<>();
                 for (Server server : servers) {
                     if (server.isStarted()) {
-                        operations.add(new Operation.Builder(server.getServerAddress(), READ_RESOURCE_OPERATION)
-                                .param(ATTRIBUTES_ONLY, true)
-                                .param(INCLUDE_RUNTIME, true)
-                                .build());
-                        operations.add(new Operation.Builder(server.getServerAddress().add(CORE_SERVICE, MANAGEMENT),
-                                READ_BOOT_ERRORS).build());
+                        startedServersByHost.computeIfAbsent(server.getHost(), host -> new ArrayList<>()).add(server);
                     }
                 }
-                if (!operations.isEmpty()) {
-                    Composite composite = new Composite(operations);
-                    return dispatcher.execute(composite)
-                            .then(result -> {
-                                Map<String, Server> serverConfigsByName = servers.stream()
-                                        .collect(toMap(Server::getId, identity()));
-
+                if (!startedServersByHost.isEmpty()) {
+                    Map<String, Server> serverConfigsByName = servers.stream()
+                            .collect(toMap(Server::getId, identity()));
+                    return new HostFanOut<CompositeResult>(new ArrayList<>(startedServersByHost.keySet()), host -> {
+                        List<Operation> operations = new ArrayList<>();
+                        for (Server server : startedServersByHost.get(host)) {
+                            operations.add(new Operation.Builder(server.getServerAddress(), READ_RESOURCE_OPERATION)
+                                    .param(ATTRIBUTES_ONLY, true)
+                                    .param(INCLUDE_RUNTIME, true)
+                                    .build());
+                            operations.add(new Operation.Builder(server.getServerAddress().add(CORE_SERVICE, MANAGEMENT),
+                                    READ_BOOT_ERRORS).build());
+                        }
+                        return dispatcher.execute(new Composite(operations));
+                    })
+                            .onResult((host, result) -> {
                                 for (Iterator<ModelNode> iterator = result.iterator(); iterator.hasNext();) {
                                     ModelNode attributes = iterator.next().get(RESULT);
                                     String serverId = Ids.hostServer(
@@ -756,12 +761,16 @@ public final class TopologyTasks {
                                         }
                                     }
                                 }
-                                return Promise.resolve(context);
                             })
-                            .catch_(error -> {
-                                logger.error("TopologyTasks.StartedServers failed: {}", error);
-                                return context.reject(String.valueOf(error));
-                            });
+                            .onFailure((host, reason) -> {
+                                logger.error("TopologyTasks.StartedServers failed for host {}: {}", host, reason);
+                                String failure = HostFanOut.TIMEOUT_ERROR.equals(reason)
+                                        ? resources.messages().topologyTimeout().asString()
+                                        : reason;
+                                startedServersByHost.get(host).forEach(server -> server.setOperationFailure(failure));
+                            })
+                            .run()
+                            .then(__ -> Promise.resolve(context));
                 } else {
                     return Promise.resolve(context);
                 }
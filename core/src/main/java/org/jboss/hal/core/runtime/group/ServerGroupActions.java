@@ -34,6 +34,7 @@ import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.form.OperationFormBuilder;
 import org.jboss.hal.core.runtime.Action;
+import org.jboss.hal.core.runtime.RuntimeStatusPoller;
 import org.jboss.hal.core.runtime.SuspendState;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -70,7 +71,6 @@ import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.core.runtime.Action.RESUME;
 import static org.jboss.hal.core.runtime.SuspendState.RUNNING;
 import static org.jboss.hal.core.runtime.SuspendState.SUSPENDED;
-import static org.jboss.hal.core.runtime.TimeoutHandler.repeatCompositeUntil;
 import static org.jboss.hal.core.runtime.Timeouts.serverGroupTimeout;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.DISABLED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STARTED;
@@ -113,6 +113,7 @@ public class ServerGroupActions {
 
     private final EventBus eventBus;
     private final Dispatcher dispatcher;
+    private final RuntimeStatusPoller statusPoller;
     private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final ServerActions serverActions;
@@ -122,12 +123,14 @@ public class ServerGroupActions {
     @Inject
     public ServerGroupActions(EventBus eventBus,
             Dispatcher dispatcher,
+            RuntimeStatusPoller statusPoller,
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
             ServerActions serverActions,
             Resources resources) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
+        this.statusPoller = statusPoller;
         this.metadataProcessor = metadataProcessor;
         this.progress = progress;
         this.serverActions = serverActions;
@@ -165,7 +168,7 @@ public class ServerGroupActions {
             DialogFactory.showConfirmation(title, question, () -> {
                 prepare(serverGroup, startedServers, action);
                 dispatcher.execute(operation)
-                        .then(__ -> repeatCompositeUntil(dispatcher, readServerConfigStatus(startedServers),
+                        .then(__ -> statusPoller.pollComposite(readServerConfigStatus(startedServers),
                                 checkServerConfigStatus(startedServers.size(), STARTED),
                                 serverGroupTimeout(serverGroup, action)))
                         .then(status -> finish(serverGroup, startedServers, status,
@@ -204,7 +207,7 @@ public class ServerGroupActions {
                                         .param(SUSPEND_TIMEOUT, timeout)
                                         .build();
                                 dispatcher.execute(operation)
-                                        .then(__ -> repeatCompositeUntil(dispatcher, readSuspendState(startedServers),
+                                        .then(__ -> statusPoller.pollComposite(readSuspendState(startedServers),
                                                 checkSuspendState(startedServers.size(), SUSPENDED), uiTimeout))
                                         .then(status -> finish(serverGroup, startedServers, status,
                                                 resources.messages().suspendServerGroupSuccess(serverGroup.getName()),
@@ -241,7 +244,7 @@ public class ServerGroupActions {
             prepare(serverGroup, suspendedServers, RESUME);
             Operation operation = new Operation.Builder(serverGroup.getAddress(), RESUME_SERVERS).build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatCompositeUntil(dispatcher, readSuspendState(suspendedServers),
+                    .then(__ -> statusPoller.pollComposite(readSuspendState(suspendedServers),
                             checkSuspendState(suspendedServers.size(), RUNNING),
                             serverGroupTimeout(serverGroup, RESUME)))
                     .then(status -> finish(serverGroup, suspendedServers, status,
@@ -284,8 +287,7 @@ public class ServerGroupActions {
                                         .param(BLOCKING, false)
                                         .build();
                                 dispatcher.execute(operation)
-                                        .then(__ -> repeatCompositeUntil(dispatcher,
-                                                readServerConfigStatus(startedServers),
+                                        .then(__ -> statusPoller.pollComposite(readServerConfigStatus(startedServers),
                                                 checkServerConfigStatus(startedServers.size(), STOPPED, DISABLED),
                                                 uiTimeout))
                                         .then(status -> finish(serverGroup, startedServers, status,
@@ -325,7 +327,7 @@ public class ServerGroupActions {
                     .param(BLOCKING, false)
                     .build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatCompositeUntil(dispatcher, readServerConfigStatus(downServers),
+                    .then(__ -> statusPoller.pollComposite(readServerConfigStatus(downServers),
                             checkServerConfigStatus(downServers.size(), STARTED),
                             serverGroupTimeout(serverGroup, Action.START)))
                     .then(status -> finish(serverGroup, downServers, status,
@@ -351,7 +353,7 @@ public class ServerGroupActions {
                     .param(BLOCKING, false)
                     .build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatCompositeUntil(dispatcher, readServerConfigStatus(downServers),
+                    .then(__ -> statusPoller.pollComposite(readServerConfigStatus(downServers),
                             checkServerConfigStatus(downServers.size(), STARTED),
                             serverGroupTimeout(serverGroup, Action.START)))
                     .then(status -> finish(serverGroup, downServers, status,
@@ -375,7 +377,7 @@ public class ServerGroupActions {
                     prepare(serverGroup, startedServers, Action.DESTROY);
                     Operation operation = new Operation.Builder(serverGroup.getAddress(), DESTROY_SERVERS).build();
                     dispatcher.execute(operation)
-                            .then(__ -> repeatCompositeUntil(dispatcher, readServerConfigStatus(startedServers),
+                            .then(__ -> statusPoller.pollComposite(readServerConfigStatus(startedServers),
                                     checkServerConfigStatus(startedServers.size(), STOPPED, DISABLED),
                                     serverGroupTimeout(serverGroup, Action.DESTROY)))
                             .then(status -> finish(serverGroup, startedServers, status,
@@ -396,7 +398,7 @@ public class ServerGroupActions {
                     prepare(serverGroup, startedServers, Action.KILL);
                     Operation operation = new Operation.Builder(serverGroup.getAddress(), KILL_SERVERS).build();
                     dispatcher.execute(operation)
-                            .then(__ -> repeatCompositeUntil(dispatcher, readServerConfigStatus(startedServers),
+                            .then(__ -> statusPoller.pollComposite(readServerConfigStatus(startedServers),
                                     checkServerConfigStatus(startedServers.size(), STOPPED, DISABLED),
                                     serverGroupTimeout(serverGroup, Action.KILL)))
                             .then(status -> finish(serverGroup, startedServers, status,
@@ -28,6 +28,7 @@ import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.core.mbui.form.OperationFormBuilder;
 import org.jboss.hal.core.runtime.Action;
+import org.jboss.hal.core.runtime.RuntimeStatusPoller;
 import org.jboss.hal.core.runtime.Timeouts;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -56,7 +57,6 @@ import elemental2.promise.Promise;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Collections.emptyList;
 import static org.jboss.hal.ballroom.dialog.Dialog.Size.MEDIUM;
-import static org.jboss.hal.core.runtime.TimeoutHandler.repeatUntilTimeout;
 import static org.jboss.hal.core.runtime.Timeouts.hostTimeout;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
@@ -81,6 +81,7 @@ public class HostActions implements Timeouts {
 
     private final EventBus eventBus;
     private final Dispatcher dispatcher;
+    private final RuntimeStatusPoller statusPoller;
     private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final ServerActions serverActions;
@@ -90,12 +91,14 @@ public class HostActions implements Timeouts {
     @Inject
     public HostActions(EventBus eventBus,
             Dispatcher dispatcher,
+            RuntimeStatusPoller statusPoller,
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
             ServerActions serverActions,
             Resources resources) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
+        this.statusPoller = statusPoller;
         this.metadataProcessor = metadataProcessor;
         this.progress = progress;
         this.serverActions = serverActions;
@@ -210,7 +213,7 @@ public class HostActions implements Timeouts {
         pendingDialog.show();
 
         dispatcher.execute(operation)
-                .then(result -> repeatUntilTimeout(dispatcher, ping(host), timeout))
+                .then(result -> statusPoller.pollUntilSuccess(ping(host), timeout))
                 .then(status -> {
                     pendingDialog.close();
                     switch (status) {
@@ -237,7 +240,7 @@ public class HostActions implements Timeouts {
     private void hostControllerOperation(Host host, Operation operation, int timeout, List<Server> servers,
             SafeHtml successMessage, SafeHtml timeoutMessage, SafeHtml errorMessage) {
         dispatcher.execute(operation)
-                .then(__ -> repeatUntilTimeout(dispatcher, ping(host), timeout))
+                .then(__ -> statusPoller.pollUntilSuccess(ping(host), timeout))
                 .then(status -> finish(host, servers, status, successMessage, timeoutMessage, errorMessage))
                 .catch_(error -> finish(host, servers, FAILURE, Message.error(errorMessage, String.valueOf(error))));
     }
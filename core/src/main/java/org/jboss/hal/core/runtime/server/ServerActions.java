@@ -41,6 +41,7 @@ import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.form.OperationFormBuilder;
 import org.jboss.hal.core.runtime.Action;
 import org.jboss.hal.core.runtime.RunningState;
+import org.jboss.hal.core.runtime.RuntimeStatusPoller;
 import org.jboss.hal.core.runtime.SuspendState;
 import org.jboss.hal.core.runtime.Timeouts;
 import org.jboss.hal.core.runtime.server.ServerUrlTasks.ReadSocketBinding;
@@ -86,8 +87,6 @@ import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.p;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.hal.core.runtime.RunningState.RUNNING;
-import static org.jboss.hal.core.runtime.TimeoutHandler.repeatOperationUntil;
-import static org.jboss.hal.core.runtime.TimeoutHandler.repeatUntilTimeout;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.DISABLED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STARTED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STOPPED;
@@ -158,6 +157,7 @@ public class ServerActions implements Timeouts {
 
     private final EventBus eventBus;
     private final Dispatcher dispatcher;
+    private final RuntimeStatusPoller statusPoller;
     private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final Resources resources;
@@ -168,6 +168,7 @@ public class ServerActions implements Timeouts {
     @Inject
     public ServerActions(EventBus eventBus,
             Dispatcher dispatcher,
+            RuntimeStatusPoller statusPoller,
             ServerUrlStorage serverUrlStorage,
             StatementContext statementContext,
             MetadataProcessor metadataProcessor,
@@ -175,6 +176,7 @@ public class ServerActions implements Timeouts {
             Resources resources) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
+        this.statusPoller = statusPoller;
         this.serverUrlStorage = serverUrlStorage;
         this.statementContext = statementContext;
         this.metadataProcessor = metadataProcessor;
@@ -311,7 +313,7 @@ public class ServerActions implements Timeouts {
                         .build();
                 Operation ping = new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION).build();
                 dispatcher.execute(operation)
-                        .then(___ -> repeatUntilTimeout(dispatcher, ping, SERVER_RESTART_TIMEOUT))
+                        .then(___ -> statusPoller.pollUntilSuccess(ping, SERVER_RESTART_TIMEOUT))
                         .then(status -> {
                             pendingDialog.close();
                             switch (status) {
@@ -371,7 +373,7 @@ public class ServerActions implements Timeouts {
         DialogFactory.showConfirmation(title, question, () -> {
             prepare(server, action);
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher,
+                    .then(__ -> statusPoller.poll(
                             server.isStandalone() ? readServerState(server) : readServerConfigStatus(server),
                             server.isStandalone() ? checkRunningState() : checkServerConfigStatus(STARTED),
                             timeout))
@@ -408,8 +410,7 @@ public class ServerActions implements Timeouts {
                                 .param(SUSPEND_TIMEOUT, timeout)
                                 .build();
                         dispatcher.execute(operation)
-                                .then(__ -> repeatOperationUntil(dispatcher,
-                                        readSuspendState(server), checkSuspendState(), uiTimeout))
+                                .then(__ -> statusPoller.poll(readSuspendState(server), checkSuspendState(), uiTimeout))
                                 .then(status -> finish(server, Action.SUSPEND, status,
                                         resources.messages().suspendServerSuccess(server.getName()),
                                         resources.messages().serverTimeout(server.getName()),
@@ -440,8 +441,7 @@ public class ServerActions implements Timeouts {
         ResourceAddress address = server.isStandalone() ? server.getServerAddress() : server.getServerConfigAddress();
         Operation operation = new Operation.Builder(address, RESUME).build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher,
-                        server.isStandalone() ? readServerState(server) : readServerConfigStatus(server),
+                .then(__ -> statusPoller.poll(server.isStandalone() ? readServerState(server) : readServerConfigStatus(server),
                         server.isStandalone() ? checkRunningState() : checkServerConfigStatus(STARTED),
                         SERVER_START_TIMEOUT))
                 .then(status -> finish(server, Action.RESUME, status,
@@ -478,8 +478,7 @@ public class ServerActions implements Timeouts {
                                         .param(BLOCKING, false)
                                         .build();
                                 dispatcher.execute(operation)
-                                        .then(__ -> repeatOperationUntil(dispatcher,
-                                                readServerConfigStatus(server),
+                                        .then(__ -> statusPoller.poll(readServerConfigStatus(server),
                                                 checkServerConfigStatus(STOPPED, DISABLED),
                                                 uiTimeout))
                                         .then(status -> finish(server, Action.STOP, status,
@@ -511,7 +510,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
+                .then(__ -> statusPoller.poll(readServerConfigStatus(server),
                         checkServerConfigStatus(STOPPED, DISABLED), SERVER_STOP_TIMEOUT))
                 .then(status -> finish(server, Action.STOP, status,
                         resources.messages().stopServerSuccess(server.getName()),
@@ -528,7 +527,7 @@ public class ServerActions implements Timeouts {
             prepare(server, Action.DESTROY);
             Operation operation = new Operation.Builder(server.getServerConfigAddress(), DESTROY).build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
+                    .then(__ -> statusPoller.poll(readServerConfigStatus(server),
                             checkServerConfigStatus(STOPPED, DISABLED), SERVER_DESTROY_TIMEOUT))
                     .then(status -> finish(server, Action.DESTROY, status,
                             resources.messages().destroyServerSuccess(server.getName()),
@@ -545,7 +544,7 @@ public class ServerActions implements Timeouts {
             prepare(server, Action.KILL);
             Operation operation = new Operation.Builder(server.getServerConfigAddress(), KILL).build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
+                    .then(__ -> statusPoller.poll(readServerConfigStatus(server),
                             checkServerConfigStatus(STOPPED, DISABLED), SERVER_KILL_TIMEOUT))
                     .then(status -> finish(server, Action.KILL, status,
                             resources.messages().killServerSuccess(server.getName()),
@@ -562,7 +561,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
+                .then(__ -> statusPoller.poll(readServerConfigStatus(server),
                         checkServerConfigStatus(STARTED), SERVER_START_TIMEOUT))
                 .then(status -> finish(server, Action.START, status,
                         resources.messages().startServerSuccess(server.getName()),
@@ -579,7 +578,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
+                .then(__ -> statusPoller.poll(readServerConfigStatus(server),
                         checkServerConfigStatus(STARTED), SERVER_START_TIMEOUT))
                 .then(status -> finish(server, Action.START, status,
                         resources.messages().startServerSuccess(server.getName()),
@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HostFanOutTest {
+
+    @Test
+    public void empty() {
+        HostFanOut.Slots slots = new HostFanOut.Slots(0);
+        assertFalse(slots.hasNext());
+        assertTrue(slots.finished());
+    }
+
+    @Test
+    public void release() {
+        HostFanOut.Slots slots = new HostFanOut.Slots(2);
+        slots.next();
+        slots.next();
+        assertFalse(slots.hasNext());
+        assertFalse(slots.finished());
+
+        slots.release(() -> {
+        });
+        assertFalse(slots.finished());
+        slots.release(() -> {
+        });
+        assertTrue(slots.finished());
+    }
+
+    @Test
+    public void throwingCallback() {
+        HostFanOut.Slots slots = new HostFanOut.Slots(1);
+        slots.next();
+        try {
+            slots.release(() -> {
+                throw new IllegalStateException("boom");
+            });
+            fail("Exception expected");
+        } catch (IllegalStateException expected) {
+            // the slot must be released nevertheless
+        }
+        assertTrue(slots.finished());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RuntimeStatusPollerTest {
+
+    private RuntimeStatusPoller.Quarantine quarantine;
+
+    @Before
+    public void setUp() {
+        quarantine = new RuntimeStatusPoller.Quarantine();
+    }
+
+    @Test
+    public void healthy() {
+        assertFalse(quarantine.contains("op"));
+        assertTrue(quarantine.due("op"));
+    }
+
+    @Test
+    public void backoff() {
+        // first failure: retried in the next tick
+        quarantine.failed("op");
+        assertTrue(quarantine.contains("op"));
+        assertEquals(0, skipped("op"));
+
+        quarantine.failed("op");
+        assertEquals(1, skipped("op"));
+
+        quarantine.failed("op");
+        assertEquals(3, skipped("op"));
+
+        quarantine.failed("op");
+        assertEquals(RuntimeStatusPoller.Quarantine.MAX_SKIP, skipped("op"));
+
+        quarantine.failed("op");
+        assertEquals(RuntimeStatusPoller.Quarantine.MAX_SKIP, skipped("op"));
+    }
+
+    @Test
+    public void release() {
+        quarantine.failed("op");
+        quarantine.failed("op");
+        quarantine.release("op");
+        assertFalse(quarantine.contains("op"));
+
+        // starts over
+        quarantine.failed("op");
+        assertEquals(0, skipped("op"));
+    }
+
+    @Test
+    public void retain() {
+        quarantine.failed("foo");
+        quarantine.failed("bar");
+        quarantine.retain(singletonList("foo"));
+
+        assertEquals(1, quarantine.size());
+        assertTrue(quarantine.contains("foo"));
+        assertFalse(quarantine.contains("bar"));
+    }
+
+    /** Counts the ticks until the quarantined operation is due again. */
+    private int skipped(String key) {
+        int skipped = 0;
+        while (!quarantine.due(key)) {
+            skipped++;
+        }
+        return skipped;
+    }
+}
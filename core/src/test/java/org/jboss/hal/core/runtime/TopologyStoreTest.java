@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class TopologyStoreTest {
+
+    @Test
+    public void root() {
+        assertTrue(TopologyStore.affectsTopology(operation("", RELOAD)));
+    }
+
+    @Test
+    public void hostAndServerGroup() {
+        assertTrue(TopologyStore.affectsTopology(operation("host=primary", RELOAD)));
+        assertTrue(TopologyStore.affectsTopology(operation("server-group=main-server-group", ADD)));
+        assertTrue(TopologyStore.affectsTopology(operation("core-service=management/host-connection=*", "prune-expired")));
+    }
+
+    @Test
+    public void serverConfig() {
+        assertTrue(TopologyStore.affectsTopology(operation("host=primary/server-config=server-one", ADD)));
+        assertTrue(TopologyStore.affectsTopology(operation("host=primary/server=server-one", RELOAD)));
+    }
+
+    @Test
+    public void configuration() {
+        assertFalse(TopologyStore.affectsTopology(operation("profile=full", ADD)));
+        assertFalse(TopologyStore.affectsTopology(
+                operation("profile=full/subsystem=logging/root-logger=ROOT", WRITE_ATTRIBUTE_OPERATION)));
+        assertFalse(TopologyStore.affectsTopology(
+                operation("host=primary/server=server-one/subsystem=messaging-activemq", ADD)));
+        assertFalse(TopologyStore.affectsTopology(operation("host=primary/interface=public", ADD)));
+    }
+
+    @Test
+    public void composite() {
+        assertFalse(TopologyStore.affectsTopology(new Composite(
+                operation("profile=full/subsystem=ee", WRITE_ATTRIBUTE_OPERATION),
+                operation("socket-binding-group=full-sockets", WRITE_ATTRIBUTE_OPERATION))));
+        assertTrue(TopologyStore.affectsTopology(new Composite(
+                operation("profile=full/subsystem=ee", WRITE_ATTRIBUTE_OPERATION),
+                operation("server-group=other-server-group", ADD))));
+    }
+
+    private Operation operation(String address, String name) {
+        return new Operation.Builder(ResourceAddress.from(address), name).build();
+    }
+}
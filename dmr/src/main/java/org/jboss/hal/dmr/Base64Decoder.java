@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+/**
+ * Decodes base64 encoded bytes into a byte array without creating intermediate strings. Whitespace and line breaks are skipped,
+ * decoding stops at the first padding character.
+ */
+final class Base64Decoder {
+
+    private static final int INVALID = -1;
+    private static final int WHITESPACE = -2;
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        for (int i = 0; i < DECODE_TABLE.length; i++) {
+            DECODE_TABLE[i] = INVALID;
+        }
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = i;
+        }
+        DECODE_TABLE[' '] = WHITESPACE;
+        DECODE_TABLE['\t'] = WHITESPACE;
+        DECODE_TABLE['\n'] = WHITESPACE;
+        DECODE_TABLE['\r'] = WHITESPACE;
+    }
+
+    /** Returns the maximum number of bytes needed to decode the specified number of base64 characters. */
+    static int maxDecodedLength(int encodedLength) {
+        return (encodedLength + 3) / 4 * 3;
+    }
+
+    /**
+     * Decodes the first {@code length} bytes of {@code encoded} into {@code decoded}.
+     *
+     * @return the number of decoded bytes
+     */
+    static int decode(byte[] encoded, int length, byte[] decoded) {
+        int bits = 0;
+        int count = 0;
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            int c = encoded[i] & 0xff;
+            if (c == '=') {
+                break;
+            }
+            int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : INVALID;
+            if (value == WHITESPACE) {
+                continue;
+            }
+            if (value == INVALID) {
+                throw new IllegalArgumentException("Invalid base64 character at position " + i);
+            }
+            bits = (bits << 6) | value;
+            count++;
+            if (count == 4) {
+                decoded[pos++] = (byte) (bits >> 16);
+                decoded[pos++] = (byte) (bits >> 8);
+                decoded[pos++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 2) {
+            decoded[pos++] = (byte) (bits >> 4);
+        } else if (count == 3) {
+            decoded[pos++] = (byte) (bits >> 10);
+            decoded[pos++] = (byte) (bits >> 2);
+        } else if (count == 1) {
+            throw new IllegalArgumentException("Truncated base64 input");
+        }
+        return pos;
+    }
+
+    /** Defeats instantiation. */
+    private Base64Decoder() {
+    }
+}
@@ -15,28 +15,146 @@
  */
 package org.jboss.hal.dmr;
 
-import elemental2.core.ArrayBuffer;
 import elemental2.core.DataView;
-import elemental2.core.Int8Array;
 
+/**
+ * Reads the binary DMR format from a byte array. If a {@link DataView} over the same bytes is provided, numeric values are read
+ * using the data view. Otherwise, they're assembled from the individual bytes.
+ * <p>
+ * In lazy mode, objects and lists only record the offsets of their children and skip over the encoded bytes. The children are
+ * decoded from a copy of this input positioned at the recorded offset, when they're accessed for the first time.
+ */
 class DataInput {
 
     private final byte[] bytes;
+    private final int length;
+    private final DataView view;
+    private final boolean lazy;
     private int pos = 0;
 
     DataInput(byte[] bytes) {
+        this(bytes, bytes.length, null, false);
+    }
+
+    DataInput(byte[] bytes, int length, DataView view, boolean lazy) {
         this.bytes = bytes;
+        this.length = length;
+        this.view = view;
+        this.lazy = lazy;
+    }
+
+    // ------------------------------------------------------ lazy decoding
+
+    boolean isLazy() {
+        return lazy;
+    }
+
+    int position() {
+        return pos;
+    }
+
+    /** Returns a new input which shares the underlying bytes, but starts reading at the given offset. */
+    DataInput at(int offset) {
+        DataInput in = new DataInput(bytes, length, view, lazy);
+        in.pos = offset;
+        return in;
+    }
+
+    /**
+     * Returns a new input which contains a copy of the bytes of the next encoded value only. Used to detach lazy nodes from the
+     * complete response, so that they don't keep it in memory.
+     */
+    DataInput detach() {
+        DataInput probe = at(pos);
+        probe.skipValue();
+        int size = probe.pos - pos;
+        byte[] copy = new byte[size];
+        System.arraycopy(bytes, pos, copy, 0, size);
+        return new DataInput(copy, size, null, lazy);
+    }
+
+    int length() {
+        return length;
+    }
+
+    /** Returns the type of the next encoded value without advancing the position. */
+    ModelType peekType() {
+        require(1);
+        return ModelType.forChar((char) (bytes[pos] & 0xff));
+    }
+
+    /** Skips over the next encoded value (including its type) without decoding it. */
+    void skipValue() {
+        ModelType type = ModelType.forChar((char) (readByte() & 0xff));
+        switch (type) {
+            case UNDEFINED:
+                break;
+            case BOOLEAN:
+                skip(1);
+                break;
+            case INT:
+                skip(4);
+                break;
+            case LONG:
+            case DOUBLE:
+                skip(8);
+                break;
+            case TYPE:
+                skip(1);
+                break;
+            case BIG_INTEGER:
+            case BYTES:
+                skip(readInt());
+                break;
+            case BIG_DECIMAL:
+            case EXPRESSION:
+            case STRING:
+                skipUTF();
+                break;
+            case LIST:
+                for (int i = readInt(); i > 0; i--) {
+                    skipValue();
+                }
+                break;
+            case OBJECT:
+                for (int i = readInt(); i > 0; i--) {
+                    skipUTF();
+                    skipValue();
+                }
+                break;
+            case PROPERTY:
+                skipUTF();
+                skipValue();
+                break;
+            default:
+                throw new IllegalStateException("Invalid type read: " + type);
+        }
+    }
+
+    private void skipUTF() {
+        skip(readUnsignedShort());
+    }
+
+    private void skip(int size) {
+        require(size);
+        pos += size;
     }
 
     // ------------------------------------------------------ read a-z
 
     private int read() {
-        if (pos >= bytes.length) {
+        if (pos >= length) {
             return -1;
         }
         return bytes[pos++] & 0xFF;
     }
 
+    private void require(int size) {
+        if (pos + size > length) {
+            throw new RuntimeException("EOF");
+        }
+    }
+
     boolean readBoolean() {
         return readByte() != 0;
     }
@@ -56,25 +174,29 @@ class DataInput {
     }
 
     double readDouble() {
-        byte[] doubleBytes = new byte[8];
-        readFully(doubleBytes);
-
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        for (int i = 0; i < doubleBytes.length; i++) {
-            array.setAt(i, (double) doubleBytes[i]);
+        if (view != null) {
+            require(8);
+            double value = view.getFloat64(pos);
+            pos += 8;
+            return value;
         }
-        return view.getFloat64(0);
+        return Double.longBitsToDouble(readLong());
     }
 
     void readFully(byte[] b) {
+        require(b.length);
         for (int i = 0; i < b.length; i++) {
             b[i] = bytes[pos++];
         }
     }
 
     int readInt() {
+        if (view != null) {
+            require(4);
+            int value = view.getInt32(pos);
+            pos += 4;
+            return value;
+        }
         int a = readUnsignedByte();
         int b = readUnsignedByte();
         int c = readUnsignedByte();
@@ -83,18 +205,9 @@ class DataInput {
     }
 
     long readLong() {
-        byte[] longBytes = new byte[8];
-        readFully(longBytes);
-
-        return (((long) longBytes[0] << 56) +
-                ((long) (longBytes[1] & 255) << 48) +
-                ((long) (longBytes[2] & 255) << 40) +
-                ((long) (longBytes[3] & 255) << 32) +
-                ((long) (longBytes[4] & 255) << 24) +
-                ((longBytes[5] & 255) << 16) +
-                ((longBytes[6] & 255) << 8) +
-                ((longBytes[7] & 255) << 0));
-
+        long high = readInt();
+        long low = readInt();
+        return (high << 32) | (low & 0xFFFFFFFFL);
     }
 
     short readShort() {
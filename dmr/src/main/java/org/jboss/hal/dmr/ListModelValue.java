@@ -37,6 +37,7 @@ class ListModelValue extends ModelValue {
     private ListModelValue(ListModelValue orig) {
         super(ModelType.LIST);
         list = new ArrayList<>(orig.list);
+        list.forEach(ModelNode::detach);
     }
 
     ListModelValue(List<ModelNode> list) {
@@ -49,9 +50,7 @@ class ListModelValue extends ModelValue {
         int count = in.readInt();
         ArrayList<ModelNode> list = new ArrayList<>();
         for (int i = 0; i < count; i++) {
-            ModelNode value = new ModelNode();
-            value.readExternal(in);
-            list.add(value);
+            list.add(ModelNode.readChild(in));
         }
         this.list = list;
     }
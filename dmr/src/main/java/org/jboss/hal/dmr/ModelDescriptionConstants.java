@@ -261,6 +261,7 @@ public interface ModelDescriptionConstants {
     String DEPLOYMENT_PERMISSIONS = "deployment-permissions";
     String DEPLOYMENT_SCANNER = "deployment-scanner";
     String DEPRECATED = "deprecated";
+    String DEPTH = "depth";
     String DESCRIPTION = "description";
     String DESTINATION = "destination";
     String DESTINATION_ADDRESS = "destination-address";
@@ -514,6 +515,7 @@ public interface ModelDescriptionConstants {
     String LIST_CONNECTIONS_AS_JSON = "list-connections-as-json";
     String LIST_CONSUMERS_AS_JSON = "list-consumers-as-json";
     String LIST_MESSAGES = "list-messages";
+    String LIST_MESSAGES_AS_JSON = "list-messages-as-json";
     String LIST_PREPARED_TRANSACTION_DETAILS_AS_JSON = "list-prepared-transaction-details-as-json";
     String LIST_PRODUCERS_INFO_AS_JSON = "list-producers-info-as-json";
     String LIST_REMOVE_OPERATION = "list-remove";
@@ -824,6 +826,7 @@ public interface ModelDescriptionConstants {
     String ROLE_MAP = "role-map";
     String ROLE_MAPPING = "role-mapping";
     String ROLES = "roles";
+    String ROLLBACK_ON_RUNTIME_FAILURE = "rollback-on-runtime-failure";
     String ROLLBACK_OPERATION = "rollback";
     String ROLLBACK_PREPARED_TRANSACTION = "rollback-prepared-transaction";
     String ROLLBACK_TO = "rollback-to";
@@ -903,6 +906,7 @@ public interface ModelDescriptionConstants {
     String SINGLETON = "singleton";
     String SIZE_ROTATING_FILE_AUDIT_LOG = "size-rotating-file-audit-log";
     String SIZE_ROTATING_FILE_HANDLER = "size-rotating-file-handler";
+    String SKIP = "skip";
     String SMTP = "smtp";
     String SOCKET_BINDING = "socket-binding";
     String SOCKET_BINDING_DEFAULT_INTERFACE = "socket-binding-default-interface";
@@ -25,6 +25,11 @@ import java.util.Set;
 
 import com.google.common.base.CharMatcher;
 
+import elemental2.core.ArrayBuffer;
+import elemental2.core.DataView;
+import elemental2.core.Int8Array;
+import jsinterop.base.Js;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
@@ -52,6 +57,29 @@ public class ModelNode implements Cloneable {
         return node;
     }
 
+    /**
+     * Creates a new node from an array buffer containing the base64 encoded model (as returned by
+     * {@code Response.arrayBuffer()}). The buffer is decoded directly into a typed array which is read using one shared
+     * {@link DataView}. No intermediate strings are created.
+     * <p>
+     * The children of objects and lists are decoded lazily: Only their offsets are recorded and a child is decoded from the
+     * buffer when it's accessed for the first time.
+     *
+     * @param encoded The array buffer containing the base64 encoded model.
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBase64(ArrayBuffer encoded) {
+        // typed arrays can be used as byte[] in the compiled JavaScript
+        byte[] in = Js.uncheckedCast(new Int8Array(encoded));
+        ArrayBuffer buffer = new ArrayBuffer(Base64Decoder.maxDecodedLength(in.length));
+        byte[] out = Js.uncheckedCast(new Int8Array(buffer));
+        int length = Base64Decoder.decode(in, in.length, out);
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(out, length, new DataView(buffer), true));
+        return node;
+    }
+
     private static native byte[] toBytes(String str) /*-{
         var bytes = [];
         for (var i = 0; i < str.length; ++i) {
@@ -64,6 +92,7 @@ public class ModelNode implements Cloneable {
 
     private boolean protect = false;
     private ModelValue value;
+    private DataInput source; // not null for nodes which have not yet been decoded
 
     public ModelNode() {
         this.value = ModelValue.UNDEFINED;
@@ -73,6 +102,52 @@ public class ModelNode implements Cloneable {
         this.value = value;
     }
 
+    /** Creates a node which is decoded from the given source when it's accessed for the first time. */
+    ModelNode(DataInput source) {
+        this.source = source;
+    }
+
+    /**
+     * Reads a child node from the given source. If the source is lazy, complex values (objects, lists and properties) are
+     * skipped and decoded when they're accessed for the first time. Simple values are always read right away.
+     */
+    static ModelNode readChild(DataInput in) {
+        ModelNode node;
+        ModelType type = in.peekType();
+        if (in.isLazy() && (type == ModelType.OBJECT || type == ModelType.LIST || type == ModelType.PROPERTY)) {
+            node = new ModelNode(in.at(in.position()));
+            in.skipValue();
+        } else {
+            node = new ModelNode();
+            node.readExternal(in);
+        }
+        return node;
+    }
+
+    private ModelValue value() {
+        if (value == null) {
+            DataInput in = source;
+            source = null;
+            readExternal(in);
+        }
+        return value;
+    }
+
+    /**
+     * If this node has not yet been decoded, replaces its source with a copy of its own bytes. Used when a node is shared
+     * between copies, so that it doesn't keep the complete response in memory.
+     */
+    void detach() {
+        if (value == null && (source.position() != 0 || source.length() != serializedSize())) {
+            source = source.detach();
+        }
+    }
+
+    /** The number of bytes referenced by this node if it has not yet been decoded, -1 otherwise. */
+    int sourceLength() {
+        return value == null ? source.length() : -1;
+    }
+
     /**
      * Prevent further modifications to this node and its sub-nodes. Note that copies of this node made after this method call
      * will not be protected.
@@ -80,7 +155,7 @@ public class ModelNode implements Cloneable {
     public void protect() {
         if (!protect) {
             protect = true;
-            value = value.protect();
+            value = value().protect();
         }
     }
 
@@ -93,7 +168,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public long asLong() throws IllegalArgumentException {
-        return value.asLong();
+        return value().asLong();
     }
 
     /**
@@ -105,7 +180,7 @@ public class ModelNode implements Cloneable {
      * @return the long value
      */
     public long asLong(long defVal) {
-        return value.asLong(defVal);
+        return value().asLong(defVal);
     }
 
     /**
@@ -117,7 +192,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public int asInt() throws IllegalArgumentException {
-        return value.asInt();
+        return value().asInt();
     }
 
     /**
@@ -129,7 +204,7 @@ public class ModelNode implements Cloneable {
      * @return the int value
      */
     public int asInt(int defVal) {
-        return value.asInt(defVal);
+        return value().asInt(defVal);
     }
 
     /**
@@ -141,7 +216,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public boolean asBoolean() throws IllegalArgumentException {
-        return value.asBoolean();
+        return value().asBoolean();
     }
 
     /**
@@ -153,7 +228,7 @@ public class ModelNode implements Cloneable {
      * @return the boolean value
      */
     public boolean asBoolean(boolean defVal) {
-        return value.asBoolean(defVal);
+        return value().asBoolean(defVal);
     }
 
     /**
@@ -163,7 +238,7 @@ public class ModelNode implements Cloneable {
      * @return the string value
      */
     public String asString() {
-        return value.asString();
+        return value().asString();
     }
 
     /**
@@ -175,7 +250,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public double asDouble() throws IllegalArgumentException {
-        return value.asDouble();
+        return value().asDouble();
     }
 
     /**
@@ -187,7 +262,7 @@ public class ModelNode implements Cloneable {
      * @return the int value
      */
     public double asDouble(double defVal) {
-        return value.asDouble(defVal);
+        return value().asDouble(defVal);
     }
 
     /**
@@ -199,7 +274,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public ModelType asType() throws IllegalArgumentException {
-        return value.asType();
+        return value().asType();
     }
 
     /**
@@ -211,7 +286,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public BigDecimal asBigDecimal() throws IllegalArgumentException {
-        return value.asBigDecimal();
+        return value().asBigDecimal();
     }
 
     /**
@@ -223,7 +298,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public BigInteger asBigInteger() throws IllegalArgumentException {
-        return value.asBigInteger();
+        return value().asBigInteger();
     }
 
     /**
@@ -235,7 +310,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public byte[] asBytes() throws IllegalArgumentException {
-        return value.asBytes();
+        return value().asBytes();
     }
 
     /**
@@ -248,7 +323,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public Property asProperty() throws IllegalArgumentException {
-        return value.asProperty();
+        return value().asProperty();
     }
 
     /**
@@ -261,7 +336,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public List<Property> asPropertyList() throws IllegalArgumentException {
-        return value.asPropertyList();
+        return value().asPropertyList();
     }
 
     /**
@@ -278,7 +353,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public ModelNode asObject() throws IllegalArgumentException {
-        return value.asObject();
+        return value().asObject();
     }
 
     /**
@@ -503,7 +578,7 @@ public class ModelNode implements Cloneable {
             throw new IllegalArgumentException(NEW_VALUE_IS_NULL);
         }
         checkProtect();
-        value = newValue.value.copy();
+        value = newValue.value().copy();
         return this;
     }
 
@@ -801,7 +876,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if this node does not support getting a child with the given name
      */
     public ModelNode get(String name) {
-        ModelValue value = this.value;
+        ModelValue value = value();
         if (value == ModelValue.UNDEFINED) {
             checkProtect();
             this.value = new ObjectModelValue();
@@ -823,7 +898,7 @@ public class ModelNode implements Cloneable {
      * @throws NoSuchElementException if the element does not exist
      */
     public ModelNode require(String name) throws NoSuchElementException {
-        return value.requireChild(name);
+        return value().requireChild(name);
     }
 
     /**
@@ -838,7 +913,7 @@ public class ModelNode implements Cloneable {
      * @throws NoSuchElementException if the element does not exist
      */
     public ModelNode remove(String name) throws NoSuchElementException {
-        return value.removeChild(name);
+        return value().removeChild(name);
     }
 
     /**
@@ -854,7 +929,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if this node does not support getting a child with the given index
      */
     public ModelNode get(int index) {
-        ModelValue value = this.value;
+        ModelValue value = value();
         if (value == ModelValue.UNDEFINED) {
             checkProtect();
             return (this.value = new ListModelValue()).getChild(index);
@@ -875,7 +950,7 @@ public class ModelNode implements Cloneable {
      * @throws NoSuchElementException if the element does not exist
      */
     public ModelNode require(int index) {
-        return value.requireChild(index);
+        return value().requireChild(index);
     }
 
     /**
@@ -1142,7 +1217,7 @@ public class ModelNode implements Cloneable {
      */
     public ModelNode add() {
         checkProtect();
-        ModelValue value = this.value;
+        ModelValue value = value();
         if (value == ModelValue.UNDEFINED) {
             this.value = new ListModelValue();
             return this.value.addChild();
@@ -1182,7 +1257,7 @@ public class ModelNode implements Cloneable {
      * @return {@code true} if there is a (possibly undefined) node at the given index
      */
     public boolean has(int index) {
-        return value.has(index);
+        return value().has(index);
     }
 
     /**
@@ -1194,7 +1269,7 @@ public class ModelNode implements Cloneable {
      * @return true if there is a (possibly undefined) node at the given key
      */
     public boolean has(String key) {
-        return value.has(key);
+        return value().has(key);
     }
 
     /**
@@ -1207,7 +1282,7 @@ public class ModelNode implements Cloneable {
      *         {@link ModelType#UNDEFINED}
      */
     public boolean hasDefined(int index) {
-        return value.has(index) && get(index).isDefined();
+        return value().has(index) && get(index).isDefined();
     }
 
     /**
@@ -1219,7 +1294,7 @@ public class ModelNode implements Cloneable {
      * @return true if there is a node at the given index and its type is not undefined
      */
     public boolean hasDefined(String key) {
-        return value.has(key) && get(key).isDefined();
+        return value().has(key) && get(key).isDefined();
     }
 
     /**
@@ -1229,7 +1304,7 @@ public class ModelNode implements Cloneable {
      * @return the key set
      */
     public Set<String> keys() {
-        return value.getKeys();
+        return value().getKeys();
     }
 
     /**
@@ -1240,7 +1315,7 @@ public class ModelNode implements Cloneable {
      * @return the entry list
      */
     public List<ModelNode> asList() {
-        return value.asList();
+        return value().asList();
     }
 
     /**
@@ -1268,7 +1343,7 @@ public class ModelNode implements Cloneable {
      */
     @Override
     public String toString() {
-        return value.toString();
+        return value().toString();
     }
 
     /**
@@ -1280,11 +1355,11 @@ public class ModelNode implements Cloneable {
      * @return The JSON string.
      */
     public String toJSONString(boolean compact) {
-        return value.toJSONString(compact);
+        return value().toJSONString(compact);
     }
 
     public String toJSONString() {
-        return value.toJSONString(false);
+        return value().toJSONString(false);
     }
 
     public String toBase64String() {
@@ -1301,7 +1376,7 @@ public class ModelNode implements Cloneable {
      */
     public ModelNode resolve() {
         ModelNode newNode = new ModelNode();
-        newNode.value = value.resolve();
+        newNode.value = value().resolve();
         return newNode;
     }
 
@@ -1325,7 +1400,7 @@ public class ModelNode implements Cloneable {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(ModelNode other) {
-        return this == other || other != null && other.value.equals(value);
+        return this == other || other != null && other.value().equals(value());
     }
 
     /**
@@ -1336,7 +1411,81 @@ public class ModelNode implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return value().hashCode();
+    }
+
+    /**
+     * Returns the size of this node in the binary DMR format (without base64 encoding). Nodes which have not yet been decoded
+     * are measured by skipping over their bytes, without decoding them.
+     *
+     * @return the number of bytes needed to write this node
+     */
+    public int serializedSize() {
+        if (value == null) {
+            DataInput in = source.at(source.position());
+            int start = in.position();
+            in.skipValue();
+            return in.position() - start;
+        }
+        int size = 1; // type
+        switch (value.getType()) {
+            case BOOLEAN:
+            case TYPE:
+                size += 1;
+                break;
+            case INT:
+                size += 4;
+                break;
+            case LONG:
+            case DOUBLE:
+                size += 8;
+                break;
+            case BIG_INTEGER:
+                size += 4 + asBigInteger().toByteArray().length;
+                break;
+            case BYTES:
+                size += 4 + asBytes().length;
+                break;
+            case BIG_DECIMAL:
+            case EXPRESSION:
+            case STRING:
+                size += utfSize(asString());
+                break;
+            case LIST:
+                size += 4;
+                for (ModelNode node : asList()) {
+                    size += node.serializedSize();
+                }
+                break;
+            case OBJECT:
+                size += 4;
+                for (String key : keys()) {
+                    size += utfSize(key) + get(key).serializedSize();
+                }
+                break;
+            case PROPERTY:
+                Property property = asProperty();
+                size += utfSize(property.getName()) + property.getValue().serializedSize();
+                break;
+            default:
+                break;
+        }
+        return size;
+    }
+
+    private static int utfSize(String s) {
+        int size = 2; // length
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c > 0 && c <= 0x7f) {
+                size += 1;
+            } else if (c <= 0x07ff) {
+                size += 2;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
     }
 
     /**
@@ -1345,17 +1494,21 @@ public class ModelNode implements Cloneable {
      * @return the clone
      */
     public ModelNode clone() {
+        if (value == null) {
+            // not yet decoded: the clone decodes independently from a copy of its own bytes
+            return new ModelNode(source.detach());
+        }
         ModelNode clone = new ModelNode();
         clone.value = value.copy();
         return clone;
     }
 
     protected void format(StringBuilder builder, int indent, boolean multiLine) {
-        value.format(builder, indent, multiLine);
+        value().format(builder, indent, multiLine);
     }
 
     void formatAsJSON(StringBuilder builder, int indent, boolean multiLine) {
-        value.formatAsJSON(builder, indent, multiLine);
+        value().formatAsJSON(builder, indent, multiLine);
     }
 
     /**
@@ -1364,7 +1517,7 @@ public class ModelNode implements Cloneable {
      * @return the node type
      */
     public ModelType getType() {
-        return value.getType();
+        return value().getType();
     }
 
     /**
@@ -1373,7 +1526,7 @@ public class ModelNode implements Cloneable {
      * @param out the target to which the content should be written
      */
     public void writeExternal(DataOutput out) {
-        ModelValue value = this.value;
+        ModelValue value = value();
         ModelType type = value.getType();
         out.writeByte(type.getTypeChar());
         value.writeExternal(out);
@@ -47,9 +47,7 @@ class ObjectModelValue extends ModelValue {
         LinkedHashMap<String, ModelNode> map = new LinkedHashMap<>();
         for (int i = 0; i < count; i++) {
             String key = in.readUTF();
-            ModelNode value = new ModelNode();
-            value.readExternal(in);
-            map.put(key, value);
+            map.put(key, ModelNode.readChild(in));
         }
         this.map = map;
     }
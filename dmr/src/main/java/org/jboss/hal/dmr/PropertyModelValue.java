@@ -43,10 +43,8 @@ class PropertyModelValue extends ModelValue {
 
     PropertyModelValue(DataInput in) {
         super(ModelType.PROPERTY);
-        ModelNode node = new ModelNode();
         String name = in.readUTF();
-        node.readExternal(in);
-        property = new Property(name, node);
+        property = new Property(name, ModelNode.readChild(in));
     }
 
     @Override
@@ -105,6 +103,7 @@ class PropertyModelValue extends ModelValue {
 
     @Override
     ModelValue copy() {
+        property.getValue().detach();
         return new PropertyModelValue(property.getName(), property.getValue());
     }
 
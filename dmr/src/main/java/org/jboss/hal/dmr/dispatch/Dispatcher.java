@@ -49,6 +49,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
 
+import elemental2.core.ArrayBuffer;
 import elemental2.dom.Blob;
 import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
 import elemental2.dom.BlobPropertyBag;
@@ -59,6 +60,7 @@ import elemental2.dom.Headers;
 import elemental2.dom.Request;
 import elemental2.dom.RequestInit;
 import elemental2.dom.Response;
+import elemental2.dom.XMLHttpRequest;
 import elemental2.promise.IThenable.ThenOnFulfilledCallbackFn;
 import elemental2.promise.Promise;
 import elemental2.promise.Promise.CatchOnRejectedCallbackFn;
@@ -204,8 +206,8 @@ public class Dispatcher implements RecordingHandler {
         Request request = new Request(endpoints.dmr(), init);
 
         return fetch(request)
-                .then(processResponse())
-                .then(processText(operation, new DmrPayloadProcessor(), true))
+                .then(processBinaryResponse())
+                .then(processBuffer(operation, new DmrPayloadProcessor()))
                 .catch_(rejectWithError());
     }
 
@@ -224,6 +226,59 @@ public class Dispatcher implements RecordingHandler {
     }
 
     public Promise<ModelNode> upload(File file, Operation operation) {
+        RequestInit init = requestInit(POST, false);
+        init.setBody(uploadFormData(file, operation));
+        Request request = new Request(endpoints.upload(), init);
+
+        return fetch(request)
+                .then(processResponse())
+                .then(processText(operation, new UploadPayloadProcessor(), false))
+                .catch_(rejectWithError());
+    }
+
+    /**
+     * Like {@link #upload(File, Operation)}, but reports the number of bytes sent. Uses {@code XMLHttpRequest} instead of
+     * {@code fetch()}, since only the former reports upload progress.
+     */
+    public Promise<ModelNode> upload(File file, Operation operation, UploadProgress progress) {
+        FormData formData = uploadFormData(file, operation);
+        return new Promise<String>((resolve, reject) -> {
+            XMLHttpRequest xhr = new XMLHttpRequest();
+            xhr.open(POST.name(), endpoints.upload(), true);
+            xhr.withCredentials = true;
+            xhr.setRequestHeader(X_MANAGEMENT_CLIENT_NAME.header(), HEADER_MANAGEMENT_CLIENT_VALUE);
+            String bearerToken = getBearerToken();
+            if (bearerToken != null) {
+                xhr.setRequestHeader("Authorization", "Bearer " + bearerToken);
+            }
+            xhr.upload.onprogress = event -> {
+                if (event.lengthComputable) {
+                    progress.onProgress(event.loaded, event.total);
+                }
+            };
+            xhr.onload = event -> {
+                if ((xhr.status < 200 || xhr.status >= 300) && xhr.status != 500) {
+                    reject.onInvoke(statusError(xhr.status));
+                } else {
+                    String contentType = xhr.getResponseHeader(CONTENT_TYPE.header());
+                    if (contentType == null || !contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+                        reject.onInvoke(PARSE_ERROR + contentType);
+                    } else {
+                        resolve.onInvoke(xhr.responseText);
+                    }
+                }
+            };
+            xhr.onerror = event -> {
+                reject.onInvoke(statusError(0));
+                return null;
+            };
+            xhr.send(formData);
+        })
+                .then(processText(operation, new UploadPayloadProcessor(), false))
+                .catch_(rejectWithError());
+    }
+
+    private FormData uploadFormData(File file, Operation operation) {
         Operation uploadOperation = runAs(operation);
         ConstructorBlobPartsArrayUnionType blob = ConstructorBlobPartsArrayUnionType.of(
                 uploadOperation.toBase64String());
@@ -240,15 +295,7 @@ public class Dispatcher implements RecordingHandler {
             formData.append(file.name, AppendValueUnionType.of(file));
         }
         formData.append(OPERATION, new Blob(new ConstructorBlobPartsArrayUnionType[] { blob }, options));
-
-        RequestInit init = requestInit(POST, false);
-        init.setBody(formData);
-        Request request = new Request(endpoints.upload(), init);
-
-        return fetch(request)
-                .then(processResponse())
-                .then(processText(operation, new UploadPayloadProcessor(), false))
-                .catch_(rejectWithError());
+        return formData;
     }
 
     // ------------------------------------------------------ download
@@ -370,6 +417,20 @@ public class Dispatcher implements RecordingHandler {
         };
     }
 
+    /** Like {@link #processResponse()}, but returns the raw array buffer instead of the text. */
+    ThenOnFulfilledCallbackFn<Response, ArrayBuffer> processBinaryResponse() {
+        return response -> {
+            if (!response.ok && response.status != 500) {
+                return Promise.reject(statusError(response.status));
+            }
+            String contentType = response.headers.get(CONTENT_TYPE.header());
+            if (!contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+                return Promise.reject(PARSE_ERROR + contentType);
+            }
+            return response.arrayBuffer();
+        };
+    }
+
     ThenOnFulfilledCallbackFn<String, ModelNode> processText(Operation operation, PayloadProcessor payloadProcessor,
             boolean recordOperation) {
         return text -> {
@@ -377,30 +438,45 @@ public class Dispatcher implements RecordingHandler {
                 recordOperation(operation);
             }
             logger.trace("DMR operation: {}", operation);
-            ModelNode payload = payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text);
-            if (!payload.isFailure()) {
-                if (environment.isStandalone()) {
-                    if (payload.hasDefined(RESPONSE_HEADERS)) {
-                        Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+            return processPayload(operation, payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text));
+        };
+    }
+
+    ThenOnFulfilledCallbackFn<ArrayBuffer, ModelNode> processBuffer(Operation operation,
+            DmrPayloadProcessor payloadProcessor) {
+        return buffer -> {
+            recordOperation(operation);
+            logger.trace("DMR operation: {}", operation);
+            return processPayload(operation, payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, buffer));
+        };
+    }
+
+    private Promise<ModelNode> processPayload(Operation operation, ModelNode payload) {
+        if (!payload.isFailure()) {
+            if (environment.isStandalone()) {
+                if (payload.hasDefined(RESPONSE_HEADERS)) {
+                    Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+                    for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
+                        processor.process(headers);
+                    }
+                }
+            } else {
+                if (payload.hasDefined(SERVER_GROUPS)) {
+                    Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
+                    if (headers.length != 0) {
                         for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
                             processor.process(headers);
                         }
                     }
-                } else {
-                    if (payload.hasDefined(SERVER_GROUPS)) {
-                        Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
-                        if (headers.length != 0) {
-                            for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                                processor.process(headers);
-                            }
-                        }
-                    }
                 }
-                return Promise.resolve(payload);
-            } else {
-                return Promise.reject(payload.getFailureDescription());
             }
-        };
+            if (!readOnlyOperation(operation)) {
+                eventBus.fireEvent(new ModelChangedEvent(operation));
+            }
+            return Promise.resolve(payload);
+        } else {
+            return Promise.reject(payload.getFailureDescription());
+        }
     }
 
     private Header[] collectHeaders(ModelNode serverGroups) {
@@ -15,9 +15,13 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import java.util.function.Supplier;
+
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod;
 
+import elemental2.core.ArrayBuffer;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 
@@ -25,10 +29,19 @@ public class DmrPayloadProcessor implements PayloadProcessor {
 
     @Override
     public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
+        return process(method, contentType, () -> ModelNode.fromBase64(payload));
+    }
+
+    /** Decodes the payload directly from the array buffer of the response. */
+    public ModelNode processPayload(final HttpMethod method, final String contentType, final ArrayBuffer payload) {
+        return process(method, contentType, () -> ModelNode.fromBase64(payload));
+    }
+
+    private ModelNode process(HttpMethod method, String contentType, Supplier<ModelNode> decoder) {
         ModelNode node;
         if (contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
             try {
-                node = ModelNode.fromBase64(payload);
+                node = decoder.get();
                 if (method == GET && !node.isFailure()) {
                     // For GET request the response is purely the model nodes result. The outcome
                     // is not send as part of the response but expressed with the HTTP status code.
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.Operation;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+
+/**
+ * Fired by the {@link Dispatcher} after an operation which is not read-only has been executed successfully. Lets client side
+ * caches drop data which might be outdated now.
+ */
+public class ModelChangedEvent extends GwtEvent<ModelChangedEvent.ModelChangedHandler> {
+
+    private static final Type<ModelChangedHandler> TYPE = new Type<>();
+
+    public static Type<ModelChangedHandler> getType() {
+        return TYPE;
+    }
+
+    private final Operation operation;
+
+    ModelChangedEvent(final Operation operation) {
+        this.operation = operation;
+    }
+
+    /** The executed operation. Might be a {@link org.jboss.hal.dmr.Composite}. */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    protected void dispatch(ModelChangedHandler handler) {
+        handler.onModelChanged(this);
+    }
+
+    @Override
+    public Type<ModelChangedHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    public interface ModelChangedHandler extends EventHandler {
+
+        void onModelChanged(ModelChangedEvent event);
+    }
+}
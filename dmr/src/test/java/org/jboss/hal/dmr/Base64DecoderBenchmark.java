@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+
+import com.google.common.base.CharMatcher;
+
+import static org.jboss.hal.dmr.Base64DecoderTest.MACRO_OPTIONS_BASE64;
+import static org.jboss.hal.dmr.Base64DecoderTest.MACRO_OPTIONS_DMR;
+
+/**
+ * Compares the decoding of base64 encoded DMR using the {@link Base64Decoder} with the string based path of
+ * {@link ModelNode#fromBase64(String)}. The string based path is simulated on the JVM: whitespace is removed using
+ * {@link CharMatcher}, the payload is decoded into a Latin-1 string (like {@code atob()}) and copied char by char into a byte
+ * array.
+ * <p>
+ * This is not a unit test. Run it manually from the {@code dmr} folder using
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=org.jboss.hal.dmr.Base64DecoderBenchmark -Dexec.classpathScope=test
+ * </pre>
+ * <p>
+ * Please note that the numbers measured on the JVM are only an indication. The real gain in the browser is bigger, since
+ * {@code response.text()}, {@code atob()} and the JavaScript array are avoided entirely.
+ */
+public class Base64DecoderBenchmark {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    public static void main(String[] args) throws IOException {
+        byte[] small = Files.readAllBytes(MACRO_OPTIONS_BASE64);
+
+        // build a large payload by repeating the macro options fixture (similar to a recursive r-r-d result)
+        org.jboss.dmr.ModelNode macroOptions = org.jboss.dmr.ModelNode.fromStream(
+                new FileInputStream(MACRO_OPTIONS_DMR.toFile()));
+        org.jboss.dmr.ModelNode list = new org.jboss.dmr.ModelNode();
+        for (int i = 0; i < 500; i++) {
+            org.jboss.dmr.ModelNode item = macroOptions.clone();
+            item.get("index").set(i);
+            item.get("ratio").set(i / 3.0);
+            item.get("timestamp").set(System.currentTimeMillis() + i);
+            list.add(item);
+        }
+        byte[] large = Base64DecoderTest.encode(list).getBytes(StandardCharsets.US_ASCII);
+
+        run("macroOptions.base64 (" + small.length + " bytes)", small);
+        run("synthetic list (" + large.length + " bytes)", large);
+    }
+
+    private static void run(String name, byte[] encoded) {
+        String text = new String(encoded, StandardCharsets.US_ASCII);
+        for (int i = 0; i < WARMUP; i++) {
+            stringPath(text);
+            bufferPath(encoded);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            stringPath(text);
+        }
+        long stringPath = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bufferPath(encoded);
+        }
+        long bufferPath = System.nanoTime() - start;
+
+        System.out.printf("%s%n  string path: %8.1f us/op%n  buffer path: %8.1f us/op%n", name,
+                stringPath / 1000.0 / ITERATIONS, bufferPath / 1000.0 / ITERATIONS);
+    }
+
+    private static ModelNode stringPath(String encoded) {
+        String safeEncoded = CharMatcher.breakingWhitespace().removeFrom(encoded);
+        String decoded = new String(Base64.getDecoder().decode(safeEncoded), StandardCharsets.ISO_8859_1);
+        byte[] bytes = new byte[decoded.length()];
+        for (int i = 0; i < decoded.length(); i++) {
+            bytes[i] = (byte) decoded.charAt(i);
+        }
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(bytes));
+        return node;
+    }
+
+    private static ModelNode bufferPath(byte[] encoded) {
+        byte[] decoded = new byte[Base64Decoder.maxDecodedLength(encoded.length)];
+        int length = Base64Decoder.decode(encoded, encoded.length, decoded);
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(decoded, length, null, false));
+        return node;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class Base64DecoderTest {
+
+    static final Path MACRO_OPTIONS_BASE64 = Paths.get("src/main/java/org/jboss/hal/dmr/macro/macroOptions.base64");
+    static final Path MACRO_OPTIONS_DMR = Paths.get("src/main/java/org/jboss/hal/dmr/macro/macroOptions.dmr");
+
+    @Test
+    public void empty() {
+        assertArrayEquals(new byte[0], decode(""));
+    }
+
+    @Test
+    public void padding() {
+        assertArrayEquals("f".getBytes(StandardCharsets.US_ASCII), decode("Zg=="));
+        assertArrayEquals("fo".getBytes(StandardCharsets.US_ASCII), decode("Zm8="));
+        assertArrayEquals("foo".getBytes(StandardCharsets.US_ASCII), decode("Zm9v"));
+    }
+
+    @Test
+    public void whitespace() {
+        assertArrayEquals("foobar".getBytes(StandardCharsets.US_ASCII), decode(" Zm9v\r\nYm\tFy\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid() {
+        decode("Zm9v!");
+    }
+
+    @Test
+    public void binary() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        assertArrayEquals(bytes, decode(Base64.getMimeEncoder().encodeToString(bytes)));
+    }
+
+    @Test
+    public void modelNode() throws IOException {
+        byte[] encoded = Files.readAllBytes(MACRO_OPTIONS_BASE64);
+        byte[] decoded = new byte[Base64Decoder.maxDecodedLength(encoded.length)];
+        int length = Base64Decoder.decode(encoded, encoded.length, decoded);
+
+        ModelNode modelNode = new ModelNode();
+        modelNode.readExternal(new DataInput(decoded, length, null, false));
+        assertEquals(ExternalModelNode.read(new FileInputStream(MACRO_OPTIONS_DMR.toFile())), modelNode);
+    }
+
+    @Test
+    public void numbers() throws IOException {
+        org.jboss.dmr.ModelNode external = new org.jboss.dmr.ModelNode();
+        external.get("double").set(Math.PI);
+        external.get("negative-double").set(-0.125);
+        external.get("long").set(Long.MIN_VALUE + 42);
+        external.get("int").set(-4711);
+
+        ModelNode modelNode = decodeModelNode(encode(external));
+        assertEquals(Math.PI, modelNode.get("double").asDouble(), 0);
+        assertEquals(-0.125, modelNode.get("negative-double").asDouble(), 0);
+        assertEquals(Long.MIN_VALUE + 42, modelNode.get("long").asLong());
+        assertEquals(-4711, modelNode.get("int").asInt());
+    }
+
+    static String encode(org.jboss.dmr.ModelNode external) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        external.writeExternal(new DataOutputStream(out));
+        return Base64.getMimeEncoder().encodeToString(out.toByteArray());
+    }
+
+    private ModelNode decodeModelNode(String base64) {
+        byte[] decoded = decode(base64);
+        ModelNode modelNode = new ModelNode();
+        modelNode.readExternal(new DataInput(decoded));
+        return modelNode;
+    }
+
+    private byte[] decode(String base64) {
+        byte[] encoded = base64.getBytes(StandardCharsets.US_ASCII);
+        byte[] decoded = new byte[Base64Decoder.maxDecodedLength(encoded.length)];
+        int length = Base64Decoder.decode(encoded, encoded.length, decoded);
+        byte[] result = new byte[length];
+        System.arraycopy(decoded, 0, result, 0, length);
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.Base64DecoderTest.MACRO_OPTIONS_DMR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LazyModelNodeTest {
+
+    private byte[] bytes;
+    private ModelNode eager;
+
+    @Before
+    public void setUp() throws IOException {
+        org.jboss.dmr.ModelNode node = new org.jboss.dmr.ModelNode();
+        for (int i = 0; i < 10; i++) {
+            org.jboss.dmr.ModelNode child = node.get("result").add();
+            child.get("name").set("child-" + i);
+            child.get("int").set(i);
+            child.get("long").set(Long.MAX_VALUE - i);
+            child.get("double").set(i + 0.5);
+            child.get("boolean").set(i % 2 == 0);
+            child.get("big-decimal").set(new BigDecimal("123.456"));
+            child.get("big-integer").set(new BigInteger("12345678901234567890"));
+            child.get("bytes").set(new byte[] { 1, 2, 3 });
+            child.get("expression").set(new org.jboss.dmr.ValueExpression("${foo:bar}"));
+            child.get("type").set(org.jboss.dmr.ModelType.STRING);
+            child.get("property").set("key", "värde");
+            child.get("undefined");
+            child.get("nested", "list").add("a").add(1).add().get("deep").set(true);
+        }
+        bytes = write(node);
+        eager = new ModelNode();
+        eager.readExternal(new DataInput(bytes));
+    }
+
+    @Test
+    public void equality() {
+        ModelNode lazy = lazy(bytes);
+        assertEquals(eager, lazy);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(eager.toString(), lazy.toString());
+    }
+
+    @Test
+    public void partialAccess() {
+        ModelNode lazy = lazy(bytes);
+        assertEquals("child-3", lazy.get("result").get(3).get("name").asString());
+        assertEquals("a", lazy.get("result").get(7).get("nested", "list").get(0).asString());
+        assertTrue(lazy.get("result").get(7).get("nested", "list").get(2).get("deep").asBoolean());
+        assertEquals(eager, lazy);
+    }
+
+    @Test
+    public void propertyList() {
+        ModelNode lazy = lazy(bytes);
+        List<Property> expected = eager.get("result").get(5).asPropertyList();
+        List<Property> actual = lazy.get("result").get(5).asPropertyList();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getName(), actual.get(i).getName());
+            assertEquals(expected.get(i).getValue(), actual.get(i).getValue());
+        }
+        assertEquals("värde", lazy.get("result").get(5).get("property").asProperty().getValue().asString());
+    }
+
+    @Test
+    public void modification() {
+        ModelNode lazy = lazy(bytes);
+        lazy.get("result").get(2).get("name").set("changed");
+        assertEquals("changed", lazy.get("result").get(2).get("name").asString());
+        assertNotEquals(eager, lazy);
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        ModelNode lazy = lazy(bytes);
+        ModelNode child = lazy.get("result").get(4);
+        ModelNode clone = child.clone();
+        child.get("name").set("changed");
+        assertEquals("child-4", clone.get("name").asString());
+        assertEquals(eager.get("result").get(4), clone);
+    }
+
+    @Test
+    public void cloneDetachesFromResponse() {
+        ModelNode lazy = lazy(bytes);
+        ModelNode child = lazy.get("result").get(4);
+        assertEquals(bytes.length, child.sourceLength());
+
+        ModelNode clone = child.clone();
+        assertEquals(child.serializedSize(), clone.sourceLength());
+        assertEquals(eager.get("result").get(4), clone);
+    }
+
+    @Test
+    public void copyDetachesSharedChildren() {
+        ModelNode lazy = lazy(bytes);
+        ModelNode copy = new ModelNode();
+        copy.set(lazy.get("result"));
+        ModelNode child = copy.get(6);
+        assertEquals(child.serializedSize(), child.sourceLength());
+        assertEquals(eager.get("result").get(6), child);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void protect() {
+        ModelNode lazy = lazy(bytes);
+        lazy.protect();
+        assertTrue(lazy.get("result").get(1).hasDefined("name"));
+        assertFalse(lazy.get("result").get(1).hasDefined("undefined"));
+        lazy.get("result").get(1).get("name").set("changed");
+    }
+
+    @Test
+    public void serializedSize() {
+        assertEquals(bytes.length, eager.serializedSize());
+        assertEquals(bytes.length, lazy(bytes).serializedSize());
+
+        ModelNode lazy = lazy(bytes);
+        lazy.get("result").get(1).get("nested").keys();
+        assertEquals(bytes.length, lazy.serializedSize());
+        assertEquals(eager.get("result").get(1).serializedSize(), lazy.get("result").get(1).serializedSize());
+    }
+
+    @Test
+    public void macroOptions() throws IOException {
+        org.jboss.dmr.ModelNode node = org.jboss.dmr.ModelNode.fromStream(new FileInputStream(MACRO_OPTIONS_DMR.toFile()));
+        byte[] bytes = write(node);
+        ModelNode eager = new ModelNode();
+        eager.readExternal(new DataInput(bytes));
+        assertEquals(eager, lazy(bytes));
+    }
+
+    private static ModelNode lazy(byte[] bytes) {
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(bytes, bytes.length, null, true));
+        return node;
+    }
+
+    private static byte[] write(org.jboss.dmr.ModelNode node) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        node.writeExternal(new DataOutputStream(baos));
+        return baos.toByteArray();
+    }
+}
@@ -15,17 +15,42 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.CacheStats;
+
+import static java.util.Collections.singletonMap;
+import static java.util.Comparator.comparingInt;
 
-/** Abstract registry which uses the specified statement context to resolve the address template. */
-public abstract class AbstractRegistry<T> implements Registry<T> {
+/**
+ * Abstract registry which uses the specified statement context to resolve the address template. The metadata is kept in a cache
+ * which is bounded by the serialized size of the metadata. Metadata added by a recursive lookup is stored as one entry per
+ * resource. This entry also answers the lookups for the descendants of the resource.
+ */
+public abstract class AbstractRegistry<T extends ModelNode> implements Registry<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractRegistry.class);
 
     private final StatementContext statementContext;
     protected final String type;
+    private final MetadataCache<T> cache;
 
-    protected AbstractRegistry(StatementContext statementContext, String type) {
+    /**
+     * @param maximumWeight the maximum serialized size in bytes of all metadata in this registry
+     */
+    protected AbstractRegistry(StatementContext statementContext, String type, long maximumWeight) {
         this.statementContext = statementContext;
         this.type = type;
+        this.cache = new MetadataCache<>(type, maximumWeight);
     }
 
     @Override
@@ -44,9 +69,77 @@ public abstract class AbstractRegistry<T> implements Registry<T> {
         return metadata;
     }
 
+    /**
+     * Resolves each template once and returns whether metadata is present and whether it has been added by a recursive lookup.
+     * Use this method instead of calling {@link #contains(AddressTemplate)} and {@link #lookup(AddressTemplate)} for each
+     * template.
+     */
+    @Override
+    public MetadataPresence lookupAll(Set<AddressTemplate> templates) {
+        MetadataPresence presence = new MetadataPresence(templates);
+        for (int i = 0; i < presence.size(); i++) {
+            presence.set(i, cache.presence(resolveTemplate(presence.template(i))));
+        }
+        return presence;
+    }
+
+    public void add(ResourceAddress address, T metadata, boolean recursive) {
+        addAll(singletonMap(address, metadata), recursive);
+    }
+
+    /**
+     * Adds the metadata to this registry. If {@code recursive == true}, the metadata is grouped by the topmost resource and
+     * each group is stored as one cache entry. Otherwise each metadata is stored as its own entry.
+     */
+    public void addAll(Map<ResourceAddress, T> metadata, boolean recursive) {
+        List<ResourceAddress> addresses = new ArrayList<>(metadata.keySet());
+        addresses.sort(comparingInt(ResourceAddress::size));
+        Map<ResourceAddress, Map<ResourceAddress, T>> groups = new LinkedHashMap<>();
+        for (ResourceAddress address : addresses) {
+            T m = metadata.get(address);
+            ResourceAddress root = recursive ? root(address, groups) : null;
+            if (root == null) {
+                root = address;
+            }
+            groups.computeIfAbsent(root, r -> new LinkedHashMap<>()).put(address, m);
+        }
+        groups.forEach((root, group) -> cache.put(root, group, recursive));
+        logger.debug("Added {} addresses in {} entries to {} ({})", addresses.size(), groups.size(), type,
+                recursive ? "recursive" : "none-recursive");
+    }
+
+    private ResourceAddress root(ResourceAddress address, Map<ResourceAddress, ?> groups) {
+        ResourceAddress current = address;
+        while (current.size() > 0) {
+            current = current.getParent();
+            if (groups.containsKey(current)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
     protected ResourceAddress resolveTemplate(AddressTemplate template) {
-        return template.resolve(statementContext);
+        // the shared address is only used for lookups and must not be modified
+        return template.resolveShared(statementContext);
+    }
+
+    protected T lookupAddress(ResourceAddress address) {
+        return cache.get(address);
+    }
+
+    /** @return the statistics of the underlying cache */
+    public CacheStats stats() {
+        return cache.stats();
     }
 
-    protected abstract T lookupAddress(ResourceAddress address);
+    /** @return the number of addresses in the underlying cache */
+    public long size() {
+        return cache.size();
+    }
+
+    /** @return the serialized size in bytes of all metadata in the underlying cache */
+    public long weight() {
+        return cache.weight();
+    }
 }
@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -67,6 +66,13 @@ import static java.util.stream.Collectors.toList;
  */
 public final class AddressTemplate implements Iterable<String> {
 
+    /**
+     * Address templates are immutable and created over and over again for the same strings. Instances are interned to save
+     * parsing and to share the cached resolved addresses. The map is cleared if it grows beyond {@link #MAX_INTERNED}.
+     */
+    private static final int MAX_INTERNED = 2000;
+    private static final Map<String, AddressTemplate> INTERNED = new HashMap<>();
+
     /**
      * The root template
      */
@@ -105,7 +111,19 @@ public final class AddressTemplate implements Iterable<String> {
 
     /** Creates a new address template from an encoded string template. */
     public static AddressTemplate of(String template) {
-        return new AddressTemplate(withSlash(template));
+        String slashTemplate = withSlash(template);
+        if (slashTemplate == null) {
+            return new AddressTemplate(null);
+        }
+        AddressTemplate addressTemplate = INTERNED.get(slashTemplate);
+        if (addressTemplate == null) {
+            if (INTERNED.size() >= MAX_INTERNED) {
+                INTERNED.clear();
+            }
+            addressTemplate = new AddressTemplate(slashTemplate);
+            INTERNED.put(slashTemplate, addressTemplate);
+        }
+        return addressTemplate;
     }
 
     /**
@@ -169,8 +187,10 @@ public final class AddressTemplate implements Iterable<String> {
     private static final String BLANK = "_blank";
 
     private final String template;
-    private final LinkedList<Token> tokens;
+    private final List<Token> tokens;
     private final boolean optional;
+    private final boolean placeholders;
+    private final Map<StatementContext, Resolved> resolved;
 
     /**
      * Creates a new instance from an encoded string template. '/' characters inside values must have been encoded using
@@ -184,10 +204,13 @@ public final class AddressTemplate implements Iterable<String> {
         this.tokens = parse(template);
         this.optional = template.startsWith(OPTIONAL);
         this.template = join(optional, tokens);
+        this.placeholders = tokens.stream()
+                .anyMatch(token -> token.value.startsWith("{") || (token.hasKey() && token.key.startsWith("{")));
+        this.resolved = new HashMap<>();
     }
 
-    private LinkedList<Token> parse(String template) {
-        LinkedList<Token> tokens = new LinkedList<>();
+    private List<Token> parse(String template) {
+        List<Token> tokens = new ArrayList<>();
 
         if (template.equals("/")) {
             return tokens;
@@ -288,7 +311,7 @@ public final class AddressTemplate implements Iterable<String> {
      *                                   || fromIndex &gt; toIndex</tt>)
      */
     public AddressTemplate subTemplate(int fromIndex, int toIndex) {
-        LinkedList<Token> subTokens = new LinkedList<>(this.tokens.subList(fromIndex, toIndex));
+        List<Token> subTokens = new ArrayList<>(this.tokens.subList(fromIndex, toIndex));
         return AddressTemplate.of(join(this.optional, subTokens));
     }
 
@@ -319,7 +342,7 @@ public final class AddressTemplate implements Iterable<String> {
             allWildcards.addAll(Arrays.asList(wildcards));
         }
 
-        LinkedList<Token> replacedTokens = new LinkedList<>();
+        List<Token> replacedTokens = new ArrayList<>();
         Iterator<String> wi = allWildcards.iterator();
         for (Token token : tokens) {
             if (wi.hasNext() && token.hasKey() && "*".equals(token.getValue())) {
@@ -335,8 +358,8 @@ public final class AddressTemplate implements Iterable<String> {
      * @return the name of the first segment or null if this address template is empty.
      */
     public String firstName() {
-        if (!tokens.isEmpty() && tokens.getFirst().hasKey()) {
-            return tokens.getFirst().getKey();
+        if (!tokens.isEmpty() && tokens.get(0).hasKey()) {
+            return tokens.get(0).getKey();
         }
         return null;
     }
@@ -345,8 +368,8 @@ public final class AddressTemplate implements Iterable<String> {
      * @return the value of the first segment or null if this address template is empty.
      */
     public String firstValue() {
-        if (!tokens.isEmpty() && tokens.getFirst().hasKey()) {
-            return tokens.getFirst().getValue();
+        if (!tokens.isEmpty() && tokens.get(0).hasKey()) {
+            return tokens.get(0).getValue();
         }
         return null;
     }
@@ -355,8 +378,8 @@ public final class AddressTemplate implements Iterable<String> {
      * @return the name of the last segment or null if this address template is empty.
      */
     public String lastName() {
-        if (!tokens.isEmpty() && tokens.getLast().hasKey()) {
-            return tokens.getLast().getKey();
+        if (!tokens.isEmpty() && tokens.get(tokens.size() - 1).hasKey()) {
+            return tokens.get(tokens.size() - 1).getKey();
         }
         return null;
     }
@@ -365,8 +388,8 @@ public final class AddressTemplate implements Iterable<String> {
      * @return the value of the last segment or null if this address template is empty.
      */
     public String lastValue() {
-        if (!tokens.isEmpty() && tokens.getLast().hasKey()) {
-            return tokens.getLast().getValue();
+        if (!tokens.isEmpty() && tokens.get(tokens.size() - 1).hasKey()) {
+            return tokens.get(tokens.size() - 1).getValue();
         }
         return null;
     }
@@ -393,6 +416,45 @@ public final class AddressTemplate implements Iterable<String> {
      * @return a fully qualified resource address which might be empty, but which does not contain any tokens
      */
     public ResourceAddress resolve(StatementContext context, String... wildcards) {
+        if (!isEmpty() && (wildcards == null || wildcards.length == 0)
+                && (!placeholders || context.generation() >= 0)) {
+            // copy the shared address since callers are free to modify the returned address
+            return new ResourceAddress(resolveShared(context));
+        }
+        return resolveInternal(context, wildcards);
+    }
+
+    /**
+     * Resolves this address template against the specified statement context and returns a cached, protected address as long as
+     * the {@linkplain StatementContext#generation() generation} of the statement context does not change. Templates without
+     * placeholders are resolved only once. Callers must not modify the returned address!
+     */
+    ResourceAddress resolveShared(StatementContext context) {
+        if (isEmpty()) {
+            return ResourceAddress.root();
+        }
+        if (!placeholders) {
+            return cached(null, 0);
+        }
+        long generation = context.generation();
+        if (generation < 0) {
+            return resolveInternal(context);
+        }
+        return cached(context, generation);
+    }
+
+    private ResourceAddress cached(StatementContext context, long generation) {
+        Resolved r = resolved.get(context);
+        if (r == null || r.generation != generation) {
+            ResourceAddress address = resolveInternal(context);
+            address.protect();
+            r = new Resolved(generation, address);
+            resolved.put(context, r);
+        }
+        return r.address;
+    }
+
+    private ResourceAddress resolveInternal(StatementContext context, String... wildcards) {
         if (isEmpty()) {
             return ResourceAddress.root();
         }
@@ -496,6 +558,17 @@ public final class AddressTemplate implements Iterable<String> {
         String unresolve(String name, String value, boolean first, boolean last, int index, int size);
     }
 
+    private static class Resolved {
+
+        final long generation;
+        final ResourceAddress address;
+
+        Resolved(long generation, ResourceAddress address) {
+            this.generation = generation;
+            this.address = address;
+        }
+    }
+
     private static class Memory<T> {
 
         final Map<String, List<T>> values = new HashMap<>();
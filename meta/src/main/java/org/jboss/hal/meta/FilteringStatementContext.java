@@ -68,6 +68,19 @@ public class FilteringStatementContext implements StatementContext {
         return delegate.selectedServer();
     }
 
+    /**
+     * Returns {@link #NO_GENERATION} since the filter might depend on values outside the delegate. Subclasses which only depend
+     * on the delegate can override this method and return the generation of the delegate.
+     */
+    @Override
+    public long generation() {
+        return NO_GENERATION;
+    }
+
+    protected StatementContext delegate() {
+        return delegate;
+    }
+
     /**
      * Allows to modify resource names and placeholders. Methods should return {@code null} if no modification is necessary.
      */
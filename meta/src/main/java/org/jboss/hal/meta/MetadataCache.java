@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * LRU cache for metadata which is bounded by the serialized size of the metadata instead of the number of entries.
+ * <p>
+ * One entry holds either the metadata of a single address or the metadata of a resource and all its descendants (as added by a
+ * recursive lookup). An index maps each address to its entry, so the entry of a resource answers the lookups of its
+ * descendants. Entries are evicted as a whole.
+ */
+class MetadataCache<T extends ModelNode> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetadataCache.class);
+
+    private final String type;
+    private final long maximumWeight;
+    private final LinkedHashMap<ResourceAddress, Entry<T>> entries;
+    private final Map<ResourceAddress, Entry<T>> index;
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    MetadataCache(String type, long maximumWeight) {
+        this.type = type;
+        this.maximumWeight = maximumWeight;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true); // access order
+        this.index = new HashMap<>();
+    }
+
+    T get(ResourceAddress address) {
+        Entry<T> entry = index.get(address);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        entries.get(entry.root); // update access order
+        hitCount++;
+        return entry.metadata.get(address);
+    }
+
+    /**
+     * Like {@link #get(ResourceAddress)}, but returns only the presence flags as defined in {@link MetadataPresence}.
+     */
+    int presence(ResourceAddress address) {
+        Entry<T> entry = index.get(address);
+        if (entry == null) {
+            missCount++;
+            return MetadataPresence.ABSENT;
+        }
+        entries.get(entry.root); // update access order
+        hitCount++;
+        return entry.recursive ? MetadataPresence.PRESENT | MetadataPresence.RECURSIVE : MetadataPresence.PRESENT;
+    }
+
+    /**
+     * Adds the metadata as one entry. Existing metadata for the same addresses is replaced.
+     *
+     * @param recursive whether the metadata has been added by a recursive lookup
+     */
+    void put(ResourceAddress root, Map<ResourceAddress, T> metadata, boolean recursive) {
+        Entry<T> existing = entries.remove(root);
+        if (existing != null) {
+            // the existing entry might hold addresses which are not part of the new metadata
+            for (ResourceAddress address : existing.metadata.keySet()) {
+                index.remove(address);
+            }
+            weight -= existing.weight;
+        }
+        for (ResourceAddress address : metadata.keySet()) {
+            remove(address);
+        }
+        Entry<T> entry = new Entry<>(root, metadata, recursive);
+        entries.put(root, entry);
+        for (ResourceAddress address : metadata.keySet()) {
+            index.put(address, entry);
+        }
+        weight += entry.weight;
+        evict();
+    }
+
+    private void remove(ResourceAddress address) {
+        Entry<T> entry = index.remove(address);
+        if (entry != null) {
+            int w = entry.weights.remove(address);
+            entry.metadata.remove(address);
+            entry.weight -= w;
+            weight -= w;
+            // the index only refers to cached entries, so the entry stored under its root is the entry itself
+            // (don't use entries.get() here, it would update the access order)
+            if (entry.metadata.isEmpty() && entries.containsKey(entry.root)) {
+                entries.remove(entry.root);
+            }
+        }
+    }
+
+    private void evict() {
+        Iterator<Entry<T>> iterator = entries.values().iterator();
+        while (weight > maximumWeight && entries.size() > 1 && iterator.hasNext()) {
+            Entry<T> eldest = iterator.next();
+            iterator.remove();
+            for (ResourceAddress address : eldest.metadata.keySet()) {
+                index.remove(address);
+            }
+            weight -= eldest.weight;
+            evictionCount++;
+            logger.debug("Evict {} ({} addresses, {} bytes) from {} cache", eldest.root, eldest.metadata.size(),
+                    eldest.weight, type);
+        }
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hitCount, missCount, 0, 0, 0, evictionCount);
+    }
+
+    /** @return the number of addresses in this cache */
+    long size() {
+        return index.size();
+    }
+
+    /** @return the serialized size of all metadata in this cache */
+    long weight() {
+        return weight;
+    }
+
+    private static class Entry<T extends ModelNode> {
+
+        final ResourceAddress root;
+        final Map<ResourceAddress, T> metadata;
+        final Map<ResourceAddress, Integer> weights;
+        final boolean recursive;
+        long weight;
+
+        Entry(ResourceAddress root, Map<ResourceAddress, T> metadata, boolean recursive) {
+            this.root = root;
+            this.recursive = recursive;
+            this.metadata = new HashMap<>(metadata);
+            this.weights = new HashMap<>();
+            for (Map.Entry<ResourceAddress, T> entry : metadata.entrySet()) {
+                int w = entry.getValue().serializedSize();
+                weights.put(entry.getKey(), w);
+                weight += w;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Compact result of {@link Registry#lookupAll(Set)}. For each template two bits are stored: whether metadata is present and
+ * whether the metadata has been added by a recursive lookup. The bits are kept in an int array with 16 templates per int.
+ */
+public final class MetadataPresence {
+
+    static final int ABSENT = 0b00;
+    static final int PRESENT = 0b01;
+    static final int RECURSIVE = 0b10;
+
+    private static final int BITS = 2;
+    private static final int TEMPLATES_PER_WORD = Integer.SIZE / BITS;
+
+    private final AddressTemplate[] templates;
+    private final Map<AddressTemplate, Integer> positions;
+    private final int[] words;
+
+    MetadataPresence(Set<AddressTemplate> templates) {
+        this.templates = templates.toArray(new AddressTemplate[0]);
+        this.positions = new HashMap<>();
+        for (int i = 0; i < this.templates.length; i++) {
+            positions.put(this.templates[i], i);
+        }
+        this.words = new int[(this.templates.length + TEMPLATES_PER_WORD - 1) / TEMPLATES_PER_WORD];
+    }
+
+    AddressTemplate template(int position) {
+        return templates[position];
+    }
+
+    int size() {
+        return templates.length;
+    }
+
+    int flags(int position) {
+        int shift = (position % TEMPLATES_PER_WORD) * BITS;
+        return (words[position / TEMPLATES_PER_WORD] >>> shift) & (PRESENT | RECURSIVE);
+    }
+
+    void set(int position, int flags) {
+        int shift = (position % TEMPLATES_PER_WORD) * BITS;
+        int word = position / TEMPLATES_PER_WORD;
+        words[word] = (words[word] & ~((PRESENT | RECURSIVE) << shift)) | (flags << shift);
+    }
+
+    /** Keeps only the bits which are also set in the other presence. */
+    MetadataPresence and(MetadataPresence other) {
+        for (int i = 0; i < templates.length; i++) {
+            Integer position = other.positions.get(templates[i]);
+            set(i, position != null ? flags(i) & other.flags(position) : ABSENT);
+        }
+        return this;
+    }
+
+    /**
+     * @param recursive whether the metadata must have been added by a recursive lookup
+     * @return true if metadata for the template is present, false if it's missing or the template is unknown
+     */
+    public boolean isPresent(AddressTemplate template, boolean recursive) {
+        Integer position = positions.get(template);
+        return position != null && present(flags(position), recursive);
+    }
+
+    /** @return true if metadata for all templates is present */
+    public boolean allPresent(boolean recursive) {
+        for (int i = 0; i < templates.length; i++) {
+            if (!present(flags(i), recursive)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Calls the consumer for each template with present metadata. */
+    public void forEachPresent(boolean recursive, Consumer<AddressTemplate> consumer) {
+        for (int i = 0; i < templates.length; i++) {
+            if (present(flags(i), recursive)) {
+                consumer.accept(templates[i]);
+            }
+        }
+    }
+
+    private boolean present(int flags, boolean recursive) {
+        return (flags & PRESENT) != 0 && (!recursive || (flags & RECURSIVE) != 0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("MetadataPresence(");
+        for (int i = 0; i < templates.length; i++) {
+            int flags = flags(i);
+            builder.append(templates[i]).append(" -> ")
+                    .append((flags & PRESENT) == 0 ? "absent" : (flags & RECURSIVE) == 0 ? "present" : "recursive");
+            if (i < templates.length - 1) {
+                builder.append(", ");
+            }
+        }
+        return builder.append(")").toString();
+    }
+}
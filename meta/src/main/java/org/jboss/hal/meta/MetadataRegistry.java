@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.meta.capabilitiy.Capabilities;
@@ -50,4 +52,9 @@ public class MetadataRegistry implements Registry<Metadata> {
         return securityContextRegistry.contains(template) &&
                 resourceDescriptionRegistry.contains(template);
     }
+
+    @Override
+    public MetadataPresence lookupAll(Set<AddressTemplate> templates) {
+        return resourceDescriptionRegistry.lookupAll(templates).and(securityContextRegistry.lookupAll(templates));
+    }
 }
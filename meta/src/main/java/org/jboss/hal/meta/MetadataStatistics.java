@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.security.SecurityContextRegistry;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * Collects statistics about the metadata processing. Includes the hit rate and evictions of the registries, the time spent in
+ * the registries, the databases and the r-r-d operations, and the number of bytes read per lookup.
+ * <p>
+ * Use {@link #snapshot()} to get the current values as a model node, which can be shown in the UI or exported as JSON.
+ */
+public class MetadataStatistics {
+
+    /** The phases of a metadata lookup */
+    public enum Phase {
+        REGISTRY, DATABASE, RRD
+    }
+
+    private final ResourceDescriptionRegistry resourceDescriptionRegistry;
+    private final SecurityContextRegistry securityContextRegistry;
+    private final Map<Phase, Measurement> latencies;
+    private final Measurement bytes;
+
+    @Inject
+    public MetadataStatistics(ResourceDescriptionRegistry resourceDescriptionRegistry,
+            SecurityContextRegistry securityContextRegistry) {
+        this.resourceDescriptionRegistry = resourceDescriptionRegistry;
+        this.securityContextRegistry = securityContextRegistry;
+        this.latencies = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            latencies.put(phase, new Measurement());
+        }
+        this.bytes = new Measurement();
+    }
+
+    /** Records the time in milliseconds spent in the specified phase of one lookup. */
+    public void recordLatency(Phase phase, long millis) {
+        latencies.get(phase).record(millis);
+    }
+
+    /** Records the number of bytes read by one lookup. */
+    public void recordBytes(long bytes) {
+        this.bytes.record(bytes);
+    }
+
+    /** Resets the latencies and bytes. The statistics of the registries cannot be reset. */
+    public void reset() {
+        latencies.values().forEach(Measurement::reset);
+        bytes.reset();
+    }
+
+    /** @return the current statistics */
+    public ModelNode snapshot() {
+        ModelNode snapshot = new ModelNode();
+        snapshot.get("resource-description-registry").set(registry(resourceDescriptionRegistry));
+        snapshot.get("security-context-registry").set(registry(securityContextRegistry));
+        ModelNode latency = new ModelNode();
+        for (Map.Entry<Phase, Measurement> entry : latencies.entrySet()) {
+            latency.get(entry.getKey().name().toLowerCase()).set(entry.getValue().asModelNode());
+        }
+        snapshot.get("latency").set(latency);
+        snapshot.get("bytes").set(bytes.asModelNode());
+        return snapshot;
+    }
+
+    private ModelNode registry(AbstractRegistry<?> registry) {
+        CacheStats stats = registry.stats();
+        ModelNode node = new ModelNode();
+        node.get("size").set(registry.size());
+        node.get("weight").set(registry.weight());
+        node.get("hit-count").set(stats.hitCount());
+        node.get("miss-count").set(stats.missCount());
+        node.get("hit-rate").set(stats.hitRate());
+        node.get("eviction-count").set(stats.evictionCount());
+        return node;
+    }
+
+    private static class Measurement {
+
+        private long count;
+        private long total;
+        private long max;
+
+        void record(long value) {
+            count++;
+            total += value;
+            max = Math.max(max, value);
+        }
+
+        void reset() {
+            count = 0;
+            total = 0;
+            max = 0;
+        }
+
+        ModelNode asModelNode() {
+            ModelNode node = new ModelNode();
+            node.get("count").set(count);
+            node.get("total").set(total);
+            node.get("average").set(count == 0 ? 0 : total / count);
+            node.get("max").set(max);
+            return node;
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.Set;
+
 import org.jboss.hal.dmr.ResourceAddress;
 
 /**
@@ -31,4 +33,7 @@ interface Registry<T> {
     boolean contains(AddressTemplate template);
 
     T lookup(AddressTemplate template) throws MissingMetadataException;
+
+    /** Checks the presence of the metadata for all templates at once. */
+    MetadataPresence lookupAll(Set<AddressTemplate> templates);
 }
@@ -109,6 +109,9 @@ public interface StatementContext {
         }
     };
 
+    /** Generation which indicates that resolved address templates must not be cached. */
+    long NO_GENERATION = -1;
+
     /** Resolves a single value. */
     String resolve(String placeholder, AddressTemplate template);
 
@@ -132,4 +135,15 @@ public interface StatementContext {
 
     /** @return the selected server */
     String selectedServer();
+
+    /**
+     * Returns a number which changes whenever the values of this context change (e.g. if another profile, host or server is
+     * selected). {@link AddressTemplate} uses the generation to cache the resolved addresses. Implementations whose values
+     * cannot be tracked must return {@link #NO_GENERATION}.
+     *
+     * @return the current generation or {@link #NO_GENERATION} if resolved address templates must not be cached.
+     */
+    default long generation() {
+        return NO_GENERATION;
+    }
 }
@@ -49,4 +49,9 @@ public class ResourceDescriptionStatementContext extends FilteringStatementConte
             }
         });
     }
+
+    @Override
+    public long generation() {
+        return delegate().generation();
+    }
 }
@@ -15,7 +15,9 @@
  */
 package org.jboss.hal.meta.description;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.jboss.hal.meta.AddressTemplate;
@@ -45,14 +47,35 @@ import static java.util.stream.StreamSupport.stream;
  * /server-group=main-server-group &rarr; /server-group=&#42;
  * /subsystem=mail/mail-session=foo/server=bar &rarr; /subsystem=mail/mail-session=foo/server=bar
  * </pre>
+ * <p>
+ * The modified templates are memorized since the same templates are looked up over and over again.
  */
 class ResourceDescriptionTemplateProcessor implements Function<AddressTemplate, AddressTemplate> {
 
+    private static final int MAX_SIZE = 1000;
+
+    private final Map<AddressTemplate, AddressTemplate> modifiedTemplates = new HashMap<>();
+
     @Override
     public AddressTemplate apply(AddressTemplate template) {
+        if (template == null) {
+            return AddressTemplate.ROOT;
+        }
+        AddressTemplate modified = modifiedTemplates.get(template);
+        if (modified == null) {
+            if (modifiedTemplates.size() >= MAX_SIZE) {
+                modifiedTemplates.clear();
+            }
+            modified = modify(template);
+            modifiedTemplates.put(template, modified);
+        }
+        return modified;
+    }
+
+    private AddressTemplate modify(AddressTemplate template) {
         AddressTemplate modified = AddressTemplate.ROOT;
 
-        if (template != null && !AddressTemplate.ROOT.equals(template)) {
+        if (!AddressTemplate.ROOT.equals(template)) {
             List<String[]> segments = stream(template.spliterator(), false)
                     .map(segment -> {
                         if (segment.contains("=")) {
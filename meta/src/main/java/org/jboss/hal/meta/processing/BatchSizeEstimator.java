@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+/**
+ * Estimates the number of {@code read-resource-description} operations which should go into one composite operation.
+ * <p>
+ * The estimation is based on the observed latency per operation and the number of resource descriptions returned per operation
+ * (a measure for the payload size). Both values are smoothed using an exponential moving average. The batch size is chosen so
+ * that one composite takes roughly {@link #TARGET_LATENCY} ms and returns at most {@link #MAX_DESCRIPTIONS} descriptions.
+ */
+class BatchSizeEstimator {
+
+    /** Target latency in ms for one composite operation. */
+    static final int TARGET_LATENCY = 750;
+
+    /** Upper limit for the number of resource descriptions returned by one composite operation. */
+    static final int MAX_DESCRIPTIONS = 60;
+
+    static final int MIN_BATCH_SIZE = 1;
+    static final int MAX_BATCH_SIZE = 12;
+    private static final double SMOOTHING = 0.3;
+
+    private final int initialBatchSize;
+    private double millisPerOperation;
+    private double descriptionsPerOperation;
+
+    BatchSizeEstimator(int initialBatchSize) {
+        this.initialBatchSize = initialBatchSize;
+        this.millisPerOperation = -1;
+        this.descriptionsPerOperation = -1;
+    }
+
+    /** Records the latency and the number of resource descriptions of a finished composite operation. */
+    void record(int operations, long millis, int descriptions) {
+        if (operations > 0) {
+            double mpo = (double) Math.max(1, millis) / operations;
+            double dpo = (double) descriptions / operations;
+            if (millisPerOperation < 0) {
+                millisPerOperation = mpo;
+                descriptionsPerOperation = dpo;
+            } else {
+                millisPerOperation = SMOOTHING * mpo + (1 - SMOOTHING) * millisPerOperation;
+                descriptionsPerOperation = SMOOTHING * dpo + (1 - SMOOTHING) * descriptionsPerOperation;
+            }
+        }
+    }
+
+    int batchSize() {
+        if (millisPerOperation < 0) {
+            return initialBatchSize;
+        }
+        double byLatency = TARGET_LATENCY / millisPerOperation;
+        double byPayload = descriptionsPerOperation > 0 ? MAX_DESCRIPTIONS / descriptionsPerOperation : MAX_BATCH_SIZE;
+        int size = (int) Math.floor(Math.min(byLatency, byPayload));
+        return Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, size));
+    }
+}
@@ -53,6 +53,8 @@ class CompositeRrdParser {
             }
 
             ModelNode stepResult = step.get(RESULT);
+            // the size of the response, not of the parsed metadata
+            rrdResult.bytes += stepResult.serializedSize();
 
             if (stepResult.getType() == ModelType.LIST) {
                 // multiple rrd results each with its own address
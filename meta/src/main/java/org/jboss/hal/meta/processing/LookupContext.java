@@ -34,6 +34,7 @@ class LookupContext extends FlowContext {
     final Map<ResourceAddress, ResourceDescription> toResourceDescriptionDatabase;
     final Map<ResourceAddress, SecurityContext> toSecurityContextRegistry;
     final Map<ResourceAddress, SecurityContext> toSecurityContextDatabase;
+    long bytes; // size of the serialized metadata read by the r-r-d operations
 
     // for unit testing only!
     LookupContext(LookupResult lookupResult) {
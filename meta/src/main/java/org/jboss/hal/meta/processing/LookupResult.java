@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.MetadataPresence;
 import org.jboss.hal.meta.MissingMetadataException;
 
 class LookupResult {
@@ -52,6 +53,11 @@ class LookupResult {
         templates.put(template, combined);
     }
 
+    /** Marks the metadata of all templates which are present in the specified presence. */
+    void markMetadataPresent(MetadataPresence presence, boolean recursive, int flag) {
+        presence.forEachPresent(recursive, template -> markMetadataPresent(template, flag));
+    }
+
     int missingMetadata(AddressTemplate template) {
         return failFastGet(template);
     }
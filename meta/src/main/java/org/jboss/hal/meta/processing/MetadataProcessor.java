@@ -31,6 +31,8 @@ import org.jboss.hal.js.Browser;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.MetadataRegistry;
+import org.jboss.hal.meta.MetadataStatistics;
+import org.jboss.hal.meta.MetadataStatistics.Phase;
 import org.jboss.hal.meta.MissingMetadataException;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
@@ -58,13 +60,12 @@ public class MetadataProcessor {
     /** Recursive depth for the r-r-d operations. Keep this small - some browsers choke on too big payload size */
     static final int RRD_DEPTH = 3;
 
-    /** Number of r-r-d operations part of one composite operation. */
+    /** Initial number of r-r-d operations part of one composite operation. Adapted by the {@link RrdScheduler}. */
     private static final int BATCH_SIZE = 3;
 
     private static final Logger logger = LoggerFactory.getLogger(MetadataProcessor.class);
 
     private final Environment environment;
-    private final Dispatcher dispatcher;
     private final RequiredResources requiredResources;
     private final StatementContext statementContext;
     private final MetadataRegistry metadataRegistry;
@@ -73,7 +74,11 @@ public class MetadataProcessor {
     private final SecurityContextDatabase securityContextDatabase;
     private final SecurityContextRegistry securityContextRegistry;
     private final Settings settings;
+    private final MetadataStatistics statistics;
     private final WorkerChannel workerChannel;
+    private final RrdScheduler rrdScheduler;
+    private final PendingLookups pendingLookups;
+    private final MetadataUsage usage;
 
     @Inject
     public MetadataProcessor(Environment environment,
@@ -86,9 +91,9 @@ public class MetadataProcessor {
             ResourceDescriptionDatabase resourceDescriptionDatabase,
             ResourceDescriptionRegistry resourceDescriptionRegistry,
             Settings settings,
+            MetadataStatistics statistics,
             WorkerChannel workerChannel) {
         this.environment = environment;
-        this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.metadataRegistry = metadataRegistry;
         this.requiredResources = requiredResources;
@@ -97,7 +102,11 @@ public class MetadataProcessor {
         this.resourceDescriptionDatabase = resourceDescriptionDatabase;
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.settings = settings;
+        this.statistics = statistics;
         this.workerChannel = workerChannel;
+        this.rrdScheduler = new RrdScheduler(dispatcher, settings, BATCH_SIZE);
+        this.pendingLookups = new PendingLookups(statementContext, this::lookupInternal);
+        this.usage = new MetadataUsage(environment, settings);
     }
 
     public void lookup(AddressTemplate template, Progress progress, MetadataCallback callback) {
@@ -133,7 +142,51 @@ public class MetadataProcessor {
         }
     }
 
+    /**
+     * Loads the metadata of the most frequently used templates from the databases into the registries. Does not execute any
+     * r-r-d operations: Templates which are not in the databases are skipped.
+     *
+     * @param limit the maximum number of templates to warm up
+     */
+    public Promise<Void> warmUp(int limit) {
+        if (Browser.isIE()) {
+            return Promise.resolve((Void) null);
+        }
+        List<MetadataUsage.Usage> mostUsed = usage.mostUsed(limit);
+        Set<AddressTemplate> flat = mostUsed.stream()
+                .filter(u -> !u.recursive)
+                .map(u -> AddressTemplate.of(u.template))
+                .collect(toSet());
+        Set<AddressTemplate> recursive = mostUsed.stream()
+                .filter(u -> u.recursive)
+                .map(u -> AddressTemplate.of(u.template))
+                .collect(toSet());
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        return warmUpInternal(flat, false)
+                .then(__ -> warmUpInternal(recursive, true))
+                .then(__ -> {
+                    stopwatch.stop();
+                    logger.info("Warmed up metadata for {} templates in {} ms", mostUsed.size(),
+                            stopwatch.elapsed(MILLISECONDS));
+                    return Promise.resolve((Void) null);
+                });
+    }
+
+    private Promise<Void> warmUpInternal(Set<AddressTemplate> templates, boolean recursive) {
+        if (templates.isEmpty()) {
+            return Promise.resolve((Void) null);
+        }
+        List<Task<LookupContext>> tasks = new ArrayList<>();
+        tasks.add(new LookupRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
+        tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
+        tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
+        return Flow.sequential(new LookupContext(Progress.NOOP, templates, recursive), tasks)
+                .then(__ -> Promise.resolve((Void) null));
+    }
+
     private Promise<Void> processInternal(Set<AddressTemplate> templates, boolean recursive, Progress progress) {
+        usage.record(templates, recursive);
         // we can skip the tasks if the metadata is already in the registries
         LookupRegistryTask lookupRegistries = new LookupRegistryTask(resourceDescriptionRegistry,
                 securityContextRegistry);
@@ -142,29 +195,45 @@ public class MetadataProcessor {
             return Promise.resolve((Void) null);
 
         } else {
-            boolean ie = Browser.isIE();
-            List<Task<LookupContext>> tasks = new ArrayList<>();
-            tasks.add(lookupRegistries);
-            if (!ie) {
-                tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
-            }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
-            tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
-            if (!ie) {
-                tasks.add(new UpdateDatabaseTask(workerChannel));
-            }
-
-            LookupContext context = new LookupContext(progress, templates, recursive);
-            Stopwatch stopwatch = Stopwatch.createStarted();
-            return Flow.sequential(context, tasks).then(
-                    c -> {
-                        stopwatch.stop();
-                        logger.info("Successfully processed metadata in {} ms", stopwatch.elapsed(MILLISECONDS));
-                        return Promise.resolve((Void) null);
-                    });
+            // attach to pending lookups or merge with other lookups of this event loop turn
+            return pendingLookups.lookup(templates, recursive, progress);
         }
     }
 
+    private Promise<Void> lookupInternal(Set<AddressTemplate> templates, boolean recursive, Progress progress) {
+        boolean ie = Browser.isIE();
+        List<Task<LookupContext>> tasks = new ArrayList<>();
+        tasks.add(timed(Phase.REGISTRY, new LookupRegistryTask(resourceDescriptionRegistry, securityContextRegistry)));
+        if (!ie) {
+            tasks.add(timed(Phase.DATABASE, new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase)));
+        }
+        tasks.add(timed(Phase.RRD, new RrdTask(environment, statementContext, settings, rrdScheduler, RRD_DEPTH)));
+        tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
+        if (!ie) {
+            tasks.add(new UpdateDatabaseTask(workerChannel));
+        }
+
+        LookupContext context = new LookupContext(progress, templates, recursive);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        return Flow.sequential(context, tasks).then(
+                c -> {
+                    stopwatch.stop();
+                    statistics.recordBytes(c.bytes);
+                    logger.info("Successfully processed metadata in {} ms", stopwatch.elapsed(MILLISECONDS));
+                    return Promise.resolve((Void) null);
+                });
+    }
+
+    private Task<LookupContext> timed(Phase phase, Task<LookupContext> task) {
+        return context -> {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            return task.apply(context).then(c -> {
+                statistics.recordLatency(phase, stopwatch.elapsed(MILLISECONDS));
+                return Promise.resolve(c);
+            });
+        };
+    }
+
     public interface MetadataCallback {
 
         void onMetadata(Metadata metadata);
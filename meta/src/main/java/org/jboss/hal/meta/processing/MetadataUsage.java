@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.resources.Ids;
+
+import com.google.common.base.Splitter;
+
+import elemental2.webstorage.Storage;
+import elemental2.webstorage.WebStorageWindow;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static elemental2.dom.DomGlobal.window;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Counts how often the metadata of an address template is requested and keeps the most frequently used templates in the local
+ * storage. The storage key contains the HAL build, the locale and the management version. That's the same information used for
+ * the names of the metadata databases. After a server upgrade or a locale change, the statistics start from scratch and the
+ * outdated statistics are removed.
+ */
+class MetadataUsage {
+
+    static final String USAGE_STORAGE = Ids.build(Ids.STORAGE, "metadata-usage");
+
+    /** Maximum number of templates which are kept in the local storage. */
+    private static final int MAX_ENTRIES = 100;
+
+    /** Delay before the statistics are written to the local storage. Consecutive lookups are saved at once. */
+    private static final int SAVE_DELAY = 2000;
+
+    private static final char SEPARATOR = '|';
+
+    private final Environment environment;
+    private final Settings settings;
+    private final Storage storage;
+    private Map<String, Usage> usage;
+    private String key;
+    private boolean saveScheduled;
+
+    MetadataUsage(Environment environment, Settings settings) {
+        this.environment = environment;
+        this.settings = settings;
+        this.storage = WebStorageWindow.of(window).localStorage;
+    }
+
+    void record(Set<AddressTemplate> templates, boolean recursive) {
+        Map<String, Usage> usage = usage();
+        for (AddressTemplate template : templates) {
+            String t = template.toString();
+            usage.computeIfAbsent(Usage.id(t, recursive), id -> new Usage(t, recursive, 0)).count++;
+        }
+        if (!saveScheduled) {
+            saveScheduled = true;
+            setTimeout(__ -> save(), SAVE_DELAY);
+        }
+    }
+
+    /** Returns the most frequently used templates ordered by their usage count. */
+    List<Usage> mostUsed(int limit) {
+        return usage().values().stream()
+                .sorted(Comparator.comparingInt((Usage u) -> u.count).reversed())
+                .limit(limit)
+                .collect(toList());
+    }
+
+    private Map<String, Usage> usage() {
+        if (usage == null) {
+            usage = new HashMap<>();
+            key = Ids.build(USAGE_STORAGE,
+                    environment.getHalBuild().name(),
+                    settings.get(Settings.Key.LOCALE).value(),
+                    environment.getManagementVersion().toString());
+            if (storage != null) {
+                removeOutdated();
+                String value = storage.getItem(key);
+                if (value != null) {
+                    for (String line : Splitter.on('\n').omitEmptyStrings().split(value)) {
+                        List<String> parts = Splitter.on(SEPARATOR).limit(3).splitToList(line);
+                        if (parts.size() == 3) {
+                            try {
+                                Usage u = new Usage(parts.get(2), Boolean.parseBoolean(parts.get(1)),
+                                        Integer.parseInt(parts.get(0)));
+                                usage.put(Usage.id(u.template, u.recursive), u);
+                            } catch (NumberFormatException ignored) {
+                                // skip malformed entries
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return usage;
+    }
+
+    private void removeOutdated() {
+        List<String> outdated = new ArrayList<>();
+        for (int i = 0; i < storage.getLength(); i++) {
+            String k = storage.key(i);
+            if (k != null && k.startsWith(USAGE_STORAGE) && !k.equals(key)) {
+                outdated.add(k);
+            }
+        }
+        outdated.forEach(storage::removeItem);
+    }
+
+    private void save() {
+        saveScheduled = false;
+        if (storage != null) {
+            List<Usage> mostUsed = mostUsed(MAX_ENTRIES);
+            if (mostUsed.size() < usage.size()) {
+                usage.clear();
+                mostUsed.forEach(u -> usage.put(Usage.id(u.template, u.recursive), u));
+            }
+            storage.setItem(key, mostUsed.stream()
+                    .map(u -> String.valueOf(u.count) + SEPARATOR + u.recursive + SEPARATOR + u.template)
+                    .collect(joining("\n")));
+        }
+    }
+
+    static class Usage {
+
+        private static String id(String template, boolean recursive) {
+            return (recursive ? "r:" : "f:") + template;
+        }
+
+        final String template;
+        final boolean recursive;
+        int count;
+
+        Usage(String template, boolean recursive, int count) {
+            this.template = template;
+            this.recursive = recursive;
+            this.count = count;
+        }
+    }
+}
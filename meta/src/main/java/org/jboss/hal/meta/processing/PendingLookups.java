@@ -0,0 +1,249 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+/**
+ * Coalesces concurrent metadata lookups.
+ * <p>
+ * Keeps a table of pending lookups keyed by the resolved address and the recursive flag. If a template is already being looked
+ * up, the request is attached to the pending promise instead of starting a new lookup. A pending recursive lookup also
+ * satisfies non-recursive requests for the same address.
+ * <p>
+ * Templates which are not yet pending are collected in a batch per recursive flag. The batch is started at the end of the
+ * current event loop turn (as a microtask), so requests which arrive in the same turn are merged into one
+ * {@link LookupContext}. The progress of all merged callers is driven by the batch. If the merged lookup fails, the lookups
+ * of the callers are retried one by one, so that a failing template only rejects the callers which asked for it.
+ */
+final class PendingLookups {
+
+    private static final Logger logger = LoggerFactory.getLogger(PendingLookups.class);
+
+    private final StatementContext statementContext;
+    private final Lookup lookup;
+    private final Map<String, Promise<Void>> pending;
+    private final Map<Boolean, Batch<Caller>> batches;
+
+    PendingLookups(StatementContext statementContext, Lookup lookup) {
+        this.statementContext = statementContext;
+        this.lookup = lookup;
+        this.pending = new HashMap<>();
+        this.batches = new HashMap<>();
+    }
+
+    Promise<Void> lookup(Set<AddressTemplate> templates, boolean recursive, Progress progress) {
+        Caller caller = null;
+        List<Promise<Void>> promises = new ArrayList<>();
+        for (AddressTemplate template : templates) {
+            ResourceAddress address = template.resolve(statementContext);
+            Promise<Void> promise = pending.get(key(address, recursive));
+            if (promise == null && !recursive) {
+                promise = pending.get(key(address, true));
+            }
+            if (promise != null) {
+                logger.debug("Attach {} to pending lookup", template);
+                if (!promises.contains(promise)) {
+                    promises.add(promise);
+                }
+            } else {
+                if (caller == null) {
+                    caller = new Caller();
+                    batch(recursive).add(caller, progress);
+                }
+                String key = key(address, recursive);
+                batch(recursive).add(caller, template);
+                caller.keys.add(key);
+                pending.put(key, caller.promise);
+            }
+        }
+
+        Promise<Void> result = Promise.resolve((Void) null);
+        for (Promise<Void> promise : promises) {
+            result = result.then(__ -> promise);
+        }
+        if (caller != null) {
+            Promise<Void> own = caller.promise;
+            result = result.then(__ -> own);
+        } else if (!promises.isEmpty()) {
+            // only attached to lookups of other callers: nothing to count, but show that something's going on
+            progress.reset();
+            result = result.then(__ -> {
+                progress.finish();
+                return Promise.resolve((Void) null);
+            }, error -> {
+                progress.finish();
+                return Promise.reject(error);
+            });
+        }
+        return result;
+    }
+
+    private Batch<Caller> batch(boolean recursive) {
+        Batch<Caller> batch = batches.get(recursive);
+        if (batch == null) {
+            Batch<Caller> newBatch = new Batch<>(recursive);
+            batches.put(recursive, newBatch);
+            // start the batch at the end of the current event loop turn
+            Promise.resolve((Void) null).then(__ -> {
+                start(newBatch);
+                return null;
+            });
+            batch = newBatch;
+        }
+        return batch;
+    }
+
+    private void start(Batch<Caller> batch) {
+        batches.remove(batch.recursive);
+        logger.debug("Start lookup for {} template(s) of {} caller(s) (recursive={})", batch.templates().size(),
+                batch.callers().size(), batch.recursive);
+        lookup.lookup(batch.templates(), batch.recursive, batch.progress())
+                .then(__ -> {
+                    batch.callers().forEach(Caller::resolve);
+                    return null;
+                })
+                .catch_(error -> {
+                    if (batch.callers().size() == 1) {
+                        batch.callers().forEach(caller -> caller.reject(error));
+                    } else {
+                        logger.debug("Lookup of {} merged callers failed: {}. Retry the callers one by one",
+                                batch.callers().size(), error);
+                        for (Caller caller : batch.callers()) {
+                            lookup.lookup(batch.templates(caller), batch.recursive, batch.progress(caller))
+                                    .then(__ -> {
+                                        caller.resolve();
+                                        return null;
+                                    })
+                                    .catch_(e -> {
+                                        caller.reject(e);
+                                        return null;
+                                    });
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private String key(ResourceAddress address, boolean recursive) {
+        return (recursive ? "recursive:" : "flat:") + address;
+    }
+
+    @FunctionalInterface
+    interface Lookup {
+
+        Promise<Void> lookup(Set<AddressTemplate> templates, boolean recursive, Progress progress);
+    }
+
+    /** One call of {@link #lookup(Set, boolean, Progress)} which has templates which were not yet pending. */
+    private class Caller {
+
+        final Set<String> keys;
+        final Promise<Void> promise;
+        ResolveCallbackFn<Void> resolveFn;
+        RejectCallbackFn rejectFn;
+
+        Caller() {
+            this.keys = new LinkedHashSet<>();
+            this.promise = new Promise<>((resolve, reject) -> {
+                this.resolveFn = resolve;
+                this.rejectFn = reject;
+            });
+        }
+
+        void resolve() {
+            finish();
+            resolveFn.onInvoke((Void) null);
+        }
+
+        void reject(Object error) {
+            finish();
+            rejectFn.onInvoke(error);
+        }
+
+        private void finish() {
+            for (String key : keys) {
+                if (pending.get(key) == promise) {
+                    pending.remove(key);
+                }
+            }
+        }
+    }
+
+    /** The templates and progress indicators of the callers which are merged into one lookup. */
+    static class Batch<C> {
+
+        final boolean recursive;
+        private final Map<C, Set<AddressTemplate>> templates;
+        private final Map<C, Progress> progress;
+
+        Batch(boolean recursive) {
+            this.recursive = recursive;
+            this.templates = new LinkedHashMap<>();
+            this.progress = new LinkedHashMap<>();
+        }
+
+        void add(C caller, Progress progress) {
+            this.templates.putIfAbsent(caller, new LinkedHashSet<>());
+            this.progress.put(caller, progress);
+        }
+
+        void add(C caller, AddressTemplate template) {
+            templates.computeIfAbsent(caller, c -> new LinkedHashSet<>()).add(template);
+        }
+
+        Set<C> callers() {
+            return templates.keySet();
+        }
+
+        /** All templates of all callers. */
+        Set<AddressTemplate> templates() {
+            Set<AddressTemplate> all = new LinkedHashSet<>();
+            templates.values().forEach(all::addAll);
+            return all;
+        }
+
+        Set<AddressTemplate> templates(C caller) {
+            return templates.getOrDefault(caller, new LinkedHashSet<>());
+        }
+
+        /** A progress which drives the progress indicators of all callers. */
+        Progress progress() {
+            return new ProgressGroup(progress.values());
+        }
+
+        Progress progress(C caller) {
+            return progress.getOrDefault(caller, Progress.NOOP);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.jboss.hal.flow.Progress;
+
+/** Forwards all calls to a list of progress indicators. Indicators which are passed more than once are called only once. */
+class ProgressGroup implements Progress {
+
+    private final List<Progress> progresses;
+
+    ProgressGroup(Collection<Progress> progresses) {
+        this.progresses = new ArrayList<>();
+        for (Progress progress : progresses) {
+            if (progress != null && !contains(progress)) {
+                this.progresses.add(progress);
+            }
+        }
+    }
+
+    private boolean contains(Progress progress) {
+        for (Progress p : progresses) {
+            if (p == progress) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        progresses.forEach(Progress::reset);
+    }
+
+    @Override
+    public void reset(int max, String label) {
+        progresses.forEach(progress -> progress.reset(max, label));
+    }
+
+    @Override
+    public void tick(String label) {
+        progresses.forEach(progress -> progress.tick(label));
+    }
+
+    @Override
+    public void finish() {
+        progresses.forEach(Progress::finish);
+    }
+}
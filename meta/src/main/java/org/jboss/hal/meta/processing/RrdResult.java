@@ -26,6 +26,7 @@ class RrdResult {
 
     final Map<ResourceAddress, ResourceDescription> resourceDescriptions;
     final Map<ResourceAddress, SecurityContext> securityContexts;
+    long bytes; // serialized size of the r-r-d results
 
     RrdResult() {
         resourceDescriptions = new HashMap<>();
@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Stopwatch;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.jboss.hal.config.Settings.DEFAULT_RRD_CONCURRENCY;
+import static org.jboss.hal.config.Settings.Key.RRD_CONCURRENCY;
+
+/**
+ * Executes {@code read-resource-description} operations using a bounded number of concurrent composite operations.
+ * <p>
+ * Regular operations are partitioned into composites whose size is determined by a {@link BatchSizeEstimator}. Optional
+ * operations are executed as one-step composites and errors are ignored. The number of composites in flight is limited by
+ * {@link Settings.Key#RRD_CONCURRENCY}. The results are parsed and passed to the consumer as soon as they arrive.
+ * <p>
+ * The scheduler keeps the statistics of the batch size estimator across lookups, so use one instance per application.
+ */
+final class RrdScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RrdScheduler.class);
+
+    private final Dispatcher dispatcher;
+    private final Settings settings;
+    private final BatchSizeEstimator estimator;
+
+    RrdScheduler(Dispatcher dispatcher, Settings settings, int initialBatchSize) {
+        this.dispatcher = dispatcher;
+        this.settings = settings;
+        this.estimator = new BatchSizeEstimator(initialBatchSize);
+    }
+
+    Promise<Void> execute(List<Operation> operations, List<Operation> optionalOperations, Consumer<RrdResult> consumer) {
+        if (operations.isEmpty() && optionalOperations.isEmpty()) {
+            return Promise.resolve((Void) null);
+        }
+        return new Promise<>((resolve, reject) -> new Run(operations, optionalOperations, consumer, resolve, reject)
+                .pump());
+    }
+
+    private int concurrency() {
+        return Math.max(1, settings.get(RRD_CONCURRENCY).asInt(DEFAULT_RRD_CONCURRENCY));
+    }
+
+    private class Run {
+
+        private final LinkedList<Operation> operations;
+        private final LinkedList<Operation> optionalOperations;
+        private final Consumer<RrdResult> consumer;
+        private final ResolveCallbackFn<Void> resolve;
+        private final RejectCallbackFn reject;
+        private int inFlight;
+        private boolean failed;
+
+        Run(List<Operation> operations, List<Operation> optionalOperations, Consumer<RrdResult> consumer,
+                ResolveCallbackFn<Void> resolve, RejectCallbackFn reject) {
+            this.operations = new LinkedList<>(operations);
+            this.optionalOperations = new LinkedList<>(optionalOperations);
+            this.consumer = consumer;
+            this.resolve = resolve;
+            this.reject = reject;
+            this.inFlight = 0;
+            this.failed = false;
+        }
+
+        void pump() {
+            int concurrency = concurrency();
+            while (!failed && inFlight < concurrency && (!operations.isEmpty() || !optionalOperations.isEmpty())) {
+                if (!operations.isEmpty()) {
+                    int batchSize = estimator.batchSize();
+                    List<Operation> batch = new ArrayList<>();
+                    while (!operations.isEmpty() && batch.size() < batchSize) {
+                        batch.add(operations.removeFirst());
+                    }
+                    execute(new Composite(batch), false);
+                } else {
+                    execute(new Composite(optionalOperations.removeFirst()), true);
+                }
+            }
+            if (!failed && inFlight == 0) {
+                resolve.onInvoke((Void) null);
+            }
+        }
+
+        private void execute(Composite composite, boolean optional) {
+            inFlight++;
+            logger.debug("Execute {} composite operation {} ({} in flight)", optional ? "optional" : "regular",
+                    composite.asCli(), inFlight);
+            Stopwatch watch = Stopwatch.createStarted();
+            dispatcher.execute(composite)
+                    .then(result -> {
+                        RrdResult rrdResult = new CompositeRrdParser(composite).parse(result);
+                        estimator.record(composite.size(), watch.stop().elapsed(MILLISECONDS),
+                                rrdResult.resourceDescriptions.size());
+                        consumer.accept(rrdResult);
+                        return Promise.resolve(true);
+                    })
+                    .catch_(error -> {
+                        if (optional) {
+                            logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
+                            return Promise.resolve(true);
+                        } else {
+                            if (!failed) {
+                                failed = true;
+                                reject.onInvoke(error);
+                            }
+                            return Promise.resolve(false);
+                        }
+                    })
+                    .then(success -> {
+                        inFlight--;
+                        if (success) {
+                            pump();
+                        }
+                        return null;
+                    });
+        }
+    }
+}
@@ -15,41 +15,33 @@
  */
 package org.jboss.hal.meta.processing;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
-import org.jboss.hal.dmr.Composite;
-import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.Operation;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Lists;
-
 import elemental2.promise.Promise;
 
-import static java.util.stream.Collectors.toList;
-
-/** Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata. */
+/**
+ * Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata. The operations
+ * are executed concurrently using the {@link RrdScheduler}.
+ */
 final class RrdTask implements Task<LookupContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(RrdTask.class);
 
-    private final Dispatcher dispatcher;
-    private final int batchSize;
+    private final RrdScheduler scheduler;
     private final CreateRrdOperations rrdOps;
 
-    RrdTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            int batchSize, int depth) {
-        this.dispatcher = dispatcher;
-        this.batchSize = batchSize;
+    RrdTask(Environment environment, StatementContext statementContext, Settings settings, RrdScheduler scheduler,
+            int depth) {
+        this.scheduler = scheduler;
         this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
                 depth);
     }
@@ -57,63 +49,35 @@ final class RrdTask implements Task<LookupContext> {
     @Override
     public Promise<LookupContext> apply(final LookupContext context) {
         boolean recursive = context.recursive;
-        List<Task<LookupContext>> tasks = new ArrayList<>();
-
-        // create and partition non-optional operations
         List<Operation> operations = rrdOps.create(context, recursive, false);
-        List<List<Operation>> piles = Lists.partition(operations, batchSize);
-        List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
-        for (Composite composite : composites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite).then(result -> {
-                parseRrdAction(context, composite, result);
-                return Promise.resolve(c);
-            }));
-        }
-
-        // create optional operations w/o partitioning!
         List<Operation> optionalOperations = rrdOps.create(context, recursive, true);
-        // Do not refactor to
-        // List<Composite> optionalComposites = optionalOperations.stream().map(Composite::new).collect(toList());
-        // the GWT compiler will crash with an ArrayIndexOutOfBoundsException!
-        List<Composite> optionalComposites = new ArrayList<>();
-        optionalOperations.forEach(operation -> optionalComposites.add(new Composite(operation)));
-        for (Composite composite : optionalComposites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite)
-                    .then(result -> {
-                        parseRrdAction(context, composite, result);
-                        return Promise.resolve(c);
-                    })
-                    .catch_(error -> {
-                        logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
-                        return Promise.resolve(c);
-                    }));
-        }
 
-        if (!tasks.isEmpty()) {
+        if (!operations.isEmpty() || !optionalOperations.isEmpty()) {
             if (logger.isDebugEnabled()) {
-                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional)",
-                        composites.size() + optionalComposites.size(), composites.size(), optionalComposites.size());
-                String compositeOps = composites.stream().map(Composite::asCli).collect(Collectors.joining(", "));
-                logger.debug("Composite operations: {}", compositeOps);
-                if (!optionalComposites.isEmpty()) {
-                    String optionalOps = optionalComposites.stream()
-                            .map(Composite::asCli)
+                logger.debug("About to execute {} ({}+{}) operations (regular+optional)",
+                        operations.size() + optionalOperations.size(), operations.size(), optionalOperations.size());
+                String ops = operations.stream().map(Operation::asCli).collect(Collectors.joining(", "));
+                logger.debug("Operations: {}", ops);
+                if (!optionalOperations.isEmpty()) {
+                    String optionalOps = optionalOperations.stream()
+                            .map(Operation::asCli)
                             .collect(Collectors.joining(", "));
                     logger.debug("Optional operations: {}", optionalOps);
                 }
             }
-            return Flow.sequential(context, tasks).promise();
+            return scheduler.execute(operations, optionalOperations, rrdResult -> parseRrdAction(context, rrdResult))
+                    .then(__ -> Promise.resolve(context));
         } else {
             logger.debug("No DMR operations necessary");
             return Promise.resolve(context);
         }
     }
 
-    private void parseRrdAction(LookupContext context, Composite composite, CompositeResult compositeResult) {
-        RrdResult rrdResult = new CompositeRrdParser(composite).parse(compositeResult);
+    private void parseRrdAction(LookupContext context, RrdResult rrdResult) {
         context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
         context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
         context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
         context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
+        context.bytes += rrdResult.bytes;
     }
 }
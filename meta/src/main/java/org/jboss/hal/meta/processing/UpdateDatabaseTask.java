@@ -15,12 +15,8 @@
  */
 package org.jboss.hal.meta.processing;
 
-import java.util.Map;
-
-import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.flow.Task;
-import org.jboss.hal.meta.description.ResourceDescription;
-import org.jboss.hal.meta.security.SecurityContext;
+import org.jboss.hal.meta.processing.WorkerChannel.DatabaseAck;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +26,10 @@ import elemental2.promise.Promise;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+/**
+ * Posts the metadata in one batch to the worker channel. The task doesn't wait for the worker: The acknowledgement is processed
+ * in the background and used to log the number of persisted documents.
+ */
 final class UpdateDatabaseTask implements Task<LookupContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(UpdateDatabaseTask.class);
@@ -44,23 +44,27 @@ final class UpdateDatabaseTask implements Task<LookupContext> {
     public Promise<LookupContext> apply(final LookupContext context) {
         if (context.updateDatabase()) {
             Stopwatch watch = Stopwatch.createStarted();
-            for (Map.Entry<ResourceAddress, ResourceDescription> entry : context.toResourceDescriptionDatabase
-                    .entrySet()) {
-                ResourceAddress address = entry.getKey();
-                ResourceDescription resourceDescription = entry.getValue();
-                workerChannel.postResourceDescription(address, resourceDescription,
-                        context.recursive);
-            }
-            for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextDatabase
-                    .entrySet()) {
-                ResourceAddress address = entry.getKey();
-                SecurityContext securityContext = entry.getValue();
-                workerChannel.postSecurityContext(address, securityContext, context.recursive);
-            }
-            logger.debug(
-                    "Posted {} resource descriptions and {} security contexts to the databases in {} ms",
-                    context.toResourceDescriptionDatabase.size(), context.toSecurityContextDatabase.size(),
-                    watch.stop().elapsed(MILLISECONDS));
+            int resourceDescriptions = context.toResourceDescriptionDatabase.size();
+            int securityContexts = context.toSecurityContextDatabase.size();
+            workerChannel.postAll(context)
+                    .then(ack -> {
+                        watch.stop();
+                        for (int i = 0; i < ack.databases.getLength(); i++) {
+                            DatabaseAck databaseAck = ack.databases.getAt(i);
+                            if (databaseAck.failed > 0) {
+                                logger.warn("Persisted {} and failed to persist {} documents in {} in {} ms",
+                                        databaseAck.persisted, databaseAck.failed, databaseAck.database,
+                                        databaseAck.time);
+                            } else {
+                                logger.debug("Persisted {} documents in {} in {} ms", databaseAck.persisted,
+                                        databaseAck.database, databaseAck.time);
+                            }
+                        }
+                        logger.debug(
+                                "Stored {} resource descriptions and {} security contexts in the databases in {} ms",
+                                resourceDescriptions, securityContexts, watch.elapsed(MILLISECONDS));
+                        return null;
+                    });
         }
         return Promise.resolve(context);
     }
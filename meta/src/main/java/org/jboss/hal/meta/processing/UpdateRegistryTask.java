@@ -15,13 +15,8 @@
  */
 package org.jboss.hal.meta.processing;
 
-import java.util.Map;
-
-import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.flow.Task;
-import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
-import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,16 +39,8 @@ final class UpdateRegistryTask implements Task<LookupContext> {
     @Override
     public Promise<LookupContext> apply(final LookupContext context) {
         if (context.updateRegistry()) {
-            for (Map.Entry<ResourceAddress, ResourceDescription> entry : context.toResourceDescriptionRegistry.entrySet()) {
-                ResourceAddress address = entry.getKey();
-                ResourceDescription resourceDescription = entry.getValue();
-                resourceDescriptionRegistry.add(address, resourceDescription, context.recursive);
-            }
-            for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextRegistry.entrySet()) {
-                ResourceAddress address = entry.getKey();
-                SecurityContext securityContext = entry.getValue();
-                securityContextRegistry.add(address, securityContext, context.recursive);
-            }
+            resourceDescriptionRegistry.addAll(context.toResourceDescriptionRegistry, context.recursive);
+            securityContextRegistry.addAll(context.toSecurityContextRegistry, context.recursive);
             logger.debug("Added {} resource descriptions and {} security contexts to the registries",
                     context.toResourceDescriptionRegistry.size(), context.toSecurityContextRegistry.size());
         }
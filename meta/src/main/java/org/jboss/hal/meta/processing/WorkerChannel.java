@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.db.Document;
@@ -24,15 +27,27 @@ import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import elemental2.core.JsArray;
+import elemental2.dom.MessageEvent;
 import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
 
 import static jsinterop.annotations.JsPackage.GLOBAL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 import static org.jboss.hal.resources.UIConstants.OBJECT;
 
+/**
+ * Posts metadata to the web worker defined in {@code app/src/web/script/worker.js}. All documents of one lookup are sent in one
+ * message (one batch per database). The worker persists each batch using a single {@code bulkDocs()} call and answers with an
+ * acknowledgement containing the number of persisted documents and the elapsed time per database.
+ */
 public class WorkerChannel {
 
     // provided by app/src/web/script/index.js
@@ -42,9 +57,13 @@ public class WorkerChannel {
         @JsProperty static Worker metadataChannel;
     }
 
+    private static final Logger logger = LoggerFactory.getLogger(WorkerChannel.class);
+
     private final ResourceDescriptionDatabase resourceDescriptionDatabase;
     private final SecurityContextDatabase securityContextDatabase;
     private final Worker worker;
+    private final Map<Integer, ResolveCallbackFn<UpdateAck>> pending;
+    private int counter;
 
     @Inject
     public WorkerChannel(ResourceDescriptionDatabase resourceDescriptionDatabase,
@@ -52,32 +71,107 @@ public class WorkerChannel {
         this.resourceDescriptionDatabase = resourceDescriptionDatabase;
         this.securityContextDatabase = securityContextDatabase;
         this.worker = Browser.isIE() ? null : WorkerProvider.metadataChannel;
-    }
-
-    void postResourceDescription(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
+        this.pending = new HashMap<>();
+        this.counter = 0;
         if (worker != null) {
-            resourceDescription.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = resourceDescriptionDatabase.name();
-            message.document = resourceDescriptionDatabase.asDocument(address, resourceDescription);
-            worker.postMessage(message);
+            worker.addEventListener("message", event -> {
+                MessageEvent<UpdateAck> messageEvent = Js.uncheckedCast(event);
+                UpdateAck ack = messageEvent.data;
+                ResolveCallbackFn<UpdateAck> resolve = pending.remove(ack.id);
+                if (resolve != null) {
+                    resolve.onInvoke(ack);
+                }
+            });
+            worker.addEventListener("error", event -> {
+                logger.error("Error in metadata worker. Release {} pending update(s)", pending.size());
+                UpdateAck empty = emptyAck();
+                pending.values().forEach(resolve -> resolve.onInvoke(empty));
+                pending.clear();
+            });
         }
     }
 
-    void postSecurityContext(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
-        if (worker != null) {
-            securityContext.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = securityContextDatabase.name();
-            message.document = securityContextDatabase.asDocument(address, securityContext);
-            worker.postMessage(message);
+    /**
+     * Posts the resource descriptions and security contexts of the context in one message to the worker. The returned promise
+     * is resolved with the acknowledgement of the worker once all documents have been persisted. If there's no worker, the
+     * promise is resolved with an empty acknowledgement.
+     */
+    Promise<UpdateAck> postAll(LookupContext context) {
+        if (worker == null) {
+            return Promise.resolve(emptyAck());
         }
+
+        boolean recursive = context.recursive;
+        Map<ResourceAddress, ResourceDescription> resourceDescriptions = context.toResourceDescriptionDatabase;
+        Map<ResourceAddress, SecurityContext> securityContexts = context.toSecurityContextDatabase;
+
+        UpdateMessage message = new UpdateMessage();
+        message.id = ++counter;
+        message.batches = new JsArray<>();
+        if (!resourceDescriptions.isEmpty()) {
+            Batch batch = new Batch();
+            batch.database = resourceDescriptionDatabase.name();
+            batch.documents = new JsArray<>();
+            for (Map.Entry<ResourceAddress, ResourceDescription> entry : resourceDescriptions.entrySet()) {
+                ResourceDescription resourceDescription = entry.getValue();
+                resourceDescription.get(HAL_RECURSIVE).set(recursive);
+                batch.documents.push(resourceDescriptionDatabase.asDocument(entry.getKey(), resourceDescription));
+            }
+            message.batches.push(batch);
+        }
+        if (!securityContexts.isEmpty()) {
+            Batch batch = new Batch();
+            batch.database = securityContextDatabase.name();
+            batch.documents = new JsArray<>();
+            for (Map.Entry<ResourceAddress, SecurityContext> entry : securityContexts.entrySet()) {
+                SecurityContext securityContext = entry.getValue();
+                securityContext.get(HAL_RECURSIVE).set(recursive);
+                batch.documents.push(securityContextDatabase.asDocument(entry.getKey(), securityContext));
+            }
+            message.batches.push(batch);
+        }
+
+        return new Promise<>((resolve, reject) -> {
+            pending.put(message.id, resolve);
+            worker.postMessage(message);
+        });
+    }
+
+    private UpdateAck emptyAck() {
+        UpdateAck ack = new UpdateAck();
+        ack.databases = new JsArray<>();
+        return ack;
     }
 
     @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
     private static class UpdateMessage {
 
+        int id;
+        JsArray<Batch> batches;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class Batch {
+
+        String database;
+        JsArray<Document> documents;
+    }
+
+    /** Acknowledgement sent back by the worker once all batches of an update message have been processed. */
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    static class UpdateAck {
+
+        int id;
+        JsArray<DatabaseAck> databases;
+    }
+
+    /** Result of one batch: number of persisted and failed documents and the elapsed time in ms. */
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    static class DatabaseAck {
+
         String database;
-        Document document;
+        int persisted;
+        int failed;
+        int time;
     }
 }
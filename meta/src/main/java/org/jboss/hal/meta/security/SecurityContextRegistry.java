@@ -18,45 +18,17 @@ package org.jboss.hal.meta.security;
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
-import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
 import org.jboss.hal.meta.StatementContext;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-
-import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
 public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
 
-    private static final int CACHE_SIZE = 500;
+    /** Maximum serialized size of all security contexts in bytes */
+    private static final long MAXIMUM_WEIGHT = 512 * 1024;
     private static final String SECURITY_CONTEXT_TYPE = "security context";
-    private static final Logger logger = LoggerFactory.getLogger(SecurityContextRegistry.class);
-
-    private final Cache<ResourceAddress, SecurityContext> cache;
 
     @Inject
     public SecurityContextRegistry(StatementContext statementContext, Environment environment) {
-        super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
-        this.cache = CacheBuilder.newBuilder()
-                .maximumSize(CACHE_SIZE)
-                .recordStats()
-                .removalListener(
-                        notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
-                                notification.getCause()))
-                .build();
-    }
-
-    public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
-        securityContext.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, securityContext);
-        logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
-    }
-
-    @Override
-    protected SecurityContext lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+        super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE, MAXIMUM_WEIGHT);
     }
 }
@@ -58,4 +58,9 @@ public class SecurityContextStatementContext extends FilteringStatementContext {
             }
         });
     }
+
+    @Override
+    public long generation() {
+        return delegate().generation();
+    }
 }
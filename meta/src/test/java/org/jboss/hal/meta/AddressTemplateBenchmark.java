@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ResourceAddress;
+
+/**
+ * Compares the uncached resolution of address templates with the resolution cached per
+ * {@linkplain StatementContext#generation() statement context generation}. The corpus consists of address templates used in
+ * {@code @Requires} annotations which are processed by the {@code RequiredResourcesProcessor} for each navigation.
+ * <p>
+ * This is not a unit test. Run it manually from the {@code meta} folder using
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=org.jboss.hal.meta.AddressTemplateBenchmark -Dexec.classpathScope=test
+ * </pre>
+ */
+public class AddressTemplateBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+    private static final String[] TEMPLATES = {
+            "/",
+            "/core-service=management",
+            "/core-service=management/management-interface=http-interface",
+            "/deployment=*",
+            "/deployment=*/subdeployment=*",
+            "/deployment=*/subsystem=undertow",
+            "/host=*",
+            "/interface=*",
+            "/path=*",
+            "/server-group=*",
+            "/server-group=*/jvm=*",
+            "/server-group=*/system-property=*",
+            "/socket-binding-group=*",
+            "/system-property=*",
+            "{domain.controller}/core-service=management/access=authorization",
+            "{selected.host}",
+            "{selected.host}/core-service=management/management-interface=http-interface",
+            "{selected.host}/interface=*",
+            "{selected.host}/jvm=*",
+            "{selected.host}/server-config=*",
+            "{selected.host}/{selected.server}",
+            "{selected.host}/{selected.server}/core-service=platform-mbean/type=runtime",
+            "{selected.host}/{selected.server}/deployment=*",
+            "{selected.host}/{selected.server}/subsystem=batch-jberet",
+            "{selected.host}/{selected.server}/subsystem=ejb3",
+            "{selected.host}/{selected.server}/subsystem=jpa",
+            "{selected.host}/{selected.server}/subsystem=logging/log-file=*",
+            "{selected.host}/{selected.server}/subsystem=messaging-activemq/server=*/jms-queue=*",
+            "{selected.host}/{selected.server}/subsystem=transactions/log-store=log-store",
+            "{selected.host}/{selected.server}/subsystem=undertow/server=*/http-listener=*",
+            "{selected.profile}",
+            "{selected.profile}/subsystem=datasources/data-source=*",
+            "{selected.profile}/subsystem=datasources/xa-data-source=*",
+            "{selected.profile}/subsystem=ejb3",
+            "{selected.profile}/subsystem=elytron",
+            "{selected.profile}/subsystem=elytron/key-store=*",
+            "{selected.profile}/subsystem=io/worker=*",
+            "{selected.profile}/subsystem=logging",
+            "{selected.profile}/subsystem=logging/periodic-rotating-file-handler=*",
+            "{selected.profile}/subsystem=mail/mail-session=*",
+            "{selected.profile}/subsystem=messaging-activemq/server=*",
+            "{selected.profile}/subsystem=undertow/server=*/host=*",
+            "{selected.profile}/subsystem=webservices",
+    };
+
+    public static void main(String[] args) {
+        List<AddressTemplate> templates = new ArrayList<>();
+        for (String template : TEMPLATES) {
+            templates.add(AddressTemplate.of(template));
+        }
+        StatementContext uncached = new TestableStatementContext();
+        StatementContext cached = new TestableStatementContext() {
+            @Override
+            public long generation() {
+                return 1;
+            }
+        };
+
+        for (int i = 0; i < WARMUP; i++) {
+            parseAndResolve(uncached);
+            resolve(templates, uncached);
+            resolveShared(templates, cached);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            parseAndResolve(uncached);
+        }
+        long parseAndResolve = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            resolve(templates, uncached);
+        }
+        long resolve = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            resolveShared(templates, cached);
+        }
+        long resolveShared = System.nanoTime() - start;
+
+        System.out.printf("%d templates%n  of() + resolve():     %8.2f us/op%n  resolve() uncached:   %8.2f us/op%n"
+                + "  resolve() cached:     %8.2f us/op%n", TEMPLATES.length,
+                parseAndResolve / 1000.0 / ITERATIONS, resolve / 1000.0 / ITERATIONS,
+                resolveShared / 1000.0 / ITERATIONS);
+    }
+
+    private static int parseAndResolve(StatementContext context) {
+        int size = 0;
+        for (String template : TEMPLATES) {
+            size += AddressTemplate.of(template).resolve(context).size();
+        }
+        return size;
+    }
+
+    private static int resolve(List<AddressTemplate> templates, StatementContext context) {
+        int size = 0;
+        for (AddressTemplate template : templates) {
+            size += template.resolve(context).size();
+        }
+        return size;
+    }
+
+    private static int resolveShared(List<AddressTemplate> templates, StatementContext context) {
+        int size = 0;
+        for (AddressTemplate template : templates) {
+            ResourceAddress address = template.resolveShared(context);
+            size += address.size();
+        }
+        return size;
+    }
+}
@@ -24,7 +24,9 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings("HardCodedStringLiteral")
@@ -256,6 +258,43 @@ public class AddressTemplateTest {
         assertResolved(new String[][] { { "a", "b" }, { "c", "d" } }, resolved);
     }
 
+    @Test
+    public void interned() {
+        assertSame(AddressTemplate.of("a=b/c=d"), AddressTemplate.of("/a=b/c=d"));
+        assertSame(AddressTemplate.ROOT, AddressTemplate.of("/"));
+    }
+
+    @Test
+    public void resolveCached() {
+        GenerationContext context = new GenerationContext();
+        AddressTemplate at = AddressTemplate.of("{selected.profile}/subsystem=mail");
+
+        ResourceAddress shared = at.resolveShared(context);
+        assertResolved(new String[][] { { "profile", "full" }, { "subsystem", "mail" } }, shared);
+        assertSame(shared, at.resolveShared(context));
+
+        // resolve() returns a copy which can be modified
+        ResourceAddress resolved = at.resolve(context);
+        assertNotSame(shared, resolved);
+        resolved.add("mail-session", "default");
+        assertEquals(2, at.resolveShared(context).size());
+
+        context.profile = "ha";
+        context.generation++;
+        assertResolved(new String[][] { { "profile", "ha" }, { "subsystem", "mail" } }, at.resolveShared(context));
+    }
+
+    @Test
+    public void resolveUncached() {
+        GenerationContext context = new GenerationContext();
+        context.generation = StatementContext.NO_GENERATION;
+        AddressTemplate at = AddressTemplate.of("{selected.profile}/subsystem=mail");
+
+        assertNotSame(at.resolveShared(context), at.resolveShared(context));
+        context.profile = "ha";
+        assertResolved(new String[][] { { "profile", "ha" }, { "subsystem", "mail" } }, at.resolve(context));
+    }
+
     @Test
     public void slashes() {
         AddressTemplate at = AddressTemplate.of("a=b/" + ModelNodeHelper.encodeValue("c=/") + "/d=e");
@@ -277,4 +316,23 @@ public class AddressTemplateTest {
             i++;
         }
     }
-}
\ No newline at end of file
+
+    private static class GenerationContext extends TestableStatementContext {
+
+        String profile = "full";
+        long generation = 1;
+
+        @Override
+        public String[] resolveTuple(String placeholder, AddressTemplate template) {
+            if (Expression.SELECTED_PROFILE == Expression.from(placeholder)) {
+                return new String[] { "profile", profile };
+            }
+            return super.resolveTuple(placeholder, template);
+        }
+
+        @Override
+        public long generation() {
+            return generation;
+        }
+    }
+}
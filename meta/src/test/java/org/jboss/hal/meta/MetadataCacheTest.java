@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MetadataCacheTest {
+
+    private static final ResourceAddress UNDERTOW = ResourceAddress.from("subsystem=undertow");
+    private static final ResourceAddress SERVER = ResourceAddress.from("subsystem=undertow/server=*");
+    private static final ResourceAddress HOST = ResourceAddress.from("subsystem=undertow/server=*/host=*");
+    private static final ResourceAddress LOGGING = ResourceAddress.from("subsystem=logging");
+
+    private ModelNode small;
+    private int smallSize;
+
+    @Before
+    public void setUp() {
+        small = metadata(10);
+        smallSize = small.serializedSize();
+    }
+
+    @Test
+    public void hitAndMiss() {
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", Long.MAX_VALUE);
+        cache.put(LOGGING, singletonMap(LOGGING, small), true);
+
+        assertSame(small, cache.get(LOGGING));
+        assertNull(cache.get(UNDERTOW));
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(smallSize, cache.weight());
+    }
+
+    @Test
+    public void recursiveEntry() {
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", Long.MAX_VALUE);
+        Map<ResourceAddress, ModelNode> metadata = new LinkedHashMap<>();
+        metadata.put(UNDERTOW, metadata(10));
+        metadata.put(SERVER, metadata(10));
+        metadata.put(HOST, metadata(10));
+        cache.put(UNDERTOW, metadata, true);
+
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get(SERVER));
+        assertNotNull(cache.get(HOST));
+        assertEquals(3 * smallSize, cache.weight());
+    }
+
+    @Test
+    public void presence() {
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", Long.MAX_VALUE);
+        cache.put(LOGGING, singletonMap(LOGGING, small), false);
+        cache.put(UNDERTOW, singletonMap(UNDERTOW, metadata(10)), true);
+
+        assertEquals(MetadataPresence.PRESENT, cache.presence(LOGGING));
+        assertEquals(MetadataPresence.PRESENT | MetadataPresence.RECURSIVE, cache.presence(UNDERTOW));
+        assertEquals(MetadataPresence.ABSENT, cache.presence(SERVER));
+        assertEquals(2, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    public void replace() {
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", Long.MAX_VALUE);
+        Map<ResourceAddress, ModelNode> metadata = new LinkedHashMap<>();
+        metadata.put(UNDERTOW, metadata(10));
+        metadata.put(SERVER, metadata(10));
+        cache.put(UNDERTOW, metadata, true);
+
+        ModelNode server = metadata(100);
+        cache.put(SERVER, singletonMap(SERVER, server), true);
+        assertEquals(2, cache.size());
+        assertSame(server, cache.get(SERVER));
+        assertEquals(smallSize + server.serializedSize(), cache.weight());
+    }
+
+    @Test
+    public void replaceRoot() {
+        ResourceAddress listener = ResourceAddress.from("subsystem=undertow/server=*/http-listener=*");
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", Long.MAX_VALUE);
+        Map<ResourceAddress, ModelNode> metadata = new LinkedHashMap<>();
+        metadata.put(UNDERTOW, metadata(10));
+        metadata.put(SERVER, metadata(10));
+        metadata.put(HOST, metadata(10));
+        cache.put(UNDERTOW, metadata, true);
+
+        ModelNode undertow = metadata(10);
+        ModelNode http = metadata(100);
+        Map<ResourceAddress, ModelNode> replacement = new LinkedHashMap<>();
+        replacement.put(UNDERTOW, undertow);
+        replacement.put(listener, http);
+        cache.put(UNDERTOW, replacement, true);
+
+        assertEquals(2, cache.size());
+        assertEquals(smallSize + http.serializedSize(), cache.weight());
+        assertSame(undertow, cache.get(UNDERTOW));
+        assertSame(http, cache.get(listener));
+        assertNull(cache.get(SERVER));
+        assertNull(cache.get(HOST));
+    }
+
+    @Test
+    public void evictByWeight() {
+        ModelNode large = metadata(1000);
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", large.serializedSize() + smallSize);
+        cache.put(LOGGING, singletonMap(LOGGING, small), true);
+        cache.put(SERVER, singletonMap(SERVER, metadata(10)), false);
+        cache.get(LOGGING); // SERVER is now the least recently used entry
+
+        cache.put(UNDERTOW, singletonMap(UNDERTOW, large), true);
+        assertNotNull(cache.get(LOGGING));
+        assertNull(cache.get(SERVER));
+        assertNotNull(cache.get(UNDERTOW));
+        assertEquals(1, cache.stats().evictionCount());
+        assertEquals(large.serializedSize() + smallSize, cache.weight());
+    }
+
+    @Test
+    public void evictWholeEntry() {
+        ModelNode large = metadata(1000);
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", large.serializedSize());
+        Map<ResourceAddress, ModelNode> metadata = new HashMap<>();
+        metadata.put(UNDERTOW, metadata(10));
+        metadata.put(SERVER, metadata(10));
+        metadata.put(HOST, metadata(10));
+        cache.put(UNDERTOW, metadata, true);
+
+        cache.put(LOGGING, singletonMap(LOGGING, large), true);
+        assertEquals(1, cache.size());
+        assertNull(cache.get(HOST));
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void keepNewestEntry() {
+        ModelNode large = metadata(1000);
+        MetadataCache<ModelNode> cache = new MetadataCache<>("test", smallSize);
+        cache.put(UNDERTOW, singletonMap(UNDERTOW, large), true);
+        assertSame(large, cache.get(UNDERTOW));
+    }
+
+    private ModelNode metadata(int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append('x');
+        }
+        ModelNode node = new ModelNode();
+        node.get("description").set(builder.toString());
+        return node;
+    }
+}
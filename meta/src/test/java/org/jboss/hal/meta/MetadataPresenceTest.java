@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.meta.MetadataPresence.ABSENT;
+import static org.jboss.hal.meta.MetadataPresence.PRESENT;
+import static org.jboss.hal.meta.MetadataPresence.RECURSIVE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MetadataPresenceTest {
+
+    private Set<AddressTemplate> templates;
+    private MetadataPresence presence;
+
+    @Before
+    public void setUp() {
+        // more than 16 templates to span multiple words
+        templates = new LinkedHashSet<>();
+        for (int i = 0; i < 20; i++) {
+            templates.add(AddressTemplate.of("subsystem=s" + i));
+        }
+        presence = new MetadataPresence(templates);
+    }
+
+    @Test
+    public void initialState() {
+        assertEquals(20, presence.size());
+        assertFalse(presence.allPresent(false));
+        for (AddressTemplate template : templates) {
+            assertFalse(presence.isPresent(template, false));
+        }
+    }
+
+    @Test
+    public void flags() {
+        for (int i = 0; i < presence.size(); i++) {
+            presence.set(i, i % 2 == 0 ? PRESENT : PRESENT | RECURSIVE);
+        }
+        presence.set(17, ABSENT);
+
+        for (int i = 0; i < presence.size(); i++) {
+            AddressTemplate template = presence.template(i);
+            assertEquals(i != 17, presence.isPresent(template, false));
+            assertEquals(i % 2 == 1 && i != 17, presence.isPresent(template, true));
+        }
+        assertFalse(presence.isPresent(AddressTemplate.of("subsystem=unknown"), false));
+    }
+
+    @Test
+    public void allPresent() {
+        for (int i = 0; i < presence.size(); i++) {
+            presence.set(i, PRESENT);
+        }
+        assertTrue(presence.allPresent(false));
+        assertFalse(presence.allPresent(true));
+    }
+
+    @Test
+    public void forEachPresent() {
+        presence.set(3, PRESENT);
+        presence.set(18, PRESENT | RECURSIVE);
+
+        List<AddressTemplate> present = new ArrayList<>();
+        presence.forEachPresent(false, present::add);
+        assertEquals(2, present.size());
+
+        present.clear();
+        presence.forEachPresent(true, present::add);
+        assertEquals(1, present.size());
+        assertEquals(presence.template(18), present.get(0));
+    }
+
+    @Test
+    public void and() {
+        MetadataPresence other = new MetadataPresence(templates);
+        presence.set(0, PRESENT | RECURSIVE);
+        presence.set(1, PRESENT);
+        other.set(0, PRESENT);
+        other.set(1, PRESENT | RECURSIVE);
+        other.set(2, PRESENT);
+
+        presence.and(other);
+        assertTrue(presence.isPresent(presence.template(0), false));
+        assertFalse(presence.isPresent(presence.template(0), true));
+        assertTrue(presence.isPresent(presence.template(1), false));
+        assertFalse(presence.isPresent(presence.template(2), false));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.meta.processing.BatchSizeEstimator.MAX_BATCH_SIZE;
+import static org.jboss.hal.meta.processing.BatchSizeEstimator.MIN_BATCH_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchSizeEstimatorTest {
+
+    private BatchSizeEstimator estimator;
+
+    @Before
+    public void setUp() {
+        estimator = new BatchSizeEstimator(3);
+    }
+
+    @Test
+    public void initial() {
+        assertEquals(3, estimator.batchSize());
+    }
+
+    @Test
+    public void fast() {
+        estimator.record(3, 30, 3);
+        assertEquals(MAX_BATCH_SIZE, estimator.batchSize());
+    }
+
+    @Test
+    public void slow() {
+        estimator.record(3, 6000, 3);
+        assertEquals(MIN_BATCH_SIZE, estimator.batchSize());
+    }
+
+    @Test
+    public void largePayload() {
+        // fast, but each operation returns lots of descriptions (recursive)
+        estimator.record(2, 100, 60);
+        assertEquals(2, estimator.batchSize());
+    }
+
+    @Test
+    public void smoothing() {
+        estimator.record(3, 30, 3);
+        estimator.record(3, 900, 3);
+        int size = estimator.batchSize();
+        assertTrue(size > MIN_BATCH_SIZE);
+        assertTrue(size < MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void noOperations() {
+        estimator.record(0, 1000, 0);
+        assertEquals(3, estimator.batchSize());
+    }
+}
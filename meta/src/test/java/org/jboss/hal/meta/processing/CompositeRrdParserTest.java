@@ -31,7 +31,10 @@ import org.junit.Test;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.meta.processing.RrdParserTestHelper.assertResourceDescriptions;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
 public class CompositeRrdParserTest {
@@ -109,4 +112,24 @@ public class CompositeRrdParserTest {
         // There must be no duplicates!
         assertResourceDescriptions(rrdResult, 36, RECURSIVE_TEMPLATES);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void bytes() {
+        List<Operation> operations = Arrays.stream(FLAT_TEMPLATES)
+                .map(template -> new Operation.Builder(AddressTemplate.of(template).resolve(StatementContext.NOOP),
+                        READ_RESOURCE_DESCRIPTION_OPERATION).build())
+                .collect(toList());
+        Composite composite = new Composite(operations);
+
+        ModelNode modelNode = ExternalModelNode
+                .read(CompositeRrdParserTest.class.getResourceAsStream("composite_rrd_flat_description_only.dmr"));
+        long expected = 0;
+        for (ModelNode step : new CompositeResult(modelNode)) {
+            expected += step.get(RESULT).serializedSize();
+        }
+        RrdResult rrdResult = new CompositeRrdParser(composite).parse(new CompositeResult(modelNode));
+
+        assertTrue(expected > 0);
+        assertEquals(expected, rrdResult.bytes);
+    }
+}
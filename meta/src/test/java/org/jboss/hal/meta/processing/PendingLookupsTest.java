@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.Arrays;
+
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.processing.ProgressGroupTest.RecordingProgress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PendingLookupsTest {
+
+    private AddressTemplate foo;
+    private AddressTemplate bar;
+    private AddressTemplate baz;
+    private RecordingProgress first;
+    private RecordingProgress second;
+    private PendingLookups.Batch<String> batch;
+
+    @Before
+    public void setUp() {
+        foo = AddressTemplate.of("foo=*");
+        bar = AddressTemplate.of("bar=*");
+        baz = AddressTemplate.of("baz=*");
+        first = new RecordingProgress();
+        second = new RecordingProgress();
+        batch = new PendingLookups.Batch<>(true);
+    }
+
+    @Test
+    public void empty() {
+        assertTrue(batch.callers().isEmpty());
+        assertTrue(batch.templates().isEmpty());
+        assertTrue(batch.templates("unknown").isEmpty());
+        assertSame(Progress.NOOP, batch.progress("unknown"));
+    }
+
+    @Test
+    public void union() {
+        batch.add("first", first);
+        batch.add("first", foo);
+        batch.add("first", bar);
+        batch.add("second", second);
+        batch.add("second", bar);
+        batch.add("second", baz);
+
+        assertEquals(Arrays.asList("first", "second"), Arrays.asList(batch.callers().toArray()));
+        assertEquals(Arrays.asList(foo, bar, baz), Arrays.asList(batch.templates().toArray()));
+        assertEquals(Arrays.asList(foo, bar), Arrays.asList(batch.templates("first").toArray()));
+        assertEquals(Arrays.asList(bar, baz), Arrays.asList(batch.templates("second").toArray()));
+    }
+
+    @Test
+    public void progressOfAllCallers() {
+        batch.add("first", first);
+        batch.add("first", foo);
+        batch.add("second", second);
+        batch.add("second", bar);
+
+        Progress progress = batch.progress();
+        progress.reset(2, null);
+        progress.tick(null);
+        progress.finish();
+
+        assertEquals(Arrays.asList("reset:2:null", "tick:null", "finish"), first.calls);
+        assertEquals(first.calls, second.calls);
+    }
+
+    @Test
+    public void progressOfOneCaller() {
+        batch.add("first", first);
+        batch.add("second", second);
+
+        batch.progress("second").finish();
+
+        assertTrue(first.calls.isEmpty());
+        assertEquals(singletonList("finish"), second.calls);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.hal.flow.Progress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+public class ProgressGroupTest {
+
+    private RecordingProgress first;
+    private RecordingProgress second;
+
+    @Before
+    public void setUp() {
+        first = new RecordingProgress();
+        second = new RecordingProgress();
+    }
+
+    @Test
+    public void forward() {
+        Progress group = new ProgressGroup(Arrays.asList(first, second));
+        group.reset(2, "start");
+        group.tick("one");
+        group.tick("two");
+        group.finish();
+
+        List<String> expected = Arrays.asList("reset:2:start", "tick:one", "tick:two", "finish");
+        assertEquals(expected, first.calls);
+        assertEquals(expected, second.calls);
+    }
+
+    @Test
+    public void distinct() {
+        Progress group = new ProgressGroup(Arrays.asList(first, first, null));
+        group.reset();
+        group.finish();
+
+        assertEquals(Arrays.asList("reset", "finish"), first.calls);
+    }
+
+    @Test
+    public void single() {
+        Progress group = new ProgressGroup(singletonList(first));
+        group.tick(null);
+
+        assertEquals(singletonList("tick:null"), first.calls);
+        assertEquals(0, second.calls.size());
+    }
+
+    static class RecordingProgress implements Progress {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void reset() {
+            calls.add("reset");
+        }
+
+        @Override
+        public void reset(int max, String label) {
+            calls.add("reset:" + max + ":" + label);
+        }
+
+        @Override
+        public void tick(String label) {
+            calls.add("tick:" + label);
+        }
+
+        @Override
+        public void finish() {
+            calls.add("finish");
+        }
+    }
+}
@@ -403,6 +403,10 @@ public interface CSS {
     String servers = "servers";
     String serverGroupContainer = "server-group-container";
     String smallLink = "small-link";
+    String spacer = "spacer";
+    String sparkline = "sparkline";
+    String sparklineChart = "sparkline-chart";
+    String sparklineValue = "sparkline-value";
     String spinner = "spinner";
     String spinnerLg = "spinner-lg";
     String srOnly = "sr-only";
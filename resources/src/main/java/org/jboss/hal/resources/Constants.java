@@ -708,6 +708,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String messages();
 
+    String metadataStatistics();
+
     String milliseconds();
 
     String minimum();
@@ -433,11 +433,16 @@ public interface Ids {
     String JMS_MESSAGE_CHANGE_PRIORITY = "jms-message-change-priority";
     String JMS_MESSAGE_CHANGE_PRIORITY_FORM = "jms-message-change-priority-form";
     String JMS_MESSAGE_EXPIRE = "jms-message-expire";
+    String JMS_MESSAGE_FILTER_FORM = "jms-message-filter-form";
     String JMS_MESSAGE_LIST = "jms-message-list";
     String JMS_MESSAGE_LIST_CHANGE_PRIORITY = "jms-message-list-change-priority";
     String JMS_MESSAGE_LIST_CLEAR_SELECTION = "jms-message-list-clear-selection";
     String JMS_MESSAGE_LIST_EXPIRE = "jms-message-list-expire";
+    String JMS_MESSAGE_LIST_FILTER = "jms-message-list-filter";
     String JMS_MESSAGE_LIST_MOVE = "jms-message-list-move";
+    String JMS_MESSAGE_LIST_NEXT_PAGE = "jms-message-list-next-page";
+    String JMS_MESSAGE_LIST_PAGE_STATUS = "jms-message-list-page-status";
+    String JMS_MESSAGE_LIST_PREVIOUS_PAGE = "jms-message-list-previous-page";
     String JMS_MESSAGE_LIST_REFRESH = "jms-message-list-refresh";
     String JMS_MESSAGE_LIST_REMOVE = "jms-message-list-remove";
     String JMS_MESSAGE_LIST_SELECT_ALL = "jms-message-list-select-all";
@@ -728,10 +733,13 @@ public interface Ids {
     String SERVER_RUNTIME_PROPERTIES_TABLE = "server-runtime-properties-table";
     String SERVER_RUNTIME_STATUS = "server-runtime-status";
     String SERVER_RUNTIME_STATUS_HEAP_COMMITTED = "server-runtime-status-heap-committed";
+    String SERVER_RUNTIME_STATUS_HEAP_TREND = "server-runtime-status-heap-trend";
     String SERVER_RUNTIME_STATUS_HEAP_USED = "server-runtime-status-heap-used";
     String SERVER_RUNTIME_STATUS_NON_HEAP_COMMITTED = "server-runtime-status-non-heap-committed";
+    String SERVER_RUNTIME_STATUS_NON_HEAP_TREND = "server-runtime-status-non-heap-trend";
     String SERVER_RUNTIME_STATUS_NON_HEAP_USED = "server-runtime-status-non-heap-used";
     String SERVER_RUNTIME_STATUS_THREADS = "server-runtime-status-threads";
+    String SERVER_RUNTIME_STATUS_THREADS_TREND = "server-runtime-status-threads-trend";
     String SERVER_STATUS_BOOTSTRAP_ITEM = "server-runtime-bootstrap-item";
     String SERVER_STATUS_MAIN_ATTRIBUTES_ITEM = "server-runtime-main-attributes-item";
     String SERVER_STATUS_SYSTEM_PROPERTIES_ITEM = "server-runtime-system-properties-item";
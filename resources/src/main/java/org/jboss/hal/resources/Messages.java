@@ -126,6 +126,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     SafeHtml contentDeployed2(String serverGroup);
 
+    SafeHtml contentNotDeployed(@PluralCount int size, String serverGroup);
+
     SafeHtml contentOpFailed(@PluralCount int size);
 
     SafeHtml contentReplaced(@PluralCount int size);
@@ -444,6 +446,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     SafeHtml mappingHint();
 
+    SafeHtml messageFilterDescription();
+
     SafeHtml messageServerStarted(String name);
 
     SafeHtml messageServerStopped(String name, String server);
@@ -777,6 +781,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     SafeHtml saveIdentitySuccess(String identity, String realm);
 
+    SafeHtml searchMatchesLimited(int revealed, int total);
+
     SafeHtml selected(int selected, int total);
 
     SafeHtml sendMessagesToDeadLetterQuestion();
@@ -1151,12 +1157,16 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     String logFilePartStatus(int lines, String lastUpdate);
 
+    String logFilePageStatus(int from, int to, String lastUpdate);
+
     String logFilePreview(int lines);
 
     String mailColumnFilterDescription();
 
     String membershipColumnFilterDescription();
 
+    String messagesPageStatus(int from, int to, int total);
+
     String microprofileHealthNoChecks();
 
     String microprofileHealthPreviewDescription();